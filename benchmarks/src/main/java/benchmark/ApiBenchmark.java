@@ -0,0 +1,149 @@
+package benchmark;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import corpus.CorpusGenerator;
+import system.KastelScholar;
+import system.api.GIndexQuery;
+import system.api.IdentifierQuery;
+import system.api.ScholarApi;
+import system.api.SimilarityQuery;
+import system.interaction.Command;
+import system.interaction.InputException;
+
+/**
+ * Compares queries sent as commands with the same queries executed through
+ * prepared queries of the typed API.
+ * 
+ * @author Emir Yuksel
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ApiBenchmark {
+
+    private static final long SEED = 42;
+
+    /**
+     * Number of articles in the corpus.
+     */
+    @Param({ "1000", "10000" })
+    public int corpusSize;
+
+    private KastelScholar kastelScholar;
+    private PrintStream output;
+    private String gIndexInput;
+    private String similarityInput;
+    private String inProceedingsInput;
+    private GIndexQuery gIndex;
+    private SimilarityQuery similarity;
+    private IdentifierQuery inProceedings;
+
+    /**
+     * Builds the corpus, the inputs of the commands and the prepared queries.
+     * 
+     * @throws InputException if a query cannot be prepared.
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws InputException {
+        kastelScholar = BenchmarkCorpus.build(corpusSize, SEED);
+        // Measures the overhead of the call, not a lookup in the query cache.
+        kastelScholar.getQueryCache().setCapacity(0);
+        output = new PrintStream(OutputStream.nullOutputStream());
+
+        String author = BenchmarkCorpus.firstAuthorOf(kastelScholar, corpusSize / 2);
+        String first = CorpusGenerator.articleId(corpusSize / 2);
+        String second = CorpusGenerator.articleId(corpusSize / 3);
+        gIndexInput = "g-index " + author;
+        similarityInput = "similarity " + first + "," + second;
+        inProceedingsInput = "in proceedings " + CorpusGenerator.seriesName(1) + ",2000";
+
+        ScholarApi api = new ScholarApi(kastelScholar);
+        gIndex = api.prepareGIndex(author);
+        similarity = api.prepareSimilarity(first, second);
+        inProceedings = api.prepareInProceedings(CorpusGenerator.seriesName(1), 2000);
+    }
+
+    /**
+     * Calculates a g-index through the command language.
+     * 
+     * @return the executed command
+     * @throws InputException if the input is not a valid command.
+     */
+    @Benchmark
+    public Command gIndexCommand() throws InputException {
+        return Command.executeMatching(gIndexInput, kastelScholar, output);
+    }
+
+    /**
+     * Calculates a g-index through a prepared query.
+     * 
+     * @return the g-index
+     */
+    @Benchmark
+    public int gIndexPrepared() {
+        return gIndex.execute();
+    }
+
+    /**
+     * Calculates a similarity through the command language.
+     * 
+     * @return the executed command
+     * @throws InputException if the input is not a valid command.
+     */
+    @Benchmark
+    public Command similarityCommand() throws InputException {
+        return Command.executeMatching(similarityInput, kastelScholar, output);
+    }
+
+    /**
+     * Calculates a similarity through a prepared query.
+     * 
+     * @return the similarity
+     */
+    @Benchmark
+    public float similarityPrepared() {
+        return similarity.execute();
+    }
+
+    /**
+     * Lists the publications of a conference through the command language.
+     * 
+     * @return the executed command
+     * @throws InputException if the input is not a valid command.
+     */
+    @Benchmark
+    public Command inProceedingsCommand() throws InputException {
+        return Command.executeMatching(inProceedingsInput, kastelScholar, output);
+    }
+
+    /**
+     * Lists the publications of a conference through a prepared query.
+     * 
+     * @return identifiers of the publications
+     */
+    @Benchmark
+    public List<String> inProceedingsPrepared() {
+        return inProceedings.execute();
+    }
+}
@@ -0,0 +1,58 @@
+package benchmark;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+import corpus.CorpusGenerator;
+import corpus.KastelScholarSink;
+import system.KastelScholar;
+
+/**
+ * Builds the corpora of the benchmarks with the {@link CorpusGenerator}, so
+ * benchmarks and generated command scripts share the same data.
+ * 
+ * @author Emir Yuksel
+ * @version 1.0
+ */
+public final class BenchmarkCorpus {
+
+    private static final String ERROR_UTILITY_CLASS_INSTANTIATION = "Utility class cannot be instantiated.";
+
+    /**
+     * Constructs a new instance of BenchmarkCorpus.
+     * 
+     * @throws IllegalStateException if constructor is called because
+     *                               BenchmarkCorpus is a utility class.
+     */
+    private BenchmarkCorpus() {
+        throw new IllegalStateException(ERROR_UTILITY_CLASS_INSTANTIATION);
+    }
+
+    /**
+     * Builds a corpus.
+     * 
+     * @param articles Number of articles.
+     * @param seed     Seed of the generator.
+     * @return system with the corpus
+     */
+    public static KastelScholar build(int articles, long seed) {
+        KastelScholar kastelScholar = new KastelScholar();
+        try {
+            new CorpusGenerator(articles, seed).generate(new KastelScholarSink(kastelScholar));
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+        return kastelScholar;
+    }
+
+    /**
+     * Gets the first author of an article of a corpus.
+     * 
+     * @param kastelScholar System with the corpus.
+     * @param index         Index of the article.
+     * @return full name of the author
+     */
+    public static String firstAuthorOf(KastelScholar kastelScholar, int index) {
+        return kastelScholar.getArticleById(CorpusGenerator.articleId(index)).getAuthor().get(0).getFullName();
+    }
+}
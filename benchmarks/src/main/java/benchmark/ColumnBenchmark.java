@@ -0,0 +1,134 @@
+package benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import article.Article;
+import system.KastelScholar;
+import system.query.ArticleColumns;
+import system.query.ArticleIndex;
+import system.query.Column;
+import system.query.ColumnRange;
+import venue.Venue;
+
+/**
+ * Compares filters and aggregations over the article columns with the same
+ * work done on the article objects.
+ * 
+ * @author Emir Yuksel
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ColumnBenchmark {
+
+    private static final long SEED = 42;
+    private static final int MIN_CITATIONS = 2;
+    private static final int FROM_YEAR = 1990;
+    private static final int TO_YEAR = 2010;
+
+    /**
+     * Number of articles in the corpus.
+     */
+    @Param({ "10000", "100000" })
+    public int corpusSize;
+
+    private ArticleIndex index;
+    private Venue venue;
+    private List<ColumnRange> venueAndCitations;
+    private List<ColumnRange> yearsAndCitations;
+
+    /**
+     * Builds the corpus and the filters.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        KastelScholar kastelScholar = BenchmarkCorpus.build(corpusSize, SEED);
+        index = kastelScholar.getArticleIndex();
+        venue = index.getArticle(0).getVenue();
+        ArticleColumns columns = index.getColumns();
+        int venueOrdinal = columns.venueOrdinal(venue);
+
+        venueAndCitations = new ArrayList<ColumnRange>();
+        venueAndCitations.add(new ColumnRange(Column.VENUE, venueOrdinal, venueOrdinal));
+        venueAndCitations.add(new ColumnRange(Column.RECEIVED_CITATIONS, MIN_CITATIONS, Integer.MAX_VALUE));
+        yearsAndCitations = new ArrayList<ColumnRange>();
+        yearsAndCitations.add(new ColumnRange(Column.YEAR, FROM_YEAR, TO_YEAR));
+        yearsAndCitations.add(new ColumnRange(Column.RECEIVED_CITATIONS, MIN_CITATIONS, Integer.MAX_VALUE));
+    }
+
+    /**
+     * Counts the cited articles of a range of years on the columns.
+     * 
+     * @return number of articles
+     */
+    @Benchmark
+    public long countColumns() {
+        return index.getColumns().count(yearsAndCitations);
+    }
+
+    /**
+     * Counts the cited articles of a range of years on the article objects.
+     * 
+     * @return number of articles
+     */
+    @Benchmark
+    public long countObjects() {
+        long count = 0;
+        for (int ordinal = 0; ordinal < index.size(); ordinal++) {
+            Article article = index.getArticle(ordinal);
+            if (article.getPublishYear() >= FROM_YEAR && article.getPublishYear() <= TO_YEAR
+                    && article.getReceivedCites().size() >= MIN_CITATIONS) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Counts the cited articles of a venue per year on the columns.
+     * 
+     * @return number of articles per year
+     */
+    @Benchmark
+    public NavigableMap<Integer, Long> perYearColumns() {
+        return index.getColumns().countPerYear(venueAndCitations);
+    }
+
+    /**
+     * Counts the cited articles of a venue per year on the article objects.
+     * 
+     * @return number of articles per year
+     */
+    @Benchmark
+    public NavigableMap<Integer, Long> perYearObjects() {
+        NavigableMap<Integer, Long> perYear = new TreeMap<Integer, Long>();
+        for (int ordinal = 0; ordinal < index.size(); ordinal++) {
+            Article article = index.getArticle(ordinal);
+            if (article.getVenue() == venue && article.getReceivedCites().size() >= MIN_CITATIONS) {
+                perYear.merge(article.getPublishYear(), 1L, Long::sum);
+            }
+        }
+        return perYear;
+    }
+}
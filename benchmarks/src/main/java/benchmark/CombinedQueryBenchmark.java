@@ -0,0 +1,117 @@
+package benchmark;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import article.Article;
+import corpus.CorpusGenerator;
+import system.KastelScholar;
+import system.page.Page;
+import system.query.ArticleIndex;
+import system.query.AuthorCondition;
+import system.query.Condition;
+import system.query.KeywordsCondition;
+import system.query.VenueCondition;
+import system.query.YearCondition;
+
+/**
+ * Compares a combined query executed by its plan with testing every condition
+ * on every article.
+ * 
+ * @author Emir Yuksel
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CombinedQueryBenchmark {
+
+    private static final long SEED = 42;
+
+    /**
+     * Number of articles in the corpus.
+     */
+    @Param({ "1000", "10000" })
+    public int corpusSize;
+
+    private KastelScholar kastelScholar;
+    private List<Condition> conditions;
+
+    /**
+     * Builds the corpus and a query for keywords, venue, years and author of one
+     * of its articles.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        kastelScholar = BenchmarkCorpus.build(corpusSize, SEED);
+        Article article = kastelScholar.getArticleById(CorpusGenerator.articleId(corpusSize / 2));
+
+        conditions = new ArrayList<Condition>();
+        conditions.add(new KeywordsCondition(new ArrayList<String>(article.getKeywords()).subList(0, 1)));
+        conditions.add(new VenueCondition("venue", article.getVenue()));
+        conditions.add(new YearCondition(article.getPublishYear() - 5, article.getPublishYear() + 5));
+        conditions.add(new AuthorCondition(Collections.singletonList(article.getAuthor().get(0).getFullName())));
+    }
+
+    /**
+     * Executes the query by its plan.
+     * 
+     * @return identifiers of the matching articles
+     */
+    @Benchmark
+    public List<String> planned() {
+        return kastelScholar.query(conditions, Page.ALL);
+    }
+
+    /**
+     * Executes the query by testing every condition on every article.
+     * 
+     * @return identifiers of the matching articles
+     */
+    @Benchmark
+    public List<String> scan() {
+        List<String> identifiers = new ArrayList<String>();
+        ArticleIndex index = kastelScholar.getArticleIndex();
+        for (int ordinal = 0; ordinal < index.size(); ordinal++) {
+            Article article = index.getArticle(ordinal);
+            if (matchesAll(article)) {
+                identifiers.add(article.getId());
+            }
+        }
+        Collections.sort(identifiers);
+        return identifiers;
+    }
+
+    /**
+     * Checks if an article meets all conditions of the query.
+     * 
+     * @param article Article to check.
+     * @return true if the article meets all conditions, false otherwise.
+     */
+    private boolean matchesAll(Article article) {
+        for (Condition condition : conditions) {
+            if (!condition.test(article)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,111 @@
+package benchmark;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import corpus.CorpusGenerator;
+import system.KastelScholar;
+import system.interaction.Command;
+import system.interaction.InputException;
+import system.interaction.ParsedCommand;
+
+/**
+ * Benchmarks the dispatch of the command language: matching an input against
+ * the commands, and matching plus executing it with the output discarded.
+ * 
+ * @author Emir Yuksel
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CommandBenchmark {
+
+    private static final long SEED = 42;
+
+    /**
+     * Number of articles in the corpus.
+     */
+    @Param({ "1000", "10000" })
+    public int corpusSize;
+
+    /**
+     * Command to dispatch, with arguments from the corpus.
+     */
+    @Param({ "g-index", "find-by-keywords", "in-proceedings", "similarity", "print-bibliography" })
+    public String command;
+
+    private KastelScholar kastelScholar;
+    private PrintStream output;
+    private String input;
+
+    /**
+     * Builds the corpus and the input of the command.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        kastelScholar = BenchmarkCorpus.build(corpusSize, SEED);
+        // Measures the execution of the command, not a lookup in the query cache.
+        kastelScholar.getQueryCache().setCapacity(0);
+        output = new PrintStream(OutputStream.nullOutputStream());
+
+        String first = CorpusGenerator.articleId(corpusSize / 2);
+        String second = CorpusGenerator.articleId(corpusSize / 3);
+        switch (command) {
+            case "g-index":
+                input = "g-index " + BenchmarkCorpus.firstAuthorOf(kastelScholar, corpusSize / 2);
+                break;
+            case "find-by-keywords":
+                input = "find by keywords " + CorpusGenerator.keyword(1);
+                break;
+            case "in-proceedings":
+                input = "in proceedings " + CorpusGenerator.seriesName(1) + ",2000";
+                break;
+            case "similarity":
+                input = "similarity " + first + "," + second;
+                break;
+            default:
+                input = "print bibliography acm:" + first + ";" + second;
+                break;
+        }
+    }
+
+    /**
+     * Matches the input against the commands.
+     * 
+     * @return the matched command
+     * @throws InputException if the input is not a command.
+     */
+    @Benchmark
+    public ParsedCommand parse() throws InputException {
+        return Command.parse(input);
+    }
+
+    /**
+     * Matches and executes the input.
+     * 
+     * @return the executed command
+     * @throws InputException if the input is not a valid command.
+     */
+    @Benchmark
+    public Command executeMatching() throws InputException {
+        return Command.executeMatching(input, kastelScholar, output);
+    }
+}
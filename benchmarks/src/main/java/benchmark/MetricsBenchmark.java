@@ -0,0 +1,90 @@
+package benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import system.interaction.Command;
+import system.interaction.CommandMetrics;
+import system.metrics.OperationMetrics;
+
+/**
+ * Benchmarks the cost the command metrics add to every command: reading the
+ * clock twice and recording the latency, alone and with all processors
+ * recording the same command at once, and the default of timing only a sample
+ * of the commands. Reading the clock twice without recording is the baseline,
+ * as its cost depends on the clock source of the machine.
+ * 
+ * @author Emir Yuksel
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MetricsBenchmark {
+
+    private final CommandMetrics commandMetrics = new CommandMetrics();
+    private final OperationMetrics metrics = commandMetrics.get(Command.G_INDEX);
+
+    /**
+     * Reads the clock twice like a recorded execution does.
+     * 
+     * @return measured latency
+     */
+    @Benchmark
+    public long clock() {
+        long start = System.nanoTime();
+        return System.nanoTime() - start;
+    }
+
+    /**
+     * Records one execution on one thread.
+     * 
+     * @return measured latency
+     */
+    @Benchmark
+    public long record() {
+        long start = System.nanoTime();
+        long nanos = System.nanoTime() - start;
+        metrics.record(nanos);
+        return nanos;
+    }
+
+    /**
+     * Records one execution which is only timed if it is part of the sample, like
+     * a command does by default.
+     * 
+     * @return measured latency
+     */
+    @Benchmark
+    public long sampled() {
+        boolean timed = commandMetrics.sampleLatency();
+        long start = timed ? System.nanoTime() : 0;
+        long nanos = timed ? System.nanoTime() - start : OperationMetrics.UNTIMED;
+        metrics.record(nanos);
+        return nanos;
+    }
+
+    /**
+     * Records one execution on every processor at once.
+     * 
+     * @return measured latency
+     */
+    @Benchmark
+    @Threads(Threads.MAX)
+    public long recordContended() {
+        return record();
+    }
+}
@@ -0,0 +1,82 @@
+package benchmark;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import corpus.CorpusGenerator;
+import system.KastelScholar;
+
+/**
+ * Benchmarks adding an article with its authors, keywords and a citation to
+ * corpora of different sizes. Every iteration starts with a fresh corpus.
+ * 
+ * @author Emir Yuksel
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MutationBenchmark {
+
+    private static final long SEED = 42;
+    private static final String JOURNAL = "journal";
+    private static final String YEAR = "2030";
+
+    /**
+     * Number of articles in the corpus.
+     */
+    @Param({ "1000", "10000", "100000" })
+    public int corpusSize;
+
+    private KastelScholar kastelScholar;
+    private List<String> authors;
+    private List<String> keywords;
+    private String cited;
+    private int next;
+
+    /**
+     * Builds the corpus.
+     */
+    @Setup(Level.Iteration)
+    public void setUp() {
+        kastelScholar = BenchmarkCorpus.build(corpusSize, SEED);
+        authors = Arrays.asList(BenchmarkCorpus.firstAuthorOf(kastelScholar, corpusSize / 2),
+                BenchmarkCorpus.firstAuthorOf(kastelScholar, corpusSize / 3));
+        keywords = Arrays.asList(CorpusGenerator.keyword(0), CorpusGenerator.keyword(1));
+        cited = CorpusGenerator.articleId(0);
+        next = corpusSize;
+    }
+
+    /**
+     * Adds an article to a journal, attaches two authors and two keywords and
+     * lets it cite an older article.
+     * 
+     * @return the system
+     */
+    @Benchmark
+    public KastelScholar addArticle() {
+        String id = CorpusGenerator.articleId(next++);
+        kastelScholar.addArticleToSystem(JOURNAL, CorpusGenerator.journalName(0), id, YEAR, "Title");
+        kastelScholar.writtenBy(id, authors);
+        kastelScholar.addKeywordTo(null, id, keywords);
+        kastelScholar.cites(id, cited);
+        return kastelScholar;
+    }
+}
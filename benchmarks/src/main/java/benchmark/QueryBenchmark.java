@@ -0,0 +1,204 @@
+package benchmark;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import article.Article;
+import corpus.CorpusGenerator;
+import printFormat.CitationStyle;
+import system.KastelScholar;
+
+/**
+ * Benchmarks the queries of the system on corpora of different sizes.
+ * 
+ * @author Emir Yuksel
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class QueryBenchmark {
+
+    private static final long SEED = 42;
+    private static final int BIBLIOGRAPHY_SIZE = 100;
+
+    /**
+     * Number of articles in the corpus.
+     */
+    @Param({ "1000", "10000", "100000" })
+    public int corpusSize;
+
+    /**
+     * Whether repeated queries are answered from the query cache.
+     */
+    @Param({ "false", "true" })
+    public boolean cached;
+
+    private KastelScholar kastelScholar;
+    private String articleId;
+    private String otherArticleId;
+    private String author;
+    private List<String> authors;
+    private List<String> keywords;
+    private Set<String> firstKeywords;
+    private Set<String> secondKeywords;
+    private List<String> bibliographyIds;
+    private CitationStyle acm;
+    private CitationStyle apa;
+
+    /**
+     * Builds the corpus and picks the arguments of the queries.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        kastelScholar = BenchmarkCorpus.build(corpusSize, SEED);
+        if (!cached) {
+            kastelScholar.getQueryCache().setCapacity(0);
+        }
+        articleId = CorpusGenerator.articleId(corpusSize / 2);
+        otherArticleId = CorpusGenerator.articleId(corpusSize / 3);
+        author = BenchmarkCorpus.firstAuthorOf(kastelScholar, corpusSize / 2);
+        authors = Arrays.asList(BenchmarkCorpus.firstAuthorOf(kastelScholar, corpusSize / 2),
+                BenchmarkCorpus.firstAuthorOf(kastelScholar, corpusSize / 3));
+        keywords = Arrays.asList(CorpusGenerator.keyword(1));
+        firstKeywords = new HashSet<String>(kastelScholar.getArticleById(articleId).getKeywords());
+        secondKeywords = new HashSet<String>(kastelScholar.getArticleById(otherArticleId).getKeywords());
+
+        bibliographyIds = new ArrayList<String>();
+        for (int i = 0; i < BIBLIOGRAPHY_SIZE; i++) {
+            bibliographyIds.add(CorpusGenerator.articleId(i * (corpusSize / BIBLIOGRAPHY_SIZE)));
+        }
+        acm = kastelScholar.getCitationStyle("acm");
+        apa = kastelScholar.getCitationStyle("apa");
+    }
+
+    /**
+     * Looks up an article by its identifier.
+     * 
+     * @return the article
+     */
+    @Benchmark
+    public Article getArticleById() {
+        return kastelScholar.getArticleById(articleId);
+    }
+
+    /**
+     * Finds the articles with a keyword.
+     * 
+     * @return identifiers of the articles
+     */
+    @Benchmark
+    public List<String> findByKeywords() {
+        return kastelScholar.getFindByKeywords(keywords);
+    }
+
+    /**
+     * Finds the publications of two authors.
+     * 
+     * @return identifiers of the publications
+     */
+    @Benchmark
+    public List<String> publicationsBy() {
+        return kastelScholar.getPublicationsBy(authors);
+    }
+
+    /**
+     * Lists the articles of a conference.
+     * 
+     * @return identifiers of the articles
+     */
+    @Benchmark
+    public List<String> inProceedings() {
+        return kastelScholar.getInProceedings(CorpusGenerator.seriesName(1), "2000");
+    }
+
+    /**
+     * Calculates the Jaccard index of the keywords of two articles.
+     * 
+     * @return the Jaccard index
+     */
+    @Benchmark
+    public float jaccard() {
+        return kastelScholar.calculateJaccard(firstKeywords, secondKeywords);
+    }
+
+    /**
+     * Calculates the similarity of two articles.
+     * 
+     * @return the similarity
+     */
+    @Benchmark
+    public float similarity() {
+        return kastelScholar.calculateSimilarity(articleId, otherArticleId);
+    }
+
+    /**
+     * Calculates the g-index of an author.
+     * 
+     * @return the g-index
+     */
+    @Benchmark
+    public int gIndex() {
+        return kastelScholar.calculateGindex(author);
+    }
+
+    /**
+     * Finds the co-authors of an author.
+     * 
+     * @return names of the co-authors
+     */
+    @Benchmark
+    public List<String> findCoAuthors() {
+        return kastelScholar.getCoAuthors(author);
+    }
+
+    /**
+     * Finds the foreign citations of an author.
+     * 
+     * @return identifiers of the citing articles
+     */
+    @Benchmark
+    public List<String> giveForeignCitations() {
+        return kastelScholar.getForeignCitationsOf(author);
+    }
+
+    /**
+     * Formats a bibliography in the ACM style.
+     * 
+     * @return the bibliography
+     */
+    @Benchmark
+    public List<String> bibliographyAcm() {
+        return kastelScholar.getBibliography(acm, bibliographyIds);
+    }
+
+    /**
+     * Formats a bibliography in the APA style.
+     * 
+     * @return the bibliography
+     */
+    @Benchmark
+    public List<String> bibliographyApa() {
+        return kastelScholar.getBibliography(apa, bibliographyIds);
+    }
+}
@@ -0,0 +1,362 @@
+package benchmark;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.io.Writer;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+
+import javax.management.ListenerNotFoundException;
+import javax.management.Notification;
+import javax.management.NotificationEmitter;
+import javax.management.NotificationListener;
+import javax.management.openmbean.CompositeData;
+
+import com.sun.management.GarbageCollectionNotificationInfo;
+import com.sun.management.ThreadMXBean;
+
+import system.KastelScholar;
+import system.interaction.Command;
+import system.interaction.InputException;
+import system.metrics.LatencyHistogram;
+
+/**
+ * Replays a command script through {@link Command#executeMatching(String,
+ * KastelScholar, PrintStream)} and reports throughput and latency percentiles
+ * per command, the allocation rate and the garbage collection pauses. Output
+ * of the commands is formatted but discarded.
+ * 
+ * Every pass replays the whole script on a new system. All passes but the last
+ * warm up the JVM; only the last one is measured.
+ * 
+ * @author Emir Yuksel
+ * @version 1.0
+ */
+public final class Replay {
+
+    private static final String ERROR_UTILITY_CLASS_INSTANTIATION = "Utility class cannot be instantiated.";
+    private static final String USAGE = "usage: Replay <script, .gz if compressed> [passes] [result.json]";
+    private static final String QUIT = "quit";
+    private static final String INVALID = "INVALID";
+    private static final String GZIP_SUFFIX = ".gz";
+    private static final int DEFAULT_PASSES = 3;
+    private static final double NANOS_PER_SECOND = 1e9;
+    private static final double NANOS_PER_MILLI = 1e6;
+    private static final double[] PERCENTILES = { 50, 99, 99.9 };
+    private static final String[] PERCENTILE_NAMES = { "p50", "p99", "p999" };
+
+    /**
+     * Constructs a new instance of Replay.
+     * 
+     * @throws IllegalStateException if constructor is called because Replay is a
+     *                               utility class.
+     */
+    private Replay() {
+        throw new IllegalStateException(ERROR_UTILITY_CLASS_INSTANTIATION);
+    }
+
+    /**
+     * Replays a script and prints the results. Writes them as JSON if a result
+     * file is given.
+     * 
+     * @param args Script, optionally the number of passes and the result file.
+     * @throws IOException if the script cannot be read or the result cannot be
+     *                     written.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.out.println(USAGE);
+            return;
+        }
+        Path script = Paths.get(args[0]);
+        int passes = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_PASSES;
+
+        Result result = null;
+        for (int pass = 0; pass < passes; pass++) {
+            result = replay(script);
+        }
+
+        StringBuilder json = new StringBuilder();
+        result.appendJson(script.toString(), json);
+        if (args.length > 2) {
+            try (Writer writer = Files.newBufferedWriter(Paths.get(args[2]), StandardCharsets.UTF_8)) {
+                writer.append(json);
+            }
+        }
+        result.print(System.out);
+    }
+
+    /**
+     * Replays a script once on a new system.
+     * 
+     * @param script Script to replay.
+     * @return measurements of the replay
+     * @throws IOException if the script cannot be read.
+     */
+    private static Result replay(Path script) throws IOException {
+        KastelScholar kastelScholar = new KastelScholar();
+        PrintStream output = new PrintStream(OutputStream.nullOutputStream());
+        Result result = new Result();
+        ThreadMXBean threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+
+        try (BufferedReader input = open(script); GcPauses pauses = new GcPauses()) {
+            long allocatedBefore = threads.getThreadAllocatedBytes(threadId);
+            long start = System.nanoTime();
+
+            String line;
+            while ((line = input.readLine()) != null) {
+                if (line.equals(QUIT)) {
+                    continue;
+                }
+                long commandStart = System.nanoTime();
+                Command command = null;
+                try {
+                    command = Command.executeMatching(line, kastelScholar, output);
+                } catch (InputException exception) {
+                    result.error(line);
+                }
+                long latency = System.nanoTime() - commandStart;
+                result.record(command, line, latency);
+            }
+
+            result.nanos = System.nanoTime() - start;
+            result.allocatedBytes = threads.getThreadAllocatedBytes(threadId) - allocatedBefore;
+            result.gcPauses = pauses.histogram;
+            result.gcCollections = pauses.histogram.getCount();
+        }
+        return result;
+    }
+
+    /**
+     * Opens a script, decompressing it if its name ends with ".gz".
+     * 
+     * @param script Script to open.
+     * @return reader of the script
+     * @throws IOException if the script cannot be opened.
+     */
+    private static BufferedReader open(Path script) throws IOException {
+        InputStream input = Files.newInputStream(script);
+        if (script.toString().endsWith(GZIP_SUFFIX)) {
+            input = new GZIPInputStream(input);
+        }
+        return new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Measurements of one replay.
+     */
+    private static final class Result {
+        private final Map<Command, LatencyHistogram> latencies = new EnumMap<Command, LatencyHistogram>(
+                Command.class);
+        private final Map<Command, Long> errors = new EnumMap<Command, Long>(Command.class);
+        private final LatencyHistogram invalid = new LatencyHistogram();
+        private long nanos;
+        private long allocatedBytes;
+        private long gcCollections;
+        private LatencyHistogram gcPauses;
+
+        /**
+         * Records the latency of a command.
+         * 
+         * @param command Executed command, null if it failed.
+         * @param line    Input of the command.
+         * @param latency Latency in nanoseconds.
+         */
+        void record(Command command, String line, long latency) {
+            Command type = command != null ? command : parse(line);
+            if (type == null) {
+                invalid.record(latency);
+                return;
+            }
+            latencies.computeIfAbsent(type, key -> new LatencyHistogram()).record(latency);
+        }
+
+        /**
+         * Counts a failed command.
+         * 
+         * @param line Input of the command.
+         */
+        void error(String line) {
+            Command type = parse(line);
+            if (type != null) {
+                errors.merge(type, 1L, Long::sum);
+            }
+        }
+
+        /**
+         * Gets the command of an input.
+         * 
+         * @param line Input of the command.
+         * @return command, null if the input matches no command.
+         */
+        private static Command parse(String line) {
+            try {
+                return Command.parse(line).getCommand();
+            } catch (InputException exception) {
+                return null;
+            }
+        }
+
+        /**
+         * Gets the number of replayed commands.
+         * 
+         * @return number of commands
+         */
+        long getCommands() {
+            long commands = invalid.getCount();
+            for (LatencyHistogram histogram : latencies.values()) {
+                commands += histogram.getCount();
+            }
+            return commands;
+        }
+
+        /**
+         * Prints the results as a table.
+         * 
+         * @param output Output to print to.
+         */
+        void print(PrintStream output) {
+            double seconds = nanos / NANOS_PER_SECOND;
+            output.printf("commands: %d in %.3f s, %.0f commands/s%n", getCommands(), seconds,
+                    getCommands() / seconds);
+            output.printf("allocated: %d bytes, %.1f MB/s%n", allocatedBytes, allocatedBytes / seconds / 1e6);
+            output.printf("gc: %d pauses, total %.1f ms, max %.1f ms%n", gcCollections,
+                    gcPauses.getMean() * gcCollections, (double) gcPauses.getMax());
+            output.printf("%-28s %10s %8s %12s %10s %10s %10s %10s%n", "command", "count", "errors", "ops/s",
+                    "p50 ns", "p99 ns", "p999 ns", "max ns");
+            for (Map.Entry<Command, LatencyHistogram> entry : latencies.entrySet()) {
+                printRow(output, entry.getKey().name(), entry.getValue(), errors.getOrDefault(entry.getKey(), 0L));
+            }
+            if (invalid.getCount() > 0) {
+                printRow(output, INVALID, invalid, invalid.getCount());
+            }
+        }
+
+        /**
+         * Prints the results of one command.
+         * 
+         * @param output    Output to print to.
+         * @param name      Name of the command.
+         * @param histogram Latencies of the command.
+         * @param errorCount Number of failed executions.
+         */
+        private static void printRow(PrintStream output, String name, LatencyHistogram histogram,
+                long errorCount) {
+            output.printf("%-28s %10d %8d %12.0f %10d %10d %10d %10d%n", name, histogram.getCount(), errorCount,
+                    throughput(histogram), histogram.getValueAtPercentile(PERCENTILES[0]),
+                    histogram.getValueAtPercentile(PERCENTILES[1]), histogram.getValueAtPercentile(PERCENTILES[2]),
+                    histogram.getMax());
+        }
+
+        /**
+         * Appends the results as JSON.
+         * 
+         * @param script Name of the replayed script.
+         * @param json   Builder to append to.
+         */
+        void appendJson(String script, StringBuilder json) {
+            double seconds = nanos / NANOS_PER_SECOND;
+            json.append("{\n  \"script\": \"").append(script.replace("\\", "\\\\").replace("\"", "\\\""))
+                    .append("\",\n");
+            json.append("  \"commands\": ").append(getCommands()).append(",\n");
+            json.append("  \"seconds\": ").append(seconds).append(",\n");
+            json.append("  \"throughput\": ").append(getCommands() / seconds).append(",\n");
+            json.append("  \"allocatedBytes\": ").append(allocatedBytes).append(",\n");
+            json.append("  \"allocationRate\": ").append(allocatedBytes / seconds).append(",\n");
+            json.append("  \"gc\": {\"pauses\": ").append(gcCollections).append(", \"totalPauseMillis\": ")
+                    .append(gcPauses.getMean() * gcCollections).append(", \"maxPauseMillis\": ")
+                    .append(gcPauses.getMax()).append("},\n");
+            json.append("  \"byCommand\": {");
+            boolean first = true;
+            for (Map.Entry<Command, LatencyHistogram> entry : latencies.entrySet()) {
+                appendCommandJson(json, first, entry.getKey().name(), entry.getValue(),
+                        errors.getOrDefault(entry.getKey(), 0L));
+                first = false;
+            }
+            if (invalid.getCount() > 0) {
+                appendCommandJson(json, first, INVALID, invalid, invalid.getCount());
+            }
+            json.append("\n  }\n}\n");
+        }
+
+        /**
+         * Appends the results of one command as JSON.
+         * 
+         * @param json       Builder to append to.
+         * @param first      true if it is the first command.
+         * @param name       Name of the command.
+         * @param histogram  Latencies of the command.
+         * @param errorCount Number of failed executions.
+         */
+        private static void appendCommandJson(StringBuilder json, boolean first, String name,
+                LatencyHistogram histogram, long errorCount) {
+            json.append(first ? "\n" : ",\n");
+            json.append("    \"").append(name).append("\": {\"count\": ").append(histogram.getCount())
+                    .append(", \"errors\": ").append(errorCount).append(", \"throughput\": ")
+                    .append(throughput(histogram)).append(", \"meanNanos\": ").append(histogram.getMean());
+            for (int i = 0; i < PERCENTILES.length; i++) {
+                json.append(", \"").append(PERCENTILE_NAMES[i]).append("Nanos\": ")
+                        .append(histogram.getValueAtPercentile(PERCENTILES[i]));
+            }
+            json.append(", \"maxNanos\": ").append(histogram.getMax()).append('}');
+        }
+
+        /**
+         * Gets how many executions of a command fit into a second, if only that
+         * command ran.
+         * 
+         * @param histogram Latencies of the command.
+         * @return executions per second
+         */
+        private static double throughput(LatencyHistogram histogram) {
+            double nanos = histogram.getMean() * histogram.getCount();
+            return nanos == 0 ? 0 : histogram.getCount() * NANOS_PER_SECOND / nanos;
+        }
+    }
+
+    /**
+     * Collects the durations of garbage collections in milliseconds while it is
+     * open.
+     */
+    private static final class GcPauses implements NotificationListener, AutoCloseable {
+        private final LatencyHistogram histogram = new LatencyHistogram();
+
+        GcPauses() {
+            for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+                ((NotificationEmitter) collector).addNotificationListener(this, null, null);
+            }
+        }
+
+        @Override
+        public void handleNotification(Notification notification, Object handback) {
+            if (notification.getType().equals(GarbageCollectionNotificationInfo.GARBAGE_COLLECTION_NOTIFICATION)) {
+                GarbageCollectionNotificationInfo info = GarbageCollectionNotificationInfo
+                        .from((CompositeData) notification.getUserData());
+                histogram.record(info.getGcInfo().getDuration());
+            }
+        }
+
+        @Override
+        public void close() {
+            for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+                try {
+                    ((NotificationEmitter) collector).removeNotificationListener(this);
+                } catch (ListenerNotFoundException exception) {
+                    // Not registered on this collector.
+                }
+            }
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package article;
 
+import java.io.ByteArrayOutputStream;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
@@ -18,6 +20,13 @@ import venue.conference.SeriesInstanceCheck;
  * @version 1.0
  */
 public class Article implements Comparable<Article> {
+    private static final int BYTE_MASK = 0xFF;
+    private static final int BITS_PER_BYTE = 8;
+    private static final int ESCAPE = 0xFF;
+    private static final int TERMINATOR = 0x01;
+    private static final int NEXT_AUTHOR = 0x02;
+    private static final int END_OF_AUTHORS = 0x01;
+
     private final String id;
     private final String title;
     private final int publishYear;
@@ -27,6 +36,12 @@ public class Article implements Comparable<Article> {
     private List<Article> givenCites;
     private Set<String> keywords;
 
+    /**
+     * Collation key which orders articles like {@link #compareTo(Article)}. It is
+     * built when it is needed first and dropped when authors are added.
+     */
+    private volatile byte[] sortKey;
+
     /**
      * Creates a new article.
      * 
@@ -116,6 +131,7 @@ public class Article implements Comparable<Article> {
      */
     public void addAuthors(List<Author> authors) {
         this.author.addAll(authors);
+        this.sortKey = null;
     }
 
     /**
@@ -212,57 +228,91 @@ public class Article implements Comparable<Article> {
         return null;
     }
 
-    @Override
-    public int compareTo(Article other) {
-        int authorComparisonResult = 0;
-        int sizeComparisonResult = Integer.compare(author.size(), other.author.size());
+    /**
+     * Gets the collation key of an article. Comparing the keys of two articles
+     * byte by byte as unsigned values gives the same order as
+     * {@link #compareTo(Article)}: authors (surname, then name, a shorter list of
+     * equal authors first), then title, publishing year and identifier.
+     * 
+     * @return collation key
+     */
+    public byte[] getSortKey() {
+        byte[] key = this.sortKey;
+        if (key == null) {
+            key = buildSortKey();
+            this.sortKey = key;
+        }
+        return key;
+    }
 
-        /*
-         * Compares authors at first. If they're same, it compares the size of the
-         * author list with other author.
-         */
-        for (int i = 0; i < author.size(); i++) {
-            if (i > other.author.size() - 1) {
-                return sizeComparisonResult;
-            }
-            int finalResult = author.get(i).compareTo(other.author.get(i));
-            if (finalResult != 0) {
-                authorComparisonResult = finalResult;
-                return authorComparisonResult;
+    /**
+     * Builds the collation key of an article.
+     * 
+     * @return collation key
+     */
+    private byte[] buildSortKey() {
+        ByteArrayOutputStream key = new ByteArrayOutputStream();
 
-            }
+        for (Author authorToAdd : this.author) {
+            key.write(NEXT_AUTHOR);
+            appendToKey(key, authorToAdd.getSurName());
+            appendToKey(key, authorToAdd.getName());
         }
+        key.write(END_OF_AUTHORS);
 
-        if (sizeComparisonResult != 0) {
-            return sizeComparisonResult;
-        }
+        appendToKey(key, title);
 
         /*
-         * Compares titles lexicographical.
+         * Flipping the sign bit makes negative years sort before positive ones.
          */
-
-        int titleComparisonResult = title.compareTo(other.title);
-        if (titleComparisonResult != 0) {
-
-            return titleComparisonResult;
+        int year = publishYear ^ Integer.MIN_VALUE;
+        for (int shift = Integer.SIZE - BITS_PER_BYTE; shift >= 0; shift -= BITS_PER_BYTE) {
+            key.write((year >>> shift) & BYTE_MASK);
         }
 
-        /*
-         * Compares publishing years.
-         */
-
-        int publishingYearComparisonResult = Integer.compare(publishYear, other.publishYear);
+        appendToKey(key, id);
+        return key.toByteArray();
+    }
 
-        if (publishingYearComparisonResult != 0) {
+    /**
+     * Appends a string to a collation key. Every character is written as two
+     * bytes, a zero byte is escaped as 0x00 0xFF and the string ends with 0x00
+     * 0x01, so a string sorts before all strings it is a prefix of.
+     * 
+     * @param key   Key to append to.
+     * @param value String to append.
+     */
+    private static void appendToKey(ByteArrayOutputStream key, String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char character = value.charAt(i);
+            appendByteToKey(key, character >>> BITS_PER_BYTE);
+            appendByteToKey(key, character & BYTE_MASK);
+        }
+        key.write(0);
+        key.write(TERMINATOR);
+    }
 
-            return publishingYearComparisonResult;
+    /**
+     * Appends a byte of a string to a collation key.
+     * 
+     * @param key       Key to append to.
+     * @param valueByte Byte to append.
+     */
+    private static void appendByteToKey(ByteArrayOutputStream key, int valueByte) {
+        key.write(valueByte);
+        if (valueByte == 0) {
+            key.write(ESCAPE);
         }
+    }
+
+    @Override
+    public int compareTo(Article other) {
 
         /*
-         * Compares identifiers.
+         * Compares authors, title, publishing year and identifier at once through the
+         * collation keys.
          */
-
-        return id.compareTo(other.id);
+        return Arrays.compareUnsigned(getSortKey(), other.getSortKey());
     }
 
 }
@@ -3,7 +3,10 @@ package article;
 import java.util.List;
 
 import author.Author;
-import venue.Venue;
+import system.event.AuthorsAttached;
+import system.event.ChangeEventBus;
+import system.event.ChangeType;
+import system.event.CitationAdded;
 import venue.journal.JournalManager;
 
 /**
@@ -18,8 +21,7 @@ public class ArticleManager extends JournalManager {
 
     /**
      * Adds all given authors in a list to an article with the given identifier.
-     * Then it updates the corresponding list (journals or series) in the system
-     * database.
+     * The article is changed in place.
      * 
      * @param id      Identifier of the {@link Article article}
      * @param authors List of authors
@@ -32,14 +34,16 @@ public class ArticleManager extends JournalManager {
         for (Author authorToAdd : authors) {
             authorToAdd.addArticle(article);
         }
-        Venue venue = article.getVenue();
-        updateLists(venue, article);
+        ChangeEventBus changeEvents = getChangeEvents();
+        if (changeEvents.hasListeners(ChangeType.AUTHORS_ATTACHED)) {
+            changeEvents.publish(new AuthorsAttached(article, authors));
+        }
 
     }
 
     /**
-     * Gives a cite from an article to an article. Then it updates the corresponding
-     * list (journals or series) in the system database.
+     * Gives a cite from an article to an article. Both articles are changed in
+     * place.
      * 
      * @param giverID    Article which gives a cite.
      * @param receiverID Article which receives a cite.
@@ -52,11 +56,10 @@ public class ArticleManager extends JournalManager {
         giver.addGivenCite(receiver);
         receiver.addReceivedCite(giver);
 
-        Venue venue1 = giver.getVenue();
-        Venue venue2 = receiver.getVenue();
-
-        updateLists(venue1, giver);
-        updateLists(venue2, receiver);
+        ChangeEventBus changeEvents = getChangeEvents();
+        if (changeEvents.hasListeners(ChangeType.CITATION_ADDED)) {
+            changeEvents.publish(new CitationAdded(giver, receiver));
+        }
 
     }
 
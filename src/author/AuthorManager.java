@@ -6,6 +6,8 @@ import java.util.List;
 
 import article.Article;
 import article.ArticleManager;
+import system.metrics.QueryEvent;
+import system.metrics.ScannedElement;
 
 /**
  * Provides methods for author management.
@@ -39,6 +41,20 @@ public class AuthorManager extends ArticleManager {
      * @return g-index of an author.
      */
     protected int gIndex(Author author) {
+        QueryEvent event = new QueryEvent();
+        event.begin();
+        int gIndex = gIndexOf(author);
+        event.complete("gIndex", author.getFullName(), ScannedElement.ARTICLES, author.getArticles().size(), 1);
+        return gIndex;
+    }
+
+    /**
+     * Calculates g-index of an author.
+     * 
+     * @param author Author to calculate.
+     * @return g-index of an author.
+     */
+    private int gIndexOf(Author author) {
 
         /*
          * If the author has written no articles, it returns 0.
@@ -130,6 +146,25 @@ public class AuthorManager extends ArticleManager {
      */
 
     protected List<Author> findCoAuthors(Author author) {
+        QueryEvent event = new QueryEvent();
+        event.begin();
+        long scanned = 0;
+        for (Article articleToCheck : author.getArticles()) {
+            scanned += articleToCheck.getAuthor().size();
+        }
+        List<Author> coAuthors = collectCoAuthors(author);
+        event.complete("findCoAuthors", author.getFullName(), ScannedElement.AUTHORS, scanned, coAuthors.size());
+        return coAuthors;
+    }
+
+    /**
+     * Collects the co-authors of an author without recording a query, so
+     * queries built on it only record their own scanned elements.
+     * 
+     * @param author Author to check for co-authors
+     * @return co-authors of the author.
+     */
+    private List<Author> collectCoAuthors(Author author) {
         ArrayList<Author> coAuthors = new ArrayList<Author>();
 
         for (Article articleToCheck : author.getArticles()) {
@@ -171,7 +206,7 @@ public class AuthorManager extends ArticleManager {
      * @return true if the article contains a co-author, false otherwise.
      */
     private boolean containsCoAuthor(Article article, Author author) {
-        List<Author> coAuthors = findCoAuthors(author);
+        List<Author> coAuthors = collectCoAuthors(author);
 
         for (Author authorToCheck : coAuthors) {
 
@@ -194,6 +229,8 @@ public class AuthorManager extends ArticleManager {
      */
 
     protected List<Article> giveForeignCitations(Author author) {
+        QueryEvent event = new QueryEvent();
+        event.begin();
         List<Article> foreignCitations = new ArrayList<Article>();
         List<Article> allCitations = author.getAllCitations();
 
@@ -203,6 +240,8 @@ public class AuthorManager extends ArticleManager {
             }
         }
 
+        event.complete("giveForeignCitations", author.getFullName(), ScannedElement.CITATIONS, allCitations.size(),
+                foreignCitations.size());
         return foreignCitations;
     }
 
@@ -0,0 +1,84 @@
+package corpus;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+
+/**
+ * Writes a generated corpus as a script of the command language, one command
+ * per line.
+ * 
+ * @author Emir Yuksel
+ * @version 1.0
+ */
+public class CommandScriptSink implements CorpusSink {
+    private static final char LINE_SEPARATOR = '\n';
+    private static final String LIST_SEPARATOR = ";";
+
+    private final Writer output;
+
+    /**
+     * Creates a new sink. The output should be buffered.
+     * 
+     * @param output Output to write the script to.
+     */
+    public CommandScriptSink(Writer output) {
+        this.output = output;
+    }
+
+    @Override
+    public void addAuthor(String fullName) throws IOException {
+        line("add author " + fullName);
+    }
+
+    @Override
+    public void addJournal(String name, String publisher) throws IOException {
+        line("add journal " + name + "," + publisher);
+    }
+
+    @Override
+    public void addSeries(String name) throws IOException {
+        line("add series " + name);
+    }
+
+    @Override
+    public void addConference(String series, int year, String location) throws IOException {
+        line("add conference " + series + "," + year + "," + location);
+    }
+
+    @Override
+    public void addVenueKeywords(String venue, String name, List<String> keywords) throws IOException {
+        line("add keywords to " + venue + " " + name + ":" + String.join(LIST_SEPARATOR, keywords));
+    }
+
+    @Override
+    public void addArticle(String venue, String name, String id, int year, String title) throws IOException {
+        line("add article to " + venue + " " + name + ":" + id + "," + year + "," + title);
+    }
+
+    @Override
+    public void writtenBy(String id, List<String> authors) throws IOException {
+        line("written by " + id + "," + String.join(LIST_SEPARATOR, authors));
+    }
+
+    @Override
+    public void addArticleKeywords(String id, List<String> keywords) throws IOException {
+        line("add keywords to " + id + ":" + String.join(LIST_SEPARATOR, keywords));
+    }
+
+    @Override
+    public void cites(String giver, String receiver) throws IOException {
+        line("cites " + giver + "," + receiver);
+    }
+
+    /**
+     * Writes a command.
+     * 
+     * @param command Command to write.
+     * @throws IOException if the output cannot be written.
+     */
+    private void line(String command) throws IOException {
+        output.write(command);
+        output.write(LINE_SEPARATOR);
+    }
+}
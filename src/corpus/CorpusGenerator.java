@@ -0,0 +1,406 @@
+package corpus;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Generates a synthetic scholarly corpus. The same number of articles and the
+ * same seed always give the same corpus.
+ * 
+ * Articles are spread over the years with a yearly growth and are generated in
+ * year order. Authorship and citations follow power laws: an author or article
+ * is chosen again with a probability proportional to how often it was chosen
+ * before. Articles only cite articles of earlier years. Keywords and venues
+ * are drawn from Zipf distributions, and every series has one conference per
+ * year.
+ * 
+ * Memory does not grow with the number of articles, so corpora with hundreds
+ * of millions of articles can be written as scripts.
+ * 
+ * @author Emir Yuksel
+ * @version 1.0
+ */
+public class CorpusGenerator {
+
+    /**
+     * First year of the corpus.
+     */
+    public static final int FIRST_YEAR = 1970;
+
+    /**
+     * Last year of the corpus.
+     */
+    public static final int LAST_YEAR = 2024;
+
+    private static final String USAGE = "usage: CorpusGenerator <articles> <seed> [script, .gz to compress]";
+    private static final String JOURNAL = "journal";
+    private static final String SERIES = "series";
+    private static final String GZIP_SUFFIX = ".gz";
+    private static final int OUTPUT_BUFFER_SIZE = 1 << 16;
+
+    private static final double YEARLY_GROWTH = 1.05;
+    private static final int ARTICLES_PER_AUTHOR = 2;
+    private static final int ARTICLES_PER_VENUE = 5000;
+    private static final int MIN_VENUES = 5;
+    private static final int MAX_VENUES = 2000;
+    private static final int VOCABULARY = 2000;
+    private static final double KEYWORD_EXPONENT = 1.0;
+    private static final double VENUE_EXPONENT = 0.8;
+    private static final int VENUE_KEYWORDS = 2;
+    private static final int MAX_ARTICLE_KEYWORDS = 4;
+    private static final int MAX_AUTHORS_PER_ARTICLE = 8;
+    private static final double MORE_AUTHORS = 0.45;
+    private static final int MAX_CITATIONS_PER_ARTICLE = 30;
+    private static final double MORE_CITATIONS = 0.88;
+    private static final int POOL_SIZE = 1 << 20;
+    private static final int MIN_TITLE_WORDS = 3;
+    private static final int MAX_TITLE_WORDS = 7;
+
+    private static final String[] FIRST_NAMES = { "Ada", "Alan", "Barbara", "Claude", "Donald", "Edsger", "Frances",
+            "Grace", "Hedy", "Ivan", "John", "Katherine", "Leslie", "Margaret", "Niklaus", "Ole", "Peter", "Radia",
+            "Shafi", "Tony", "Ursula", "Vint", "Whitfield", "Xiaoyun", "Yoshua", "Zhou" };
+    private static final String[] SURNAMES = { "Lovelace", "Turing", "Liskov", "Shannon", "Knuth", "Dijkstra",
+            "Allen", "Hopper", "Lamarr", "Sutherland", "McCarthy", "Johnson", "Lamport", "Hamilton", "Wirth", "Dahl",
+            "Naur", "Perlman", "Goldwasser", "Hoare", "Franklin", "Cerf", "Diffie", "Wang", "Bengio", "Yao", "Backus",
+            "Codd", "Engelbart", "Floyd", "Gray", "Hartmanis", "Iverson", "Kahn", "Kay", "Milner", "Rivest", "Scott" };
+    private static final String[] SYLLABLES = { "ka", "lo", "mi", "ne", "ru", "sa", "te", "vi", "zo", "be", "da",
+            "fu", "gi", "ho", "ja", "ke", "li", "mo", "nu", "pe" };
+    private static final String[] TITLE_WORDS = { "Scalable", "Efficient", "Robust", "Distributed", "Parallel",
+            "Adaptive", "Verified", "Incremental", "Learning", "Systems", "Graphs", "Queries", "Types", "Compilers",
+            "Networks", "Storage", "Consensus", "Analysis", "Synthesis", "Models", "Algorithms", "Caches", "Streams",
+            "Indexes", "Proofs", "Languages", "Programs", "Protocols", "Schedulers", "Memory", "for", "of", "with",
+            "in", "and", "Towards", "Revisiting", "Practical", "Secure", "Approximate" };
+    private static final String[] CITIES = { "Karlsruhe", "Berlin", "Zurich", "Paris", "Lisbon", "Montreal",
+            "Seoul", "Kyoto", "Austin", "Boston", "Seattle", "Sydney", "Singapore", "Vienna", "Prague", "Oslo" };
+
+    private final int articles;
+    private final long seed;
+
+    /**
+     * Creates a new generator.
+     * 
+     * @param articles Number of articles.
+     * @param seed     Seed of the random choices.
+     */
+    public CorpusGenerator(int articles, long seed) {
+        this.articles = articles;
+        this.seed = seed;
+    }
+
+    /**
+     * Writes a corpus as a command script.
+     * 
+     * @param args Number of articles, seed and optionally the script file,
+     *             standard output otherwise.
+     * @throws IOException if the script cannot be written.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.out.println(USAGE);
+            return;
+        }
+        CorpusGenerator generator = new CorpusGenerator(Integer.parseInt(args[0]), Long.parseLong(args[1]));
+
+        OutputStream output = args.length > 2 ? Files.newOutputStream(Paths.get(args[2])) : System.out;
+        if (args.length > 2 && args[2].endsWith(GZIP_SUFFIX)) {
+            output = new GZIPOutputStream(output, OUTPUT_BUFFER_SIZE);
+        }
+        try (Writer writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8),
+                OUTPUT_BUFFER_SIZE)) {
+            generator.generate(new CommandScriptSink(writer));
+        }
+    }
+
+    /**
+     * Generates the corpus.
+     * 
+     * @param sink Sink to receive the corpus.
+     * @throws IOException if the sink cannot write the corpus.
+     */
+    public void generate(CorpusSink sink) throws IOException {
+        Random random = new Random(seed);
+        int authors = getAuthorCount();
+        int journals = getJournalCount();
+        int series = getSeriesCount();
+        ZipfDistribution keywords = new ZipfDistribution(VOCABULARY, KEYWORD_EXPONENT);
+        ZipfDistribution venues = new ZipfDistribution(journals + series, VENUE_EXPONENT);
+
+        for (int i = 0; i < authors; i++) {
+            sink.addAuthor(authorName(i));
+        }
+        for (int i = 0; i < journals; i++) {
+            sink.addJournal(journalName(i), "Publisher " + SURNAMES[i % SURNAMES.length]);
+            sink.addVenueKeywords(JOURNAL, journalName(i), drawKeywords(random, keywords, VENUE_KEYWORDS));
+        }
+        for (int i = 0; i < series; i++) {
+            sink.addSeries(seriesName(i));
+            for (int year = FIRST_YEAR; year <= LAST_YEAR; year++) {
+                sink.addConference(seriesName(i), year, CITIES[random.nextInt(CITIES.length)]);
+            }
+            sink.addVenueKeywords(SERIES, seriesName(i), drawKeywords(random, keywords, VENUE_KEYWORDS));
+        }
+
+        int[] yearStart = getYearStarts();
+        Pool authorPool = new Pool();
+        Pool citationPool = new Pool();
+        List<String> articleAuthors = new ArrayList<String>();
+        List<Integer> cited = new ArrayList<Integer>();
+
+        for (int year = FIRST_YEAR; year <= LAST_YEAR; year++) {
+            int olderArticles = yearStart[year - FIRST_YEAR];
+            for (int i = olderArticles; i < yearStart[year - FIRST_YEAR + 1]; i++) {
+                String id = articleId(i);
+                int venue = venues.sample(random);
+                if (venue < journals) {
+                    sink.addArticle(JOURNAL, journalName(venue), id, year, title(random));
+                } else {
+                    sink.addArticle(SERIES, seriesName(venue - journals), id, year, title(random));
+                }
+
+                articleAuthors.clear();
+                int authorCount = geometric(random, MORE_AUTHORS, 1, Math.min(MAX_AUTHORS_PER_ARTICLE, authors));
+                while (articleAuthors.size() < authorCount) {
+                    String author = authorName(authorPool.draw(random, authors));
+                    if (!articleAuthors.contains(author)) {
+                        articleAuthors.add(author);
+                    }
+                }
+                sink.writtenBy(id, articleAuthors);
+
+                sink.addArticleKeywords(id,
+                        drawKeywords(random, keywords, 1 + random.nextInt(MAX_ARTICLE_KEYWORDS)));
+
+                cited.clear();
+                int citationCount = Math.min(olderArticles,
+                        geometric(random, MORE_CITATIONS, 0, MAX_CITATIONS_PER_ARTICLE));
+                while (cited.size() < citationCount) {
+                    int receiver = citationPool.draw(random, olderArticles);
+                    if (!cited.contains(receiver)) {
+                        cited.add(receiver);
+                        sink.cites(id, articleId(receiver));
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Gets the number of authors of the corpus.
+     * 
+     * @return number of authors
+     */
+    public int getAuthorCount() {
+        return Math.max(MAX_AUTHORS_PER_ARTICLE, articles / ARTICLES_PER_AUTHOR);
+    }
+
+    /**
+     * Gets the number of journals of the corpus.
+     * 
+     * @return number of journals
+     */
+    public int getJournalCount() {
+        return Math.max(MIN_VENUES, Math.min(MAX_VENUES, articles / ARTICLES_PER_VENUE));
+    }
+
+    /**
+     * Gets the number of conference series of the corpus.
+     * 
+     * @return number of series
+     */
+    public int getSeriesCount() {
+        return getJournalCount();
+    }
+
+    /**
+     * Gets the identifier of the article with an index. Articles are numbered in
+     * year order.
+     * 
+     * @param index Index of the article.
+     * @return identifier of the article
+     */
+    public static String articleId(int index) {
+        return "p" + Integer.toString(index, Character.MAX_RADIX);
+    }
+
+    /**
+     * Gets the full name of the author with an index.
+     * 
+     * @param index Index of the author.
+     * @return full name of the author
+     */
+    public static String authorName(int index) {
+        String name = FIRST_NAMES[index % FIRST_NAMES.length];
+        int rest = index / FIRST_NAMES.length;
+        String surname = SURNAMES[rest % SURNAMES.length];
+        rest /= SURNAMES.length;
+        return rest == 0 ? name + " " + surname : name + " " + surname + syllables(rest - 1);
+    }
+
+    /**
+     * Gets the keyword with a frequency rank, 0 being the most frequent one.
+     * 
+     * @param rank Rank of the keyword.
+     * @return keyword
+     */
+    public static String keyword(int rank) {
+        return syllables(rank + SYLLABLES.length);
+    }
+
+    /**
+     * Gets the name of the journal with an index, 0 being the largest one.
+     * 
+     * @param index Index of the journal.
+     * @return name of the journal
+     */
+    public static String journalName(int index) {
+        return "Journal" + index;
+    }
+
+    /**
+     * Gets the name of the series with an index.
+     * 
+     * @param index Index of the series.
+     * @return name of the series
+     */
+    public static String seriesName(int index) {
+        return "Series" + index;
+    }
+
+    /**
+     * Gets the index of the first article of every year, and the number of all
+     * articles at the end. The number of articles grows every year.
+     * 
+     * @return index of the first article of each year
+     */
+    private int[] getYearStarts() {
+        int years = LAST_YEAR - FIRST_YEAR + 1;
+        double total = 0;
+        for (int year = 0; year < years; year++) {
+            total += Math.pow(YEARLY_GROWTH, year);
+        }
+
+        int[] yearStart = new int[years + 1];
+        double sum = 0;
+        for (int year = 0; year < years; year++) {
+            yearStart[year] = (int) Math.round(articles * sum / total);
+            sum += Math.pow(YEARLY_GROWTH, year);
+        }
+        yearStart[years] = articles;
+        return yearStart;
+    }
+
+    /**
+     * Draws distinct keywords.
+     * 
+     * @param random   Source of randomness.
+     * @param keywords Distribution of the keywords.
+     * @param count    Number of keywords.
+     * @return keywords
+     */
+    private static List<String> drawKeywords(Random random, ZipfDistribution keywords, int count) {
+        List<String> drawn = new ArrayList<String>(count);
+        while (drawn.size() < count) {
+            String keyword = keyword(keywords.sample(random));
+            if (!drawn.contains(keyword)) {
+                drawn.add(keyword);
+            }
+        }
+        return drawn;
+    }
+
+    /**
+     * Generates a title.
+     * 
+     * @param random Source of randomness.
+     * @return title
+     */
+    private static String title(Random random) {
+        StringBuilder builder = new StringBuilder();
+        int words = MIN_TITLE_WORDS + random.nextInt(MAX_TITLE_WORDS - MIN_TITLE_WORDS + 1);
+        for (int i = 0; i < words; i++) {
+            if (i > 0) {
+                builder.append(' ');
+            }
+            builder.append(TITLE_WORDS[random.nextInt(TITLE_WORDS.length)]);
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Draws from a geometric distribution, limited to a range.
+     * 
+     * @param random Source of randomness.
+     * @param more   Probability to increase the value once more.
+     * @param min    Smallest value.
+     * @param max    Largest value.
+     * @return value between min and max
+     */
+    private static int geometric(Random random, double more, int min, int max) {
+        int value = min;
+        while (value < max && random.nextDouble() < more) {
+            value++;
+        }
+        return value;
+    }
+
+    /**
+     * Encodes a number in syllables, since keywords may only contain letters.
+     * 
+     * @param number Number to encode.
+     * @return syllables of the number
+     */
+    private static String syllables(int number) {
+        StringBuilder builder = new StringBuilder();
+        int rest = number;
+        do {
+            builder.append(SYLLABLES[rest % SYLLABLES.length]);
+            rest /= SYLLABLES.length;
+        } while (rest > 0);
+        return builder.toString();
+    }
+
+    /**
+     * Remembers previous choices to make choices preferential: a value is chosen
+     * with a probability proportional to how often it was chosen before, plus one.
+     * Once full, a random previous choice is replaced, so the pool keeps its bias
+     * with a bounded size.
+     */
+    private static final class Pool {
+        private final int[] choices = new int[POOL_SIZE];
+        private int size;
+
+        /**
+         * Chooses a value, mostly among the previous choices.
+         * 
+         * @param random Source of randomness.
+         * @param bound  Choices must be smaller than the bound.
+         * @return value between 0 and bound - 1
+         */
+        int draw(Random random, int bound) {
+            int choice = -1;
+            if (random.nextInt(size + bound) < size) {
+                choice = choices[random.nextInt(size)];
+            }
+            if (choice < 0 || choice >= bound) {
+                choice = random.nextInt(bound);
+            }
+
+            if (size < choices.length) {
+                choices[size++] = choice;
+            } else {
+                choices[random.nextInt(size)] = choice;
+            }
+            return choice;
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package corpus;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Receives a generated corpus, in an order the command language accepts:
+ * authors and venues first, then every article followed by its authors,
+ * keywords and citations.
+ * 
+ * @author Emir Yuksel
+ * @version 1.0
+ */
+public interface CorpusSink {
+
+    /**
+     * Adds an author.
+     * 
+     * @param fullName First and last name, separated by a blank.
+     * @throws IOException if the corpus cannot be written.
+     */
+    void addAuthor(String fullName) throws IOException;
+
+    /**
+     * Adds a journal.
+     * 
+     * @param name      Name of the journal.
+     * @param publisher Publisher of the journal.
+     * @throws IOException if the corpus cannot be written.
+     */
+    void addJournal(String name, String publisher) throws IOException;
+
+    /**
+     * Adds a conference series.
+     * 
+     * @param name Name of the series.
+     * @throws IOException if the corpus cannot be written.
+     */
+    void addSeries(String name) throws IOException;
+
+    /**
+     * Adds a conference to a series.
+     * 
+     * @param series   Name of the series.
+     * @param year     Year of the conference.
+     * @param location Location of the conference.
+     * @throws IOException if the corpus cannot be written.
+     */
+    void addConference(String series, int year, String location) throws IOException;
+
+    /**
+     * Adds keywords to a journal or a series.
+     * 
+     * @param venue    Venue type, "journal" or "series".
+     * @param name     Name of the venue.
+     * @param keywords Keywords to add.
+     * @throws IOException if the corpus cannot be written.
+     */
+    void addVenueKeywords(String venue, String name, List<String> keywords) throws IOException;
+
+    /**
+     * Adds an article to a journal or to the conference of its year in a series.
+     * 
+     * @param venue Venue type, "journal" or "series".
+     * @param name  Name of the venue.
+     * @param id    Identifier of the article.
+     * @param year  Publishing year of the article.
+     * @param title Title of the article.
+     * @throws IOException if the corpus cannot be written.
+     */
+    void addArticle(String venue, String name, String id, int year, String title) throws IOException;
+
+    /**
+     * Attaches authors to an article.
+     * 
+     * @param id      Identifier of the article.
+     * @param authors Full names of the authors.
+     * @throws IOException if the corpus cannot be written.
+     */
+    void writtenBy(String id, List<String> authors) throws IOException;
+
+    /**
+     * Adds keywords to an article.
+     * 
+     * @param id       Identifier of the article.
+     * @param keywords Keywords to add.
+     * @throws IOException if the corpus cannot be written.
+     */
+    void addArticleKeywords(String id, List<String> keywords) throws IOException;
+
+    /**
+     * Lets an article cite an article of an earlier year.
+     * 
+     * @param giver    Identifier of the citing article.
+     * @param receiver Identifier of the cited article.
+     * @throws IOException if the corpus cannot be written.
+     */
+    void cites(String giver, String receiver) throws IOException;
+}
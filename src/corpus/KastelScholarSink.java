@@ -0,0 +1,70 @@
+package corpus;
+
+import java.util.List;
+
+import system.KastelScholar;
+
+/**
+ * Loads a generated corpus directly into a system, without going through the
+ * command language. The caller must own the system or hold its write lock.
+ * 
+ * @author Emir Yuksel
+ * @version 1.0
+ */
+public class KastelScholarSink implements CorpusSink {
+    private final KastelScholar kastelScholar;
+
+    /**
+     * Creates a new sink.
+     * 
+     * @param kastelScholar System to load the corpus into.
+     */
+    public KastelScholarSink(KastelScholar kastelScholar) {
+        this.kastelScholar = kastelScholar;
+    }
+
+    @Override
+    public void addAuthor(String fullName) {
+        kastelScholar.addAuthorToSystem(fullName);
+    }
+
+    @Override
+    public void addJournal(String name, String publisher) {
+        kastelScholar.addJournalToSystem(name, publisher);
+    }
+
+    @Override
+    public void addSeries(String name) {
+        kastelScholar.addSeriesToSystem(name);
+    }
+
+    @Override
+    public void addConference(String series, int year, String location) {
+        kastelScholar.addConferenceToSystem(series, String.valueOf(year), location);
+    }
+
+    @Override
+    public void addVenueKeywords(String venue, String name, List<String> keywords) {
+        kastelScholar.addKeywordTo(venue, name, keywords);
+    }
+
+    @Override
+    public void addArticle(String venue, String name, String id, int year, String title) {
+        kastelScholar.addArticleToSystem(venue, name, id, String.valueOf(year), title);
+    }
+
+    @Override
+    public void writtenBy(String id, List<String> authors) {
+        kastelScholar.writtenBy(id, authors);
+    }
+
+    @Override
+    public void addArticleKeywords(String id, List<String> keywords) {
+        kastelScholar.addKeywordTo(null, id, keywords);
+    }
+
+    @Override
+    public void cites(String giver, String receiver) {
+        kastelScholar.cites(giver, receiver);
+    }
+}
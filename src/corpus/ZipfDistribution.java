@@ -0,0 +1,45 @@
+package corpus;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Draws ranks from a Zipf distribution: rank k (starting with 0) is drawn
+ * with a probability proportional to 1 / (k + 1)^exponent.
+ * 
+ * @author Emir Yuksel
+ * @version 1.0
+ */
+public class ZipfDistribution {
+    private final double[] cumulative;
+
+    /**
+     * Creates a new distribution.
+     * 
+     * @param size     Number of ranks.
+     * @param exponent Exponent of the distribution, 0 for a uniform one.
+     */
+    public ZipfDistribution(int size, double exponent) {
+        this.cumulative = new double[size];
+        double sum = 0;
+        for (int rank = 0; rank < size; rank++) {
+            sum += 1 / Math.pow(rank + 1, exponent);
+            cumulative[rank] = sum;
+        }
+        for (int rank = 0; rank < size; rank++) {
+            cumulative[rank] /= sum;
+        }
+    }
+
+    /**
+     * Draws a rank.
+     * 
+     * @param random Source of randomness.
+     * @return rank between 0 and size - 1
+     */
+    public int sample(Random random) {
+        int index = Arrays.binarySearch(cumulative, random.nextDouble());
+        int rank = index >= 0 ? index : -index - 1;
+        return Math.min(rank, cumulative.length - 1);
+    }
+}
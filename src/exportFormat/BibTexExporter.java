@@ -0,0 +1,156 @@
+package exportFormat;
+
+import java.util.List;
+import java.util.TreeSet;
+import java.util.regex.Pattern;
+
+import article.Article;
+import author.Author;
+import venue.conference.Conference;
+import venue.journal.Journal;
+
+/**
+ * Exports articles as BibTeX entries. Journal articles become "@article",
+ * conference articles "@inproceedings" entries, keyed by the article
+ * identifier.
+ * 
+ * @author Emir Yuksel
+ * @version 1.0
+ */
+public class BibTexExporter extends Exporter {
+    private static final String LINE_SEPARATOR = "\n";
+    private static final String SPECIAL_CHARACTERS = "{}%&#$_";
+    private static final String BACKSLASH = "\\textbackslash{}";
+    private static final String TILDE = "\\textasciitilde{}";
+    private static final String CIRCUMFLEX = "\\textasciicircum{}";
+    /**
+     * The word "and" which separates the names in the author field.
+     */
+    private static final Pattern NAME_SEPARATOR = Pattern.compile("(^|\\s)and(\\s|$)", Pattern.CASE_INSENSITIVE);
+
+    @Override
+    protected void appendStart(StringBuilder builder) {
+        // BibTeX has no header.
+    }
+
+    @Override
+    protected void appendJournalArticle(Journal journal, Article article, StringBuilder builder) {
+        appendEntryStart("article", article, builder);
+        appendField("journal", journal.getName(), builder);
+        appendField("publisher", journal.getPublisher(), builder);
+        appendEntryEnd(article, builder);
+    }
+
+    @Override
+    protected void appendConferenceArticle(Conference conference, Article article, StringBuilder builder) {
+        appendEntryStart("inproceedings", article, builder);
+        appendField("booktitle", conference.getSeries().getName(), builder);
+        appendField("address", conference.getLocation(), builder);
+        appendEntryEnd(article, builder);
+    }
+
+    @Override
+    protected void appendEnd(StringBuilder builder) {
+        // BibTeX has no footer.
+    }
+
+    /**
+     * Appends the entry type, the key and the fields every entry has.
+     * 
+     * @param type    Type of the entry.
+     * @param article Article of the entry.
+     * @param builder Builder to append to.
+     */
+    private void appendEntryStart(String type, Article article, StringBuilder builder) {
+        builder.append('@').append(type).append('{').append(article.getId()).append(',').append(LINE_SEPARATOR);
+
+        List<Author> authors = article.getAuthor();
+        if (!authors.isEmpty()) {
+            builder.append("  author = {");
+            for (int i = 0; i < authors.size(); i++) {
+                if (i > 0) {
+                    builder.append(" and ");
+                }
+                appendName(authors.get(i).getSurName(), builder);
+                builder.append(", ");
+                appendName(authors.get(i).getName(), builder);
+            }
+            builder.append("},").append(LINE_SEPARATOR);
+        }
+        appendField("title", article.getTitle(), builder);
+        appendField("year", String.valueOf(article.getPublishYear()), builder);
+    }
+
+    /**
+     * Appends the keywords and closes the entry.
+     * 
+     * @param article Article of the entry.
+     * @param builder Builder to append to.
+     */
+    private void appendEntryEnd(Article article, StringBuilder builder) {
+        if (!article.getKeywords().isEmpty()) {
+            appendField("keywords", String.join(", ", new TreeSet<String>(article.getKeywords())), builder);
+        }
+        builder.append('}').append(LINE_SEPARATOR).append(LINE_SEPARATOR);
+    }
+
+    /**
+     * Appends a field of an entry.
+     * 
+     * @param name    Name of the field.
+     * @param value   Value of the field.
+     * @param builder Builder to append to.
+     */
+    private void appendField(String name, String value, StringBuilder builder) {
+        builder.append("  ").append(name).append(" = {");
+        appendEscaped(value, builder);
+        builder.append("},").append(LINE_SEPARATOR);
+    }
+
+    /**
+     * Appends a part of the name of an author. Parts which contain the word "and"
+     * are protected by braces, so BibTeX does not split the author field there.
+     * 
+     * @param name    Part of the name to append.
+     * @param builder Builder to append to.
+     */
+    private void appendName(String name, StringBuilder builder) {
+        if (!NAME_SEPARATOR.matcher(name).find()) {
+            appendEscaped(name, builder);
+            return;
+        }
+        builder.append('{');
+        appendEscaped(name, builder);
+        builder.append('}');
+    }
+
+    /**
+     * Appends a value with the special characters of BibTeX escaped. Backslash,
+     * tilde and circumflex cannot be escaped with a backslash, so they are
+     * replaced by the commands which print them.
+     * 
+     * @param value   Value to append.
+     * @param builder Builder to append to.
+     */
+    private void appendEscaped(String value, StringBuilder builder) {
+        for (int i = 0; i < value.length(); i++) {
+            char character = value.charAt(i);
+            switch (character) {
+                case '\\':
+                    builder.append(BACKSLASH);
+                    break;
+                case '~':
+                    builder.append(TILDE);
+                    break;
+                case '^':
+                    builder.append(CIRCUMFLEX);
+                    break;
+                default:
+                    if (SPECIAL_CHARACTERS.indexOf(character) >= 0) {
+                        builder.append('\\');
+                    }
+                    builder.append(character);
+            }
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package exportFormat;
+
+import java.util.List;
+import java.util.TreeSet;
+
+import article.Article;
+import author.Author;
+import venue.conference.Conference;
+import venue.journal.Journal;
+
+/**
+ * Exports articles as CSL-JSON, an array with one item per article. Journal
+ * articles have the type "article-journal", conference articles the type
+ * "paper-conference".
+ * 
+ * @author Emir Yuksel
+ * @version 1.0
+ */
+public class CslJsonExporter extends Exporter {
+    private static final String LINE_SEPARATOR = "\n";
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    @Override
+    protected void appendStart(StringBuilder builder) {
+        builder.append('[');
+    }
+
+    @Override
+    protected void appendJournalArticle(Journal journal, Article article, StringBuilder builder) {
+        appendItemStart("article-journal", article, builder);
+        appendField("container-title", journal.getName(), builder);
+        appendField("publisher", journal.getPublisher(), builder);
+        appendItemEnd(article, builder);
+    }
+
+    @Override
+    protected void appendConferenceArticle(Conference conference, Article article, StringBuilder builder) {
+        appendItemStart("paper-conference", article, builder);
+        appendField("container-title", conference.getSeries().getName(), builder);
+        appendField("event-place", conference.getLocation(), builder);
+        appendItemEnd(article, builder);
+    }
+
+    @Override
+    protected void appendEnd(StringBuilder builder) {
+        builder.append(LINE_SEPARATOR).append(']').append(LINE_SEPARATOR);
+    }
+
+    /**
+     * Appends the start of an item and the fields every item has.
+     * 
+     * @param type    CSL type of the item.
+     * @param article Article of the item.
+     * @param builder Builder to append to.
+     */
+    private void appendItemStart(String type, Article article, StringBuilder builder) {
+        if (getExported() > 0) {
+            builder.append(',');
+        }
+        builder.append(LINE_SEPARATOR).append("{\"id\":");
+        appendString(article.getId(), builder);
+        appendField("type", type, builder);
+        appendField("title", article.getTitle(), builder);
+
+        builder.append(",\"author\":[");
+        List<Author> authors = article.getAuthor();
+        for (int i = 0; i < authors.size(); i++) {
+            if (i > 0) {
+                builder.append(',');
+            }
+            builder.append("{\"family\":");
+            appendString(authors.get(i).getSurName(), builder);
+            builder.append(",\"given\":");
+            appendString(authors.get(i).getName(), builder);
+            builder.append('}');
+        }
+        builder.append(']');
+        builder.append(",\"issued\":{\"date-parts\":[[").append(article.getPublishYear()).append("]]}");
+    }
+
+    /**
+     * Appends the keywords and closes the item.
+     * 
+     * @param article Article of the item.
+     * @param builder Builder to append to.
+     */
+    private void appendItemEnd(Article article, StringBuilder builder) {
+        if (!article.getKeywords().isEmpty()) {
+            appendField("keyword", String.join(", ", new TreeSet<String>(article.getKeywords())), builder);
+        }
+        builder.append('}');
+    }
+
+    /**
+     * Appends a string field of an item, after another field.
+     * 
+     * @param name    Name of the field.
+     * @param value   Value of the field.
+     * @param builder Builder to append to.
+     */
+    private void appendField(String name, String value, StringBuilder builder) {
+        builder.append(",\"").append(name).append("\":");
+        appendString(value, builder);
+    }
+
+    /**
+     * Appends a JSON string.
+     * 
+     * @param value   Value of the string.
+     * @param builder Builder to append to.
+     */
+    private void appendString(String value, StringBuilder builder) {
+        builder.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char character = value.charAt(i);
+            if (character == '"' || character == '\\') {
+                builder.append('\\').append(character);
+            } else if (character < ' ') {
+                builder.append("\\u00").append(HEX_DIGITS[character >> 4]).append(HEX_DIGITS[character & 0xF]);
+            } else {
+                builder.append(character);
+            }
+        }
+        builder.append('"');
+    }
+}
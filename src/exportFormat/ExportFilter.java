@@ -0,0 +1,69 @@
+package exportFormat;
+
+import article.Article;
+import venue.Venue;
+
+/**
+ * Restricts an export to the articles of a venue, of a year or with a keyword.
+ * 
+ * @author Emir Yuksel
+ * @version 1.0
+ */
+public class ExportFilter {
+    private final String venue;
+    private final Integer year;
+    private final String keyword;
+
+    /**
+     * Creates a new filter. Every restriction which is null is not applied.
+     * 
+     * @param venue   Name of the venue to export.
+     * @param year    Publishing year of the articles to export.
+     * @param keyword Keyword of the articles to export.
+     */
+    public ExportFilter(String venue, Integer year, String keyword) {
+        this.venue = venue;
+        this.year = year;
+        this.keyword = keyword;
+    }
+
+    /**
+     * Creates a filter which exports everything.
+     * 
+     * @return filter without restrictions
+     */
+    public static ExportFilter all() {
+        return new ExportFilter(null, null, null);
+    }
+
+    /**
+     * Checks if articles of a venue can pass the filter.
+     * 
+     * @param toCheck Venue to check.
+     * @return true if the venue is not filtered out, false otherwise.
+     */
+    public boolean acceptsVenue(Venue toCheck) {
+        return venue == null || venue.equals(toCheck.getName());
+    }
+
+    /**
+     * Checks if articles of a year can pass the filter.
+     * 
+     * @param toCheck Year to check.
+     * @return true if the year is not filtered out, false otherwise.
+     */
+    public boolean acceptsYear(int toCheck) {
+        return year == null || year == toCheck;
+    }
+
+    /**
+     * Checks if an article passes the filter.
+     * 
+     * @param article Article to check.
+     * @return true if the article is exported, false otherwise.
+     */
+    public boolean accepts(Article article) {
+        return acceptsVenue(article.getVenue()) && acceptsYear(article.getPublishYear())
+                && (keyword == null || article.getKeywords().contains(keyword));
+    }
+}
@@ -0,0 +1,172 @@
+package exportFormat;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+
+import article.Article;
+import system.SystemDatabase;
+import venue.conference.Conference;
+import venue.conference.Series;
+import venue.journal.Journal;
+
+/**
+ * Exports the articles of a system to a file format. The venues and their
+ * articles are walked in place and every article is written right away, so an
+ * export to a channel needs the same memory for any number of articles. An
+ * export to a file is rendered in memory first, see {@link RenderedExport}, so
+ * the file is written without holding the lock of the system.
+ * 
+ * @author Emir Yuksel
+ * @version 1.0
+ */
+public abstract class Exporter {
+
+    /**
+     * Number of characters which are collected before they are written.
+     */
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final StringBuilder buffer = new StringBuilder(BUFFER_SIZE);
+    private WritableByteChannel channel;
+    private long exported;
+
+    /**
+     * Renders all articles which pass a filter in memory, encoded in UTF-8. The
+     * articles must be rendered under the lock of the system, but the rendered
+     * export can be written to its file after the lock is released.
+     * 
+     * @param system System to export.
+     * @param filter Filter of the articles.
+     * @return the rendered articles
+     */
+    public RenderedExport render(SystemDatabase system, ExportFilter filter) {
+        ByteArrayOutputStream text = new ByteArrayOutputStream(BUFFER_SIZE);
+        try {
+            long exported = export(system, filter, Channels.newChannel(text));
+            return new RenderedExport(text, exported, BUFFER_SIZE);
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    /**
+     * Exports all articles which pass a filter to a channel, encoded in UTF-8.
+     * Journals come first, then series, each in the order they were added.
+     * 
+     * @param system  System to export.
+     * @param filter  Filter of the articles.
+     * @param channel Channel to write to.
+     * @return number of exported articles.
+     * @throws IOException if the channel cannot be written.
+     */
+    public long export(SystemDatabase system, ExportFilter filter, WritableByteChannel channel)
+            throws IOException {
+        this.channel = channel;
+        this.exported = 0;
+        this.buffer.setLength(0);
+
+        appendStart(buffer);
+        for (Journal journal : system.getJournals()) {
+            if (!filter.acceptsVenue(journal)) {
+                continue;
+            }
+            for (Article article : journal.getArticles()) {
+                if (filter.accepts(article)) {
+                    appendJournalArticle(journal, article, buffer);
+                    written();
+                }
+            }
+        }
+        for (Series series : system.getSeries()) {
+            if (!filter.acceptsVenue(series)) {
+                continue;
+            }
+            for (Conference conference : series.getConferences()) {
+                if (!filter.acceptsYear(conference.getYear())) {
+                    continue;
+                }
+                for (Article article : conference.getArticles()) {
+                    if (filter.accepts(article)) {
+                        appendConferenceArticle(conference, article, buffer);
+                        written();
+                    }
+                }
+            }
+        }
+        appendEnd(buffer);
+        flush();
+        return exported;
+    }
+
+    /**
+     * Gets the number of articles which are exported so far.
+     * 
+     * @return number of exported articles.
+     */
+    protected long getExported() {
+        return exported;
+    }
+
+    /**
+     * Appends what comes before the first article.
+     * 
+     * @param builder Builder to append to.
+     */
+    protected abstract void appendStart(StringBuilder builder);
+
+    /**
+     * Appends an article of a journal.
+     * 
+     * @param journal Journal of the article.
+     * @param article Article to append.
+     * @param builder Builder to append to.
+     */
+    protected abstract void appendJournalArticle(Journal journal, Article article, StringBuilder builder);
+
+    /**
+     * Appends an article of a conference.
+     * 
+     * @param conference Conference of the article.
+     * @param article    Article to append.
+     * @param builder    Builder to append to.
+     */
+    protected abstract void appendConferenceArticle(Conference conference, Article article, StringBuilder builder);
+
+    /**
+     * Appends what comes after the last article.
+     * 
+     * @param builder Builder to append to.
+     */
+    protected abstract void appendEnd(StringBuilder builder);
+
+    /**
+     * Counts an appended article and writes the buffer once it is full.
+     * 
+     * @throws IOException if the channel cannot be written.
+     */
+    private void written() throws IOException {
+        exported++;
+        if (buffer.length() >= BUFFER_SIZE) {
+            flush();
+        }
+    }
+
+    /**
+     * Writes the buffer to the channel.
+     * 
+     * @throws IOException if the channel cannot be written.
+     */
+    private void flush() throws IOException {
+        ByteBuffer bytes = StandardCharsets.UTF_8.encode(CharBuffer.wrap(buffer));
+        while (bytes.hasRemaining()) {
+            channel.write(bytes);
+        }
+        buffer.setLength(0);
+    }
+}
@@ -0,0 +1,96 @@
+package exportFormat;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * An export which is rendered in memory, encoded in UTF-8, and not written to
+ * its file yet. Writing it needs no access to the system.
+ * 
+ * @author Emir Yuksel
+ * @version 1.0
+ */
+public final class RenderedExport {
+    private static final String GZIP_SUFFIX = ".gz";
+    private static final String TEMPORARY_PREFIX = ".";
+    private static final String TEMPORARY_SUFFIX = ".tmp";
+
+    private final ByteArrayOutputStream text;
+    private final long exported;
+    private final int bufferSize;
+
+    /**
+     * Creates a new rendered export.
+     * 
+     * @param text       Rendered articles, encoded in UTF-8.
+     * @param exported   Number of rendered articles.
+     * @param bufferSize Size of the buffer of the compression.
+     */
+    RenderedExport(ByteArrayOutputStream text, long exported, int bufferSize) {
+        this.text = text;
+        this.exported = exported;
+        this.bufferSize = bufferSize;
+    }
+
+    /**
+     * Gets the number of rendered articles.
+     * 
+     * @return number of articles
+     */
+    public long getExported() {
+        return exported;
+    }
+
+    /**
+     * Writes the export to a file. The file is replaced if it exists and
+     * compressed with gzip if its name ends with ".gz".
+     * 
+     * The export is written to a temporary file next to the file, which is
+     * forced to the storage device and moved into its place once it is complete.
+     * A failed write leaves the file as it was.
+     * 
+     * @param path File to write.
+     * @throws IOException if the file cannot be written.
+     */
+    public void writeTo(Path path) throws IOException {
+        Path target = path.toAbsolutePath();
+        Path temporary = Files.createTempFile(target.getParent(), TEMPORARY_PREFIX + target.getFileName(),
+                TEMPORARY_SUFFIX);
+        try {
+            write(temporary, target.toString().endsWith(GZIP_SUFFIX));
+            Files.move(temporary, target, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    /**
+     * Writes the export to an existing file and forces it to the storage device.
+     * 
+     * @param path       File to write.
+     * @param compressed Whether to compress the file with gzip.
+     * @throws IOException if the file cannot be written.
+     */
+    private void write(Path path, boolean compressed) throws IOException {
+        try (FileChannel file = FileChannel.open(path, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.WRITE)) {
+            if (!compressed) {
+                text.writeTo(Channels.newOutputStream(file));
+                file.force(true);
+                return;
+            }
+            try (GZIPOutputStream gzip = new GZIPOutputStream(Channels.newOutputStream(file), bufferSize)) {
+                text.writeTo(gzip);
+                gzip.finish();
+                file.force(true);
+            }
+        }
+    }
+}
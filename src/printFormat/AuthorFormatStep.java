@@ -0,0 +1,21 @@
+package printFormat;
+
+import author.Author;
+
+/**
+ * One step of a compiled author name format, e.g. a fixed text or the surname
+ * of an author.
+ * 
+ * @author Emir Yuksel
+ * @version 1.0
+ */
+public interface AuthorFormatStep {
+
+    /**
+     * Appends the part of an author name this step is responsible for.
+     * 
+     * @param author  Author to append.
+     * @param builder Builder to append to.
+     */
+    void append(Author author, StringBuilder builder);
+}
@@ -0,0 +1,60 @@
+package printFormat;
+
+import java.util.List;
+
+import article.Article;
+import author.Author;
+
+/**
+ * Formats the author list of an article. Authors are separated by a
+ * separator, the last of several authors by a separate one, and exactly two
+ * authors by a third one.
+ * 
+ * @author Emir Yuksel
+ * @version 1.0
+ */
+public class AuthorListFormat implements FormatStep {
+    private final AuthorFormatStep[] name;
+    private final String separator;
+    private final String twoAuthorsSeparator;
+    private final String lastAuthorSeparator;
+
+    /**
+     * Creates a new author list format.
+     * 
+     * @param name                Compiled format of a single author name.
+     * @param separator           Separator between authors.
+     * @param twoAuthorsSeparator Separator between exactly two authors.
+     * @param lastAuthorSeparator Separator before the last of more than two
+     *                            authors.
+     */
+    public AuthorListFormat(AuthorFormatStep[] name, String separator, String twoAuthorsSeparator,
+            String lastAuthorSeparator) {
+        this.name = name;
+        this.separator = separator;
+        this.twoAuthorsSeparator = twoAuthorsSeparator;
+        this.lastAuthorSeparator = lastAuthorSeparator;
+    }
+
+    @Override
+    public void append(Article article, StringBuilder builder) {
+        List<Author> authors = article.getAuthor();
+        int last = authors.size() - 1;
+
+        for (int i = 0; i <= last; i++) {
+            if (i > 0) {
+                if (i < last) {
+                    builder.append(separator);
+                } else if (last == 1) {
+                    builder.append(twoAuthorsSeparator);
+                } else {
+                    builder.append(lastAuthorSeparator);
+                }
+            }
+            Author author = authors.get(i);
+            for (AuthorFormatStep step : name) {
+                step.append(author, builder);
+            }
+        }
+    }
+}
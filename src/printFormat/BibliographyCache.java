@@ -0,0 +1,209 @@
+package printFormat;
+
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import article.Article;
+import system.event.ChangeEvent;
+import system.event.ChangeListener;
+import system.event.ChangeType;
+import system.metrics.IndexEvent;
+import system.metrics.MemoryReport;
+
+/**
+ * Caches the formatted bibliography of articles per citation style in least
+ * recently used order, bounded by their estimated weight in bytes. A formatted
+ * article only changes when authors are attached to it, so its entries are
+ * removed then.
+ * 
+ * @author Emir Yuksel
+ * @version 1.0
+ */
+public class BibliographyCache implements ChangeListener {
+
+    /**
+     * System property with the capacity of the cache in bytes, 0 disables it.
+     */
+    public static final String CAPACITY_PROPERTY = "kastelscholar.bibliographyCacheBytes";
+
+    /**
+     * Estimated bytes of an entry without its formatted text: the entry of the
+     * map and its key.
+     */
+    private static final long ENTRY_OVERHEAD = 40 + 24;
+
+    private final LinkedHashMap<Key, String> entries;
+    private final Set<CitationStyle> styles;
+    private long capacity;
+    private long weight;
+
+    /**
+     * Creates a new empty cache.
+     * 
+     * @param capacity Maximum weight of all entries in bytes, 0 to disable the
+     *                 cache.
+     */
+    public BibliographyCache(long capacity) {
+        this.entries = new LinkedHashMap<Key, String>(16, 0.75f, true);
+        this.styles = new HashSet<CitationStyle>();
+        this.capacity = capacity;
+    }
+
+    /**
+     * Gets the bibliography of an article in a citation style. Formats the
+     * article only if it is not cached yet.
+     * 
+     * @param style   Style to print.
+     * @param article Article to get the bibliography.
+     * @return Bibliography of the article.
+     */
+    public String getBibliography(CitationStyle style, Article article) {
+        Key key = new Key(style, article);
+        synchronized (this) {
+            String bibliography = entries.get(key);
+            if (bibliography != null) {
+                return bibliography;
+            }
+        }
+
+        String bibliography = style.getBibliography(article);
+        long entryWeight = ENTRY_OVERHEAD + MemoryReport.stringSize(bibliography);
+        synchronized (this) {
+            if (entryWeight <= capacity) {
+                String previous = entries.put(key, bibliography);
+                if (previous != null) {
+                    weight -= ENTRY_OVERHEAD + MemoryReport.stringSize(previous);
+                }
+                weight += entryWeight;
+                styles.add(style);
+                evict();
+            }
+        }
+        return bibliography;
+    }
+
+    /**
+     * Removes all entries of a style, e.g. because it is replaced.
+     * 
+     * @param style Style to remove.
+     */
+    public synchronized void removeStyle(CitationStyle style) {
+        if (!styles.remove(style)) {
+            return;
+        }
+        Iterator<Map.Entry<Key, String>> iterator = entries.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Key, String> entry = iterator.next();
+            if (entry.getKey().style == style) {
+                iterator.remove();
+                weight -= ENTRY_OVERHEAD + MemoryReport.stringSize(entry.getValue());
+            }
+        }
+    }
+
+    /**
+     * Entries only depend on the authors of their articles, so the cache only
+     * wants attached authors.
+     */
+    @Override
+    public Set<ChangeType> getChangeTypes() {
+        return EnumSet.of(ChangeType.AUTHORS_ATTACHED);
+    }
+
+    @Override
+    public synchronized void onChange(ChangeEvent event) {
+        if (event.getType() == ChangeType.AUTHORS_ATTACHED) {
+            IndexEvent indexEvent = new IndexEvent();
+            indexEvent.begin();
+            for (CitationStyle style : styles) {
+                String removed = entries.remove(new Key(style, event.getArticle()));
+                if (removed != null) {
+                    weight -= ENTRY_OVERHEAD + MemoryReport.stringSize(removed);
+                }
+            }
+            indexEvent.complete("bibliographyCache", event.getType(), styles.size());
+        }
+    }
+
+    /**
+     * Gets the number of cached bibliographies.
+     * 
+     * @return number of entries
+     */
+    public synchronized int getEntries() {
+        return entries.size();
+    }
+
+    /**
+     * Gets the estimated weight of all cached bibliographies.
+     * 
+     * @return weight in bytes
+     */
+    public synchronized long getWeight() {
+        return weight;
+    }
+
+    /**
+     * Gets the maximum weight of all cached bibliographies.
+     * 
+     * @return capacity in bytes
+     */
+    public synchronized long getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Sets the maximum weight of all cached bibliographies and evicts entries
+     * which do not fit anymore.
+     * 
+     * @param capacity Capacity in bytes, 0 to disable the cache.
+     */
+    public synchronized void setCapacity(long capacity) {
+        this.capacity = capacity;
+        evict();
+    }
+
+    /**
+     * Removes the least recently used entries until all entries fit into the
+     * capacity.
+     */
+    private void evict() {
+        Iterator<String> iterator = entries.values().iterator();
+        while (weight > capacity && iterator.hasNext()) {
+            String bibliography = iterator.next();
+            iterator.remove();
+            weight -= ENTRY_OVERHEAD + MemoryReport.stringSize(bibliography);
+        }
+    }
+
+    /**
+     * An article in a citation style.
+     */
+    private static final class Key {
+        private final CitationStyle style;
+        private final Article article;
+
+        Key(CitationStyle style, Article article) {
+            this.style = style;
+            this.article = article;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (!(other instanceof Key)) {
+                return false;
+            }
+            Key key = (Key) other;
+            return style == key.style && article == key.article;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * System.identityHashCode(style) + System.identityHashCode(article);
+        }
+    }
+}
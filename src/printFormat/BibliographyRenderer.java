@@ -0,0 +1,150 @@
+package printFormat;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+import article.Article;
+
+/**
+ * Renders sorted articles as a bibliography, one entry per line. The entries
+ * are formatted first, which needs the articles and so the lock of the system.
+ * Large bibliographies are split into chunks which are formatted on a
+ * fork-join pool. The formatted entries are then numbered and written in
+ * chunks, which needs no lock, so a slow output does not block the system.
+ * 
+ * @author Emir Yuksel
+ * @version 1.0
+ */
+public class BibliographyRenderer {
+
+    /**
+     * Number of entries per chunk. Bibliographies up to this size are formatted on
+     * the calling thread.
+     */
+    private static final int CHUNK_SIZE = 4096;
+
+    private final BibliographyCache cache;
+    private final ForkJoinPool pool;
+
+    /**
+     * Creates a new renderer which formats on the common fork-join pool.
+     * 
+     * @param cache Cache of formatted entries.
+     */
+    public BibliographyRenderer(BibliographyCache cache) {
+        this.cache = cache;
+        this.pool = ForkJoinPool.commonPool();
+    }
+
+    /**
+     * Formats the entries of a bibliography, or takes them from the cache.
+     * 
+     * @param style    Style to format.
+     * @param articles Articles in bibliography order.
+     * @return formatted entries in bibliography order
+     */
+    public String[] format(CitationStyle style, Article[] articles) {
+        String[] entries = new String[articles.length];
+        if (articles.length <= CHUNK_SIZE) {
+            formatChunk(style, articles, entries, 0, articles.length);
+            return entries;
+        }
+
+        List<ForkJoinTask<?>> chunks = new ArrayList<ForkJoinTask<?>>();
+        for (int start = 0; start < articles.length; start += CHUNK_SIZE) {
+            int chunkStart = start;
+            int chunkEnd = Math.min(start + CHUNK_SIZE, articles.length);
+            chunks.add(pool.submit(() -> formatChunk(style, articles, entries, chunkStart, chunkEnd)));
+        }
+        for (ForkJoinTask<?> chunk : chunks) {
+            chunk.join();
+        }
+        return entries;
+    }
+
+    /**
+     * Prints a formatted bibliography to an output.
+     * 
+     * @param style   Style of the entries.
+     * @param entries Formatted entries in bibliography order.
+     * @param output  Output to print to.
+     */
+    public void print(CitationStyle style, String[] entries, PrintStream output) {
+        for (int start = 0; start < entries.length; start += CHUNK_SIZE) {
+            output.print(renderChunk(style, entries, start, Math.min(start + CHUNK_SIZE, entries.length)));
+        }
+    }
+
+    /**
+     * Writes a formatted bibliography to a channel, encoded in UTF-8.
+     * 
+     * @param style   Style of the entries.
+     * @param entries Formatted entries in bibliography order.
+     * @param channel Channel to write to.
+     * @throws IOException if the channel cannot be written.
+     */
+    public void write(CitationStyle style, String[] entries, WritableByteChannel channel) throws IOException {
+        for (int start = 0; start < entries.length; start += CHUNK_SIZE) {
+            ByteBuffer chunk = encode(renderChunk(style, entries, start, Math.min(start + CHUNK_SIZE,
+                    entries.length)));
+            while (chunk.hasRemaining()) {
+                channel.write(chunk);
+            }
+        }
+    }
+
+    /**
+     * Formats a chunk of a bibliography.
+     * 
+     * @param style    Style to format.
+     * @param articles Articles in bibliography order.
+     * @param entries  Entries to store the formatted chunk in.
+     * @param start    Index of the first entry of the chunk.
+     * @param end      Index after the last entry of the chunk.
+     */
+    private void formatChunk(CitationStyle style, Article[] articles, String[] entries, int start, int end) {
+        for (int i = start; i < end; i++) {
+            entries[i] = cache.getBibliography(style, articles[i]);
+        }
+    }
+
+    /**
+     * Renders a chunk of formatted entries as lines. Numbered styles number the
+     * entries by their position in the whole bibliography, starting with 1.
+     * 
+     * @param style   Style of the entries.
+     * @param entries Formatted entries in bibliography order.
+     * @param start   Index of the first entry of the chunk.
+     * @param end     Index after the last entry of the chunk.
+     * @return rendered chunk
+     */
+    private static StringBuilder renderChunk(CitationStyle style, String[] entries, int start, int end) {
+        StringBuilder builder = new StringBuilder();
+        String lineSeparator = System.lineSeparator();
+        for (int i = start; i < end; i++) {
+            if (style.isNumbered()) {
+                builder.append('[').append(i + 1).append("] ");
+            }
+            builder.append(entries[i]).append(lineSeparator);
+        }
+        return builder;
+    }
+
+    /**
+     * Encodes a rendered chunk in UTF-8.
+     * 
+     * @param chunk Rendered chunk.
+     * @return encoded chunk
+     */
+    private static ByteBuffer encode(CharSequence chunk) {
+        return StandardCharsets.UTF_8.encode(CharBuffer.wrap(chunk));
+    }
+}
@@ -0,0 +1,80 @@
+package printFormat;
+
+import article.Article;
+import venue.journal.JournalInstanceCheck;
+
+/**
+ * A compiled citation style. Formats articles by running a fixed chain of
+ * steps, one chain for journal articles and one for conference articles.
+ * 
+ * @author Emir Yuksel
+ * @version 1.0
+ */
+public class CitationStyle {
+    private final String name;
+    private final boolean numbered;
+    private final FormatStep[] journalSteps;
+    private final FormatStep[] conferenceSteps;
+    private final JournalInstanceCheck journalCheck;
+
+    /**
+     * Creates a new compiled citation style.
+     * 
+     * @param name            Name of the style.
+     * @param numbered        true if entries of a bibliography are numbered.
+     * @param journalSteps    Steps to format a journal article.
+     * @param conferenceSteps Steps to format a conference article.
+     */
+    public CitationStyle(String name, boolean numbered, FormatStep[] journalSteps, FormatStep[] conferenceSteps) {
+        this.name = name;
+        this.numbered = numbered;
+        this.journalSteps = journalSteps;
+        this.conferenceSteps = conferenceSteps;
+        this.journalCheck = new JournalInstanceCheck();
+    }
+
+    /**
+     * Gets the name of the style.
+     * 
+     * @return name of the style
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Checks if entries of a bibliography in this style are numbered, e.g. "[1] ".
+     * 
+     * @return true if entries are numbered, false otherwise.
+     */
+    public boolean isNumbered() {
+        return numbered;
+    }
+
+    /**
+     * Appends the bibliography of an article depending on its venue(journal or
+     * series).
+     * 
+     * @param article Article to get bibliography
+     * @param builder Builder to append to.
+     */
+    public void appendBibliography(Article article, StringBuilder builder) {
+        FormatStep[] steps = journalCheck.equals(article.getVenue()) ? journalSteps : conferenceSteps;
+        for (FormatStep step : steps) {
+            step.append(article, builder);
+        }
+    }
+
+    /**
+     * Returns the bibliography of an article depending on its venue(journal or
+     * series).
+     * 
+     * @param article Article to get bibliography
+     * @return Bibliography of the article.
+     */
+    public String getBibliography(Article article) {
+        StringBuilder builder = new StringBuilder();
+        appendBibliography(article, builder);
+        return builder.toString();
+    }
+}
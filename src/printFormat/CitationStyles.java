@@ -0,0 +1,66 @@
+package printFormat;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registry of the citation styles known to the system. The styles "acm" (ACM
+ * Simplified) and "apa" (APA Simplified) are always registered, further house
+ * styles can be added as {@link StyleTemplate templates}.
+ * 
+ * @author Emir Yuksel
+ * @version 1.0
+ */
+public class CitationStyles {
+
+    /**
+     * The print format "ACM Simplified". Author name is defined as follows:
+     * <first name > <last name >.
+     */
+    public static final StyleTemplate ACM = new StyleTemplate("acm", true, "{fullName}", ", ", " and ", ", and ",
+            "{authors}. {year}. {title}. {venue}.",
+            "{authors}. {title}. In Proceedings of {venue}, {conferenceYear}, {location}.");
+
+    /**
+     * The print format "APA Simplified". Author name is defined as follows:
+     * <last name >, <uppercase first letter of first name >.
+     */
+    public static final StyleTemplate APA = new StyleTemplate("apa", false, "{surname}, {initial}.", ", ", ", & ",
+            ", & ", "{authors} ({year}). {title}. {venue}",
+            "{authors} ({conferenceYear}). {title}. {venue}, {location}");
+
+    private final Map<String, CitationStyle> styles;
+
+    /**
+     * Creates a new registry with the built-in styles.
+     */
+    public CitationStyles() {
+        this.styles = new ConcurrentHashMap<String, CitationStyle>();
+        register(ACM);
+        register(APA);
+    }
+
+    /**
+     * Compiles a style and registers it under its name. A style with the same name
+     * is replaced.
+     * 
+     * @param template Declaration of the style.
+     * @return compiled style
+     * @throws IllegalArgumentException if the template is invalid.
+     */
+    public CitationStyle register(StyleTemplate template) {
+        CitationStyle style = template.compile();
+        styles.put(style.getName(), style);
+        return style;
+    }
+
+    /**
+     * Gets a style by its name.
+     * 
+     * @param name Name of the style.
+     * @return null if no such style is registered, the compiled style otherwise.
+     */
+    public CitationStyle get(String name) {
+        return styles.get(name);
+    }
+}
@@ -0,0 +1,22 @@
+package printFormat;
+
+import article.Article;
+
+/**
+ * One step of a compiled citation style, e.g. a fixed text or a field of an
+ * article.
+ * 
+ * @author Emir Yuksel
+ * @version 1.0
+ */
+public interface FormatStep {
+
+    /**
+     * Appends the part of the bibliography of an article this step is
+     * responsible for.
+     * 
+     * @param article Article to get bibliography.
+     * @param builder Builder to append to.
+     */
+    void append(Article article, StringBuilder builder);
+}
@@ -0,0 +1,234 @@
+package printFormat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Declares a citation style as templates. A template is text with fields in
+ * braces, e.g. "{authors}. {year}. {title}.", and is compiled once into a
+ * chain of {@link FormatStep steps}.
+ * 
+ * Fields of an article are {authors}, {title}, {year}, {venue},
+ * {conferenceYear} and {location}, the last two only for conference articles,
+ * so the journal template must not use them.
+ * Fields of an author name are {name}, {surname}, {fullName} and {initial},
+ * the uppercase first letter of the first name.
+ * 
+ * @author Emir Yuksel
+ * @version 1.0
+ */
+public class StyleTemplate {
+    private static final char FIELD_START = '{';
+    private static final char FIELD_END = '}';
+    private static final String ERROR_UNKNOWN_FIELD = "unknown template field: ";
+    private static final String ERROR_UNCLOSED_FIELD = "unclosed template field in: ";
+    private static final String ERROR_CONFERENCE_FIELD = "template field only for conference articles: ";
+
+    private final String name;
+    private final boolean numbered;
+    private final String authorName;
+    private final String authorSeparator;
+    private final String twoAuthorsSeparator;
+    private final String lastAuthorSeparator;
+    private final String journalLayout;
+    private final String conferenceLayout;
+
+    /**
+     * Creates a new style declaration.
+     * 
+     * @param name                Name of the style.
+     * @param numbered            true if entries of a bibliography are numbered.
+     * @param authorName          Template of a single author name.
+     * @param authorSeparator     Separator between authors.
+     * @param twoAuthorsSeparator Separator between exactly two authors.
+     * @param lastAuthorSeparator Separator before the last of more than two
+     *                            authors.
+     * @param journalLayout       Template of a journal article.
+     * @param conferenceLayout    Template of a conference article.
+     */
+    public StyleTemplate(String name, boolean numbered, String authorName, String authorSeparator,
+            String twoAuthorsSeparator, String lastAuthorSeparator, String journalLayout, String conferenceLayout) {
+        this.name = name;
+        this.numbered = numbered;
+        this.authorName = authorName;
+        this.authorSeparator = authorSeparator;
+        this.twoAuthorsSeparator = twoAuthorsSeparator;
+        this.lastAuthorSeparator = lastAuthorSeparator;
+        this.journalLayout = journalLayout;
+        this.conferenceLayout = conferenceLayout;
+    }
+
+    /**
+     * Gets the name of the style.
+     * 
+     * @return name of the style
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Compiles the templates into a style.
+     * 
+     * @return compiled style
+     * @throws IllegalArgumentException if a template has an unknown or unclosed
+     *                                  field, or the journal template has a
+     *                                  field only for conference articles.
+     */
+    public CitationStyle compile() {
+        AuthorListFormat authors = new AuthorListFormat(compileAuthorName(authorName), authorSeparator,
+                twoAuthorsSeparator, lastAuthorSeparator);
+        return new CitationStyle(name, numbered, compileLayout(journalLayout, false, authors),
+                compileLayout(conferenceLayout, true, authors));
+    }
+
+    /**
+     * Compiles the template of an article.
+     * 
+     * @param template   Template to compile.
+     * @param conference true if the template is for conference articles.
+     * @param authors    Step for the author list.
+     * @return steps of the template
+     */
+    private static FormatStep[] compileLayout(String template, boolean conference, AuthorListFormat authors) {
+        List<FormatStep> steps = new ArrayList<FormatStep>();
+        for (String part : split(template)) {
+            if (!isField(part)) {
+                steps.add((article, builder) -> builder.append(part));
+                continue;
+            }
+            steps.add(articleField(fieldName(part), conference, authors));
+        }
+        return steps.toArray(new FormatStep[0]);
+    }
+
+    /**
+     * Compiles the template of an author name.
+     * 
+     * @param template Template to compile.
+     * @return steps of the template
+     */
+    private static AuthorFormatStep[] compileAuthorName(String template) {
+        List<AuthorFormatStep> steps = new ArrayList<AuthorFormatStep>();
+        for (String part : split(template)) {
+            if (!isField(part)) {
+                steps.add((author, builder) -> builder.append(part));
+                continue;
+            }
+            steps.add(authorField(fieldName(part)));
+        }
+        return steps.toArray(new AuthorFormatStep[0]);
+    }
+
+    /**
+     * Gets the step of an article field.
+     * 
+     * @param field      Name of the field.
+     * @param conference true if the field is for conference articles.
+     * @param authors    Step for the author list.
+     * @return step of the field
+     */
+    private static FormatStep articleField(String field, boolean conference, AuthorListFormat authors) {
+        switch (field) {
+            case "authors":
+                return authors;
+            case "title":
+                return (article, builder) -> builder.append(article.getTitle());
+            case "year":
+                return (article, builder) -> builder.append(article.getPublishYear());
+            case "venue":
+                return (article, builder) -> builder.append(article.getVenue().getName());
+            case "conferenceYear":
+                requireConference(field, conference);
+                return (article, builder) -> builder.append(article.getConference().getYear());
+            case "location":
+                requireConference(field, conference);
+                return (article, builder) -> builder.append(article.getConference().getLocation());
+            default:
+                throw new IllegalArgumentException(ERROR_UNKNOWN_FIELD + field);
+        }
+    }
+
+    /**
+     * Checks that a field only for conference articles is used for them.
+     * 
+     * @param field      Name of the field.
+     * @param conference true if the field is for conference articles.
+     * @throws IllegalArgumentException if the field is not for conference
+     *                                  articles.
+     */
+    private static void requireConference(String field, boolean conference) {
+        if (!conference) {
+            throw new IllegalArgumentException(ERROR_CONFERENCE_FIELD + field);
+        }
+    }
+
+    /**
+     * Gets the step of an author field.
+     * 
+     * @param field Name of the field.
+     * @return step of the field
+     */
+    private static AuthorFormatStep authorField(String field) {
+        switch (field) {
+            case "name":
+                return (author, builder) -> builder.append(author.getName());
+            case "surname":
+                return (author, builder) -> builder.append(author.getSurName());
+            case "fullName":
+                return (author, builder) -> builder.append(author.getFullName());
+            case "initial":
+                return (author, builder) -> builder.append(Character.toUpperCase(author.getName().charAt(0)));
+            default:
+                throw new IllegalArgumentException(ERROR_UNKNOWN_FIELD + field);
+        }
+    }
+
+    /**
+     * Splits a template into text and fields, in order. Fields keep their braces.
+     * 
+     * @param template Template to split.
+     * @return parts of the template
+     */
+    private static List<String> split(String template) {
+        List<String> parts = new ArrayList<String>();
+        int position = 0;
+        while (position < template.length()) {
+            int start = template.indexOf(FIELD_START, position);
+            if (start < 0) {
+                parts.add(template.substring(position));
+                break;
+            }
+            int end = template.indexOf(FIELD_END, start);
+            if (end < 0) {
+                throw new IllegalArgumentException(ERROR_UNCLOSED_FIELD + template);
+            }
+            if (start > position) {
+                parts.add(template.substring(position, start));
+            }
+            parts.add(template.substring(start, end + 1));
+            position = end + 1;
+        }
+        return parts;
+    }
+
+    /**
+     * Checks if a part of a template is a field.
+     * 
+     * @param part Part of a template.
+     * @return true if the part is a field, false if it is text.
+     */
+    private static boolean isField(String part) {
+        return part.charAt(0) == FIELD_START && part.charAt(part.length() - 1) == FIELD_END;
+    }
+
+    /**
+     * Gets the name of a field without its braces.
+     * 
+     * @param part Field of a template.
+     * @return name of the field
+     */
+    private static String fieldName(String part) {
+        return part.substring(1, part.length() - 1);
+    }
+}
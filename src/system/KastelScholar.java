@@ -1,22 +1,58 @@
 package system;
 
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
-import java.util.Iterator;
+import java.util.EnumSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.NavigableMap;
 import java.util.PriorityQueue;
 import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import javax.management.JMException;
 
 import article.Article;
 import author.Author;
 import author.AuthorManager;
-import printFormat.Acm;
-import printFormat.Apa;
+import printFormat.BibliographyCache;
+import printFormat.BibliographyRenderer;
+import printFormat.CitationStyle;
+import printFormat.CitationStyles;
+import printFormat.StyleTemplate;
+import system.cache.CacheDependency;
+import system.cache.QueryCache;
+import system.interaction.CommandMetrics;
+import system.metrics.MemoryReport;
+import system.metrics.SlowQueryLog;
+import system.page.Page;
+import system.query.ArticleIndex;
+import system.query.Condition;
+import system.query.QueryPlan;
+import system.query.QueryPlanner;
+import system.replication.LogPosition;
+import system.replication.ReplicationLog;
+import venue.conference.Conference;
 import venue.conference.Series;
+import venue.journal.Journal;
 
 /**
  * Brings methods to manage the system together and makes them more readable.
  * 
+ * The system can be shared between threads. Methods which change the system
+ * must be called while holding the write lock of {@link #getLock()}, methods
+ * which only read from it while holding at least the read lock.
+ * {@link system.interaction.Command#executeMatching(String, KastelScholar)}
+ * does this for every command.
+ * 
  * @author Emir Yuksel
  * @version 1.0
  */
@@ -25,9 +61,223 @@ public class KastelScholar extends AuthorManager {
 
     private static final String SERIES = "series";
     private static final String JOURNAL = "journal";
+    private static final String KEY_SEPARATOR = " ";
+    private static final String ARGUMENT_SEPARATOR = ",";
+
+    /**
+     * Default maximum weight of the cached query results in bytes.
+     */
+    public static final long DEFAULT_QUERY_CACHE_BYTES = 8L << 20;
+
+    /**
+     * Default maximum weight of the cached formatted bibliographies in bytes.
+     */
+    public static final long DEFAULT_BIBLIOGRAPHY_CACHE_BYTES = 8L << 20;
+
+    /**
+     * System property with the directory commands may write files to.
+     */
+    public static final String OUTPUT_DIRECTORY_PROPERTY = "kastelscholar.outputDirectory";
+
+    /**
+     * Estimated bytes of a boxed number or an unmodifiable view of a list.
+     */
+    private static final long WRAPPER_SIZE = 16;
+
+    private static final EnumSet<CacheDependency> KEYWORD_QUERY = EnumSet.of(CacheDependency.ARTICLES,
+            CacheDependency.KEYWORDS);
+    private static final EnumSet<CacheDependency> AUTHORSHIP_QUERY = EnumSet.of(CacheDependency.AUTHORSHIP);
+    private static final EnumSet<CacheDependency> CITATION_QUERY = EnumSet.of(CacheDependency.AUTHORSHIP,
+            CacheDependency.CITATIONS);
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final LogPosition logPosition = new LogPosition();
+    private final CommandMetrics commandMetrics = new CommandMetrics();
+    private final QueryCache queryCache = new QueryCache(DEFAULT_QUERY_CACHE_BYTES);
+    private final ArticleIndex articleIndex = new ArticleIndex();
+    private final QueryPlanner queryPlanner = new QueryPlanner(articleIndex);
+    private volatile SlowQueryLog slowQueryLog;
+    private ReplicationLog replicationLog;
+    private boolean readOnly;
+    private volatile Path outputDirectory = Paths.get("").toAbsolutePath();
+    private final BibliographyCache bibliographyCache;
+    private final BibliographyRenderer bibliographyRenderer;
+    private final CitationStyles citationStyles;
+
+    /**
+     * Creates a new empty system.
+     */
+    public KastelScholar() {
+        this.bibliographyCache = new BibliographyCache(DEFAULT_BIBLIOGRAPHY_CACHE_BYTES);
+        this.bibliographyRenderer = new BibliographyRenderer(this.bibliographyCache);
+        this.citationStyles = new CitationStyles();
+        this.getChangeEvents().subscribe(this.bibliographyCache);
+        this.getChangeEvents().subscribe(this.queryCache);
+        this.getChangeEvents().subscribe(this.articleIndex);
+    }
 
-    private static final String PRINT_FORMAT_ACM = "acm";
-    private static final String PRINT_FORMAT_APA = "apa";
+    /**
+     * Gets the lock which guards the system against concurrent changes.
+     * 
+     * @return lock of the system
+     */
+    public ReadWriteLock getLock() {
+        return lock;
+    }
+
+    /**
+     * Gets the position of the system in the replication log.
+     * 
+     * @return log position of the system
+     */
+    public LogPosition getLogPosition() {
+        return logPosition;
+    }
+
+    /**
+     * Gets the metrics of the commands executed against the system.
+     * 
+     * @return command metrics of the system
+     */
+    public CommandMetrics getCommandMetrics() {
+        return commandMetrics;
+    }
+
+    /**
+     * Gets the cache of the query results of the system.
+     * 
+     * @return query cache of the system
+     */
+    public QueryCache getQueryCache() {
+        return queryCache;
+    }
+
+    /**
+     * Gets the cache of the formatted bibliographies of the system.
+     * 
+     * @return bibliography cache of the system
+     */
+    public BibliographyCache getBibliographyCache() {
+        return bibliographyCache;
+    }
+
+    /**
+     * Makes the command and query cache metrics of the system available through
+     * JMX and applies the query and bibliography cache capacities, latency
+     * sampling, allocation accounting and slow query log configured by system
+     * properties. Called once by {@link system.interaction.Main} and
+     * {@link system.interaction.Server}.
+     */
+    public void startMonitoring() {
+        commandMetrics.setAllocationAccounting(Boolean.getBoolean(CommandMetrics.ALLOCATION_ACCOUNTING_PROPERTY));
+        commandMetrics.setLatencySampling(
+                Integer.getInteger(CommandMetrics.LATENCY_SAMPLING_PROPERTY, CommandMetrics.DEFAULT_LATENCY_SAMPLING));
+        queryCache.setCapacity(Long.getLong(QueryCache.CAPACITY_PROPERTY, DEFAULT_QUERY_CACHE_BYTES));
+        bibliographyCache.setCapacity(Long.getLong(BibliographyCache.CAPACITY_PROPERTY,
+                DEFAULT_BIBLIOGRAPHY_CACHE_BYTES));
+        try {
+            commandMetrics.register();
+            queryCache.register();
+        } catch (JMException exception) {
+            // The metrics are still printed by the stats command.
+        }
+        SlowQueryLog configuredSlowQueryLog = SlowQueryLog.fromSystemProperties();
+        if (configuredSlowQueryLog != null) {
+            configuredSlowQueryLog.start();
+            setSlowQueryLog(configuredSlowQueryLog);
+        }
+    }
+
+    /**
+     * Gets the index of the articles for combined queries.
+     * 
+     * @return article index of the system
+     */
+    public ArticleIndex getArticleIndex() {
+        return articleIndex;
+    }
+
+    /**
+     * Gets the log of the commands which are slower than its threshold.
+     * 
+     * @return slow query log of the system, null if slow commands are not logged.
+     */
+    public SlowQueryLog getSlowQueryLog() {
+        return slowQueryLog;
+    }
+
+    /**
+     * Sets the log of the commands which are slower than its threshold.
+     * 
+     * @param slowQueryLog Started log, null to stop logging slow commands.
+     */
+    public void setSlowQueryLog(SlowQueryLog slowQueryLog) {
+        this.slowQueryLog = slowQueryLog;
+    }
+
+    /**
+     * Sets the log to which every applied changing command is appended, which
+     * makes the system a replication primary.
+     * 
+     * @param replicationLog Log to append to.
+     */
+    public void setReplicationLog(ReplicationLog replicationLog) {
+        this.replicationLog = replicationLog;
+    }
+
+    /**
+     * Checks if the system only accepts commands which read from it, as a replica
+     * does.
+     * 
+     * @return true if the system is read-only, false otherwise.
+     */
+    public boolean isReadOnly() {
+        return readOnly;
+    }
+
+    /**
+     * Sets if the system only accepts commands which read from it.
+     * 
+     * @param readOnly true to make the system read-only.
+     */
+    public void setReadOnly(boolean readOnly) {
+        this.readOnly = readOnly;
+    }
+
+    /**
+     * Gets the directory commands may write files to. Paths of files are resolved
+     * against it and must not leave it.
+     * 
+     * @return output directory of the system, null if commands must not write
+     *         files.
+     */
+    public Path getOutputDirectory() {
+        return outputDirectory;
+    }
+
+    /**
+     * Sets the directory commands may write files to. It is the working directory
+     * of a new system.
+     * 
+     * @param outputDirectory Directory to write files to, null if commands must
+     *                        not write files.
+     */
+    public void setOutputDirectory(Path outputDirectory) {
+        this.outputDirectory = outputDirectory == null ? null : outputDirectory.toAbsolutePath().normalize();
+    }
+
+    /**
+     * Records that a changing command is applied. Must be called while holding the
+     * write lock, so the log has the same order in which commands are applied.
+     * 
+     * @param command Command which is applied.
+     */
+    public void commandApplied(String command) {
+        if (replicationLog != null) {
+            replicationLog.append(command);
+        }
+        logPosition.advance();
+    }
 
     /**
      * Runs the addAuthor() from "AuthorManager".
@@ -107,17 +357,13 @@ public class KastelScholar extends AuthorManager {
      */
 
     public void writtenBy(String id, List<String> authors) {
-        List<Author> authorsInSystem = this.getAuthors();
         List<Author> authorsToAdd = new ArrayList<Author>();
 
         for (String fullName : authors) {
-
-            for (Author author : authorsInSystem) {
-                if (author.getFullName().equals(fullName)) {
-                    authorsToAdd.add(author);
-                }
+            Author author = this.searchAuthor(fullName);
+            if (author != null) {
+                authorsToAdd.add(author);
             }
-
         }
 
         this.addAuthortoArticle(id, authorsToAdd);
@@ -169,14 +415,20 @@ public class KastelScholar extends AuthorManager {
      */
 
     public List<String> getAllPublicationsFromSystem() {
-        List<Article> articles = this.getAllArticles();
-        List<String> articleId = new ArrayList<String>();
+        return this.allPublications();
+    }
 
-        for (Article article : articles) {
-            articleId.add(article.getId());
+    /**
+     * Returns a page of the identifiers of all articles in the system.
+     * 
+     * @param page Page to get.
+     * @return A sorted list of identifiers of the page.
+     */
+    public List<String> getAllPublicationsFromSystem(Page page) {
+        if (page.isAll()) {
+            return getAllPublicationsFromSystem();
         }
-
-        return sortById(articleId);
+        return this.allPublications(page);
     }
 
     /**
@@ -190,15 +442,83 @@ public class KastelScholar extends AuthorManager {
     }
 
     /**
-     * Runs "publicationsBy() from "SystemDatabase".
+     * Returns a page of the identifiers of invalid publications.
+     * 
+     * @param page Page to get.
+     * @return A sorted list of identifiers of the page.
+     */
+    public List<String> listInvalidPublications(Page page) {
+        if (page.isAll()) {
+            return listInvalidPublications();
+        }
+        return this.invalidPublications(page);
+    }
+
+    /**
+     * Runs "publicationsBy() from "SystemDatabase". The result is cached until
+     * authors are attached to an article.
      * 
      * @param authors Author list get publications.
-     * @return A sorted list of identifiers of publications.
+     * @return A sorted, unmodifiable list of identifiers of publications.
      */
 
     public List<String> getPublicationsBy(List<String> authors) {
 
-        return sortById(this.publicationsBy(authors));
+        return queryCache.get(cacheKey("publications by", new TreeSet<String>(authors)), AUTHORSHIP_QUERY,
+                () -> Collections.unmodifiableList(this.publicationsBy(authors)), KastelScholar::weightOf);
+    }
+
+    /**
+     * Returns a page of the publications of a list of authors. Pages are not
+     * cached.
+     * 
+     * @param authors Author list get publications.
+     * @param page    Page to get.
+     * @return A sorted list of identifiers of the page.
+     */
+    public List<String> getPublicationsBy(List<String> authors, Page page) {
+        if (page.isAll()) {
+            return getPublicationsBy(authors);
+        }
+        return this.publicationsBy(authors, page);
+    }
+
+    /**
+     * Returns a page of the publications of resolved authors. The identifiers are
+     * read from the articles of the authors, so no author is looked up by name.
+     * The whole result is cached like {@link #getPublicationsBy(List)}.
+     * 
+     * @param authors Authors to get the publications of.
+     * @param page    Page to get.
+     * @return A sorted list of identifiers of the page.
+     */
+    public List<String> getPublicationsOf(List<Author> authors, Page page) {
+        if (!page.isAll()) {
+            return page.select(identifiersOfAuthors(authors));
+        }
+        Set<String> names = new TreeSet<String>();
+        for (Author author : authors) {
+            names.add(author.getFullName());
+        }
+        return queryCache.get(cacheKey("publications by", names), AUTHORSHIP_QUERY,
+                () -> Collections.unmodifiableList(new ArrayList<String>(identifiersOfAuthors(authors))),
+                KastelScholar::weightOf);
+    }
+
+    /**
+     * Gets the identifiers of the articles of authors.
+     * 
+     * @param authors Authors to get the articles of.
+     * @return sorted identifiers, each once
+     */
+    private static Set<String> identifiersOfAuthors(List<Author> authors) {
+        Set<String> identifiers = new TreeSet<String>();
+        for (Author author : authors) {
+            for (Article article : author.getArticles()) {
+                identifiers.add(article.getId());
+            }
+        }
+        return identifiers;
     }
 
     /**
@@ -217,14 +537,118 @@ public class KastelScholar extends AuthorManager {
     }
 
     /**
-     * Runs findByKeywords() from "SystemDatabase".
+     * Returns a page of the publications of a conference. Only the identifiers of
+     * the page are kept while selecting it.
+     * 
+     * @param seriesName Name of the series to check.
+     * @param year       Publishing of the article to check.
+     * @param page       Page to get.
+     * @return Sorted list of identifiers of the page.
+     */
+    public List<String> getInProceedings(String seriesName, String year, Page page) {
+        if (page.isAll()) {
+            return getInProceedings(seriesName, year);
+        }
+        return page.select(this.inProceedings(this.searchSeries(seriesName), Integer.valueOf(year)));
+    }
+
+    /**
+     * Returns a page of the publications of a resolved conference. Only the
+     * identifiers of the page are kept while selecting it.
+     * 
+     * @param conference Conference to get the publications of.
+     * @param page       Page to get.
+     * @return Sorted list of identifiers of the page.
+     */
+    public List<String> getInProceedings(Conference conference, Page page) {
+        return page.select(identifiersOf(conference.getArticles()));
+    }
+
+    /**
+     * Returns a page of the publications of a resolved journal. Only the
+     * identifiers of the page are kept while selecting it.
+     * 
+     * @param journal Journal to get the publications of.
+     * @param page    Page to get.
+     * @return Sorted list of identifiers of the page.
+     */
+    public List<String> getPublicationsIn(Journal journal, Page page) {
+        return page.select(identifiersOf(journal.getArticles()));
+    }
+
+    /**
+     * Gets the identifiers of articles.
+     * 
+     * @param articles Articles to get the identifiers of.
+     * @return identifiers in the order of the articles
+     */
+    private static List<String> identifiersOf(List<Article> articles) {
+        List<String> identifiers = new ArrayList<String>(articles.size());
+        for (Article article : articles) {
+            identifiers.add(article.getId());
+        }
+        return identifiers;
+    }
+
+    /**
+     * Runs findByKeywords() from "SystemDatabase". The result is cached until an
+     * article is added or keywords are added.
      * 
      * @param keywords keywords to check.
-     * @return A sorted list of identifiers of publications.
+     * @return A sorted, unmodifiable list of identifiers of publications.
      */
     public List<String> getFindByKeywords(List<String> keywords) {
 
-        return sortById(this.findByKeywords(keywords));
+        return queryCache.get(cacheKey("find by keywords", new TreeSet<String>(keywords)), KEYWORD_QUERY,
+                () -> Collections.unmodifiableList(this.findByKeywords(keywords)), KastelScholar::weightOf);
+    }
+
+    /**
+     * Returns a page of the publications which have all keywords of a list. Pages
+     * are not cached.
+     * 
+     * @param keywords keywords to check.
+     * @param page     Page to get.
+     * @return A sorted list of identifiers of the page.
+     */
+    public List<String> getFindByKeywords(List<String> keywords, Page page) {
+        if (page.isAll()) {
+            return getFindByKeywords(keywords);
+        }
+        return this.findByKeywords(keywords, page);
+    }
+
+    /**
+     * Makes the plan of a combined query without executing it.
+     * 
+     * @param conditions Conditions the articles must meet, at least one.
+     * @return plan of the query
+     */
+    public QueryPlan planQuery(List<Condition> conditions) {
+        return queryPlanner.plan(conditions);
+    }
+
+    /**
+     * Returns a page of the publications which meet all conditions of a combined
+     * query. Results are not cached.
+     * 
+     * @param conditions Conditions the articles must meet, at least one.
+     * @param page       Page to get.
+     * @return A sorted list of identifiers of the page.
+     */
+    public List<String> query(List<Condition> conditions, Page page) {
+        return planQuery(conditions).execute(articleIndex, page);
+    }
+
+    /**
+     * Counts the publications which meet all conditions of a combined query per
+     * publishing year.
+     * 
+     * @param conditions Conditions the articles must meet, at least one.
+     * @return number of publications per year, only years with publications.
+     */
+    public NavigableMap<Integer, Long> countPerYear(List<Condition> conditions) {
+        return queryPlanner.countPerYear(conditions);
     }
 
     /**
@@ -252,29 +676,61 @@ public class KastelScholar extends AuthorManager {
     }
 
     /**
-     * Runs gIndex() from "AuthorManager".
+     * Runs gIndex() from "AuthorManager". The result is cached until authors are
+     * attached to an article or a citation is added.
      * 
      * @param author Author name to calculate.
      * @return g-index of an author.
      */
 
     public int calculateGindex(String author) {
-        Author authorToCalculate = this.searchAuthor(author);
+        return calculateGindex(this.searchAuthor(author));
+    }
 
-        return this.gIndex(authorToCalculate);
+    /**
+     * Runs gIndex() from "AuthorManager" for a resolved author. The result is
+     * cached until authors are attached to an article or a citation is added.
+     * 
+     * @param author Author to calculate.
+     * @return g-index of the author.
+     */
+    public int calculateGindex(Author author) {
+        return queryCache.get(cacheKey("g-index", Collections.singleton(author.getFullName())), CITATION_QUERY,
+                () -> this.gIndex(author), gIndex -> WRAPPER_SIZE);
     }
 
     /**
-     * Runs findCoAuthors() from "AuthorManager".
+     * Runs findCoAuthors() from "AuthorManager". The result is cached until
+     * authors are attached to an article.
      * 
      * @param author Author name to get co-authors.
-     * @return List of the co-authors.
+     * @return Unmodifiable list of the co-authors.
      */
 
     public List<String> getCoAuthors(String author) {
-        Author authorToSearch = this.searchAuthor(author);
+        return getCoAuthors(this.searchAuthor(author));
+    }
 
-        List<Author> coAuthors = this.findCoAuthors(authorToSearch);
+    /**
+     * Runs findCoAuthors() from "AuthorManager" for a resolved author. The result
+     * is cached until authors are attached to an article.
+     * 
+     * @param author Author to get co-authors.
+     * @return Unmodifiable list of the names of the co-authors.
+     */
+    public List<String> getCoAuthors(Author author) {
+        return queryCache.get(cacheKey("coauthors of", Collections.singleton(author.getFullName())), AUTHORSHIP_QUERY,
+                () -> Collections.unmodifiableList(coAuthorsOf(author)), KastelScholar::weightOf);
+    }
+
+    /**
+     * Gets the names of the co-authors of an author.
+     * 
+     * @param author Author to get co-authors.
+     * @return List of the co-authors.
+     */
+    private List<String> coAuthorsOf(Author author) {
+        List<Author> coAuthors = this.findCoAuthors(author);
         List<String> coAuthorNames = new ArrayList<String>();
 
         for (Author a : coAuthors) {
@@ -285,14 +741,55 @@ public class KastelScholar extends AuthorManager {
     }
 
     /**
-     * Runs giveForeignCitations() from "AuthorManager".
+     * Runs giveForeignCitations() from "AuthorManager". The result is cached
+     * until authors are attached to an article or a citation is added.
      * 
      * @param author Author name to get foreign citations.
-     * @return Sorted list of identifiers of foreign citations.
+     * @return Sorted, unmodifiable list of identifiers of foreign citations.
      */
 
     public List<String> getForeignCitationsOf(String author) {
-        List<Article> foreignCitations = this.giveForeignCitations(this.searchAuthor(author));
+        return getForeignCitationsOf(this.searchAuthor(author), Page.ALL);
+    }
+
+    /**
+     * Gets a page of the foreign citations of an author. Only the identifiers of
+     * the page are kept while selecting it.
+     * 
+     * @param author Author name to get foreign citations.
+     * @param page   Page to get.
+     * @return Sorted list of identifiers of the page.
+     */
+    public List<String> getForeignCitationsOf(String author, Page page) {
+        return getForeignCitationsOf(this.searchAuthor(author), page);
+    }
+
+    /**
+     * Gets a page of the foreign citations of a resolved author. The whole result
+     * is cached until authors are attached to an article or a citation is added,
+     * pages are selected without caching.
+     * 
+     * @param author Author to get foreign citations.
+     * @param page   Page to get.
+     * @return Sorted list of identifiers of the page.
+     */
+    public List<String> getForeignCitationsOf(Author author, Page page) {
+        if (page.isAll()) {
+            return queryCache.get(cacheKey("foreign citations of", Collections.singleton(author.getFullName())),
+                    CITATION_QUERY, () -> Collections.unmodifiableList(sortById(foreignCitationsOf(author))),
+                    KastelScholar::weightOf);
+        }
+        return page.select(foreignCitationsOf(author));
+    }
+
+    /**
+     * Gets the identifiers of the foreign citations of an author.
+     * 
+     * @param author Author to get foreign citations.
+     * @return Unsorted list of identifiers of foreign citations.
+     */
+    private List<String> foreignCitationsOf(Author author) {
+        List<Article> foreignCitations = this.giveForeignCitations(author);
         List<String> foreignCitationNames = new ArrayList<String>();
 
         for (Article article : foreignCitations) {
@@ -301,60 +798,169 @@ public class KastelScholar extends AuthorManager {
             }
         }
 
-        return sortById(foreignCitationNames);
+        return foreignCitationNames;
     }
 
     /**
-     * Runs the getBibliography() method depending on print format.
+     * Gets a citation style by its name.
      * 
-     * @param format Format to print(Acm or Apa).
-     * @param id     Identifier of articles to print.
-     * @return Bibliography
+     * @param name Name of the style.
+     * @return null if no such style is registered, the style otherwise.
      */
+    public CitationStyle getCitationStyle(String name) {
+        return citationStyles.get(name);
+    }
 
-    public List<String> getBibliography(String format, List<String> id) {
-        List<Article> queuedArticles = new ArrayList<Article>();
-
-        List<Article> articles = new ArrayList<Article>();
+    /**
+     * Compiles and registers a house style. A style with the same name is
+     * replaced.
+     * 
+     * @param template Declaration of the style.
+     * @return compiled style
+     * @throws IllegalArgumentException if the template is invalid.
+     */
+    public CitationStyle registerCitationStyle(StyleTemplate template) {
+        CitationStyle previous = citationStyles.get(template.getName());
+        CitationStyle style = citationStyles.register(template);
+        if (previous != null) {
+            bibliographyCache.removeStyle(previous);
+        }
+        return style;
+    }
 
-        List<String> formattedArticles = new ArrayList<String>();
+    /**
+     * Gets the bibliography of articles in a citation style, sorted. Every article
+     * is listed once, even if its identifier is given multiple times.
+     * 
+     * @param style Style to print.
+     * @param id    Identifier of articles to print.
+     * @return Bibliography
+     */
 
-        for (String idToSearch : id) {
-            articles.add(this.getArticleById(idToSearch));
-        }
+    public List<String> getBibliography(CitationStyle style, List<String> id) {
+        Article[] articles = sortForBibliography(id);
 
         /*
-         * Sorts the articles.
+         * Formats the articles, or takes them from the cache.
          */
-
-        PriorityQueue<Article> queue = new PriorityQueue<Article>();
-        Iterator<Article> queueAdd = articles.iterator();
-        while (queueAdd.hasNext()) {
-            queue.add(queueAdd.next());
+        List<String> formattedArticles = new ArrayList<String>(articles.length);
+        for (Article article : articles) {
+            formattedArticles.add(this.bibliographyCache.getBibliography(style, article));
         }
 
-        Iterator<Article> iteratorQ = queue.iterator();
-        while (iteratorQ.hasNext()) {
-            queuedArticles.add(queue.poll());
+        return formattedArticles;
+    }
+
+    /**
+     * Gets articles in bibliography order, so their entries can be formatted one
+     * by one. Every article is listed once, even if its identifier is given
+     * multiple times.
+     * 
+     * @param id Identifier of articles, each of an article in the system.
+     * @return sorted articles
+     */
+    public Article[] getBibliographyOrder(List<String> id) {
+        return sortForBibliography(id);
+    }
+
+    /**
+     * Gets the bibliography entry of an article in a citation style, from the
+     * cache if it was formatted before.
+     * 
+     * @param style   Style to format.
+     * @param article Article to format.
+     * @return formatted entry
+     */
+    public String getBibliographyEntry(CitationStyle style, Article article) {
+        return this.bibliographyCache.getBibliography(style, article);
+    }
+
+    /**
+     * Formats the bibliography of articles in a citation style, sorted. Every
+     * article is listed once, even if its identifier is given multiple times. The
+     * entries need the articles, so they must be formatted under the lock of the
+     * system, but they can be printed or written after it is released.
+     * 
+     * @param style Style to format.
+     * @param id    Identifier of articles to format.
+     * @return formatted entries in bibliography order
+     */
+    public String[] formatBibliography(CitationStyle style, List<String> id) {
+        return this.bibliographyRenderer.format(style, sortForBibliography(id));
+    }
 
+    /**
+     * Prints a formatted bibliography, one entry per line. Entries of numbered
+     * styles are numbered, e.g. "[1] ".
+     * 
+     * @param style   Style of the entries.
+     * @param entries Entries from {@link #formatBibliography(CitationStyle, List)}.
+     * @param output  Output to print to.
+     */
+    public void printBibliography(CitationStyle style, String[] entries, PrintStream output) {
+        this.bibliographyRenderer.print(style, entries, output);
+    }
+
+    /**
+     * Writes a formatted bibliography to a channel, like
+     * {@link #printBibliography(CitationStyle, String[], PrintStream)}, encoded
+     * in UTF-8.
+     * 
+     * @param style   Style of the entries.
+     * @param entries Entries from {@link #formatBibliography(CitationStyle, List)}.
+     * @param channel Channel to write to.
+     * @throws IOException if the channel cannot be written.
+     */
+    public void writeBibliography(CitationStyle style, String[] entries, WritableByteChannel channel)
+            throws IOException {
+        this.bibliographyRenderer.write(style, entries, channel);
+    }
+
+    /**
+     * Gets articles in bibliography order. Every article is listed once, even if
+     * its identifier is given multiple times.
+     * 
+     * @param id Identifier of articles.
+     * @return sorted articles
+     */
+    private Article[] sortForBibliography(List<String> id) {
+        Set<String> uniqueIds = new LinkedHashSet<String>(id);
+        Article[] articles = new Article[uniqueIds.size()];
+
+        int index = 0;
+        for (String idToSearch : uniqueIds) {
+            articles[index] = this.getArticleById(idToSearch);
+            index++;
         }
 
         /*
-         * Checks print format and runs the corresponding method.
+         * Sorts the articles by their collation keys. Large lists are sorted in
+         * parallel.
          */
-        for (Article article : queuedArticles) {
-            if (format.equals(PRINT_FORMAT_ACM)) {
-                Acm acm = new Acm();
-                formattedArticles.add(acm.getBibliography(article));
-            }
+        Arrays.parallelSort(articles);
+        return articles;
+    }
 
-            if (format.equals(PRINT_FORMAT_APA)) {
-                Apa apa = new Apa();
-                formattedArticles.add(apa.getBibliography(article));
-            }
-        }
+    /**
+     * Builds the key of a cached query from its command and arguments.
+     * 
+     * @param command   Name of the command.
+     * @param arguments Normalized arguments of the command.
+     * @return key of the query
+     */
+    private static String cacheKey(String command, Set<String> arguments) {
+        return command + KEY_SEPARATOR + String.join(ARGUMENT_SEPARATOR, arguments);
+    }
 
-        return formattedArticles;
+    /**
+     * Estimates the bytes a cached list of identifiers or names retains. The
+     * strings themselves are shared with the database.
+     * 
+     * @param list Cached list.
+     * @return estimated bytes
+     */
+    private static long weightOf(List<String> list) {
+        return WRAPPER_SIZE + MemoryReport.listSize(list);
     }
 
     /**
@@ -1,19 +1,28 @@
 package system;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
-import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import article.Article;
 import author.Author;
+import system.event.ArticleAdded;
+import system.event.ChangeEventBus;
+import system.event.ChangeType;
+import system.event.KeywordsAdded;
+import system.metrics.QueryEvent;
+import system.metrics.ScannedElement;
+import system.page.Page;
+import system.shard.ShardCursor;
+import system.shard.ShardResult;
+import system.shard.ShardSet;
 import venue.Venue;
 import venue.conference.Conference;
 import venue.conference.Series;
-import venue.conference.SeriesInstanceCheck;
 import venue.journal.Journal;
-import venue.journal.JournalInstanceCheck;
 
 /**
  * This class is for management and data storage for KastelScholar system.
@@ -24,8 +33,12 @@ import venue.journal.JournalInstanceCheck;
 
 public class SystemDatabase {
     private List<Author> authors;
+    private Map<String, Author> authorsByName;
     private List<Journal> journals;
     private List<Series> series;
+    private Map<String, Article> articlesById;
+    private ChangeEventBus changeEvents;
+    private ShardSet shards;
 
     /**
      * Creates a new system database.
@@ -33,8 +46,13 @@ public class SystemDatabase {
 
     protected SystemDatabase() {
         this.authors = new ArrayList<Author>();
+        this.authorsByName = new HashMap<String, Author>();
         this.journals = new ArrayList<Journal>();
         this.series = new ArrayList<Series>();
+        this.articlesById = new HashMap<String, Article>();
+        this.changeEvents = new ChangeEventBus();
+        this.shards = new ShardSet(Runtime.getRuntime().availableProcessors());
+        this.changeEvents.subscribe(this.shards);
     }
 
     /**
@@ -64,6 +82,25 @@ public class SystemDatabase {
         return series;
     }
 
+    /**
+     * Gets the shards which answer the queries of many articles.
+     * 
+     * @return shards of the database
+     */
+    public ShardSet getShards() {
+        return shards;
+    }
+
+    /**
+     * Gets the bus which publishes every change of the articles and venues in the
+     * database.
+     * 
+     * @return bus of the changes.
+     */
+    public ChangeEventBus getChangeEvents() {
+        return changeEvents;
+    }
+
     /**
      * Gets all articles in the database.
      * 
@@ -95,6 +132,9 @@ public class SystemDatabase {
         for (Journal journal : this.journals) {
             if (journal.getName().equals(name)) {
                 journal.addKeywords(keywords);
+                if (this.changeEvents.hasListeners(ChangeType.KEYWORDS_ADDED)) {
+                    this.changeEvents.publish(new KeywordsAdded(journal, null, keywords));
+                }
                 return;
             }
         }
@@ -111,6 +151,9 @@ public class SystemDatabase {
         for (Series series : this.series) {
             if (series.getName().equals(name)) {
                 series.addKeywords(keywords);
+                if (this.changeEvents.hasListeners(ChangeType.KEYWORDS_ADDED)) {
+                    this.changeEvents.publish(new KeywordsAdded(series, null, keywords));
+                }
                 return;
             }
         }
@@ -124,46 +167,28 @@ public class SystemDatabase {
      * @param keywords List of keywords to add.
      */
     protected void addKeywordsToArticle(String id, List<String> keywords) {
-        List<Article> articles = getAllArticles();
-
-        for (Article article : articles) {
-            if (article.getId().equals(id)) {
-
-                article.addKeywords(keywords);
-                updateLists(article.getVenue(), article);
+        Article article = getArticleById(id);
 
+        if (article != null) {
+            article.addKeywords(keywords);
+            if (this.changeEvents.hasListeners(ChangeType.KEYWORDS_ADDED)) {
+                this.changeEvents.publish(new KeywordsAdded(article.getVenue(), article, keywords));
             }
         }
 
     }
 
     /**
-     * This method can be called if a change happened in an article.
+     * Registers an article which is added to a venue, so that it can be found by
+     * its identifier.
      * 
-     * @param venue   Venue of the article.
-     * @param article Article which is changed.
+     * @param article Article which is added.
      */
-    protected void updateLists(Venue venue, Article article) {
-        JournalInstanceCheck journalCheck = new JournalInstanceCheck();
-        SeriesInstanceCheck seriesCheck = new SeriesInstanceCheck();
-        if (seriesCheck.equals(venue)) {
-            for (Series series : this.series) {
-                if (series.getName().equals(venue.getName())) {
-                    series.updateArticle(article);
-                }
-            }
-            return;
+    protected void registerArticle(Article article) {
+        this.articlesById.put(article.getId(), article);
+        if (this.changeEvents.hasListeners(ChangeType.ARTICLE_ADDED)) {
+            this.changeEvents.publish(new ArticleAdded(article));
         }
-
-        if (journalCheck.equals(venue)) {
-            for (Journal journal : this.journals) {
-                if (journal.getName().equals(venue.getName())) {
-                    journal.updateArticle(article);
-                }
-            }
-            return;
-        }
-
     }
 
     /**
@@ -186,33 +211,68 @@ public class SystemDatabase {
         return invalidPublications;
     }
 
+    /**
+     * Gets a page of the identifiers of invalid publications, in ascending order.
+     * 
+     * @param page Page to get.
+     * @return identifiers of the page
+     */
+    protected List<String> invalidPublications(Page page) {
+        return pageOf("invalidPublications", "", this.shards.invalidPublications(page.getAfter()), page);
+    }
+
     /**
      * Gets a list of publication identifiers which are written by each author in a
      * list.
      * 
      * @param searchedAuthors Author names to get publications.
-     * @return list of publication identifiers
+     * @return sorted list of publication identifiers
      */
     protected List<String> publicationsBy(List<String> searchedAuthors) {
-        List<Article> allArticles = getAllArticles();
-        List<String> publications = new ArrayList<String>();
-
-        for (String author : searchedAuthors) {
-
-            for (Article article : allArticles) {
-
-                if (article.checkAutor(author)) {
-                    if (!publications.contains(article.getId())) {
-                        publications.add(article.getId());
-                    }
-
-                }
+        QueryEvent event = new QueryEvent();
+        event.begin();
+        ShardResult publications = this.shards.publicationsBy(searchedAuthors);
+        event.complete("publicationsBy", searchedAuthors, ScannedElement.ARTICLES, publications.getScanned(),
+                publications.getIdentifiers().size());
+        return publications.getIdentifiers();
+    }
 
-            }
+    /**
+     * Gets a page of the identifiers of the publications which are written by at
+     * least one author in a list, in ascending order.
+     * 
+     * @param searchedAuthors Author names to get publications.
+     * @param page            Page to get.
+     * @return identifiers of the page
+     */
+    protected List<String> publicationsBy(List<String> searchedAuthors, Page page) {
+        return pageOf("publicationsBy", searchedAuthors, this.shards.publicationsBy(searchedAuthors, page.getAfter()),
+                page);
+    }
 
-        }
+    /**
+     * Gets the identifiers of all publications in the database.
+     * 
+     * @return sorted list of publication identifiers
+     */
+    protected List<String> allPublications() {
+        QueryEvent event = new QueryEvent();
+        event.begin();
+        ShardResult publications = this.shards.allPublications();
+        event.complete("allPublications", "", ScannedElement.ARTICLES, publications.getScanned(),
+                publications.getIdentifiers().size());
+        return publications.getIdentifiers();
+    }
 
-        return publications;
+    /**
+     * Gets a page of the identifiers of all publications in the database, in
+     * ascending order.
+     * 
+     * @param page Page to get.
+     * @return identifiers of the page
+     */
+    protected List<String> allPublications(Page page) {
+        return pageOf("allPublications", "", this.shards.allPublications(page.getAfter()), page);
     }
 
     /**
@@ -259,15 +319,46 @@ public class SystemDatabase {
      * keywords.
      * 
      * @param keywords keyword list to check.
-     * @return list of identifiers.
+     * @return sorted list of identifiers.
      */
     protected List<String> findByKeywords(List<String> keywords) {
-        List<String> publications = new ArrayList<String>();
-        for (Article article : getAllArticles()) {
-            if (article.containsAllKeywords(keywords)) {
-                publications.add(article.getId());
-            }
-        }
+        QueryEvent event = new QueryEvent();
+        event.begin();
+        ShardResult publications = this.shards.findByKeywords(keywords);
+        event.complete("findByKeywords", keywords, ScannedElement.ARTICLES, publications.getScanned(),
+                publications.getIdentifiers().size());
+        return publications.getIdentifiers();
+    }
+
+    /**
+     * Gets a page of the identifiers of the publications that have all of the
+     * specified keywords, in ascending order.
+     * 
+     * @param keywords keyword list to check.
+     * @param page     Page to get.
+     * @return identifiers of the page
+     */
+    protected List<String> findByKeywords(List<String> keywords, Page page) {
+        return pageOf("findByKeywords", keywords, this.shards.findByKeywords(keywords, page.getAfter()), page);
+    }
+
+    /**
+     * Gets a page of the identifiers of a shard cursor. The cursor only reads the
+     * postings behind the cursor of the page, and reading stops once the page is
+     * full.
+     * 
+     * @param queryName  Name of the query, for its flight recorder event.
+     * @param queryInput Arguments of the query, for its flight recorder event.
+     * @param cursor     Cursor over the matching identifiers, starting after the
+     *                   cursor of the page.
+     * @param page       Page to get.
+     * @return identifiers of the page
+     */
+    private List<String> pageOf(String queryName, Object queryInput, ShardCursor cursor, Page page) {
+        QueryEvent event = new QueryEvent();
+        event.begin();
+        List<String> publications = page.take(cursor);
+        event.complete(queryName, queryInput, ScannedElement.ARTICLES, cursor.getScanned(), publications.size());
         return publications;
     }
 
@@ -322,17 +413,7 @@ public class SystemDatabase {
      * @return Article which is searched by identifier.
      */
     public Article getArticleById(String id) {
-        List<Article> articles = getAllArticles();
-
-        Iterator<Article> iterator = articles.iterator();
-
-        while (iterator.hasNext()) {
-            Article currentArticle = iterator.next();
-            if (currentArticle.getId().equals(id)) {
-                return currentArticle;
-            }
-        }
-        return null;
+        return this.articlesById.get(id);
     }
 
     /**
@@ -354,13 +435,7 @@ public class SystemDatabase {
      * @return Author who is searched.
      */
     public Author searchAuthor(String fullName) {
-
-        for (Author authorToSearch : this.authors) {
-            if (authorToSearch.getFullName().equals(fullName)) {
-                return authorToSearch;
-            }
-        }
-        return null;
+        return this.authorsByName.get(fullName);
     }
 
     /**
@@ -379,6 +454,15 @@ public class SystemDatabase {
      */
     protected void addAuthor(Author author) {
         this.authors.add(author);
+        this.authorsByName.putIfAbsent(author.getFullName(), author);
+    }
+
+    /**
+     * Stops the threads which query the shards of the database in parallel. The
+     * database must not be queried afterwards.
+     */
+    public void close() {
+        this.shards.close();
     }
 
     /**
@@ -0,0 +1,45 @@
+package system.api;
+
+import java.util.List;
+import java.util.concurrent.locks.Lock;
+
+import author.Author;
+import system.KastelScholar;
+
+/**
+ * A prepared query of the co-authors of a resolved author.
+ * 
+ * @author Emir Yuksel
+ * @version 1.0
+ */
+public final class CoAuthorsQuery {
+
+    private final KastelScholar kastelScholar;
+    private final Author author;
+
+    /**
+     * Creates a new prepared query.
+     * 
+     * @param kastelScholar System to query.
+     * @param author        Author to get the co-authors of.
+     */
+    CoAuthorsQuery(KastelScholar kastelScholar, Author author) {
+        this.kastelScholar = kastelScholar;
+        this.author = author;
+    }
+
+    /**
+     * Gets the co-authors of the author.
+     * 
+     * @return unmodifiable list of the full names of the co-authors
+     */
+    public List<String> execute() {
+        Lock readLock = kastelScholar.getLock().readLock();
+        readLock.lock();
+        try {
+            return kastelScholar.getCoAuthors(author);
+        } finally {
+            readLock.unlock();
+        }
+    }
+}
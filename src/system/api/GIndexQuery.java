@@ -0,0 +1,44 @@
+package system.api;
+
+import java.util.concurrent.locks.Lock;
+
+import author.Author;
+import system.KastelScholar;
+
+/**
+ * A prepared g-index query of a resolved author.
+ * 
+ * @author Emir Yuksel
+ * @version 1.0
+ */
+public final class GIndexQuery {
+
+    private final KastelScholar kastelScholar;
+    private final Author author;
+
+    /**
+     * Creates a new prepared query.
+     * 
+     * @param kastelScholar System to query.
+     * @param author        Author to calculate the g-index of.
+     */
+    GIndexQuery(KastelScholar kastelScholar, Author author) {
+        this.kastelScholar = kastelScholar;
+        this.author = author;
+    }
+
+    /**
+     * Calculates the g-index of the author.
+     * 
+     * @return g-index of the author
+     */
+    public int execute() {
+        Lock readLock = kastelScholar.getLock().readLock();
+        readLock.lock();
+        try {
+            return kastelScholar.calculateGindex(author);
+        } finally {
+            readLock.unlock();
+        }
+    }
+}
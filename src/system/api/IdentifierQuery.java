@@ -0,0 +1,75 @@
+package system.api;
+
+import java.util.List;
+import java.util.concurrent.Flow;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.function.Function;
+
+import system.page.Page;
+import system.reactive.ReactiveQueries;
+
+/**
+ * A prepared query whose result is a sorted list of article identifiers. Its
+ * arguments are validated and resolved when it is prepared, so executing it
+ * only runs the query. It can be executed any number of times, from any thread,
+ * and sees the changes applied to the system in between.
+ * 
+ * @author Emir Yuksel
+ * @version 1.0
+ */
+public final class IdentifierQuery {
+
+    private final ReadWriteLock lock;
+    private final Function<Page, List<String>> pages;
+    private final ReactiveQueries reactiveQueries;
+
+    /**
+     * Creates a new prepared query.
+     * 
+     * @param lock            Lock of the system the query reads from.
+     * @param pages           Gets a page of the result, while holding the read
+     *                        lock.
+     * @param reactiveQueries Publishes the result as a stream.
+     */
+    IdentifierQuery(ReadWriteLock lock, Function<Page, List<String>> pages, ReactiveQueries reactiveQueries) {
+        this.lock = lock;
+        this.pages = pages;
+        this.reactiveQueries = reactiveQueries;
+    }
+
+    /**
+     * Executes the query.
+     * 
+     * @return sorted identifiers, unmodifiable if the result is cached.
+     */
+    public List<String> execute() {
+        return execute(Page.ALL);
+    }
+
+    /**
+     * Executes the query for a page of its result.
+     * 
+     * @param page Page to get.
+     * @return sorted identifiers of the page
+     */
+    public List<String> execute(Page page) {
+        Lock readLock = lock.readLock();
+        readLock.lock();
+        try {
+            return pages.apply(page);
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    /**
+     * Publishes the result of the query as a stream, which reads it page by page
+     * as its subscribers request identifiers.
+     * 
+     * @return publisher of the sorted identifiers
+     */
+    public Flow.Publisher<String> publish() {
+        return reactiveQueries.identifiers(pages);
+    }
+}
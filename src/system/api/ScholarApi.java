@@ -0,0 +1,301 @@
+package system.api;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.Lock;
+import java.util.function.Function;
+
+import article.Article;
+import author.Author;
+import system.KastelScholar;
+import system.interaction.Command;
+import system.interaction.ErrorMessages;
+import system.interaction.InputException;
+import system.page.Page;
+import system.reactive.ReactiveQueries;
+import venue.conference.Conference;
+import venue.conference.Series;
+import venue.journal.Journal;
+
+/**
+ * Typed Java API of the queries of a system, for callers which embed it. A
+ * query is prepared once: its arguments are validated and its authors, venues
+ * and articles are resolved, with the same errors as the commands. Executing a
+ * prepared query skips parsing, validation and formatting and returns plain
+ * values, lists or streams.
+ * 
+ * Prepared queries take the read lock of the system for every execution, so
+ * they can be used from any thread, also while commands change the system.
+ * Authors, venues and articles are never removed, so resolved handles stay
+ * valid.
+ * 
+ * @author Emir Yuksel
+ * @version 1.0
+ */
+public class ScholarApi {
+
+    private static final String NOT_FOUND = "not found.";
+    private static final String AUTHOR = "author";
+    private static final String SERIES = "series";
+
+    private final KastelScholar kastelScholar;
+    private final ReactiveQueries reactiveQueries;
+
+    /**
+     * Creates a new API of a system whose streams call their subscribers on the
+     * common fork join pool.
+     * 
+     * @param kastelScholar System to query.
+     */
+    public ScholarApi(KastelScholar kastelScholar) {
+        this(kastelScholar, new ReactiveQueries(kastelScholar));
+    }
+
+    /**
+     * Creates a new API of a system.
+     * 
+     * @param kastelScholar   System to query.
+     * @param reactiveQueries Publishes the results of the queries as streams.
+     */
+    public ScholarApi(KastelScholar kastelScholar, ReactiveQueries reactiveQueries) {
+        this.kastelScholar = kastelScholar;
+        this.reactiveQueries = reactiveQueries;
+    }
+
+    /**
+     * Prepares the query of all publications.
+     * 
+     * @return prepared query
+     */
+    public IdentifierQuery prepareAllPublications() {
+        return identifierQuery(kastelScholar::getAllPublicationsFromSystem);
+    }
+
+    /**
+     * Prepares the query of the publications of which at least one of the given
+     * authors is an author.
+     * 
+     * @param authors Full names of the authors.
+     * @return prepared query
+     * @throws InputException if an author does not exist.
+     */
+    public IdentifierQuery preparePublicationsBy(List<String> authors) throws InputException {
+        List<Author> resolvedAuthors = new ArrayList<Author>(authors.size());
+        Lock readLock = kastelScholar.getLock().readLock();
+        readLock.lock();
+        try {
+            for (String author : authors) {
+                resolvedAuthors.add(resolveAuthor(author));
+            }
+        } finally {
+            readLock.unlock();
+        }
+        return identifierQuery(page -> kastelScholar.getPublicationsOf(resolvedAuthors, page));
+    }
+
+    /**
+     * Prepares the query of the publications which have all of the given
+     * keywords.
+     * 
+     * @param keywords Keywords to check.
+     * @return prepared query
+     * @throws InputException if there is no keyword or a keyword the commands do
+     *                        not accept.
+     */
+    public IdentifierQuery prepareFindByKeywords(List<String> keywords) throws InputException {
+        if (keywords.isEmpty()) {
+            throw new InputException(ErrorMessages.KEYWORDS_NOT_VALID.toString());
+        }
+        for (String keyword : keywords) {
+            if (!Command.isKeyword(keyword)) {
+                throw new InputException(ErrorMessages.KEYWORDS_NOT_VALID.toString());
+            }
+        }
+        List<String> searchedKeywords = new ArrayList<String>(keywords);
+        return identifierQuery(page -> kastelScholar.getFindByKeywords(searchedKeywords, page));
+    }
+
+    /**
+     * Prepares the query of the publications of a conference.
+     * 
+     * @param series Name of the conference series.
+     * @param year   Year of the conference.
+     * @return prepared query
+     * @throws InputException if the series or the conference does not exist.
+     */
+    public IdentifierQuery prepareInProceedings(String series, int year) throws InputException {
+        Conference conference;
+        Lock readLock = kastelScholar.getLock().readLock();
+        readLock.lock();
+        try {
+            conference = resolveConference(series, year);
+        } finally {
+            readLock.unlock();
+        }
+        return identifierQuery(page -> kastelScholar.getInProceedings(conference, page));
+    }
+
+    /**
+     * Prepares the query of the publications of a journal.
+     * 
+     * @param journal Name of the journal.
+     * @return prepared query
+     * @throws InputException if the journal does not exist.
+     */
+    public IdentifierQuery preparePublicationsIn(String journal) throws InputException {
+        Journal resolvedJournal;
+        Lock readLock = kastelScholar.getLock().readLock();
+        readLock.lock();
+        try {
+            resolvedJournal = resolveJournal(journal);
+        } finally {
+            readLock.unlock();
+        }
+        return identifierQuery(page -> kastelScholar.getPublicationsIn(resolvedJournal, page));
+    }
+
+    /**
+     * Prepares the query of the foreign citations of an author.
+     * 
+     * @param author Full name of the author.
+     * @return prepared query
+     * @throws InputException if the author does not exist.
+     */
+    public IdentifierQuery prepareForeignCitationsOf(String author) throws InputException {
+        Author resolvedAuthor = resolveAuthorLocked(author);
+        return identifierQuery(page -> kastelScholar.getForeignCitationsOf(resolvedAuthor, page));
+    }
+
+    /**
+     * Prepares the g-index query of an author.
+     * 
+     * @param author Full name of the author.
+     * @return prepared query
+     * @throws InputException if the author does not exist.
+     */
+    public GIndexQuery prepareGIndex(String author) throws InputException {
+        return new GIndexQuery(kastelScholar, resolveAuthorLocked(author));
+    }
+
+    /**
+     * Prepares the query of the co-authors of an author.
+     * 
+     * @param author Full name of the author.
+     * @return prepared query
+     * @throws InputException if the author does not exist.
+     */
+    public CoAuthorsQuery prepareCoAuthorsOf(String author) throws InputException {
+        return new CoAuthorsQuery(kastelScholar, resolveAuthorLocked(author));
+    }
+
+    /**
+     * Prepares the query of how similar two publications are in terms of their
+     * keywords.
+     * 
+     * @param firstId  Identifier of the first publication.
+     * @param secondId Identifier of the second publication.
+     * @return prepared query
+     * @throws InputException if a publication does not exist.
+     */
+    public SimilarityQuery prepareSimilarity(String firstId, String secondId) throws InputException {
+        Lock readLock = kastelScholar.getLock().readLock();
+        readLock.lock();
+        try {
+            Article first = kastelScholar.getArticleById(firstId);
+            Article second = kastelScholar.getArticleById(secondId);
+            if (first == null || second == null) {
+                throw new InputException(ErrorMessages.ARTICLE_NOT_FOUND.toString());
+            }
+            return new SimilarityQuery(kastelScholar, first, second);
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    /**
+     * Creates a prepared identifier query.
+     * 
+     * @param pages Gets a page of the result.
+     * @return prepared query
+     */
+    private IdentifierQuery identifierQuery(Function<Page, List<String>> pages) {
+        return new IdentifierQuery(kastelScholar.getLock(), pages, reactiveQueries);
+    }
+
+    /**
+     * Resolves the author of a query of one author while holding the read lock.
+     * Like the commands of one author, the error does not name the author.
+     * 
+     * @param fullName Full name of the author.
+     * @return the author
+     * @throws InputException if the author does not exist.
+     */
+    private Author resolveAuthorLocked(String fullName) throws InputException {
+        Author author;
+        Lock readLock = kastelScholar.getLock().readLock();
+        readLock.lock();
+        try {
+            author = kastelScholar.searchAuthor(fullName);
+        } finally {
+            readLock.unlock();
+        }
+        if (author == null) {
+            throw new InputException(ErrorMessages.AUTHOR_NOT_FOUND.toString());
+        }
+        return author;
+    }
+
+    /**
+     * Resolves an author of a list. Like the commands of author lists, the error
+     * names the author which does not exist.
+     * 
+     * @param fullName Full name of the author.
+     * @return the author
+     * @throws InputException if the author does not exist.
+     */
+    private Author resolveAuthor(String fullName) throws InputException {
+        Author author = kastelScholar.searchAuthor(fullName);
+        if (author == null) {
+            throw new InputException(ErrorMessages.AUTHOR_NOT_FOUND, AUTHOR + " \"" + fullName + "\" " + NOT_FOUND);
+        }
+        return author;
+    }
+
+    /**
+     * Resolves the conference of a series in a year.
+     * 
+     * @param seriesName Name of the series.
+     * @param year       Year of the conference.
+     * @return the conference
+     * @throws InputException if the series or the conference does not exist.
+     */
+    private Conference resolveConference(String seriesName, int year) throws InputException {
+        for (Series series : kastelScholar.getSeries()) {
+            if (series.getName().equals(seriesName)) {
+                for (Conference conference : series.getConferences()) {
+                    if (conference.getYear() == year) {
+                        return conference;
+                    }
+                }
+                throw new InputException(ErrorMessages.CONFERENCE_IN_YEAR_NOT_EXIST.toString());
+            }
+        }
+        throw new InputException(ErrorMessages.SERIES_NOT_FOUND, SERIES + " \"" + seriesName + "\" " + NOT_FOUND);
+    }
+
+    /**
+     * Resolves a journal.
+     * 
+     * @param name Name of the journal.
+     * @return the journal
+     * @throws InputException if the journal does not exist.
+     */
+    private Journal resolveJournal(String name) throws InputException {
+        for (Journal journal : kastelScholar.getJournals()) {
+            if (journal.getName().equals(name)) {
+                return journal;
+            }
+        }
+        throw new InputException(ErrorMessages.VENUE_NOT_FOUND.toString());
+    }
+}
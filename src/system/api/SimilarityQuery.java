@@ -0,0 +1,48 @@
+package system.api;
+
+import java.util.concurrent.locks.Lock;
+
+import article.Article;
+import system.KastelScholar;
+
+/**
+ * A prepared query of how similar two resolved articles are in terms of their
+ * keywords.
+ * 
+ * @author Emir Yuksel
+ * @version 1.0
+ */
+public final class SimilarityQuery {
+
+    private final KastelScholar kastelScholar;
+    private final Article first;
+    private final Article second;
+
+    /**
+     * Creates a new prepared query.
+     * 
+     * @param kastelScholar System to query.
+     * @param first         First article to compare.
+     * @param second        Second article to compare.
+     */
+    SimilarityQuery(KastelScholar kastelScholar, Article first, Article second) {
+        this.kastelScholar = kastelScholar;
+        this.first = first;
+        this.second = second;
+    }
+
+    /**
+     * Calculates the Jaccard index of the keywords of the articles.
+     * 
+     * @return similarity of the articles
+     */
+    public float execute() {
+        Lock readLock = kastelScholar.getLock().readLock();
+        readLock.lock();
+        try {
+            return kastelScholar.calculateJaccard(first.getKeywords(), second.getKeywords());
+        } finally {
+            readLock.unlock();
+        }
+    }
+}
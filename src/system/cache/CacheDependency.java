@@ -0,0 +1,49 @@
+package system.cache;
+
+import system.event.ChangeType;
+
+/**
+ * Parts of the system database a cached query result can depend on. Every part
+ * has its own mutation epoch, so a change only invalidates the results which
+ * depend on the changed part.
+ * 
+ * @author Emir Yuksel
+ * @version 1.0
+ */
+public enum CacheDependency {
+    /**
+     * The set of articles and their venues.
+     */
+    ARTICLES,
+    /**
+     * The authors of the articles.
+     */
+    AUTHORSHIP,
+    /**
+     * The citations between the articles.
+     */
+    CITATIONS,
+    /**
+     * The keywords of the articles and venues.
+     */
+    KEYWORDS;
+
+    /**
+     * Gets the part of the database a change affects.
+     * 
+     * @param type Type of the change.
+     * @return changed part
+     */
+    public static CacheDependency of(ChangeType type) {
+        switch (type) {
+            case ARTICLE_ADDED:
+                return ARTICLES;
+            case AUTHORS_ATTACHED:
+                return AUTHORSHIP;
+            case CITATION_ADDED:
+                return CITATIONS;
+            default:
+                return KEYWORDS;
+        }
+    }
+}
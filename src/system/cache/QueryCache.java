@@ -0,0 +1,289 @@
+package system.cache;
+
+import java.lang.management.ManagementFactory;
+import java.util.EnumSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+import system.event.ChangeEvent;
+import system.event.ChangeListener;
+import system.metrics.MemoryReport;
+
+/**
+ * Caches the results of queries in least recently used order, bounded by
+ * their estimated weight in bytes.
+ * 
+ * Every entry remembers the mutation epochs of the parts of the database its
+ * query depends on. A change increments the epoch of the part it affects, so
+ * it invalidates exactly the entries which depend on it. Stale entries are
+ * removed lazily when they are looked up or evicted.
+ * 
+ * Cached results are shared between callers and must not be modified.
+ * 
+ * @author Emir Yuksel
+ * @version 1.0
+ */
+public class QueryCache implements ChangeListener, QueryCacheMXBean {
+
+    /**
+     * System property with the capacity of the cache in bytes, 0 disables it.
+     */
+    public static final String CAPACITY_PROPERTY = "kastelscholar.queryCacheBytes";
+
+    private static final String OBJECT_NAME = "kastelscholar:type=QueryCache";
+    private static final String REPORT = "query cache: hits=%d misses=%d hit ratio=%.3f evictions=%d "
+            + "invalidations=%d entries=%d weight=%dB capacity=%dB";
+
+    /**
+     * Estimated bytes of an entry without its key and value: the entry of the
+     * map, the cache entry and its epochs.
+     */
+    private static final long ENTRY_OVERHEAD = 40 + 24 + 48;
+
+    /**
+     * A single result may use at most this share of the capacity.
+     */
+    private static final int MAX_ENTRY_SHARE = 8;
+
+    private static final CacheDependency[] DEPENDENCIES = CacheDependency.values();
+
+    private final AtomicLongArray epochs;
+    private final LinkedHashMap<String, Entry> entries;
+    private final LongAdder hits;
+    private final LongAdder misses;
+    private final LongAdder evictions;
+    private final LongAdder invalidations;
+    private long capacity;
+    private long weight;
+
+    /**
+     * Creates a new empty cache.
+     * 
+     * @param capacity Maximum weight of all entries in bytes, 0 to disable the
+     *                 cache.
+     */
+    public QueryCache(long capacity) {
+        this.epochs = new AtomicLongArray(DEPENDENCIES.length);
+        this.entries = new LinkedHashMap<String, Entry>(16, 0.75f, true);
+        this.hits = new LongAdder();
+        this.misses = new LongAdder();
+        this.evictions = new LongAdder();
+        this.invalidations = new LongAdder();
+        this.capacity = capacity;
+    }
+
+    @Override
+    public void onChange(ChangeEvent event) {
+        epochs.incrementAndGet(CacheDependency.of(event.getType()).ordinal());
+    }
+
+    /**
+     * Gets the cached result of a query, or executes the query and caches its
+     * result.
+     * 
+     * @param <T>          Type of the result.
+     * @param key          Normalized query and arguments.
+     * @param dependencies Parts of the database the result depends on.
+     * @param query        Query to execute on a miss.
+     * @param weigher      Estimates the bytes the result retains, not counting
+     *                     objects shared with the database.
+     * @return result of the query
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(String key, EnumSet<CacheDependency> dependencies, Supplier<T> query,
+            ToLongFunction<T> weigher) {
+        long[] stamp = stamp();
+        synchronized (this) {
+            Entry entry = entries.get(key);
+            if (entry != null) {
+                if (entry.isCurrent(epochs)) {
+                    hits.increment();
+                    return (T) entry.value;
+                }
+                remove(key, entry);
+                invalidations.increment();
+            }
+        }
+
+        misses.increment();
+        T value = query.get();
+        long entryWeight = ENTRY_OVERHEAD + MemoryReport.stringSize(key) + weigher.applyAsLong(value);
+        synchronized (this) {
+            if (entryWeight <= capacity / MAX_ENTRY_SHARE) {
+                Entry previous = entries.put(key, new Entry(value, dependencies, stamp, entryWeight));
+                if (previous != null) {
+                    weight -= previous.weight;
+                }
+                weight += entryWeight;
+                evict();
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Registers the cache as an MXBean at the platform MBean server.
+     * 
+     * @throws JMException if the cache cannot be registered, e.g. because the
+     *                     cache of another system is registered already.
+     */
+    public void register() throws JMException {
+        ManagementFactory.getPlatformMBeanServer().registerMBean(this, new ObjectName(OBJECT_NAME));
+    }
+
+    /**
+     * Describes the metrics of the cache.
+     * 
+     * @return one line with the lookups, removals and weight of the cache
+     */
+    public String report() {
+        int entryCount;
+        long currentWeight;
+        long currentCapacity;
+        synchronized (this) {
+            entryCount = entries.size();
+            currentWeight = weight;
+            currentCapacity = capacity;
+        }
+        return String.format(REPORT, getHits(), getMisses(), getHitRatio(), getEvictions(), getInvalidations(),
+                entryCount, currentWeight, currentCapacity);
+    }
+
+    @Override
+    public long getHits() {
+        return hits.sum();
+    }
+
+    @Override
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    @Override
+    public double getHitRatio() {
+        long hitCount = hits.sum();
+        long lookups = hitCount + misses.sum();
+        return lookups == 0 ? 0 : (double) hitCount / lookups;
+    }
+
+    @Override
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+    @Override
+    public long getInvalidations() {
+        return invalidations.sum();
+    }
+
+    @Override
+    public synchronized int getEntries() {
+        return entries.size();
+    }
+
+    @Override
+    public synchronized long getWeight() {
+        return weight;
+    }
+
+    @Override
+    public synchronized long getCapacity() {
+        return capacity;
+    }
+
+    @Override
+    public synchronized void setCapacity(long capacity) {
+        this.capacity = capacity;
+        evict();
+    }
+
+    @Override
+    public synchronized void clear() {
+        entries.clear();
+        weight = 0;
+    }
+
+    /**
+     * Reads the current epochs of all parts of the database. Must happen before
+     * the query runs, so a change during the query makes its result stale.
+     * 
+     * @return current epochs
+     */
+    private long[] stamp() {
+        long[] stamp = new long[DEPENDENCIES.length];
+        for (int i = 0; i < stamp.length; i++) {
+            stamp[i] = epochs.get(i);
+        }
+        return stamp;
+    }
+
+    /**
+     * Removes the least recently used entries until all entries fit into the
+     * capacity. Stale entries are counted as invalidations.
+     */
+    private void evict() {
+        Iterator<Map.Entry<String, Entry>> iterator = entries.entrySet().iterator();
+        while (weight > capacity && iterator.hasNext()) {
+            Entry entry = iterator.next().getValue();
+            iterator.remove();
+            weight -= entry.weight;
+            if (entry.isCurrent(epochs)) {
+                evictions.increment();
+            } else {
+                invalidations.increment();
+            }
+        }
+    }
+
+    /**
+     * Removes an entry.
+     * 
+     * @param key   Key of the entry.
+     * @param entry Entry to remove.
+     */
+    private void remove(String key, Entry entry) {
+        entries.remove(key);
+        weight -= entry.weight;
+    }
+
+    /**
+     * A cached result with the epochs it was computed at.
+     */
+    private static final class Entry {
+        private final Object value;
+        private final EnumSet<CacheDependency> dependencies;
+        private final long[] stamp;
+        private final long weight;
+
+        Entry(Object value, EnumSet<CacheDependency> dependencies, long[] stamp, long weight) {
+            this.value = value;
+            this.dependencies = dependencies;
+            this.stamp = stamp;
+            this.weight = weight;
+        }
+
+        /**
+         * Checks if none of the parts the result depends on changed since it was
+         * computed.
+         * 
+         * @param epochs Current epochs.
+         * @return true if the result is current, false if it is stale.
+         */
+        boolean isCurrent(AtomicLongArray epochs) {
+            for (CacheDependency dependency : dependencies) {
+                if (epochs.get(dependency.ordinal()) != stamp[dependency.ordinal()]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package system.cache;
+
+/**
+ * Management interface of a query result cache.
+ * 
+ * @author Emir Yuksel
+ * @version 1.0
+ */
+public interface QueryCacheMXBean {
+
+    /**
+     * Gets how often a query was answered from the cache.
+     * 
+     * @return number of hits
+     */
+    long getHits();
+
+    /**
+     * Gets how often a query had to be executed.
+     * 
+     * @return number of misses
+     */
+    long getMisses();
+
+    /**
+     * Gets the share of the queries answered from the cache.
+     * 
+     * @return hits divided by all lookups, 0 if there was none.
+     */
+    double getHitRatio();
+
+    /**
+     * Gets how many entries were removed to stay within the capacity.
+     * 
+     * @return number of evictions
+     */
+    long getEvictions();
+
+    /**
+     * Gets how many entries were removed because a change they depend on
+     * happened.
+     * 
+     * @return number of invalidations
+     */
+    long getInvalidations();
+
+    /**
+     * Gets the number of cached entries.
+     * 
+     * @return number of entries
+     */
+    int getEntries();
+
+    /**
+     * Gets the estimated heap the cached entries use.
+     * 
+     * @return weight of all entries in bytes
+     */
+    long getWeight();
+
+    /**
+     * Gets the maximum weight of all entries.
+     * 
+     * @return capacity in bytes, 0 if the cache is disabled.
+     */
+    long getCapacity();
+
+    /**
+     * Sets the maximum weight of all entries and evicts entries until they fit.
+     * 
+     * @param capacity Capacity in bytes, 0 to disable the cache.
+     */
+    void setCapacity(long capacity);
+
+    /**
+     * Removes all entries.
+     */
+    void clear();
+}
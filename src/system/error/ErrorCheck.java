@@ -66,15 +66,7 @@ public class ErrorCheck {
      * @return True if an author exist, False otherwise.
      */
     public boolean authorExists(String fullName) {
-        Iterator<Author> iterator = kastelScholar.getAuthors().iterator();
-
-        while (iterator.hasNext()) {
-            Author currentAuthor = iterator.next();
-            if (currentAuthor.getFullName().equals(fullName)) {
-                return true;
-            }
-        }
-        return false;
+        return kastelScholar.searchAuthor(fullName) != null;
     }
 
     /**
@@ -100,18 +92,7 @@ public class ErrorCheck {
      *         otherwise.
      */
     public boolean articleExists(String id) {
-        List<Article> articles = kastelScholar.getAllArticles();
-
-        Iterator<Article> iterator = articles.iterator();
-
-        while (iterator.hasNext()) {
-            Article currentArticle = iterator.next();
-            if (currentArticle.getId().equals(id)) {
-                return true;
-            }
-
-        }
-        return false;
+        return kastelScholar.getArticleById(id) != null;
     }
 
     /**
@@ -0,0 +1,22 @@
+package system.event;
+
+import article.Article;
+
+/**
+ * Published after an article is added to a venue. The keywords inherited from
+ * the venue are already added to the article.
+ * 
+ * @author Emir Yuksel
+ * @version 1.0
+ */
+public class ArticleAdded extends ChangeEvent {
+
+    /**
+     * Creates a new article added event.
+     * 
+     * @param article Article which is added.
+     */
+    public ArticleAdded(Article article) {
+        super(ChangeType.ARTICLE_ADDED, article.getVenue(), article);
+    }
+}
@@ -0,0 +1,36 @@
+package system.event;
+
+import java.util.List;
+
+import article.Article;
+import author.Author;
+
+/**
+ * Published after authors are attached to an article.
+ * 
+ * @author Emir Yuksel
+ * @version 1.0
+ */
+public class AuthorsAttached extends ChangeEvent {
+    private final List<Author> authors;
+
+    /**
+     * Creates a new authors attached event.
+     * 
+     * @param article Article which gets the authors.
+     * @param authors Authors which are attached, in the order they are attached.
+     */
+    public AuthorsAttached(Article article, List<Author> authors) {
+        super(ChangeType.AUTHORS_ATTACHED, article.getVenue(), article);
+        this.authors = authors;
+    }
+
+    /**
+     * Gets the authors which are attached.
+     * 
+     * @return attached authors
+     */
+    public List<Author> getAuthors() {
+        return authors;
+    }
+}
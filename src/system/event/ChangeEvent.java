@@ -0,0 +1,58 @@
+package system.event;
+
+import article.Article;
+import venue.Venue;
+
+/**
+ * Represents a change of the data in the system database. A change is always
+ * scoped to a venue and, unless keywords are added to a whole venue, to an
+ * article of this venue.
+ * 
+ * @author Emir Yuksel
+ * @version 1.0
+ */
+public abstract class ChangeEvent {
+    private final ChangeType type;
+    private final Venue venue;
+    private final Article article;
+
+    /**
+     * Creates a new change event.
+     * 
+     * @param type    Type of the change.
+     * @param venue   Venue in which the change happened.
+     * @param article Article which is changed, null if the whole venue is changed.
+     */
+    protected ChangeEvent(ChangeType type, Venue venue, Article article) {
+        this.type = type;
+        this.venue = venue;
+        this.article = article;
+    }
+
+    /**
+     * Gets the type of the change.
+     * 
+     * @return type of the change
+     */
+    public ChangeType getType() {
+        return type;
+    }
+
+    /**
+     * Gets the venue in which the change happened.
+     * 
+     * @return venue of the change
+     */
+    public Venue getVenue() {
+        return venue;
+    }
+
+    /**
+     * Gets the article which is changed.
+     * 
+     * @return changed article, null if the whole venue is changed.
+     */
+    public Article getArticle() {
+        return article;
+    }
+}
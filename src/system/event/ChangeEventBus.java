@@ -0,0 +1,182 @@
+package system.event;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Distributes the changes of the system database to its subscribers.
+ * 
+ * Synchronous subscribers are called on the publishing thread before the
+ * mutation returns. Asynchronous subscribers get the events on their own
+ * executor, in the order they are published. Every subscriber only gets the
+ * types of changes it wants, see {@link ChangeListener#getChangeTypes()}.
+ * 
+ * @author Emir Yuksel
+ * @version 1.0
+ */
+public class ChangeEventBus {
+    private static final ChangeListener[] NO_LISTENERS = new ChangeListener[0];
+    private static final ChangeType[] TYPES = ChangeType.values();
+
+    /**
+     * All subscribers in subscription order.
+     */
+    private ChangeListener[] listeners = NO_LISTENERS;
+
+    /**
+     * Subscribers per type of change, indexed by the ordinal of the type. They are
+     * replaced as a whole, so publishing never needs a lock or an iterator.
+     */
+    private volatile ChangeListener[][] listenersByType = byType(NO_LISTENERS);
+
+    /**
+     * Checks if anyone listens to a type of changes. Publishers use it to avoid
+     * creating events nobody receives.
+     * 
+     * @param type Type of the change.
+     * @return true if there is at least one subscriber of the type, false
+     *         otherwise.
+     */
+    public boolean hasListeners(ChangeType type) {
+        return listenersByType[type.ordinal()].length != 0;
+    }
+
+    /**
+     * Publishes a change to all subscribers of its type, in subscription order.
+     * Listeners which subscribe while the change is published do not receive it.
+     * 
+     * @param event Change to publish.
+     */
+    public void publish(ChangeEvent event) {
+        for (ChangeListener listener : listenersByType[event.getType().ordinal()]) {
+            listener.onChange(event);
+        }
+    }
+
+    /**
+     * Subscribes a listener which is called on the publishing thread for the
+     * changes of the types it wants.
+     * 
+     * @param listener Listener to subscribe.
+     */
+    public synchronized void subscribe(ChangeListener listener) {
+        ChangeListener[] newListeners = Arrays.copyOf(listeners, listeners.length + 1);
+        newListeners[listeners.length] = listener;
+        replace(newListeners);
+    }
+
+    /**
+     * Subscribes a listener which is called on the given executor. The listener
+     * receives the events in publishing order and is never called concurrently.
+     * 
+     * @param listener Listener to subscribe.
+     * @param executor Executor to call the listener.
+     * @return The listener which is actually subscribed, to be used for
+     *         {@link #unsubscribe(ChangeListener)}.
+     */
+    public ChangeListener subscribeAsync(ChangeListener listener, Executor executor) {
+        ChangeListener asyncListener = new AsyncListener(listener, executor);
+        subscribe(asyncListener);
+        return asyncListener;
+    }
+
+    /**
+     * Unsubscribes a listener.
+     * 
+     * @param listener Listener to unsubscribe.
+     */
+    public synchronized void unsubscribe(ChangeListener listener) {
+        for (int i = 0; i < listeners.length; i++) {
+            if (listeners[i] == listener) {
+                ChangeListener[] newListeners = new ChangeListener[listeners.length - 1];
+                System.arraycopy(listeners, 0, newListeners, 0, i);
+                System.arraycopy(listeners, i + 1, newListeners, i, listeners.length - i - 1);
+                replace(newListeners);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Replaces the subscribers.
+     * 
+     * @param newListeners All subscribers in subscription order.
+     */
+    private void replace(ChangeListener[] newListeners) {
+        this.listeners = newListeners;
+        this.listenersByType = byType(newListeners);
+    }
+
+    /**
+     * Groups subscribers by the types of changes they want.
+     * 
+     * @param all All subscribers in subscription order.
+     * @return subscribers per type, indexed by the ordinal of the type
+     */
+    private static ChangeListener[][] byType(ChangeListener[] all) {
+        ChangeListener[][] byType = new ChangeListener[TYPES.length][];
+        for (ChangeType type : TYPES) {
+            List<ChangeListener> ofType = new ArrayList<ChangeListener>();
+            for (ChangeListener listener : all) {
+                if (listener.getChangeTypes().contains(type)) {
+                    ofType.add(listener);
+                }
+            }
+            byType[type.ordinal()] = ofType.toArray(NO_LISTENERS);
+        }
+        return byType;
+    }
+
+    /**
+     * Queues the events for a listener and drains the queue on an executor.
+     */
+    private static final class AsyncListener implements ChangeListener, Runnable {
+        private final ChangeListener listener;
+        private final Executor executor;
+        private final Queue<ChangeEvent> queue;
+        private final AtomicBoolean scheduled;
+
+        AsyncListener(ChangeListener listener, Executor executor) {
+            this.listener = listener;
+            this.executor = executor;
+            this.queue = new ConcurrentLinkedQueue<ChangeEvent>();
+            this.scheduled = new AtomicBoolean();
+        }
+
+        @Override
+        public void onChange(ChangeEvent event) {
+            queue.add(event);
+            if (scheduled.compareAndSet(false, true)) {
+                executor.execute(this);
+            }
+        }
+
+        @Override
+        public Set<ChangeType> getChangeTypes() {
+            return listener.getChangeTypes();
+        }
+
+        @Override
+        public void run() {
+            ChangeEvent event;
+            while ((event = queue.poll()) != null) {
+                listener.onChange(event);
+            }
+            scheduled.set(false);
+
+            /*
+             * An event may have been queued after the last poll but before the flag is
+             * reset.
+             */
+            if (!queue.isEmpty() && scheduled.compareAndSet(false, true)) {
+                executor.execute(this);
+            }
+        }
+    }
+}
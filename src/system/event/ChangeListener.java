@@ -0,0 +1,32 @@
+package system.event;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * A listener which is notified about changes in the system database, e.g. to
+ * maintain a derived index incrementally.
+ * 
+ * @author Emir Yuksel
+ * @version 1.0
+ */
+public interface ChangeListener {
+
+    /**
+     * Is called for every published change of the types the listener wants.
+     * 
+     * @param event The change which happened.
+     */
+    void onChange(ChangeEvent event);
+
+    /**
+     * Gets the types of changes the listener is notified about. It is read once
+     * when the listener subscribes. Changes of other types are not delivered to
+     * it, and are not even created if no listener wants them.
+     * 
+     * @return types of changes, all types by default
+     */
+    default Set<ChangeType> getChangeTypes() {
+        return EnumSet.allOf(ChangeType.class);
+    }
+}
@@ -0,0 +1,26 @@
+package system.event;
+
+/**
+ * Types of changes which can happen to the data in the system database.
+ * 
+ * @author Emir Yuksel
+ * @version 1.0
+ */
+public enum ChangeType {
+    /**
+     * An article is added to a journal or to a conference of a series.
+     */
+    ARTICLE_ADDED,
+    /**
+     * Authors are attached to an article.
+     */
+    AUTHORS_ATTACHED,
+    /**
+     * An article cites another article.
+     */
+    CITATION_ADDED,
+    /**
+     * Keywords are added to a venue or to an article.
+     */
+    KEYWORDS_ADDED
+}
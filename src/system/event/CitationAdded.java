@@ -0,0 +1,43 @@
+package system.event;
+
+import article.Article;
+
+/**
+ * Published after an article cites another article. The scope of the event is
+ * the citing article.
+ * 
+ * @author Emir Yuksel
+ * @version 1.0
+ */
+public class CitationAdded extends ChangeEvent {
+    private final Article receiver;
+
+    /**
+     * Creates a new citation added event.
+     * 
+     * @param giver    Article which gives the cite.
+     * @param receiver Article which receives the cite.
+     */
+    public CitationAdded(Article giver, Article receiver) {
+        super(ChangeType.CITATION_ADDED, giver.getVenue(), giver);
+        this.receiver = receiver;
+    }
+
+    /**
+     * Gets the article which gives the cite.
+     * 
+     * @return citing article
+     */
+    public Article getGiver() {
+        return getArticle();
+    }
+
+    /**
+     * Gets the article which receives the cite.
+     * 
+     * @return cited article
+     */
+    public Article getReceiver() {
+        return receiver;
+    }
+}
@@ -0,0 +1,49 @@
+package system.event;
+
+import java.util.List;
+
+import article.Article;
+import venue.Venue;
+
+/**
+ * Published after keywords are added to a venue or to a single article. If they
+ * are added to a venue, all articles of the venue got the keywords as well.
+ * 
+ * @author Emir Yuksel
+ * @version 1.0
+ */
+public class KeywordsAdded extends ChangeEvent {
+    private final List<String> keywords;
+
+    /**
+     * Creates a new keywords added event.
+     * 
+     * @param venue    Venue which gets the keywords, or venue of the article.
+     * @param article  Article which gets the keywords, null if the whole venue gets
+     *                 them.
+     * @param keywords Keywords which are added.
+     */
+    public KeywordsAdded(Venue venue, Article article, List<String> keywords) {
+        super(ChangeType.KEYWORDS_ADDED, venue, article);
+        this.keywords = keywords;
+    }
+
+    /**
+     * Gets the keywords which are added.
+     * 
+     * @return added keywords
+     */
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
+    /**
+     * Checks if the keywords are added to a whole venue.
+     * 
+     * @return true if the keywords are added to a venue, false if they are added to
+     *         a single article.
+     */
+    public boolean isVenueScoped() {
+        return getArticle() == null;
+    }
+}
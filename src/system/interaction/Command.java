@@ -1,5 +1,6 @@
 package system.interaction;
 
+import java.io.PrintStream;
 import java.util.regex.MatchResult;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -18,33 +19,33 @@ public enum Command {
     /**
      * The add author command to add a new author to the system.
      */
-    ADD_AUTHOR("add author (" + Command.REGEX_AUTHOR + ")") {
+    ADD_AUTHOR("add author (" + Command.REGEX_AUTHOR + ")", true) {
 
         @Override
-        public void execute(MatchResult matcher, KastelScholar kastelScholar) throws InputException {
-            CommandMethods method = new CommandMethods();
+        public void execute(MatchResult matcher, KastelScholar kastelScholar, CommandMethods method)
+                throws InputException {
             method.addAuthor(matcher, kastelScholar);
         }
     },
     /**
      * The add journal command to add a new journal to the system.
      */
-    ADD_JOURNAL("add journal (" + Command.REGEX_VENUE_NAME + "),(" + Command.REGEX_PUBLISHER + ")") {
+    ADD_JOURNAL("add journal (" + Command.REGEX_VENUE_NAME + "),(" + Command.REGEX_PUBLISHER + ")", true) {
 
         @Override
-        public void execute(MatchResult matcher, KastelScholar kastelScholar) throws InputException {
-            CommandMethods method = new CommandMethods();
+        public void execute(MatchResult matcher, KastelScholar kastelScholar, CommandMethods method)
+                throws InputException {
             method.addJournal(matcher, kastelScholar);
         }
     },
     /**
      * The add series command to add new series to the system.
      */
-    ADD_SERIES("add series (" + Command.REGEX_VENUE_NAME + ")") {
+    ADD_SERIES("add series (" + Command.REGEX_VENUE_NAME + ")", true) {
 
         @Override
-        public void execute(MatchResult matcher, KastelScholar kastelScholar) throws InputException {
-            CommandMethods method = new CommandMethods();
+        public void execute(MatchResult matcher, KastelScholar kastelScholar, CommandMethods method)
+                throws InputException {
             method.addSeries(matcher, kastelScholar);
         }
     },
@@ -52,11 +53,11 @@ public enum Command {
      * The add conference command to add new conference to the system.
      */
     ADD_CONFERENCE("add conference (" + Command.REGEX_VENUE_NAME + "),(" + Command.REGEX_YEAR + "),("
-            + Command.REGEX_LOCATION + ")") {
+            + Command.REGEX_LOCATION + ")", true) {
 
         @Override
-        public void execute(MatchResult matcher, KastelScholar kastelScholar) throws InputException {
-            CommandMethods method = new CommandMethods();
+        public void execute(MatchResult matcher, KastelScholar kastelScholar, CommandMethods method)
+                throws InputException {
             method.addConference(matcher, kastelScholar);
         }
 
@@ -65,33 +66,33 @@ public enum Command {
      * The add article command to add a new article to the system.
      */
     ADD_ARTICLE_TO("add article to (" + Command.REGEX_VENUE + ") (" + Command.REGEX_VENUE_NAME + "):("
-            + Command.REGEX_ID + "),(" + Command.REGEX_YEAR + "),(" + Command.REGEX_TITLE + ")") {
+            + Command.REGEX_ID + "),(" + Command.REGEX_YEAR + "),(" + Command.REGEX_TITLE + ")", true) {
 
         @Override
-        public void execute(MatchResult matcher, KastelScholar kastelScholar) throws InputException {
-            CommandMethods method = new CommandMethods();
+        public void execute(MatchResult matcher, KastelScholar kastelScholar, CommandMethods method)
+                throws InputException {
             method.addArticleTo(matcher, kastelScholar);
         }
     },
     /**
      * The written by command to define new authors to an article.
      */
-    WRITTEN_BY("written by (" + Command.REGEX_ID + "),(" + Command.REGEX_AUTHOR_LIST + ")") {
+    WRITTEN_BY("written by (" + Command.REGEX_ID + "),(" + Command.REGEX_AUTHOR_LIST + ")", true) {
 
         @Override
-        public void execute(MatchResult matcher, KastelScholar kastelScholar) throws InputException {
-            CommandMethods method = new CommandMethods();
+        public void execute(MatchResult matcher, KastelScholar kastelScholar, CommandMethods method)
+                throws InputException {
             method.writtenBy(matcher, kastelScholar);
         }
     },
     /**
      * The cites command to give citations to an article from an article.
      */
-    CITES("cites (" + Command.REGEX_ID + "),(" + Command.REGEX_ID + ")") {
+    CITES("cites (" + Command.REGEX_ID + "),(" + Command.REGEX_ID + ")", true) {
 
         @Override
-        public void execute(MatchResult matcher, KastelScholar kastelScholar) throws InputException {
-            CommandMethods method = new CommandMethods();
+        public void execute(MatchResult matcher, KastelScholar kastelScholar, CommandMethods method)
+                throws InputException {
             method.cites(matcher, kastelScholar);
         }
 
@@ -99,22 +100,22 @@ public enum Command {
     /**
      * The add keywords to command to add new keywords to journal,series or article
      */
-    ADD_KEYWORDS_TO("add keywords to (" + Command.REGEX_VENUE_OR_ARTICLE + "):" + Command.REGEX_KEYWORDS_LIST) {
+    ADD_KEYWORDS_TO("add keywords to (" + Command.REGEX_VENUE_OR_ARTICLE + "):" + Command.REGEX_KEYWORDS_LIST, true) {
 
         @Override
-        public void execute(MatchResult matcher, KastelScholar kastelScholar) throws InputException {
-            CommandMethods method = new CommandMethods();
+        public void execute(MatchResult matcher, KastelScholar kastelScholar, CommandMethods method)
+                throws InputException {
             method.addKeywordsTo(matcher, kastelScholar);
         }
     },
     /**
      * The all publications command to list all publications in database.
      */
-    ALL_PUBLICATIONS("all publications") {
+    ALL_PUBLICATIONS("all publications" + Command.REGEX_PAGE, false) {
 
         @Override
-        public void execute(MatchResult matcher, KastelScholar kastelScholar) throws InputException {
-            CommandMethods method = new CommandMethods();
+        public void execute(MatchResult matcher, KastelScholar kastelScholar, CommandMethods method)
+                throws InputException {
             method.allPublications(matcher, kastelScholar);
 
         }
@@ -123,11 +124,11 @@ public enum Command {
      * The list invalid publications command to list all publications who do not
      * have an author.
      */
-    LIST_INVALID_PUBLICATIONS("list invalid publications") {
+    LIST_INVALID_PUBLICATIONS("list invalid publications" + Command.REGEX_PAGE, false) {
 
         @Override
-        public void execute(MatchResult matcher, KastelScholar kastelScholar) throws InputException {
-            CommandMethods method = new CommandMethods();
+        public void execute(MatchResult matcher, KastelScholar kastelScholar, CommandMethods method)
+                throws InputException {
             method.listInvalidPublications(matcher, kastelScholar);
         }
     },
@@ -135,11 +136,11 @@ public enum Command {
      * The publications by command to list the identifiers of all publications in
      * which at least one of the given authors participates.
      */
-    PUBLICATIONS_BY("publications by (" + Command.REGEX_AUTHOR_LIST + ")") {
+    PUBLICATIONS_BY("publications by (" + Command.REGEX_AUTHOR_LIST + ")" + Command.REGEX_PAGE, false) {
 
         @Override
-        public void execute(MatchResult matcher, KastelScholar kastelScholar) throws InputException {
-            CommandMethods method = new CommandMethods();
+        public void execute(MatchResult matcher, KastelScholar kastelScholar, CommandMethods method)
+                throws InputException {
             method.publicationsBy(matcher, kastelScholar);
         }
     },
@@ -147,11 +148,12 @@ public enum Command {
      * The in proceedings command to list the identifiers of all publications
      * published in the specified conference series in the specified year.
      */
-    IN_PROCEEDINGS("in proceedings (" + Command.REGEX_VENUE_NAME + "),(" + Command.REGEX_YEAR + ")") {
+    IN_PROCEEDINGS("in proceedings (" + Command.REGEX_VENUE_NAME + "),(" + Command.REGEX_YEAR + ")"
+            + Command.REGEX_PAGE, false) {
 
         @Override
-        public void execute(MatchResult matcher, KastelScholar kastelScholar) throws InputException {
-            CommandMethods method = new CommandMethods();
+        public void execute(MatchResult matcher, KastelScholar kastelScholar, CommandMethods method)
+                throws InputException {
             method.inProceedings(matcher, kastelScholar);
         }
     },
@@ -159,11 +161,11 @@ public enum Command {
      * The find by keywords command to list the identifiers of all publications that
      * have all of the specified keywords.
      */
-    FIND_BY_KEYWORDS("find by keywords (" + Command.REGEX_KEYWORDS_LIST + ")") {
+    FIND_BY_KEYWORDS("find by keywords (" + Command.REGEX_KEYWORDS_LIST + ")" + Command.REGEX_PAGE, false) {
 
         @Override
-        public void execute(MatchResult matcher, KastelScholar kastelScholar) throws InputException {
-            CommandMethods method = new CommandMethods();
+        public void execute(MatchResult matcher, KastelScholar kastelScholar, CommandMethods method)
+                throws InputException {
             method.findByKeywords(matcher, kastelScholar);
         }
     },
@@ -171,11 +173,11 @@ public enum Command {
      * The jaccard command to calculate the so-called Jaccard index for two sets of
      * keywords.
      */
-    JACCARD("jaccard (" + Command.REGEX_JACCARD_LIST + ")") {
+    JACCARD("jaccard (" + Command.REGEX_JACCARD_LIST + ")", false) {
 
         @Override
-        public void execute(MatchResult matcher, KastelScholar kastelScholar) throws InputException {
-            CommandMethods method = new CommandMethods();
+        public void execute(MatchResult matcher, KastelScholar kastelScholar, CommandMethods method)
+                throws InputException {
             method.jaccard(matcher, kastelScholar);
         }
 
@@ -184,11 +186,11 @@ public enum Command {
      * The similarity command to calculate how similar two publications are in terms
      * of their keywords.
      */
-    SIMILARITY("similarity (" + Command.REGEX_ID + "),(" + Command.REGEX_ID + ")") {
+    SIMILARITY("similarity (" + Command.REGEX_ID + "),(" + Command.REGEX_ID + ")", false) {
 
         @Override
-        public void execute(MatchResult matcher, KastelScholar kastelScholar) throws InputException {
-            CommandMethods method = new CommandMethods();
+        public void execute(MatchResult matcher, KastelScholar kastelScholar, CommandMethods method)
+                throws InputException {
             method.similarity(matcher, kastelScholar);
         }
     },
@@ -196,57 +198,215 @@ public enum Command {
      * The g-index command to calculate g index of an author based on the
      * publications stored in the system.
      */
-    G_INDEX("g-index (" + Command.REGEX_AUTHOR + ")") {
+    G_INDEX("g-index (" + Command.REGEX_AUTHOR + ")", false) {
 
         @Override
-        public void execute(MatchResult matcher, KastelScholar kastelScholar) throws InputException {
-            CommandMethods method = new CommandMethods();
+        public void execute(MatchResult matcher, KastelScholar kastelScholar, CommandMethods method)
+                throws InputException {
             method.gIndex(matcher, kastelScholar);
         }
     },
     /**
      * The coauthors of command to list all co-authors of an author.
      */
-    COAUTHORS_OF("coauthors of (" + Command.REGEX_AUTHOR + ")") {
+    COAUTHORS_OF("coauthors of (" + Command.REGEX_AUTHOR + ")", false) {
 
         @Override
-        public void execute(MatchResult matcher, KastelScholar kastelScholar) throws InputException {
-            CommandMethods method = new CommandMethods();
+        public void execute(MatchResult matcher, KastelScholar kastelScholar, CommandMethods method)
+                throws InputException {
             method.coAuthorsOf(matcher, kastelScholar);
         }
     },
     /**
      * The foreign citations of command to list all foreign citations of an author.
      */
-    FOREIGN_CITATIONS("foreign citations of (" + Command.REGEX_AUTHOR + ")") {
+    FOREIGN_CITATIONS("foreign citations of (" + Command.REGEX_AUTHOR + ")" + Command.REGEX_PAGE, false) {
 
         @Override
-        public void execute(MatchResult matcher, KastelScholar kastelScholar) throws InputException {
-            CommandMethods method = new CommandMethods();
+        public void execute(MatchResult matcher, KastelScholar kastelScholar, CommandMethods method)
+                throws InputException {
             method.foreignCitationsOf(matcher, kastelScholar);
         }
     },
+    /**
+     * The query command to list the identifiers of all publications which meet
+     * every condition of a combined query.
+     */
+    QUERY("query (" + Command.REGEX_CONDITIONS + ")" + Command.REGEX_PAGE, false) {
+
+        @Override
+        public void execute(MatchResult matcher, KastelScholar kastelScholar, CommandMethods method)
+                throws InputException {
+            method.query(matcher, kastelScholar);
+        }
+    },
+    /**
+     * The publications per year command to count the publications which meet
+     * every condition of a combined query per publishing year.
+     */
+    PUBLICATIONS_PER_YEAR("publications per year (" + Command.REGEX_CONDITIONS + ")", false) {
+
+        @Override
+        public void execute(MatchResult matcher, KastelScholar kastelScholar, CommandMethods method)
+                throws InputException {
+            method.publicationsPerYear(matcher, kastelScholar);
+        }
+    },
+    /**
+     * The explain query command to print the plan of a combined query and its
+     * estimated costs without executing it.
+     */
+    EXPLAIN_QUERY("explain query (" + Command.REGEX_CONDITIONS + ")", false) {
+
+        @Override
+        public void execute(MatchResult matcher, KastelScholar kastelScholar, CommandMethods method)
+                throws InputException {
+            method.explainQuery(matcher, kastelScholar);
+        }
+    },
     /**
      * The print bibliography command to print a bibliography with a specified
      * format.
      */
-    PRINT_BIBLIOGRAPHY("print bibliography (" + Command.REGEX_STYLE + "):(" + Command.REGEX_ID_LIST + ")") {
+    PRINT_BIBLIOGRAPHY("print bibliography (" + Command.REGEX_STYLE + "):(" + Command.REGEX_ID_LIST + ")", false) {
 
         @Override
-        public void execute(MatchResult matcher, KastelScholar kastelScholar) throws InputException {
-            CommandMethods method = new CommandMethods();
+        public void execute(MatchResult matcher, KastelScholar kastelScholar, CommandMethods method)
+                throws InputException {
             method.printBibliography(matcher, kastelScholar);
         }
     },
+    /**
+     * The print bibliography command to write a bibliography with a specified
+     * format to a file.
+     */
+    PRINT_BIBLIOGRAPHY_TO_FILE("print bibliography (" + Command.REGEX_STYLE + "):(" + Command.REGEX_ID_LIST + ") to ("
+            + Command.REGEX_PATH + ")", false) {
+
+        @Override
+        public void execute(MatchResult matcher, KastelScholar kastelScholar, CommandMethods method)
+                throws InputException {
+            method.printBibliographyToFile(matcher, kastelScholar);
+        }
+
+        @Override
+        public boolean writesFiles() {
+            return true;
+        }
+    },
+    /**
+     * The export command to write all articles, or the articles of a venue, a
+     * year or a keyword, to a BibTeX or CSL-JSON file.
+     */
+    EXPORT("export (" + Command.REGEX_EXPORT_FORMAT + ")(?: where (venue|year|keyword) (" + Command.REGEX_VENUE_NAME
+            + "?))? to (" + Command.REGEX_PATH + ")", false) {
+
+        @Override
+        public void execute(MatchResult matcher, KastelScholar kastelScholar, CommandMethods method)
+                throws InputException {
+            method.export(matcher, kastelScholar);
+        }
+
+        @Override
+        public boolean writesFiles() {
+            return true;
+        }
+    },
+    /**
+     * The log position command to print how many changing commands the system has
+     * applied.
+     */
+    LOG_POSITION("log position", false) {
+
+        @Override
+        public void execute(MatchResult matcher, KastelScholar kastelScholar, CommandMethods method)
+                throws InputException {
+            method.logPosition(matcher, kastelScholar);
+        }
+
+        @Override
+        public boolean requiresLock() {
+            return false;
+        }
+    },
+    /**
+     * The await log position command to wait until the system has applied a log
+     * position, e.g. to read own writes from a replica.
+     */
+    AWAIT_LOG_POSITION("await log position (" + Command.REGEX_POSITION + ")", false) {
+
+        @Override
+        public void execute(MatchResult matcher, KastelScholar kastelScholar, CommandMethods method)
+                throws InputException {
+            method.awaitLogPosition(matcher, kastelScholar);
+        }
+
+        @Override
+        public boolean requiresLock() {
+            return false;
+        }
+    },
+    /**
+     * The replication lag command to print how many changing commands of the
+     * primary a replica has not applied yet.
+     */
+    REPLICATION_LAG("replication lag", false) {
+
+        @Override
+        public void execute(MatchResult matcher, KastelScholar kastelScholar, CommandMethods method)
+                throws InputException {
+            method.replicationLag(matcher, kastelScholar);
+        }
+
+        @Override
+        public boolean requiresLock() {
+            return false;
+        }
+    },
+    /**
+     * The stats command to print how often every command ran, how long it took,
+     * which errors it failed with and how large its results were.
+     */
+    STATS("stats", false) {
+
+        @Override
+        public void execute(MatchResult matcher, KastelScholar kastelScholar, CommandMethods method)
+                throws InputException {
+            method.stats(matcher, kastelScholar);
+        }
+
+        @Override
+        public boolean requiresLock() {
+            return false;
+        }
+    },
+    /**
+     * The memory report command to print an estimate of the heap the authors,
+     * articles, keyword sets, citation lists and strings of the system retain.
+     */
+    MEMORY_REPORT("memory report", false) {
+
+        @Override
+        public void execute(MatchResult matcher, KastelScholar kastelScholar, CommandMethods method)
+                throws InputException {
+            method.memoryReport(matcher, kastelScholar);
+        }
+    },
     /**
      * The quit command to exit the program.
      */
-    QUIT("quit") {
+    QUIT("quit", false) {
 
         @Override
-        public void execute(MatchResult matcher, KastelScholar kastelScholar) throws InputException {
+        public void execute(MatchResult matcher, KastelScholar kastelScholar, CommandMethods method)
+                throws InputException {
             this.quit();
         }
+
+        @Override
+        public boolean requiresLock() {
+            return false;
+        }
     };
 
     private static final String REGEX_AUTHOR = "[^;\\n,\\s]+\\s[^;\\n,\\s]+";
@@ -255,28 +415,56 @@ public enum Command {
     private static final String REGEX_LOCATION = "[^;\\n,]+";
     private static final String REGEX_TITLE = "[^;\\n,]+";
     private static final String REGEX_ID = "[a-zäöüß0-9]+";
-    private static final String REGEX_ID_LIST = "([a-zäöüß0-9]+)(;[a-zäöüß0-9]+)*";
+    private static final String REGEX_ID_LIST = "[a-zäöüß0-9]+(?:;[a-zäöüß0-9]+)*+";
     private static final String REGEX_PUBLISHER = "[^;\\n,]+";
     private static final String REGEX_VENUE = "series|journal";
     private static final String REGEX_VENUE_OR_ARTICLE = "(series|journal)+\\s+([^;\\n,]+)|[a-zäöüß0-9]+";
-    private static final String REGEX_KEYWORDS_LIST = "([a-zäöüß]+)(;[a-zäöüß]+)*";
-    private static final String REGEX_STYLE = "acm|apa";
+    private static final String REGEX_KEYWORD = "[a-zäöüß]+";
+    private static final String REGEX_KEYWORDS_LIST = "(" + Command.REGEX_KEYWORD + ")(;" + Command.REGEX_KEYWORD
+            + ")*";
+    private static final String REGEX_STYLE = "[a-z]+";
     private static final String REGEX_YEAR = "\\d{1,4}";
+    private static final String REGEX_POSITION = "\\d{1,18}";
+    private static final String REGEX_PATH = "[^\\n]+";
+    /**
+     * Optional page of a listing command: "after id" continues behind an
+     * identifier, "limit n" prints at most n identifiers. Always the last two
+     * groups of the command.
+     */
+    private static final String REGEX_PAGE = "(?: after (" + Command.REGEX_ID + "))?(?: limit (\\d{1,9}))?";
+    /**
+     * Condition of a combined query: all of a list of keywords, any of a list of
+     * authors, a venue, a year or a range of years, or a minimum number of
+     * citations.
+     */
+    private static final String REGEX_CONDITION = "(?:keywords [a-zäöüß]+(?:;[a-zäöüß]+)*|author "
+            + Command.REGEX_AUTHOR + "(?:;" + Command.REGEX_AUTHOR + ")*|(?:" + Command.REGEX_VENUE
+            + ") [^;\\n,]+?|year \\d{1,4}(?:-\\d{1,4})?|cited \\d{1,9})";
+    private static final String REGEX_CONDITIONS = Command.REGEX_CONDITION + "(?: and " + Command.REGEX_CONDITION
+            + ")*";
+    private static final String REGEX_EXPORT_FORMAT = "bibtex|csl-json";
     private static final String REGEX_JACCARD_LIST = "((([a-zäöüß]+)(;[a-zäöüß]+)*)|\\s)"
             + "\\s((([a-zäöüß]+)(;[a-zäöüß]+)*)|\\s)";
 
+    private static final Command[] COMMANDS = Command.values();
+    private static final Pattern KEYWORD = Pattern.compile(REGEX_KEYWORD);
+
     private boolean isRunning;
     private final Pattern pattern;
+    private final boolean mutating;
 
     /**
      * Constructs a new command instance.
      *
-     * @param pattern The regex pattern to use for command validation and
-     *                processing.
+     * @param pattern  The regex pattern to use for command validation and
+     *                 processing.
+     * @param mutating true if the command changes the system, false if it only
+     *                 reads from it.
      */
-    Command(String pattern) {
+    Command(String pattern, boolean mutating) {
         this.isRunning = true;
         this.pattern = Pattern.compile(pattern);
+        this.mutating = mutating;
 
     }
 
@@ -287,10 +475,13 @@ public enum Command {
      *                      for the command.
      * @param kastelScholar The instance of a system to be manipulated by executing
      *                      a command.
+     * @param method        The command methods which execute the command and print
+     *                      its results.
      * @throws InputException if the command contains syntactical or semantic
      *                        errors.
      */
-    public abstract void execute(MatchResult matcher, KastelScholar kastelScholar) throws InputException;
+    public abstract void execute(MatchResult matcher, KastelScholar kastelScholar, CommandMethods method)
+            throws InputException;
 
     /**
      * Checks an input against all available commands and calls the command if one
@@ -304,17 +495,93 @@ public enum Command {
      *                        message.
      */
     public static Command executeMatching(String input, KastelScholar kastelScholar) throws InputException {
-        for (Command command : Command.values()) {
+        return executeMatching(input, kastelScholar, System.out);
+    }
+
+    /**
+     * Checks an input against all available commands and calls the command if one
+     * is found. The results of the command are printed to the given output.
+     *
+     * @param input         The user input.
+     * @param kastelScholar The instance of a system to be manipulated by executing
+     *                      a command.
+     * @param output        The output to print the results to.
+     * @return The command that got executed.
+     * @throws InputException if no matching command is found. Contains an error
+     *                        message.
+     */
+    public static Command executeMatching(String input, KastelScholar kastelScholar, PrintStream output)
+            throws InputException {
+        ParsedCommand command;
+        try {
+            command = parse(input);
+        } catch (InputException exception) {
+            kastelScholar.getCommandMetrics().recordInvalidInput();
+            throw exception;
+        }
+        return command.execute(kastelScholar, output);
+    }
+
+    /**
+     * Checks an input against all available commands without executing it.
+     * 
+     * @param input The user input.
+     * @return The matching command together with the groups of the input.
+     * @throws InputException if no matching command is found. Contains an error
+     *                        message.
+     */
+    public static ParsedCommand parse(String input) throws InputException {
+        for (Command command : COMMANDS) {
             Matcher matcher = command.pattern.matcher(input);
             if (matcher.matches()) {
-                command.execute(matcher, kastelScholar);
-                return command;
+                return new ParsedCommand(command, matcher);
             }
         }
 
         throw new InputException(ErrorMessages.INVALID_COMMAND.toString());
     }
 
+    /**
+     * Checks if a word is a keyword the commands accept.
+     * 
+     * @param keyword Word to check.
+     * @return true if the word consists of lower case letters, false otherwise.
+     */
+    public static boolean isKeyword(String keyword) {
+        return KEYWORD.matcher(keyword).matches();
+    }
+
+    /**
+     * Checks if the command changes the system.
+     * 
+     * @return true if the command changes the system, false if it only reads from
+     *         it.
+     */
+    public boolean isMutating() {
+        return this.mutating;
+    }
+
+    /**
+     * Checks if the command writes files. Commands which write the same file must
+     * finish in input order, so they are never run concurrently.
+     * 
+     * @return true if the command writes files, false otherwise.
+     */
+    public boolean writesFiles() {
+        return false;
+    }
+
+    /**
+     * Checks if the command reads or changes the data of the system and therefore
+     * must hold its lock.
+     * 
+     * @return true if the command must hold the lock of the system, false
+     *         otherwise.
+     */
+    public boolean requiresLock() {
+        return true;
+    }
+
     /**
      * To check if the program still is closed.
      * 
@@ -1,14 +1,39 @@
 package system.interaction;
 
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.InvalidPathException;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
 import java.util.HashSet;
-import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.regex.MatchResult;
 
+import exportFormat.BibTexExporter;
+import exportFormat.CslJsonExporter;
+import exportFormat.ExportFilter;
+import exportFormat.Exporter;
+import exportFormat.RenderedExport;
+import printFormat.CitationStyle;
 import system.KastelScholar;
 import system.error.ErrorCheck;
+import system.metrics.MemoryReport;
+import system.page.Page;
+import system.query.AuthorCondition;
+import system.query.CitedCondition;
+import system.query.Condition;
+import system.query.KeywordsCondition;
+import system.query.PlanStep;
+import system.query.QueryPlan;
+import system.query.VenueCondition;
+import system.query.YearCondition;
+import venue.conference.Series;
+import venue.journal.Journal;
 
 /**
  * This class is created to shorten main Command class
@@ -24,10 +49,10 @@ public class CommandMethods extends CommandMethodsHelper {
     private static final String BLANK = " ";
 
     private static final String NOT_FOUND = "not found.";
+    private static final String STOP_REASON = "Reason: ";
 
     private static final String AUTHOR = "author";
     private static final String SERIES = "series";
-    private static final String ACM = "acm";
 
     private static final int WHOLE_MATCH = 0;
 
@@ -76,8 +101,42 @@ public class CommandMethods extends CommandMethodsHelper {
 
     private static final int FOREIGN_CITATIONS_OF_PARAMETER_AUTHOR = 1;
 
+    private static final int QUERY_PARAMETER_CONDITIONS = 1;
+    private static final String QUERY_CONDITION_SEPARATOR = " and (?=(?:keywords|author|series|journal|year|cited) )";
+    private static final String QUERY_KEYWORDS = "keywords";
+    private static final String QUERY_AUTHOR = "author";
+    private static final String QUERY_SERIES = "series";
+    private static final String QUERY_JOURNAL = "journal";
+    private static final String QUERY_YEAR = "year";
+    private static final String YEAR_RANGE_SEPARATOR = "-";
+    private static final String QUERY_COST = "cost ";
+    private static final String YEAR_COUNT_SEPARATOR = ": ";
+
     private static final int PRINT_BIBLIOGRAPHY_STYLE = 1;
     private static final int PRINT_BIBLIOGRAPHY_ID_LIST = 2;
+    private static final int PRINT_BIBLIOGRAPHY_PATH = 3;
+
+    private static final int EXPORT_FORMAT = 1;
+    private static final int EXPORT_FILTER_FIELD = 2;
+    private static final int EXPORT_FILTER_VALUE = 3;
+    private static final int EXPORT_PATH = 4;
+
+    private static final String BIBTEX = "bibtex";
+    private static final String EXPORT_FILTER_VENUE = "venue";
+    private static final String EXPORT_FILTER_YEAR = "year";
+    private static final String REGEX_YEAR = "\\d{1,4}";
+
+    private static final int AWAIT_LOG_POSITION_PARAMETER_POSITION = 1;
+    private static final long AWAIT_LOG_POSITION_TIMEOUT_MILLIS = 10000;
+
+    /**
+     * Creates new command methods which print to the given output.
+     * 
+     * @param output Output to print the results to.
+     */
+    public CommandMethods(PrintStream output) {
+        super(output);
+    }
 
     /**
      * The add author command to add a new author to the system.
@@ -91,6 +150,7 @@ public class CommandMethods extends CommandMethodsHelper {
         if (errorCheck.authorExists(author)) {
             throw new InputException(ErrorMessages.AUTHOR_ALREADY_EXISTS.toString());
         }
+        validated();
         kastelScholar.addAuthorToSystem(author);
     }
 
@@ -108,6 +168,7 @@ public class CommandMethods extends CommandMethodsHelper {
         if (errorCheck.journalExists(journal)) {
             throw new InputException(ErrorMessages.JOURNAL_ALREADY_EXISTS.toString());
         }
+        validated();
         kastelScholar.addJournalToSystem(journal, publisher);
     }
 
@@ -124,6 +185,7 @@ public class CommandMethods extends CommandMethodsHelper {
         if (errorCheck.seriesExists(series)) {
             throw new InputException(ErrorMessages.SERIES_ALREADY_EXISTS.toString());
         }
+        validated();
         kastelScholar.addSeriesToSystem(series);
     }
 
@@ -148,6 +210,7 @@ public class CommandMethods extends CommandMethodsHelper {
         if (errorCheck.conferenceExists(series, year)) {
             throw new InputException(ErrorMessages.CONFERENCE_IN_YEAR_ALREADY_EXIST.toString());
         }
+        validated();
         kastelScholar.addConferenceToSystem(series, year, location);
     }
 
@@ -179,6 +242,7 @@ public class CommandMethods extends CommandMethodsHelper {
                 throw new InputException(ErrorMessages.CONFERENCE_IN_YEAR_NOT_EXIST.toString());
             }
         }
+        validated();
         kastelScholar.addArticleToSystem(venue, venueName, id, year, title);
     }
 
@@ -205,6 +269,7 @@ public class CommandMethods extends CommandMethodsHelper {
         if (errorCheck.authorAlreadyAddedtoArticle(id, authors)) {
             throw new InputException(ErrorMessages.AUTHOR_DUPLICATE.toString());
         }
+        validated();
         kastelScholar.writtenBy(id, authors);
     }
 
@@ -230,6 +295,7 @@ public class CommandMethods extends CommandMethodsHelper {
         if (dateComparisonResult != 1) {
             throw new InputException(ErrorMessages.CITE_DATE_N0T_VALID.toString());
         }
+        validated();
         kastelScholar.cites(giver, receiver);
     }
 
@@ -268,6 +334,7 @@ public class CommandMethods extends CommandMethodsHelper {
                 throw new InputException(ErrorMessages.ARTICLE_NOT_FOUND.toString());
             }
         }
+        validated();
         kastelScholar.addKeywordTo(venueType, name, keywordsList);
     }
 
@@ -278,7 +345,7 @@ public class CommandMethods extends CommandMethodsHelper {
      * @param kastelScholar The instance of a system to be manipulated
      */
     public void allPublications(MatchResult matcher, KastelScholar kastelScholar) throws InputException {
-        List<String> allPublications = kastelScholar.getAllPublicationsFromSystem();
+        List<String> allPublications = kastelScholar.getAllPublicationsFromSystem(pageOf(matcher));
         if (!allPublications.isEmpty()) {
             printAll(allPublications);
         }
@@ -292,7 +359,7 @@ public class CommandMethods extends CommandMethodsHelper {
      * @param kastelScholar The instance of a system to be manipulated
      */
     public void listInvalidPublications(MatchResult matcher, KastelScholar kastelScholar) throws InputException {
-        List<String> invalidPublications = kastelScholar.listInvalidPublications();
+        List<String> invalidPublications = kastelScholar.listInvalidPublications(pageOf(matcher));
         if (!invalidPublications.isEmpty()) {
             printAll(invalidPublications);
         }
@@ -309,12 +376,15 @@ public class CommandMethods extends CommandMethodsHelper {
         ErrorCheck errorCheck = new ErrorCheck(kastelScholar);
         String authors = matcher.group(PUBLICATIONS_BY_PARAMETER_AUTHORS);
         ArrayList<String> authorList = extractList(authors, LIST_SEPARATOR);
+        Page page = pageOf(matcher);
         for (String authorName : authorList) {
             if (!errorCheck.authorExists(authorName)) {
-                throw new InputException(AUTHOR + " \"" + authorName + "\" " + NOT_FOUND);
+                throw new InputException(ErrorMessages.AUTHOR_NOT_FOUND,
+                        AUTHOR + " \"" + authorName + "\" " + NOT_FOUND);
             }
         }
-        List<String> publications = kastelScholar.getPublicationsBy(authorList);
+        validated();
+        List<String> publications = kastelScholar.getPublicationsBy(authorList, page);
         if (!publications.isEmpty()) {
             printAll(publications);
         }
@@ -331,13 +401,15 @@ public class CommandMethods extends CommandMethodsHelper {
         ErrorCheck errorCheck = new ErrorCheck(kastelScholar);
         String series = matcher.group(IN_PROCEEDINGS_PARAMETER_SERIES);
         String year = matcher.group(IN_PROCEEDINGS_PARAMETER_YEAR);
+        Page page = pageOf(matcher);
         if (!errorCheck.seriesExists(series)) {
-            throw new InputException(SERIES + " \"" + series + "\" " + NOT_FOUND);
+            throw new InputException(ErrorMessages.SERIES_NOT_FOUND, SERIES + " \"" + series + "\" " + NOT_FOUND);
         }
         if (!errorCheck.conferenceExists(series, year)) {
             throw new InputException(ErrorMessages.CONFERENCE_IN_YEAR_NOT_EXIST.toString());
         }
-        printAll(kastelScholar.getInProceedings(series, year));
+        validated();
+        printAll(kastelScholar.getInProceedings(series, year, page));
     }
 
     /**
@@ -351,7 +423,7 @@ public class CommandMethods extends CommandMethodsHelper {
         String keywords = matcher.group(FIND_BY_KEYWORDS_PARAMETER_LIST);
         List<String> keywordList = extractList(keywords, LIST_SEPARATOR);
 
-        List<String> publications = kastelScholar.getFindByKeywords(keywordList);
+        List<String> publications = kastelScholar.getFindByKeywords(keywordList, pageOf(matcher));
 
         if (!publications.isEmpty()) {
             printAll(publications);
@@ -374,13 +446,13 @@ public class CommandMethods extends CommandMethodsHelper {
         // Checks if a one set is empty.
 
         if (listSize == 1) {
-            System.out.println(JACCARD_ONE_SET_EMPTY);
+            output.println(JACCARD_ONE_SET_EMPTY);
             return;
         }
 
         // Checks if both sets are empty.
         if (listSize == 0) {
-            System.out.println(JACCARD_EMPTY);
+            output.println(JACCARD_EMPTY);
             return;
         }
         ArrayList<String> firstList = extractList(listsToCompare.get(0), LIST_SEPARATOR);
@@ -392,7 +464,7 @@ public class CommandMethods extends CommandMethodsHelper {
         firstSet.addAll(firstList);
         secondSet.addAll(secondList);
         double result = kastelScholar.calculateJaccard(firstSet, secondSet);
-        System.out.println(formatResult(result));
+        output.println(formatResult(result));
     }
 
     /**
@@ -410,8 +482,9 @@ public class CommandMethods extends CommandMethodsHelper {
         if (!errorCheck.articleExists(first) || !errorCheck.articleExists(second)) {
             throw new InputException(ErrorMessages.ARTICLE_NOT_FOUND.toString());
         }
+        validated();
         double result = kastelScholar.calculateSimilarity(first, second);
-        System.out.println(formatResult(result));
+        output.println(formatResult(result));
     }
 
     /**
@@ -428,8 +501,9 @@ public class CommandMethods extends CommandMethodsHelper {
         if (!errorCheck.authorExists(author)) {
             throw new InputException(ErrorMessages.AUTHOR_NOT_FOUND.toString());
         }
+        validated();
         int result = kastelScholar.calculateGindex(author);
-        System.out.println(result);
+        output.println(result);
     }
 
     /**
@@ -445,6 +519,7 @@ public class CommandMethods extends CommandMethodsHelper {
         if (!errorCheck.authorExists(author)) {
             throw new InputException(ErrorMessages.AUTHOR_NOT_FOUND.toString());
         }
+        validated();
         List<String> coAuthors = kastelScholar.getCoAuthors(author);
         printAll(coAuthors);
     }
@@ -458,14 +533,159 @@ public class CommandMethods extends CommandMethodsHelper {
     public void foreignCitationsOf(MatchResult matcher, KastelScholar kastelScholar) throws InputException {
         ErrorCheck errorCheck = new ErrorCheck(kastelScholar);
         String author = matcher.group(FOREIGN_CITATIONS_OF_PARAMETER_AUTHOR);
+        Page page = pageOf(matcher);
 
         if (!errorCheck.authorExists(author)) {
             throw new InputException(ErrorMessages.AUTHOR_NOT_FOUND.toString());
         }
-        List<String> foreignCitations = kastelScholar.getForeignCitationsOf(author);
+        validated();
+        List<String> foreignCitations = kastelScholar.getForeignCitationsOf(author, page);
         printAll(foreignCitations);
     }
 
+    /**
+     * The query command to list the identifiers of all publications which meet
+     * every condition of a combined query.
+     * 
+     * @param matcher       The regex matcher
+     * @param kastelScholar The instance of a system to be manipulated
+     */
+    public void query(MatchResult matcher, KastelScholar kastelScholar) throws InputException {
+        List<Condition> conditions = getQueryConditions(matcher, kastelScholar);
+        Page page = pageOf(matcher);
+        validated();
+        List<String> publications = kastelScholar.query(conditions, page);
+        if (!publications.isEmpty()) {
+            printAll(publications);
+        }
+    }
+
+    /**
+     * The publications per year command to count the publications which meet
+     * every condition of a combined query per publishing year, one year per line
+     * in ascending order.
+     * 
+     * @param matcher       The regex matcher
+     * @param kastelScholar The instance of a system to be manipulated
+     */
+    public void publicationsPerYear(MatchResult matcher, KastelScholar kastelScholar) throws InputException {
+        List<Condition> conditions = getQueryConditions(matcher, kastelScholar);
+        validated();
+        List<String> lines = new ArrayList<String>();
+        for (Map.Entry<Integer, Long> year : kastelScholar.countPerYear(conditions).entrySet()) {
+            lines.add(year.getKey() + YEAR_COUNT_SEPARATOR + year.getValue());
+        }
+        if (!lines.isEmpty()) {
+            printAll(lines);
+        }
+    }
+
+    /**
+     * The explain query command to print the plan of a combined query, one step
+     * per line followed by the estimated cost of all steps.
+     * 
+     * @param matcher       The regex matcher
+     * @param kastelScholar The instance of a system to be manipulated
+     */
+    public void explainQuery(MatchResult matcher, KastelScholar kastelScholar) throws InputException {
+        QueryPlan plan = kastelScholar.planQuery(getQueryConditions(matcher, kastelScholar));
+        validated();
+        List<String> lines = new ArrayList<String>();
+        for (PlanStep step : plan.getSteps()) {
+            lines.add(step.toString());
+        }
+        lines.add(QUERY_COST + plan.getCost());
+        printAll(lines);
+    }
+
+    /**
+     * Gets the conditions of a query command.
+     * 
+     * @param matcher       The regex matcher
+     * @param kastelScholar The instance of a system to be manipulated
+     * @return The conditions of the query, in input order.
+     * @throws InputException if an author, series or journal does not exist or a
+     *                        range of years is empty.
+     */
+    private List<Condition> getQueryConditions(MatchResult matcher, KastelScholar kastelScholar)
+            throws InputException {
+        List<Condition> conditions = new ArrayList<Condition>();
+        for (String condition : matcher.group(QUERY_PARAMETER_CONDITIONS).split(QUERY_CONDITION_SEPARATOR)) {
+            int blank = condition.indexOf(BLANK);
+            String value = condition.substring(blank + 1);
+
+            switch (condition.substring(0, blank)) {
+                case QUERY_KEYWORDS:
+                    conditions.add(new KeywordsCondition(extractList(value, LIST_SEPARATOR)));
+                    break;
+                case QUERY_AUTHOR:
+                    ErrorCheck errorCheck = new ErrorCheck(kastelScholar);
+                    List<String> authors = extractList(value, LIST_SEPARATOR);
+                    for (String authorName : authors) {
+                        if (!errorCheck.authorExists(authorName)) {
+                            throw new InputException(ErrorMessages.AUTHOR_NOT_FOUND,
+                                    AUTHOR + " \"" + authorName + "\" " + NOT_FOUND);
+                        }
+                    }
+                    conditions.add(new AuthorCondition(authors));
+                    break;
+                case QUERY_SERIES:
+                    conditions.add(new VenueCondition(QUERY_SERIES, getSeries(value, kastelScholar)));
+                    break;
+                case QUERY_JOURNAL:
+                    conditions.add(new VenueCondition(QUERY_JOURNAL, getJournal(value, kastelScholar)));
+                    break;
+                case QUERY_YEAR:
+                    String[] years = value.split(YEAR_RANGE_SEPARATOR);
+                    int from = Integer.parseInt(years[0]);
+                    int to = Integer.parseInt(years[years.length - 1]);
+                    if (from > to) {
+                        throw new InputException(ErrorMessages.YEAR_NOT_VALID.toString());
+                    }
+                    conditions.add(new YearCondition(from, to));
+                    break;
+                default:
+                    conditions.add(new CitedCondition(Integer.parseInt(value)));
+                    break;
+            }
+        }
+        return conditions;
+    }
+
+    /**
+     * Gets a conference series by its name.
+     * 
+     * @param name          Name of the series.
+     * @param kastelScholar The instance of a system to be manipulated
+     * @return The series with the name.
+     * @throws InputException if the series does not exist.
+     */
+    private Series getSeries(String name, KastelScholar kastelScholar) throws InputException {
+        for (Series series : kastelScholar.getSeries()) {
+            if (series.getName().equals(name)) {
+                return series;
+            }
+        }
+        throw new InputException(ErrorMessages.SERIES_NOT_FOUND, SERIES + " \"" + name + "\" " + NOT_FOUND);
+    }
+
+    /**
+     * Gets a journal by its name.
+     * 
+     * @param name          Name of the journal.
+     * @param kastelScholar The instance of a system to be manipulated
+     * @return The journal with the name.
+     * @throws InputException if the journal does not exist.
+     */
+    private Journal getJournal(String name, KastelScholar kastelScholar) throws InputException {
+        for (Journal journal : kastelScholar.getJournals()) {
+            if (journal.getName().equals(name)) {
+                return journal;
+            }
+        }
+        throw new InputException(ErrorMessages.VENUE_NOT_FOUND.toString());
+    }
+
     /**
      * The print bibliography command to print a bibliography with a specified
      * format.
@@ -474,8 +694,104 @@ public class CommandMethods extends CommandMethodsHelper {
      * @param kastelScholar The instance of a system to be manipulated
      */
     public void printBibliography(MatchResult matcher, KastelScholar kastelScholar) throws InputException {
+        CitationStyle style = getCitationStyle(matcher, kastelScholar);
+        List<String> idList = getBibliographyIds(matcher, kastelScholar);
+        validated();
+        String[] entries = kastelScholar.formatBibliography(style, idList);
+        setResultSize(idList.size());
+        afterUnlock(() -> {
+            outputStarted();
+            kastelScholar.printBibliography(style, entries, output);
+        });
+    }
+
+    /**
+     * The print bibliography command to write a bibliography with a specified
+     * format to a file. The file is written in UTF-8 and replaced if it exists.
+     * The path is resolved against the output directory of the system. The
+     * entries are formatted under the lock of the system and the file is written
+     * after it is released.
+     * 
+     * @param matcher       The regex matcher
+     * @param kastelScholar The instance of a system to be manipulated
+     */
+    public void printBibliographyToFile(MatchResult matcher, KastelScholar kastelScholar) throws InputException {
+        CitationStyle style = getCitationStyle(matcher, kastelScholar);
+        List<String> idList = getBibliographyIds(matcher, kastelScholar);
+        Path path = getOutputPath(matcher.group(PRINT_BIBLIOGRAPHY_PATH), kastelScholar);
+        validated();
+        String[] entries = kastelScholar.formatBibliography(style, idList);
+
+        afterUnlock(() -> {
+            outputStarted();
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE, LinkOption.NOFOLLOW_LINKS)) {
+                kastelScholar.writeBibliography(style, entries, channel);
+                setResultSize(idList.size());
+            } catch (IOException exception) {
+                throw new InputException(ErrorMessages.FILE_NOT_WRITABLE.toString());
+            }
+        });
+    }
+
+    /**
+     * Resolves the path of an output file against the output directory of the
+     * system. Paths which leave the directory, also through symbolic links of
+     * existing directories, are rejected, so clients of a server cannot write
+     * anywhere else.
+     * 
+     * @param path          The path as given in the command.
+     * @param kastelScholar The instance of a system to be manipulated
+     * @return The resolved path of the file.
+     * @throws InputException if writing files is disabled or the path is not
+     *                        inside the output directory.
+     */
+    private Path getOutputPath(String path, KastelScholar kastelScholar) throws InputException {
+        Path directory = kastelScholar.getOutputDirectory();
+        if (directory == null) {
+            throw new InputException(ErrorMessages.FILE_OUTPUT_DISABLED.toString());
+        }
+        try {
+            Path resolved = directory.resolve(path).normalize();
+            if (!resolved.startsWith(directory) || resolved.equals(directory)) {
+                throw new InputException(ErrorMessages.FILE_OUTSIDE_OUTPUT_DIRECTORY.toString());
+            }
+            if (!resolved.getParent().toRealPath().startsWith(directory.toRealPath())) {
+                throw new InputException(ErrorMessages.FILE_OUTSIDE_OUTPUT_DIRECTORY.toString());
+            }
+            return resolved;
+        } catch (IOException | InvalidPathException exception) {
+            throw new InputException(ErrorMessages.FILE_NOT_WRITABLE.toString());
+        }
+    }
+
+    /**
+     * Gets the citation style of a print bibliography command.
+     * 
+     * @param matcher       The regex matcher
+     * @param kastelScholar The instance of a system to be manipulated
+     * @return The citation style.
+     * @throws InputException if the style is not registered.
+     */
+    private CitationStyle getCitationStyle(MatchResult matcher, KastelScholar kastelScholar) throws InputException {
+        CitationStyle style = kastelScholar.getCitationStyle(matcher.group(PRINT_BIBLIOGRAPHY_STYLE));
+        if (style == null) {
+            throw new InputException(ErrorMessages.STYLE_NOT_FOUND.toString());
+        }
+        return style;
+    }
+
+    /**
+     * Gets the identifiers of a print bibliography command.
+     * 
+     * @param matcher       The regex matcher
+     * @param kastelScholar The instance of a system to be manipulated
+     * @return The identifiers of the articles to print.
+     * @throws InputException if an article does not exist or has no author.
+     */
+    private List<String> getBibliographyIds(MatchResult matcher, KastelScholar kastelScholar)
+            throws InputException {
         ErrorCheck errorCheck = new ErrorCheck(kastelScholar);
-        String style = matcher.group(PRINT_BIBLIOGRAPHY_STYLE);
         String identifiers = matcher.group(PRINT_BIBLIOGRAPHY_ID_LIST);
         ArrayList<String> idList = extractList(identifiers, LIST_SEPARATOR);
 
@@ -487,14 +803,151 @@ public class CommandMethods extends CommandMethodsHelper {
                 throw new InputException(ErrorMessages.INVALID_PUBLICATION.toString());
             }
         }
-        List<String> toPrint = kastelScholar.getBibliography(style, idList);
-        Set<String> removeDuplicates = new LinkedHashSet<>(toPrint);
+        return idList;
+    }
 
-        List<String> bibliographyFinal = new ArrayList<>(removeDuplicates);
-        if (style.equals(ACM)) {
-            printAllWithAcm(bibliographyFinal);
-            return;
+    /**
+     * The export command to write articles to a BibTeX or CSL-JSON file. Files
+     * whose name ends with ".gz" are compressed. The path is resolved against the
+     * output directory of the system. The articles are rendered in memory under
+     * the lock of the system and the file is written after it is released.
+     * 
+     * @param matcher       The regex matcher
+     * @param kastelScholar The instance of a system to be manipulated
+     */
+    public void export(MatchResult matcher, KastelScholar kastelScholar) throws InputException {
+        Exporter exporter = matcher.group(EXPORT_FORMAT).equals(BIBTEX) ? new BibTexExporter()
+                : new CslJsonExporter();
+        ExportFilter filter = getExportFilter(matcher, kastelScholar);
+        Path path = getOutputPath(matcher.group(EXPORT_PATH), kastelScholar);
+        validated();
+        RenderedExport rendered = exporter.render(kastelScholar, filter);
+
+        afterUnlock(() -> {
+            outputStarted();
+            try {
+                rendered.writeTo(path);
+                setResultSize(rendered.getExported());
+            } catch (IOException exception) {
+                throw new InputException(ErrorMessages.FILE_NOT_WRITABLE.toString());
+            }
+        });
+    }
+
+    /**
+     * Gets the filter of an export command.
+     * 
+     * @param matcher       The regex matcher
+     * @param kastelScholar The instance of a system to be manipulated
+     * @return The filter of the articles to export.
+     * @throws InputException if the venue does not exist or the year is not valid.
+     */
+    private ExportFilter getExportFilter(MatchResult matcher, KastelScholar kastelScholar) throws InputException {
+        String field = matcher.group(EXPORT_FILTER_FIELD);
+        String value = matcher.group(EXPORT_FILTER_VALUE);
+        if (field == null) {
+            return ExportFilter.all();
+        }
+
+        switch (field) {
+            case EXPORT_FILTER_VENUE:
+                ErrorCheck errorCheck = new ErrorCheck(kastelScholar);
+                if (!errorCheck.journalExists(value) && !errorCheck.seriesExists(value)) {
+                    throw new InputException(ErrorMessages.VENUE_NOT_FOUND.toString());
+                }
+                return new ExportFilter(value, null, null);
+            case EXPORT_FILTER_YEAR:
+                if (!value.matches(REGEX_YEAR)) {
+                    throw new InputException(ErrorMessages.YEAR_NOT_VALID.toString());
+                }
+                return new ExportFilter(null, Integer.parseInt(value), null);
+            default:
+                return new ExportFilter(null, null, value);
         }
-        printAll(bibliographyFinal);
     }
-}
\ No newline at end of file
+
+    /**
+     * The log position command to print how many changing commands the system has
+     * applied.
+     * 
+     * @param matcher       The regex matcher
+     * @param kastelScholar The instance of a system to be manipulated
+     */
+    public void logPosition(MatchResult matcher, KastelScholar kastelScholar) throws InputException {
+        output.println(kastelScholar.getLogPosition().getApplied());
+    }
+
+    /**
+     * The await log position command to wait until the system has applied a log
+     * position.
+     * 
+     * @param matcher       The regex matcher
+     * @param kastelScholar The instance of a system to be manipulated
+     */
+    public void awaitLogPosition(MatchResult matcher, KastelScholar kastelScholar) throws InputException {
+        long position = Long.parseLong(matcher.group(AWAIT_LOG_POSITION_PARAMETER_POSITION));
+        try {
+            if (!kastelScholar.getLogPosition().await(position, AWAIT_LOG_POSITION_TIMEOUT_MILLIS)) {
+                if (kastelScholar.getLogPosition().isStopped()) {
+                    throw replicationStopped(kastelScholar);
+                }
+                throw new InputException(ErrorMessages.LOG_POSITION_NOT_REACHED.toString());
+            }
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new InputException(ErrorMessages.LOG_POSITION_NOT_REACHED.toString());
+        }
+    }
+
+    /**
+     * The replication lag command to print how many changing commands of the
+     * primary are not applied yet.
+     * 
+     * @param matcher       The regex matcher
+     * @param kastelScholar The instance of a system to be manipulated
+     * @throws InputException if the replica stopped following its primary, with
+     *                        the reason of the stop.
+     */
+    public void replicationLag(MatchResult matcher, KastelScholar kastelScholar) throws InputException {
+        if (kastelScholar.getLogPosition().isStopped()) {
+            throw replicationStopped(kastelScholar);
+        }
+        output.println(kastelScholar.getLogPosition().getLag());
+    }
+
+    /**
+     * Creates the error of a replica which stopped following its primary, naming
+     * the reason of the stop.
+     * 
+     * @param kastelScholar The instance of a system to be manipulated
+     * @return error of the stopped replication
+     */
+    private InputException replicationStopped(KastelScholar kastelScholar) {
+        return new InputException(ErrorMessages.REPLICATION_STOPPED, ErrorMessages.REPLICATION_STOPPED + BLANK
+                + STOP_REASON + kastelScholar.getLogPosition().getStopReason());
+    }
+
+    /**
+     * The stats command to print the metrics of all executed commands and of the
+     * query cache.
+     * 
+     * @param matcher       The regex matcher
+     * @param kastelScholar The instance of a system to be manipulated
+     */
+    public void stats(MatchResult matcher, KastelScholar kastelScholar) throws InputException {
+        List<String> report = kastelScholar.getCommandMetrics().report();
+        report.add(kastelScholar.getQueryCache().report());
+        printAll(report);
+    }
+
+    /**
+     * The memory report command to print an estimate of the heap the data of the
+     * system retains.
+     * 
+     * @param matcher       The regex matcher
+     * @param kastelScholar The instance of a system to be manipulated
+     */
+    public void memoryReport(MatchResult matcher, KastelScholar kastelScholar) throws InputException {
+        printAll(new MemoryReport(kastelScholar).report());
+    }
+}
@@ -1,8 +1,12 @@
 package system.interaction;
 
+import java.io.PrintStream;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.regex.MatchResult;
+
+import system.page.Page;
 
 /**
  * Contains helper methods for command methods.
@@ -17,6 +21,47 @@ public class CommandMethodsHelper {
 
     private static final int DECIMAL_SECURE = 1000;
     private static final double DECIMAL_SECURE_FORMAT_DOUBLE = 1000.0;
+    private static final long NO_RESULT_SIZE = -1;
+
+    /**
+     * Output to print the results of the commands to.
+     */
+    protected final PrintStream output;
+
+    /**
+     * Number of entries of the printed result.
+     */
+    private long resultSize = NO_RESULT_SIZE;
+
+    /**
+     * Whether the phases of the command are timed.
+     */
+    private boolean timingPhases;
+
+    /**
+     * Time at which the input of the command was validated.
+     */
+    private long validatedAt;
+
+    /**
+     * Time at which the command started to print its result, 0 if it did not yet.
+     */
+    private long outputStartedAt;
+
+    /**
+     * Output which is written once the command released the lock of the system,
+     * null if there is none.
+     */
+    private DeferredOutput deferredOutput;
+
+    /**
+     * Creates a new helper which prints to the given output.
+     * 
+     * @param output Output to print to.
+     */
+    protected CommandMethodsHelper(PrintStream output) {
+        this.output = output;
+    }
 
     /**
      * Checks if the year meets the requirements.
@@ -44,28 +89,136 @@ public class CommandMethodsHelper {
     }
 
     /**
-     * Prints all strings of a list.
+     * Gets the page a listing command asks for. The cursor and the limit are the
+     * last two groups of the command.
+     * 
+     * @param matcher The regex matcher of the command.
+     * @return page of the command, {@link Page#ALL} if it has neither a cursor nor
+     *         a limit.
+     * @throws InputException if the limit is 0.
+     */
+    protected Page pageOf(MatchResult matcher) throws InputException {
+        String after = matcher.group(matcher.groupCount() - 1);
+        String limit = matcher.group(matcher.groupCount());
+        if (limit == null) {
+            return after == null ? Page.ALL : new Page(after, Integer.MAX_VALUE);
+        }
+        int pageSize = Integer.parseInt(limit);
+        if (pageSize == 0) {
+            throw new InputException(ErrorMessages.LIMIT_NOT_VALID.toString());
+        }
+        return new Page(after, pageSize);
+    }
+
+    /**
+     * Prints all strings of a list, one per line. The lines are streamed to the
+     * output, which buffers them, so no copy of the whole text is built. They are
+     * printed once the command released the lock of the system, so a slow output
+     * does not keep other commands waiting.
      * 
      * @param list List to print values.
      */
     protected void printAll(List<String> list) {
-        for (String toPrint : list) {
-            System.out.println(toPrint);
+        setResultSize(list.size());
+        afterUnlock(() -> {
+            outputStarted();
+            for (String toPrint : list) {
+                output.println(toPrint);
+            }
+        });
+    }
+
+    /**
+     * Defers output of the command until it released the lock of the system. The
+     * output must only use results which were built under the lock.
+     * 
+     * @param step Output to write.
+     */
+    protected void afterUnlock(DeferredOutput step) {
+        this.deferredOutput = step;
+    }
+
+    /**
+     * Writes the output which the command deferred until it released the lock of
+     * the system, if any.
+     * 
+     * @throws InputException if the output cannot be written.
+     */
+    public void writeDeferredOutput() throws InputException {
+        DeferredOutput step = deferredOutput;
+        if (step != null) {
+            this.deferredOutput = null;
+            step.write();
         }
     }
 
     /**
-     * Prints a list with Acm format. It adds bibliography identifier to each value.
+     * Sets the number of entries of the printed result.
      * 
-     * @param list List to print values.
+     * @param size Number of entries.
+     */
+    protected void setResultSize(long size) {
+        this.resultSize = size;
+    }
+
+    /**
+     * Gets the number of entries of the printed result.
+     * 
+     * @return number of entries, negative if the command printed no list.
+     */
+    public long getResultSize() {
+        return resultSize;
+    }
+
+    /**
+     * Starts timing the phases of the command: validating its input, executing it
+     * and printing its result.
+     * 
+     * @param start Time at which the command started, from {@link System#nanoTime()}.
+     */
+    public void startPhases(long start) {
+        this.timingPhases = true;
+        this.validatedAt = start;
+        this.outputStartedAt = 0;
+    }
+
+    /**
+     * Marks the end of the validation of the input, if the phases are timed.
+     */
+    protected void validated() {
+        if (timingPhases) {
+            this.validatedAt = System.nanoTime();
+        }
+    }
+
+    /**
+     * Marks the start of the output, if the phases are timed.
      */
-    protected void printAllWithAcm(List<String> list) {
-        for (int i = 0; i < list.size(); i++) {
-            int k = i + 1;
-            System.out.println("[" + k + "] " + list.get(i));
+    protected void outputStarted() {
+        if (timingPhases && outputStartedAt == 0) {
+            this.outputStartedAt = System.nanoTime();
         }
     }
 
+    /**
+     * Gets the time at which the validation of the input ended.
+     * 
+     * @return time from {@link System#nanoTime()}, the start of the command if it
+     *         validates nothing.
+     */
+    public long getValidatedAt() {
+        return validatedAt;
+    }
+
+    /**
+     * Gets the time at which the command started to print a list.
+     * 
+     * @return time from {@link System#nanoTime()}, 0 if it printed no list.
+     */
+    public long getOutputStartedAt() {
+        return outputStartedAt;
+    }
+
     /**
      * Change a double value to meet the print requirements.
      * 
@@ -77,4 +230,19 @@ public class CommandMethodsHelper {
         String toPrint = String.format("%.3f", secureDecimals);
         return toPrint;
     }
+
+    /**
+     * Output of a command which is written after it released the lock of the
+     * system.
+     */
+    @FunctionalInterface
+    protected interface DeferredOutput {
+
+        /**
+         * Writes the output.
+         * 
+         * @throws InputException if the output cannot be written.
+         */
+        void write() throws InputException;
+    }
 }
@@ -0,0 +1,268 @@
+package system.interaction;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import system.metrics.OperationMetrics;
+
+/**
+ * Collects the metrics of all commands executed against one system: how often
+ * every command ran, how long it took, which errors it failed with and how
+ * large its results were. Inputs which match no command are counted
+ * separately.
+ * 
+ * Only a random sample of the executions is timed, by default one in eight, so
+ * the clock is read twice for only a few commands. The counts stay exact, the
+ * latencies are those of the sample. Commands are always timed while the slow
+ * query log is enabled.
+ * 
+ * In allocation accounting mode, the bytes every command allocates are
+ * recorded as well, using the allocation counter of the executing thread.
+ * Allocations of helper threads, e.g. of parallel shard queries, are not
+ * included.
+ * 
+ * @author Emir Yuksel
+ * @version 1.0
+ */
+public class CommandMetrics {
+
+    /**
+     * System property which enables allocation accounting if it is "true".
+     */
+    public static final String ALLOCATION_ACCOUNTING_PROPERTY = "kastelscholar.allocationAccounting";
+
+    /**
+     * System property with the sampling interval: one in this many executions is
+     * timed.
+     */
+    public static final String LATENCY_SAMPLING_PROPERTY = "kastelscholar.latencySampling";
+
+    /**
+     * Sampling interval if none is configured.
+     */
+    public static final int DEFAULT_LATENCY_SAMPLING = 8;
+
+    private static final String OBJECT_NAME = "kastelscholar:type=Command,name=";
+    private static final String INVALID_INPUTS = "invalid inputs: ";
+    private static final String COUNT = " count=";
+    private static final String ERRORS = " errors=";
+    private static final String MEAN = " mean=";
+    private static final String P50 = " p50=";
+    private static final String P99 = " p99=";
+    private static final String P999 = " p999=";
+    private static final String MAX = " max=";
+    private static final String NANOS = "ns";
+    private static final String RESULTS = "  results";
+    private static final String ERROR_KIND = "  error ";
+    private static final String ERROR_KIND_COUNT = "=";
+    private static final String ALLOCATED = "  allocated";
+    private static final String BYTES = "B";
+    private static final long NOT_ACCOUNTED = -1;
+
+    private static final Command[] COMMANDS = Command.values();
+    private static final ErrorMessages[] ERROR_MESSAGES = ErrorMessages.values();
+
+    private final OperationMetrics[] metrics;
+    private final LongAdder invalidInputs;
+    private final com.sun.management.ThreadMXBean threads;
+    private volatile boolean allocationAccounting;
+    private volatile int samplingMask = DEFAULT_LATENCY_SAMPLING - 1;
+
+    /**
+     * Creates new empty metrics for all commands.
+     */
+    public CommandMetrics() {
+        String[] errorKinds = new String[ERROR_MESSAGES.length];
+        for (ErrorMessages error : ERROR_MESSAGES) {
+            errorKinds[error.ordinal()] = error.name();
+        }
+        this.metrics = new OperationMetrics[COMMANDS.length];
+        for (Command command : COMMANDS) {
+            metrics[command.ordinal()] = new OperationMetrics(command.name(), errorKinds);
+        }
+        this.invalidInputs = new LongAdder();
+        ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+        this.threads = threadBean instanceof com.sun.management.ThreadMXBean
+                ? (com.sun.management.ThreadMXBean) threadBean
+                : null;
+    }
+
+    /**
+     * Enables or disables allocation accounting. It stays disabled if the JVM
+     * cannot count the allocations of a thread.
+     * 
+     * @param enabled true to record the bytes every command allocates, false
+     *                otherwise.
+     * @return true if allocation accounting is enabled now, false otherwise.
+     */
+    public boolean setAllocationAccounting(boolean enabled) {
+        boolean supported = threads != null && threads.isThreadAllocatedMemorySupported();
+        if (enabled && supported) {
+            threads.setThreadAllocatedMemoryEnabled(true);
+        }
+        this.allocationAccounting = enabled && supported;
+        return allocationAccounting;
+    }
+
+    /**
+     * Sets the sampling interval: one in this many executions is timed. The
+     * interval is rounded down to a power of two.
+     * 
+     * @param sampling Sampling interval, 1 to time every execution.
+     * @return the rounded interval
+     */
+    public int setLatencySampling(int sampling) {
+        int rounded = Integer.highestOneBit(Math.max(1, sampling));
+        this.samplingMask = rounded - 1;
+        return rounded;
+    }
+
+    /**
+     * Decides whether the next execution on the current thread is timed.
+     * 
+     * @return true if the execution is timed, false if it is only counted.
+     */
+    public boolean sampleLatency() {
+        int mask = samplingMask;
+        return mask == 0 || (ThreadLocalRandom.current().nextInt() & mask) == 0;
+    }
+
+    /**
+     * Gets the bytes the current thread allocated so far, if allocation accounting
+     * is enabled.
+     * 
+     * @return allocated bytes, negative if allocations are not accounted.
+     */
+    long allocatedBytes() {
+        return allocationAccounting ? threads.getCurrentThreadAllocatedBytes() : NOT_ACCOUNTED;
+    }
+
+    /**
+     * Records the bytes the current thread allocated during a command.
+     * 
+     * @param command         Executed command.
+     * @param allocatedBefore Bytes the thread allocated before the command,
+     *                        negative if allocations are not accounted.
+     */
+    void recordAllocation(Command command, long allocatedBefore) {
+        if (allocatedBefore >= 0) {
+            metrics[command.ordinal()].recordAllocation(threads.getCurrentThreadAllocatedBytes() - allocatedBefore);
+        }
+    }
+
+    /**
+     * Gets the metrics of a command.
+     * 
+     * @param command Command to get the metrics of.
+     * @return metrics of the command
+     */
+    public OperationMetrics get(Command command) {
+        return metrics[command.ordinal()];
+    }
+
+    /**
+     * Records a successful execution of a command.
+     * 
+     * @param command    Executed command.
+     * @param nanos      Latency of the execution in nanoseconds,
+     *                   {@link OperationMetrics#UNTIMED} if it was not timed.
+     * @param resultSize Number of entries the command printed, negative if it
+     *                   prints no list.
+     */
+    void record(Command command, long nanos, long resultSize) {
+        OperationMetrics commandMetrics = metrics[command.ordinal()];
+        commandMetrics.record(nanos);
+        if (resultSize >= 0) {
+            commandMetrics.recordResultSize(resultSize);
+        }
+    }
+
+    /**
+     * Records a failed execution of a command.
+     * 
+     * @param command   Executed command.
+     * @param nanos     Latency of the execution in nanoseconds,
+     *                  {@link OperationMetrics#UNTIMED} if it was not timed.
+     * @param exception Error the command failed with.
+     */
+    void recordError(Command command, long nanos, InputException exception) {
+        ErrorMessages error = exception.getError();
+        metrics[command.ordinal()].recordError(nanos, error == null ? -1 : error.ordinal());
+    }
+
+    /**
+     * Records an input which matches no command.
+     */
+    void recordInvalidInput() {
+        invalidInputs.increment();
+    }
+
+    /**
+     * Gets the number of inputs which matched no command.
+     * 
+     * @return number of invalid inputs
+     */
+    public long getInvalidInputs() {
+        return invalidInputs.sum();
+    }
+
+    /**
+     * Registers the metrics of every command as an MXBean at the platform MBean
+     * server.
+     * 
+     * @throws JMException if the metrics cannot be registered, e.g. because the
+     *                     metrics of another system are registered already.
+     */
+    public void register() throws JMException {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        for (OperationMetrics commandMetrics : metrics) {
+            server.registerMBean(commandMetrics, new ObjectName(OBJECT_NAME + commandMetrics.getName()));
+        }
+    }
+
+    /**
+     * Describes the metrics of all commands which were executed at least once.
+     * 
+     * @return one line per command, followed by its result sizes, allocations and
+     *         errors
+     */
+    public List<String> report() {
+        List<String> report = new ArrayList<String>();
+        report.add(INVALID_INPUTS + getInvalidInputs());
+        for (OperationMetrics commandMetrics : metrics) {
+            long count = commandMetrics.getCount();
+            if (count == 0) {
+                continue;
+            }
+            report.add(commandMetrics.getName() + COUNT + count + ERRORS + commandMetrics.getErrors() + MEAN
+                    + Math.round(commandMetrics.getMeanLatencyNanos()) + NANOS + P50
+                    + commandMetrics.getP50LatencyNanos() + NANOS + P99 + commandMetrics.getP99LatencyNanos()
+                    + NANOS + P999 + commandMetrics.getP999LatencyNanos() + NANOS + MAX
+                    + commandMetrics.getMaxLatencyNanos() + NANOS);
+            if (commandMetrics.getResultCount() != 0) {
+                report.add(RESULTS + COUNT + commandMetrics.getResultCount() + MEAN
+                        + Math.round(commandMetrics.getMeanResultSize()) + P99 + commandMetrics.getP99ResultSize()
+                        + MAX + commandMetrics.getMaxResultSize());
+            }
+            if (commandMetrics.getAllocationCount() != 0) {
+                report.add(ALLOCATED + COUNT + commandMetrics.getAllocationCount() + MEAN
+                        + Math.round(commandMetrics.getMeanAllocatedBytes()) + BYTES + P99
+                        + commandMetrics.getP99AllocatedBytes() + BYTES + MAX + commandMetrics.getMaxAllocatedBytes()
+                        + BYTES);
+            }
+            for (Map.Entry<String, Long> error : commandMetrics.getErrorsByKind().entrySet()) {
+                report.add(ERROR_KIND + error.getKey() + ERROR_KIND_COUNT + error.getValue());
+            }
+        }
+        return report;
+    }
+}
@@ -1,5 +1,8 @@
 package system.interaction;
 
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * Provides error messages for an interactive session.
  * 
@@ -70,7 +73,52 @@ public enum ErrorMessages {
     /**
      * Pops up when a conference in a specified year does not exist.
      */
-    CONFERENCE_IN_YEAR_NOT_EXIST("conference in this year does not exist.");
+    CONFERENCE_IN_YEAR_NOT_EXIST("conference in this year does not exist."),
+    /**
+     * Pops up when a changing command is sent to a replica.
+     */
+    READ_ONLY_REPLICA("this is a read-only replica, send changes to the primary."),
+    /**
+     * Pops up when a log position is not reached in time.
+     */
+    LOG_POSITION_NOT_REACHED("log position not reached in time."),
+    /**
+     * Pops up when a replica stopped following its primary.
+     */
+    REPLICATION_STOPPED("replication stopped, the replica cannot follow its primary."),
+    /**
+     * Pops up when a citation style is not registered.
+     */
+    STYLE_NOT_FOUND("citation style not found."),
+    /**
+     * Pops up when an output file cannot be written.
+     */
+    FILE_NOT_WRITABLE("file cannot be written."),
+    /**
+     * Pops up when an output file is not inside the output directory.
+     */
+    FILE_OUTSIDE_OUTPUT_DIRECTORY("file must be inside the output directory."),
+    /**
+     * Pops up when a command writes a file but the system does not allow it.
+     */
+    FILE_OUTPUT_DISABLED("writing files is disabled."),
+    /**
+     * Pops up when a listing command asks for an empty page.
+     */
+    LIMIT_NOT_VALID("limit must be at least 1."),
+    /**
+     * Pops up when a query gets no keyword or a keyword which is not lower case
+     * letters.
+     */
+    KEYWORDS_NOT_VALID("keywords must be one or more words of lower case letters.");
+
+    private static final Map<String, ErrorMessages> BY_MESSAGE = new HashMap<String, ErrorMessages>();
+
+    static {
+        for (ErrorMessages error : values()) {
+            BY_MESSAGE.put(error.message, error);
+        }
+    }
 
     /**
      * Error message
@@ -86,6 +134,16 @@ public enum ErrorMessages {
         this.message = message;
     }
 
+    /**
+     * Gets the error with the given message.
+     * 
+     * @param message Message of the error.
+     * @return error with the message, null if there is none.
+     */
+    public static ErrorMessages of(String message) {
+        return BY_MESSAGE.get(message);
+    }
+
     @Override
     public String toString() {
         return message;
@@ -10,13 +10,36 @@ public class InputException extends Exception {
 
     private static final long serialVersionUID = -5708866488023557364L;
 
+    private final ErrorMessages error;
+
     /**
      * Constructs a new instance of InputException.
      *
      * @param message The error message to display to the user.
      */
     public InputException(String message) {
+        this(ErrorMessages.of(message), message);
+    }
+
+    /**
+     * Constructs a new instance of InputException with a message which differs
+     * from the message of its kind, e.g. because it names the invalid input.
+     *
+     * @param error   The kind of the error.
+     * @param message The error message to display to the user.
+     */
+    public InputException(ErrorMessages error, String message) {
         super(message);
+        this.error = error;
+    }
+
+    /**
+     * Gets the kind of the error.
+     * 
+     * @return kind of the error, null if the message belongs to no kind.
+     */
+    public ErrorMessages getError() {
+        return error;
     }
 
 }
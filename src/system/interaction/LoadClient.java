@@ -0,0 +1,133 @@
+package system.interaction;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Generates load on a {@link Server}. Every client opens its own connection,
+ * sends a command script and reads the output until the server closes the
+ * connection.
+ * 
+ * @author Emir Yuksel
+ * @version 1.0
+ */
+public final class LoadClient {
+
+    private static final String ERROR_UTILITY_CLASS_INSTANTIATION = "Utility class cannot be instantiated.";
+    private static final String USAGE = "usage: LoadClient <host> <port> <clients> <script> [repetitions]";
+    private static final String QUIT = "quit\n";
+    private static final int BUFFER_SIZE = 8192;
+    private static final double NANOS_PER_SECOND = 1e9;
+
+    /**
+     * Constructs a new instance of LoadClient.
+     * 
+     * @throws IllegalStateException if constructor is called because LoadClient is
+     *                               a utility class.
+     */
+    private LoadClient() {
+        throw new IllegalStateException(ERROR_UTILITY_CLASS_INSTANTIATION);
+    }
+
+    /**
+     * Runs the clients and prints the throughput.
+     * 
+     * @param args Host, port, number of clients, path of the script and optionally
+     *             how often each client sends the script.
+     * @throws Exception if a client fails.
+     */
+    public static void main(String[] args) throws Exception {
+        if (args.length < 4) {
+            System.out.println(USAGE);
+            return;
+        }
+        String host = args[0];
+        int port = Integer.parseInt(args[1]);
+        int clients = Integer.parseInt(args[2]);
+        List<String> script = Files.readAllLines(Paths.get(args[3]), StandardCharsets.UTF_8);
+        int repetitions = args.length > 4 ? Integer.parseInt(args[4]) : 1;
+
+        StringBuilder request = new StringBuilder();
+        long sentLines = 0;
+        for (int i = 0; i < repetitions; i++) {
+            for (String line : script) {
+                if (!line.equals("quit")) {
+                    request.append(line).append('\n');
+                    sentLines++;
+                }
+            }
+        }
+        request.append(QUIT);
+        byte[] requestBytes = request.toString().getBytes(StandardCharsets.UTF_8);
+
+        AtomicLong receivedBytes = new AtomicLong();
+        List<Thread> threads = new ArrayList<Thread>();
+        long start = System.nanoTime();
+        for (int i = 0; i < clients; i++) {
+            Thread thread = new Thread(() -> receivedBytes.addAndGet(runClient(host, port, requestBytes)));
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        double seconds = (System.nanoTime() - start) / NANOS_PER_SECOND;
+
+        long commands = clients * sentLines;
+        System.out.println("clients: " + clients);
+        System.out.println("commands: " + commands);
+        System.out.println("seconds: " + String.format("%.3f", seconds));
+        System.out.println("commands/s: " + String.format("%.0f", commands / seconds));
+        System.out.println("received bytes: " + receivedBytes.get());
+    }
+
+    /**
+     * Sends the request on one connection and reads the whole response. Sending
+     * happens on a separate thread, so neither side blocks on a full socket
+     * buffer.
+     * 
+     * @param host    Host of the server.
+     * @param port    Port of the server.
+     * @param request Commands to send.
+     * @return number of received bytes.
+     */
+    private static long runClient(String host, int port, byte[] request) {
+        try (Socket socket = new Socket(host, port)) {
+            Thread sender = new Thread(() -> {
+                try {
+                    OutputStream output = new BufferedOutputStream(socket.getOutputStream(), BUFFER_SIZE);
+                    output.write(request);
+                    output.flush();
+                } catch (IOException exception) {
+                    throw new UncheckedIOException(exception);
+                }
+            });
+            sender.start();
+
+            long received = 0;
+            byte[] buffer = new byte[BUFFER_SIZE];
+            InputStream input = socket.getInputStream();
+            int read;
+            while ((read = input.read(buffer)) != -1) {
+                received += read;
+            }
+            sender.join();
+            return received;
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            return 0;
+        }
+    }
+}
@@ -1,5 +1,13 @@
 package system.interaction;
 
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.nio.file.Paths;
 import java.util.Scanner;
 
 import system.KastelScholar;
@@ -14,6 +22,8 @@ public final class Main {
 
     private static final String ERROR_UTILITY_CLASS_INSTANTIATION = "Utility class cannot be instantiated.";
     private static final String ERROR_MESSAGE_PREFIX = "Error, ";
+    private static final String PIPELINED = "--pipelined";
+    private static final int OUTPUT_BUFFER_SIZE = 1 << 16;
 
     /**
      * Constructs a new instance of Main.
@@ -28,21 +38,58 @@ public final class Main {
     /**
      * Main entry point to the app.
      * 
+     * With the argument --pipelined, the commands are executed by a
+     * {@link PipelinedExecutor}. Commands write files to the directory of the
+     * system property {@value KastelScholar#OUTPUT_DIRECTORY_PROPERTY}, or to the
+     * working directory if it is not set. The output is buffered and flushed
+     * after every command.
+     * 
      * @param args The arguments that are passed to the program at launch as array.
+     * @throws IOException if the input cannot be read.
      */
-    public static void main(String[] args) {
+    public static void main(String[] args) throws IOException {
         KastelScholar kastelScholar = new KastelScholar();
-        Command command = null;
-        do {
-            Scanner scanner = new Scanner(System.in);
-            try {
-                command = Command.executeMatching(scanner.nextLine(), kastelScholar);
+        kastelScholar.startMonitoring();
+        String outputDirectory = System.getProperty(KastelScholar.OUTPUT_DIRECTORY_PROPERTY);
+        if (outputDirectory != null) {
+            kastelScholar.setOutputDirectory(Paths.get(outputDirectory));
+        }
+        PrintStream output = new PrintStream(
+                new BufferedOutputStream(new FileOutputStream(FileDescriptor.out), OUTPUT_BUFFER_SIZE), false);
+        if (args.length > 0 && args[0].equals(PIPELINED)) {
+            PipelinedExecutor executor = new PipelinedExecutor(kastelScholar);
+            executor.execute(new BufferedReader(new InputStreamReader(System.in)), output);
+            output.flush();
+            executor.shutdown();
+            kastelScholar.close();
+            return;
+        }
+
+        run(kastelScholar, new Scanner(System.in), output);
+        kastelScholar.close();
+    }
 
+    /**
+     * Executes the commands of an input one after another until it ends or the
+     * quit command is read. The output is flushed after every command.
+     * 
+     * @param kastelScholar The instance of a system to be manipulated by executing
+     *                      the commands.
+     * @param input         Input to read the commands from, one per line.
+     * @param output        Output to print the results to.
+     */
+    static void run(KastelScholar kastelScholar, Scanner input, PrintStream output) {
+        while (input.hasNextLine()) {
+            Command command = null;
+            try {
+                command = Command.executeMatching(input.nextLine(), kastelScholar, output);
             } catch (InputException exception) {
-                System.out.println(ERROR_MESSAGE_PREFIX + exception.getMessage());
+                output.println(ERROR_MESSAGE_PREFIX + exception.getMessage());
             }
-        } while (command == null || command.isRunning());
-
+            output.flush();
+            if (command == Command.QUIT) {
+                return;
+            }
+        }
     }
-
 }
@@ -0,0 +1,178 @@
+package system.interaction;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.regex.MatchResult;
+
+import system.KastelScholar;
+import system.metrics.CommandEvent;
+import system.metrics.OperationMetrics;
+import system.metrics.QueryTrace;
+import system.metrics.SlowQuery;
+import system.metrics.SlowQueryLog;
+
+/**
+ * A user input which is matched to a command but not executed yet.
+ * 
+ * @author Emir Yuksel
+ * @version 1.0
+ */
+public class ParsedCommand {
+    private final Command command;
+    private final MatchResult matcher;
+
+    /**
+     * Creates a new parsed command.
+     * 
+     * @param command The command which matches the input.
+     * @param matcher The regex matcher that contains the groups of the input.
+     */
+    ParsedCommand(Command command, MatchResult matcher) {
+        this.command = command;
+        this.matcher = matcher;
+    }
+
+    /**
+     * Gets the command which matches the input.
+     * 
+     * @return matching command
+     */
+    public Command getCommand() {
+        return command;
+    }
+
+    /**
+     * Executes the command and prints its results to the given output.
+     * 
+     * Commands which only read from the system run concurrently with each other.
+     * Their results are built under the lock, and formatted and written after it
+     * is released, so slow outputs do not block commands which change the system.
+     * Commands which change the system run exclusively, so their validation and
+     * their changes are seen by other commands as one step. Applied changing
+     * commands are recorded in the log position of the system. The error and the
+     * result size of the command are recorded in the command metrics of the
+     * system, together with its latency if the command is part of the timed
+     * sample or the slow query log is enabled. Slow commands are recorded by the
+     * flight recorder and the slow query log.
+     * 
+     * @param kastelScholar The instance of a system to be manipulated by executing
+     *                      the command.
+     * @param output        The output to print the results to.
+     * @return The command that got executed.
+     * @throws InputException if the command contains semantic errors.
+     */
+    public Command execute(KastelScholar kastelScholar, PrintStream output) throws InputException {
+        CommandMetrics metrics = kastelScholar.getCommandMetrics();
+        long allocatedBefore = metrics.allocatedBytes();
+        SlowQueryLog slowQueryLog = kastelScholar.getSlowQueryLog();
+        CommandMethods methods = new CommandMethods(output);
+        CommandEvent event = new CommandEvent();
+        event.start();
+        long[] scannedBefore = slowQueryLog == null ? null : QueryTrace.snapshot();
+        boolean timed = slowQueryLog != null || metrics.sampleLatency();
+        long start = timed ? System.nanoTime() : 0;
+        if (slowQueryLog != null) {
+            methods.startPhases(start);
+        }
+        try {
+            execute(kastelScholar, methods);
+        } catch (InputException exception) {
+            long end = timed ? System.nanoTime() : 0;
+            String error = String.valueOf(exception.getError());
+            metrics.recordError(command, timed ? end - start : OperationMetrics.UNTIMED, exception);
+            event.complete(command.name(), matcher, methods.getResultSize(), error);
+            logIfSlow(slowQueryLog, methods, start, end, scannedBefore, error);
+            metrics.recordAllocation(command, allocatedBefore);
+            throw exception;
+        }
+        long end = timed ? System.nanoTime() : 0;
+        metrics.record(command, timed ? end - start : OperationMetrics.UNTIMED, methods.getResultSize());
+        event.complete(command.name(), matcher, methods.getResultSize(), null);
+        logIfSlow(slowQueryLog, methods, start, end, scannedBefore, null);
+        metrics.recordAllocation(command, allocatedBefore);
+        return command;
+    }
+
+    /**
+     * Logs the command if it took at least the threshold of the slow query log.
+     * 
+     * @param slowQueryLog  Log to write to, null if slow commands are not logged.
+     * @param methods       The command methods which timed the phases.
+     * @param start         Time the command started, from {@link System#nanoTime()}.
+     * @param end           Time the command ended, from {@link System#nanoTime()}.
+     * @param scannedBefore Elements the thread had scanned before the command.
+     * @param error         Kind of the error the command failed with, null if it
+     *                      succeeded.
+     */
+    private void logIfSlow(SlowQueryLog slowQueryLog, CommandMethods methods, long start, long end,
+            long[] scannedBefore, String error) {
+        if (slowQueryLog == null || !slowQueryLog.isSlow(end - start)) {
+            return;
+        }
+        long validatedAt = methods.getValidatedAt();
+        long outputStartedAt = methods.getOutputStartedAt() == 0 ? end : methods.getOutputStartedAt();
+        long[] scanned = QueryTrace.snapshot();
+        for (int i = 0; i < scanned.length; i++) {
+            scanned[i] -= scannedBefore[i];
+        }
+        slowQueryLog.log(new SlowQuery(command.name(), matcher.group(), System.currentTimeMillis(), end - start,
+                validatedAt - start, outputStartedAt - validatedAt, end - outputStartedAt, scanned, error));
+    }
+
+    /**
+     * Executes the command under the lock of the system it needs. Output which
+     * the command deferred, like printed lists, bibliographies and files, is
+     * written after the lock is released.
+     * 
+     * @param kastelScholar The instance of a system to be manipulated by executing
+     *                      the command.
+     * @param methods       The command methods which print the results.
+     * @throws InputException if the command contains semantic errors.
+     */
+    private void execute(KastelScholar kastelScholar, CommandMethods methods) throws InputException {
+        if (command.isMutating() && kastelScholar.isReadOnly()) {
+            throw new InputException(ErrorMessages.READ_ONLY_REPLICA.toString());
+        }
+        if (!command.requiresLock()) {
+            command.execute(matcher, kastelScholar, methods);
+            methods.writeDeferredOutput();
+            return;
+        }
+
+        ReadWriteLock lock = kastelScholar.getLock();
+        Lock commandLock = command.isMutating() ? lock.writeLock() : lock.readLock();
+        commandLock.lock();
+        try {
+            command.execute(matcher, kastelScholar, methods);
+            if (command.isMutating()) {
+                kastelScholar.commandApplied(matcher.group());
+            }
+        } finally {
+            commandLock.unlock();
+        }
+        methods.writeDeferredOutput();
+    }
+
+    /**
+     * Applies a changing command which is replicated from a primary, even if the
+     * system is read-only. Its output is discarded. The log position only
+     * advances if the command is applied.
+     * 
+     * @param kastelScholar The instance of a system to apply the command to.
+     * @throws InputException if the command fails, so the system no longer
+     *                        matches the primary.
+     */
+    public void apply(KastelScholar kastelScholar) throws InputException {
+        Lock commandLock = kastelScholar.getLock().writeLock();
+        commandLock.lock();
+        try {
+            command.execute(matcher, kastelScholar,
+                    new CommandMethods(new PrintStream(OutputStream.nullOutputStream())));
+            kastelScholar.getLogPosition().advance();
+        } finally {
+            commandLock.unlock();
+        }
+    }
+}
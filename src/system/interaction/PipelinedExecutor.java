@@ -0,0 +1,237 @@
+package system.interaction;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import system.KastelScholar;
+
+/**
+ * Executes a stream of commands in a pipeline. Inputs are matched to commands
+ * ahead of time on worker threads. Commands which only read from the system
+ * run concurrently on the workers, commands which change the system or write
+ * files are executed one after another on the calling thread. The output, and
+ * the files written, are the same as if all commands had run one after another.
+ * 
+ * A changing command is only applied after all commands before it are done, so
+ * they do not see its changes. Its validation depends on the commands before
+ * it and therefore is not done ahead of time. Commands which write files are
+ * ordered the same way, so the last of several commands which write the same
+ * file determines its content.
+ * 
+ * @author Emir Yuksel
+ * @version 1.0
+ */
+public class PipelinedExecutor {
+
+    private static final String ERROR_MESSAGE_PREFIX = "Error, ";
+
+    /**
+     * Maximum number of inputs which are matched ahead of execution.
+     */
+    private static final int PARSE_AHEAD = 1024;
+
+    private final KastelScholar kastelScholar;
+    private final ExecutorService workers;
+
+    /**
+     * Creates a new pipelined executor with one worker per processor.
+     * 
+     * @param kastelScholar The instance of a system to be manipulated by executing
+     *                      the commands.
+     */
+    public PipelinedExecutor(KastelScholar kastelScholar) {
+        this(kastelScholar, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Creates a new pipelined executor.
+     * 
+     * @param kastelScholar The instance of a system to be manipulated by executing
+     *                      the commands.
+     * @param workerCount   Number of workers which match inputs and run reading
+     *                      commands.
+     */
+    public PipelinedExecutor(KastelScholar kastelScholar, int workerCount) {
+        this.kastelScholar = kastelScholar;
+        this.workers = Executors.newFixedThreadPool(workerCount, runnable -> {
+            Thread thread = new Thread(runnable);
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Executes all commands of an input until it ends or the quit command is read.
+     * Results are written once no further input is buffered, so interactive
+     * sessions get their results right away.
+     * 
+     * @param input  Input to read the commands from, one per line.
+     * @param output Output to print the results to.
+     * @throws IOException if the input cannot be read.
+     */
+    public void execute(BufferedReader input, PrintStream output) throws IOException {
+        Deque<Future<ParsedCommand>> parsed = new ArrayDeque<Future<ParsedCommand>>();
+        Deque<Future<byte[]>> results = new ArrayDeque<Future<byte[]>>();
+
+        String line;
+        while ((line = input.readLine()) != null) {
+            String commandLine = line;
+            parsed.add(workers.submit(() -> Command.parse(commandLine)));
+
+            if ((parsed.size() >= PARSE_AHEAD || !input.ready()) && !dispatchAll(parsed, results, output)) {
+                return;
+            }
+        }
+        dispatchAll(parsed, results, output);
+    }
+
+    /**
+     * Dispatches all matched inputs and prints the results of the started
+     * commands.
+     * 
+     * @param parsed  Matched inputs, in input order.
+     * @param results Results of the started commands, in input order.
+     * @param output  Output to print the results to.
+     * @return false if the quit command is reached, true otherwise.
+     */
+    private boolean dispatchAll(Deque<Future<ParsedCommand>> parsed, Deque<Future<byte[]>> results,
+            PrintStream output) {
+        while (!parsed.isEmpty()) {
+            if (!dispatch(parsed.poll(), results, output)) {
+                printResults(results, output);
+                return false;
+            }
+        }
+        printResults(results, output);
+        return true;
+    }
+
+    /**
+     * Stops the workers.
+     */
+    public void shutdown() {
+        workers.shutdown();
+    }
+
+    /**
+     * Dispatches a matched input. Reading commands are started on the workers,
+     * changing commands and commands which write files are executed after all
+     * commands before them are done.
+     * 
+     * @param parsedCommand Matched input.
+     * @param results       Results of the started commands, in input order.
+     * @param output        Output to print the results to.
+     * @return false if the quit command is reached, true otherwise.
+     */
+    private boolean dispatch(Future<ParsedCommand> parsedCommand, Deque<Future<byte[]>> results,
+            PrintStream output) {
+        ParsedCommand command;
+        try {
+            command = getResult(parsedCommand);
+        } catch (InputException exception) {
+            kastelScholar.getCommandMetrics().recordInvalidInput();
+            results.add(CompletableFuture.completedFuture(errorOutput(exception)));
+            return true;
+        }
+
+        if (command.getCommand() == Command.QUIT) {
+            return false;
+        }
+
+        if (!command.getCommand().isMutating() && !command.getCommand().writesFiles()) {
+            results.add(workers.submit(() -> executeBuffered(command)));
+            return true;
+        }
+
+        printResults(results, output);
+        try {
+            command.execute(kastelScholar, output);
+        } catch (InputException exception) {
+            output.println(ERROR_MESSAGE_PREFIX + exception.getMessage());
+        }
+        return true;
+    }
+
+    /**
+     * Executes a command and collects its output.
+     * 
+     * @param command Command to execute.
+     * @return printed output of the command.
+     */
+    private byte[] executeBuffered(ParsedCommand command) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        PrintStream commandOutput = new PrintStream(buffer, false, StandardCharsets.UTF_8);
+        try {
+            command.execute(kastelScholar, commandOutput);
+        } catch (InputException exception) {
+            commandOutput.println(ERROR_MESSAGE_PREFIX + exception.getMessage());
+        }
+        commandOutput.flush();
+        return buffer.toByteArray();
+    }
+
+    /**
+     * Formats the error of an input which does not match any command.
+     * 
+     * @param exception Error of the input.
+     * @return printed output of the error.
+     */
+    private byte[] errorOutput(InputException exception) {
+        return (ERROR_MESSAGE_PREFIX + exception.getMessage() + System.lineSeparator())
+                .getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Waits for all started commands and prints their results in input order.
+     * 
+     * @param results Results of the started commands.
+     * @param output  Output to print the results to.
+     */
+    private void printResults(Deque<Future<byte[]>> results, PrintStream output) {
+        while (!results.isEmpty()) {
+            try {
+                byte[] result = getResult(results.poll());
+                output.write(result, 0, result.length);
+            } catch (InputException exception) {
+                throw new IllegalStateException(exception);
+            }
+        }
+        output.flush();
+    }
+
+    /**
+     * Waits for a task and returns its result.
+     * 
+     * @param <T>    Type of the result.
+     * @param future Task to wait for.
+     * @return result of the task.
+     * @throws InputException if the task failed because of an invalid input.
+     */
+    private static <T> T getResult(Future<T> future) throws InputException {
+        try {
+            return future.get();
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(exception);
+        } catch (ExecutionException exception) {
+            Throwable cause = exception.getCause();
+            if (cause instanceof InputException) {
+                throw (InputException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+}
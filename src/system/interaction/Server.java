@@ -0,0 +1,175 @@
+package system.interaction;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.lang.reflect.Method;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import system.KastelScholar;
+import system.replication.LogShipper;
+import system.replication.Replica;
+import system.replication.ReplicationLog;
+
+/**
+ * Serves the command language over a local TCP line protocol. Every line a
+ * client sends is executed as a command against one shared system, and the
+ * client receives exactly the output {@link Main} would print for it. The
+ * command quit closes the connection.
+ * 
+ * @author Emir Yuksel
+ * @version 1.0
+ */
+public class Server implements Closeable {
+
+    private static final String ERROR_MESSAGE_PREFIX = "Error, ";
+    private static final int DEFAULT_PORT = 7070;
+    private static final int OUTPUT_BUFFER_SIZE = 8192;
+    private static final String PRIMARY = "primary";
+    private static final String REPLICA = "replica";
+
+    private final KastelScholar kastelScholar;
+    private final ServerSocket serverSocket;
+    private final ExecutorService connections;
+
+    /**
+     * Creates a new server which listens on the loopback interface.
+     * 
+     * @param kastelScholar System to execute the commands against.
+     * @param port          Port to listen on, 0 for any free port.
+     * @throws IOException if the port cannot be bound.
+     */
+    public Server(KastelScholar kastelScholar, int port) throws IOException {
+        this.kastelScholar = kastelScholar;
+        this.serverSocket = new ServerSocket(port, 0, InetAddress.getLoopbackAddress());
+        this.connections = newConnectionExecutor();
+    }
+
+    /**
+     * Starts the server.
+     * 
+     * "Server port primary replicationPort" additionally ships the replication log
+     * to replicas on the replication port. "Server port replica host
+     * replicationPort" serves a read-only replica of the primary with the given
+     * log shipper.
+     * 
+     * Commands only write files if the system property
+     * {@value KastelScholar#OUTPUT_DIRECTORY_PROPERTY} names the directory to
+     * write them to, so clients cannot overwrite files of the server.
+     * 
+     * @param args The port to listen on, optional, followed by the replication
+     *             role.
+     * @throws IOException if the server cannot be started.
+     */
+    public static void main(String[] args) throws IOException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PORT;
+        KastelScholar kastelScholar = new KastelScholar();
+        kastelScholar.startMonitoring();
+        String outputDirectory = System.getProperty(KastelScholar.OUTPUT_DIRECTORY_PROPERTY);
+        kastelScholar.setOutputDirectory(outputDirectory == null ? null : Paths.get(outputDirectory));
+
+        if (args.length > 2 && args[1].equals(PRIMARY)) {
+            ReplicationLog log = new ReplicationLog();
+            kastelScholar.setReplicationLog(log);
+            new LogShipper(log, Integer.parseInt(args[2])).start();
+        }
+        if (args.length > 3 && args[1].equals(REPLICA)) {
+            new Replica(kastelScholar, args[2], Integer.parseInt(args[3])).start();
+        }
+
+        try (Server server = new Server(kastelScholar, port)) {
+            server.run();
+        } finally {
+            kastelScholar.close();
+        }
+    }
+
+    /**
+     * Gets the port the server listens on.
+     * 
+     * @return port of the server
+     */
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    /**
+     * Accepts connections until the server is closed. Every connection is handled
+     * on its own thread.
+     */
+    public void run() {
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket socket = serverSocket.accept();
+                connections.execute(() -> handle(socket));
+            } catch (IOException exception) {
+                // The server socket is closed.
+            }
+        }
+    }
+
+    /**
+     * Executes the commands of one connection until the client quits or
+     * disconnects. Output is flushed once no further input is buffered, so
+     * pipelining clients get their results in few packets.
+     * 
+     * @param socket Connection to handle.
+     */
+    private void handle(Socket socket) {
+        try (Socket connection = socket;
+                BufferedReader input = new BufferedReader(
+                        new InputStreamReader(connection.getInputStream(), StandardCharsets.UTF_8));
+                PrintStream output = new PrintStream(
+                        new BufferedOutputStream(connection.getOutputStream(), OUTPUT_BUFFER_SIZE), false,
+                        StandardCharsets.UTF_8)) {
+
+            String line;
+            while ((line = input.readLine()) != null) {
+                Command command = null;
+                try {
+                    command = Command.executeMatching(line, kastelScholar, output);
+                } catch (InputException exception) {
+                    output.println(ERROR_MESSAGE_PREFIX + exception.getMessage());
+                }
+                if (command == Command.QUIT) {
+                    return;
+                }
+                if (!input.ready()) {
+                    output.flush();
+                }
+            }
+        } catch (IOException exception) {
+            // The client disconnected.
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        serverSocket.close();
+        connections.shutdownNow();
+    }
+
+    /**
+     * Creates the executor for the connections. Uses a virtual thread per
+     * connection if the runtime supports them, a cached thread pool otherwise.
+     * 
+     * @return executor for the connections
+     */
+    private static ExecutorService newConnectionExecutor() {
+        try {
+            Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) factory.invoke(null);
+        } catch (ReflectiveOperationException exception) {
+            return Executors.newCachedThreadPool();
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package system.metrics;
+
+import java.util.regex.MatchResult;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * Flight recorder event of an executed command. Only commands which take at
+ * least the threshold of the event are recorded.
+ * 
+ * @author Emir Yuksel
+ * @version 1.0
+ */
+@Name("kastelscholar.Command")
+@Label("Command")
+@Category("KastelScholar")
+@Description("A command which took at least the threshold")
+@Threshold("50 ms")
+@StackTrace(false)
+public class CommandEvent extends jdk.jfr.Event {
+
+    @Label("Command")
+    private String command;
+
+    @Label("Input")
+    private String input;
+
+    @Label("Elements Scanned")
+    private long scanned;
+
+    @Label("Result Size")
+    private long resultSize;
+
+    @Label("Error")
+    private String error;
+
+    private transient long scannedBefore;
+
+    /**
+     * Starts timing a command.
+     */
+    public void start() {
+        if (isEnabled()) {
+            this.scannedBefore = QueryTrace.getScanned();
+            begin();
+        }
+    }
+
+    /**
+     * Ends the command and commits the event if it is recorded.
+     * 
+     * @param commandName  Name of the command.
+     * @param commandInput Match of the input of the command. The input is only
+     *                     copied out of it if the event is committed.
+     * @param size         Number of entries the command printed, negative if it
+     *                     printed no list.
+     * @param errorKind    Kind of the error the command failed with, null if it
+     *                     succeeded.
+     */
+    public void complete(String commandName, MatchResult commandInput, long size, String errorKind) {
+        if (!isEnabled()) {
+            return;
+        }
+        end();
+        if (shouldCommit()) {
+            this.command = commandName;
+            this.input = commandInput.group();
+            this.scanned = QueryTrace.getScanned() - scannedBefore;
+            this.resultSize = size;
+            this.error = errorKind;
+            commit();
+        }
+    }
+}
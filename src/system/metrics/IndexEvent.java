@@ -0,0 +1,54 @@
+package system.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * Flight recorder event of the maintenance of an index after a change of the
+ * system database, e.g. adding an article to its shard. Only updates which
+ * take at least the threshold of the event are recorded.
+ * 
+ * @author Emir Yuksel
+ * @version 1.0
+ */
+@Name("kastelscholar.IndexUpdate")
+@Label("Index Update")
+@Category("KastelScholar")
+@Description("An index update which took at least the threshold")
+@Threshold("1 ms")
+@StackTrace(false)
+public class IndexEvent extends jdk.jfr.Event {
+
+    @Label("Index")
+    private String index;
+
+    @Label("Change")
+    private String change;
+
+    @Label("Elements Updated")
+    private long updated;
+
+    /**
+     * Ends the update and commits the event if it is recorded.
+     * 
+     * @param indexName  Name of the updated index.
+     * @param changeType Type of the change which caused the update.
+     * @param elements   Number of elements which were updated.
+     */
+    public void complete(String indexName, Object changeType, long elements) {
+        if (!isEnabled()) {
+            return;
+        }
+        end();
+        if (shouldCommit()) {
+            this.index = indexName;
+            this.change = String.valueOf(changeType);
+            this.updated = elements;
+            commit();
+        }
+    }
+}
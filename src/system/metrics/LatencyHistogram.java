@@ -0,0 +1,194 @@
+package system.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Records non-negative values, e.g. latencies in nanoseconds, in logarithmic
+ * buckets with a relative precision of about 3 percent. Values below 32 are
+ * recorded exactly. Recording is lock-free, needs no allocation and can happen
+ * from many threads at once.
+ * 
+ * @author Emir Yuksel
+ * @version 1.0
+ */
+public class LatencyHistogram {
+
+    /**
+     * Every power of two is split into 2^SUB_BUCKET_BITS buckets.
+     */
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKETS = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKETS;
+    private static final double PERCENT = 100.0;
+
+    private final AtomicLongArray counts;
+
+    /**
+     * Creates a new empty histogram.
+     */
+    public LatencyHistogram() {
+        this.counts = new AtomicLongArray(BUCKETS);
+    }
+
+    /**
+     * Records a value. Negative values are recorded as 0.
+     * 
+     * @param value Value to record.
+     */
+    public void record(long value) {
+        counts.incrementAndGet(bucketOf(Math.max(0, value)));
+    }
+
+    /**
+     * Gets the number of recorded values.
+     * 
+     * @return number of values
+     */
+    public long getCount() {
+        long count = 0;
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+            count += counts.get(bucket);
+        }
+        return count;
+    }
+
+    /**
+     * Gets the value below or at which a percentage of the recorded values lie,
+     * e.g. 99 for the 99th percentile. The value is the upper end of its bucket.
+     * 
+     * @param percentile Percentage between 0 and 100.
+     * @return value at the percentile, 0 if nothing is recorded.
+     */
+    public long getValueAtPercentile(double percentile) {
+        long[] snapshot = snapshot();
+        long count = 0;
+        for (long bucketCount : snapshot) {
+            count += bucketCount;
+        }
+        if (count == 0) {
+            return 0;
+        }
+
+        long rank = Math.max(1, (long) Math.ceil(count * percentile / PERCENT));
+        long seen = 0;
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+            seen += snapshot[bucket];
+            if (seen >= rank) {
+                return upperBoundOf(bucket);
+            }
+        }
+        return upperBoundOf(BUCKETS - 1);
+    }
+
+    /**
+     * Gets the largest recorded value, up to the precision of the buckets.
+     * 
+     * @return largest value, 0 if nothing is recorded.
+     */
+    public long getMax() {
+        for (int bucket = BUCKETS - 1; bucket >= 0; bucket--) {
+            if (counts.get(bucket) != 0) {
+                return upperBoundOf(bucket);
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Gets the mean of the recorded values, up to the precision of the buckets.
+     * 
+     * @return mean value, 0 if nothing is recorded.
+     */
+    public double getMean() {
+        long count = 0;
+        double sum = 0;
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+            long bucketCount = counts.get(bucket);
+            count += bucketCount;
+            sum += bucketCount * (double) (lowerBoundOf(bucket) + upperBoundOf(bucket)) / 2;
+        }
+        return count == 0 ? 0 : sum / count;
+    }
+
+    /**
+     * Adds all values recorded in another histogram.
+     * 
+     * @param other Histogram to add.
+     */
+    public void add(LatencyHistogram other) {
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+            long bucketCount = other.counts.get(bucket);
+            if (bucketCount != 0) {
+                counts.addAndGet(bucket, bucketCount);
+            }
+        }
+    }
+
+    /**
+     * Removes all recorded values.
+     */
+    public void reset() {
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+            counts.set(bucket, 0);
+        }
+    }
+
+    /**
+     * Copies the counts of the buckets, so a percentile is computed on one
+     * consistent state.
+     * 
+     * @return counts of the buckets
+     */
+    private long[] snapshot() {
+        long[] snapshot = new long[BUCKETS];
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+            snapshot[bucket] = counts.get(bucket);
+        }
+        return snapshot;
+    }
+
+    /**
+     * Gets the bucket of a value.
+     * 
+     * @param value Non-negative value.
+     * @return index of the bucket
+     */
+    private static int bucketOf(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+        int shift = exponent - SUB_BUCKET_BITS;
+        int subBucket = (int) (value >>> shift) & (SUB_BUCKETS - 1);
+        return (shift + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    /**
+     * Gets the smallest value of a bucket.
+     * 
+     * @param bucket Index of the bucket.
+     * @return smallest value
+     */
+    private static long lowerBoundOf(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        int shift = bucket / SUB_BUCKETS - 1;
+        long subBucket = bucket % SUB_BUCKETS;
+        return (SUB_BUCKETS + subBucket) << shift;
+    }
+
+    /**
+     * Gets the largest value of a bucket.
+     * 
+     * @param bucket Index of the bucket.
+     * @return largest value
+     */
+    private static long upperBoundOf(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        int shift = bucket / SUB_BUCKETS - 1;
+        return lowerBoundOf(bucket) + (1L << shift) - 1;
+    }
+}
@@ -0,0 +1,376 @@
+package system.metrics;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+import article.Article;
+import author.Author;
+import printFormat.BibliographyCache;
+import system.KastelScholar;
+import system.SystemDatabase;
+import system.cache.QueryCache;
+import system.query.ArticleColumns;
+import system.query.ArticleIndex;
+import system.shard.ShardSet;
+import venue.conference.Conference;
+import venue.conference.Series;
+import venue.journal.Journal;
+
+/**
+ * Estimates the heap the data of a system database retains, by category. The
+ * sizes assume a 64-bit JVM with compressed references and Latin-1 strings
+ * where possible. Strings are counted once per reference, so shared strings
+ * make the string data an upper bound. The indexes count only their own
+ * objects, since the articles and strings they reference are counted with the
+ * articles. The caches are counted by the weights they track. Lazily built sort
+ * keys are not included.
+ * 
+ * @author Emir Yuksel
+ * @version 1.0
+ */
+public class MemoryReport {
+
+    /**
+     * Bytes of a reference.
+     */
+    public static final int REFERENCE = 4;
+
+    private static final int OBJECT_HEADER = 12;
+    private static final int ARRAY_HEADER = 16;
+    private static final int ALIGNMENT = 8;
+    private static final int ARRAY_LIST = 24;
+    private static final int HASH_SET = 16;
+    private static final int LINKED_HASH_MAP = 56;
+    private static final int HASH_MAP = 48;
+    private static final int HASH_MAP_NODE = 32;
+    private static final int LINKED_HASH_MAP_ENTRY = 40;
+    private static final int TREE_SET = 16;
+    private static final int TREE_MAP = 48;
+    private static final int TREE_MAP_ENTRY = 40;
+    private static final int MIN_TABLE_SIZE = 16;
+    private static final double LOAD_FACTOR = 0.75;
+    private static final int LATIN_1_MAX = 0xFF;
+
+    private static final int AUTHORS = 0;
+    private static final int ARTICLES = 1;
+    private static final int VENUES = 2;
+    private static final int KEYWORD_SETS = 3;
+    private static final int CITATION_LISTS = 4;
+    private static final int STRINGS = 5;
+    private static final int INDEXES = 6;
+    private static final int SHARD_POSTINGS = 7;
+    private static final int ARTICLE_COLUMNS = 8;
+    private static final int INDEX_POSTINGS = 9;
+    private static final int QUERY_CACHE = 10;
+    private static final int BIBLIOGRAPHY_CACHE = 11;
+    private static final String[] CATEGORIES = { "authors", "articles", "venues", "keyword sets", "citation lists",
+        "string data", "indexes", "shard postings", "article columns", "index postings", "query cache",
+        "bibliography cache" };
+
+    private static final long STRING = shallowSize(String.class);
+
+    private final long[] objects = new long[CATEGORIES.length];
+    private final long[] bytes = new long[CATEGORIES.length];
+
+    /**
+     * Estimates the heap of the data of a system database. The database must not
+     * change meanwhile.
+     * 
+     * @param database Database to estimate.
+     */
+    public MemoryReport(SystemDatabase database) {
+        long articleSize = shallowSize(Article.class);
+        long authorSize = shallowSize(Author.class);
+        long journalSize = shallowSize(Journal.class);
+        long seriesSize = shallowSize(Series.class);
+        long conferenceSize = shallowSize(Conference.class);
+        long articleCount = 0;
+
+        for (Author author : database.getAuthors()) {
+            add(AUTHORS, 1, authorSize + listSize(author.getArticles()));
+            addString(author.getName());
+            addString(author.getSurName());
+            addString(author.getFullName());
+        }
+
+        List<Collection<Article>> articleLists = new ArrayList<Collection<Article>>();
+        for (Journal journal : database.getJournals()) {
+            add(VENUES, 1, journalSize + listSize(journal.getArticles()));
+            addString(journal.getName());
+            addString(journal.getPublisher());
+            addKeywords(journal.getKeywords());
+            articleLists.add(journal.getArticles());
+        }
+        for (Series series : database.getSeries()) {
+            add(VENUES, 1, seriesSize + listSize(series.getConferences()));
+            addString(series.getName());
+            addKeywords(series.getKeywords());
+            for (Conference conference : series.getConferences()) {
+                add(VENUES, 1, conferenceSize + listSize(conference.getArticles()));
+                addString(conference.getLocation());
+                addKeywords(conference.getKeywords());
+                articleLists.add(conference.getArticles());
+            }
+        }
+
+        for (Collection<Article> articles : articleLists) {
+            for (Article article : articles) {
+                articleCount++;
+                add(ARTICLES, 1, articleSize + listSize(article.getAuthor()));
+                add(CITATION_LISTS, 2, listSize(article.getReceivedCites()) + listSize(article.getGivenCites()));
+                addString(article.getId());
+                addString(article.getTitle());
+                addKeywords(article.getKeywords());
+            }
+        }
+
+        long authorCount = database.getAuthors().size();
+        add(INDEXES, 1, listSize(database.getAuthors()));
+        add(INDEXES, 1, hashMapSize(articleCount));
+        add(INDEXES, 1, hashMapSize(authorCount));
+        ShardSet shards = database.getShards();
+        add(SHARD_POSTINGS, shards.size(), shards.estimateBytes());
+    }
+
+    /**
+     * Estimates the heap of the data of a system together with its article index
+     * and caches. The system must not change meanwhile.
+     * 
+     * @param kastelScholar System to estimate.
+     */
+    public MemoryReport(KastelScholar kastelScholar) {
+        this((SystemDatabase) kastelScholar);
+        ArticleIndex articleIndex = kastelScholar.getArticleIndex();
+        ArticleColumns columns = articleIndex.getColumns();
+        add(ARTICLE_COLUMNS, columns.size(), columns.estimateBytes());
+        add(INDEX_POSTINGS, articleIndex.size(), articleIndex.estimateBytes());
+        QueryCache queryCache = kastelScholar.getQueryCache();
+        addCache(QUERY_CACHE, queryCache.getEntries(), queryCache.getWeight());
+        BibliographyCache bibliographyCache = kastelScholar.getBibliographyCache();
+        addCache(BIBLIOGRAPHY_CACHE, bibliographyCache.getEntries(), bibliographyCache.getWeight());
+    }
+
+    /**
+     * Gets the estimated bytes of all categories.
+     * 
+     * @return estimated retained bytes
+     */
+    public long getTotalBytes() {
+        long total = 0;
+        for (long categoryBytes : bytes) {
+            total += categoryBytes;
+        }
+        return total;
+    }
+
+    /**
+     * Describes the estimate.
+     * 
+     * @return one line per category, followed by the total
+     */
+    public List<String> report() {
+        List<String> report = new ArrayList<String>();
+        for (int i = 0; i < CATEGORIES.length; i++) {
+            report.add(CATEGORIES[i] + ": " + objects[i] + " objects, " + bytes[i] + " bytes");
+        }
+        report.add("total: " + getTotalBytes() + " bytes");
+        return report;
+    }
+
+    /**
+     * Adds objects to a category.
+     * 
+     * @param category    Index of the category to add to.
+     * @param count       Number of objects.
+     * @param objectBytes Estimated bytes of the objects.
+     */
+    private void add(int category, long count, long objectBytes) {
+        objects[category] += count;
+        bytes[category] += objectBytes;
+    }
+
+    /**
+     * Adds a cache, whose weight includes its entries but not its table.
+     * 
+     * @param category Index of the category to add to.
+     * @param entries  Number of entries of the cache.
+     * @param weight   Weight of the entries in bytes.
+     */
+    private void addCache(int category, long entries, long weight) {
+        add(category, entries, LINKED_HASH_MAP + tableSize(entries) + weight);
+    }
+
+    /**
+     * Adds a keyword set and its keywords.
+     * 
+     * @param keywords Keyword set to add.
+     */
+    private void addKeywords(Set<String> keywords) {
+        add(KEYWORD_SETS, 1, linkedHashSetSize(keywords.size()));
+        for (String keyword : keywords) {
+            addString(keyword);
+        }
+    }
+
+    /**
+     * Adds a string.
+     * 
+     * @param string String to add, may be null.
+     */
+    private void addString(String string) {
+        if (string != null) {
+            add(STRINGS, 1, stringSize(string));
+        }
+    }
+
+    /**
+     * Estimates the size of an object without the objects it references.
+     * 
+     * @param type Class of the object.
+     * @return estimated bytes
+     */
+    public static long shallowSize(Class<?> type) {
+        long size = OBJECT_HEADER;
+        for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+            for (Field field : current.getDeclaredFields()) {
+                if (Modifier.isStatic(field.getModifiers())) {
+                    continue;
+                }
+                size += fieldSize(field.getType());
+            }
+        }
+        return align(size);
+    }
+
+    /**
+     * Gets the size of a field of a type.
+     * 
+     * @param type Type of the field.
+     * @return bytes of the field
+     */
+    private static int fieldSize(Class<?> type) {
+        if (type == long.class || type == double.class) {
+            return Long.BYTES;
+        }
+        if (type == int.class || type == float.class) {
+            return Integer.BYTES;
+        }
+        if (type == short.class || type == char.class) {
+            return Short.BYTES;
+        }
+        if (type == byte.class || type == boolean.class) {
+            return Byte.BYTES;
+        }
+        return REFERENCE;
+    }
+
+    /**
+     * Estimates the size of a string with its characters.
+     * 
+     * @param string String to estimate.
+     * @return estimated bytes
+     */
+    public static long stringSize(String string) {
+        int bytesPerChar = 1;
+        for (int i = 0; i < string.length(); i++) {
+            if (string.charAt(i) > LATIN_1_MAX) {
+                bytesPerChar = 2;
+                break;
+            }
+        }
+        return STRING + align(ARRAY_HEADER + (long) bytesPerChar * string.length());
+    }
+
+    /**
+     * Estimates the size of an array list with its array, assuming no spare
+     * capacity.
+     * 
+     * @param list List to estimate.
+     * @return estimated bytes
+     */
+    public static long listSize(Collection<?> list) {
+        return ARRAY_LIST + align(ARRAY_HEADER + (long) REFERENCE * list.size());
+    }
+
+    /**
+     * Estimates the size of an array.
+     * 
+     * @param length       Length of the array.
+     * @param elementBytes Bytes of an element, e.g. {@link #REFERENCE}.
+     * @return estimated bytes
+     */
+    public static long arraySize(long length, int elementBytes) {
+        return align(ARRAY_HEADER + length * elementBytes);
+    }
+
+    /**
+     * Estimates the size of a linked hash set with its table and entries.
+     * 
+     * @param size Number of elements of the set.
+     * @return estimated bytes
+     */
+    static long linkedHashSetSize(long size) {
+        return HASH_SET + LINKED_HASH_MAP + tableSize(size) + size * LINKED_HASH_MAP_ENTRY;
+    }
+
+    /**
+     * Estimates the size of a hash map with its table and entries.
+     * 
+     * @param size Number of entries of the map.
+     * @return estimated bytes
+     */
+    public static long hashMapSize(long size) {
+        return HASH_MAP + tableSize(size) + size * HASH_MAP_NODE;
+    }
+
+    /**
+     * Estimates the size of a tree map with its entries.
+     * 
+     * @param size Number of entries of the map.
+     * @return estimated bytes
+     */
+    public static long treeMapSize(long size) {
+        return TREE_MAP + size * TREE_MAP_ENTRY;
+    }
+
+    /**
+     * Estimates the size of a tree set with its map and entries.
+     * 
+     * @param size Number of elements of the set.
+     * @return estimated bytes
+     */
+    public static long treeSetSize(long size) {
+        return TREE_SET + treeMapSize(size);
+    }
+
+    /**
+     * Estimates the size of the table of a hash map.
+     * 
+     * @param size Number of entries of the map.
+     * @return estimated bytes, 0 for an empty map which has no table yet.
+     */
+    private static long tableSize(long size) {
+        if (size == 0) {
+            return 0;
+        }
+        long capacity = MIN_TABLE_SIZE;
+        while (capacity * LOAD_FACTOR < size) {
+            capacity <<= 1;
+        }
+        return align(ARRAY_HEADER + capacity * REFERENCE);
+    }
+
+    /**
+     * Rounds a size up to the object alignment.
+     * 
+     * @param size Size in bytes.
+     * @return aligned size
+     */
+    private static long align(long size) {
+        return (size + ALIGNMENT - 1) / ALIGNMENT * ALIGNMENT;
+    }
+}
@@ -0,0 +1,229 @@
+package system.metrics;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts the executions of one operation together with their latencies, the
+ * kinds of their errors and the sizes of their results.
+ * 
+ * An execution is counted with one increment of a striped counter and, if the
+ * caller timed it, one increment of a histogram bucket, so recording is cheap
+ * enough to stay enabled under full load. Callers may time only a sample of
+ * the executions; the count stays exact and the latencies describe the
+ * sample. The bytes an execution allocated are only recorded if the caller
+ * accounts for them.
+ * 
+ * @author Emir Yuksel
+ * @version 1.0
+ */
+public class OperationMetrics implements OperationMetricsMXBean {
+
+    /**
+     * Kind of the errors which do not belong to any of the given kinds.
+     */
+    public static final String UNKNOWN_ERROR = "UNKNOWN";
+
+    /**
+     * Latency of an execution which is counted but was not timed.
+     */
+    public static final long UNTIMED = -1;
+
+    private static final double P50 = 50;
+    private static final double P99 = 99;
+    private static final double P999 = 99.9;
+
+    private final String name;
+    private final String[] errorKinds;
+    private final AtomicLongArray errors;
+    private final LongAdder executions;
+    private final LatencyHistogram latencies;
+    private final LatencyHistogram resultSizes;
+    private final LatencyHistogram allocations;
+
+    /**
+     * Creates new metrics of an operation.
+     * 
+     * @param name       Name of the operation.
+     * @param errorKinds Names of the kinds of errors the operation can fail with.
+     */
+    public OperationMetrics(String name, String[] errorKinds) {
+        this.name = name;
+        this.errorKinds = errorKinds.clone();
+        this.errors = new AtomicLongArray(errorKinds.length + 1);
+        this.executions = new LongAdder();
+        this.latencies = new LatencyHistogram();
+        this.resultSizes = new LatencyHistogram();
+        this.allocations = new LatencyHistogram();
+    }
+
+    /**
+     * Records a successful execution.
+     * 
+     * @param nanos Latency of the execution in nanoseconds, {@link #UNTIMED} if
+     *              it was not timed.
+     */
+    public void record(long nanos) {
+        executions.increment();
+        if (nanos != UNTIMED) {
+            latencies.record(nanos);
+        }
+    }
+
+    /**
+     * Records a failed execution.
+     * 
+     * @param nanos     Latency of the execution in nanoseconds, {@link #UNTIMED}
+     *                  if it was not timed.
+     * @param errorKind Index of the kind of the error, negative if it is unknown.
+     */
+    public void recordError(long nanos, int errorKind) {
+        record(nanos);
+        errors.incrementAndGet(errorKind < 0 || errorKind >= errorKinds.length ? errorKinds.length : errorKind);
+    }
+
+    /**
+     * Records the size of a result.
+     * 
+     * @param size Number of entries of the result.
+     */
+    public void recordResultSize(long size) {
+        resultSizes.record(size);
+    }
+
+    /**
+     * Records the bytes an execution allocated.
+     * 
+     * @param allocatedBytes Number of allocated bytes.
+     */
+    public void recordAllocation(long allocatedBytes) {
+        allocations.record(allocatedBytes);
+    }
+
+    /**
+     * Gets the latencies of the executions.
+     * 
+     * @return histogram of the latencies in nanoseconds
+     */
+    public LatencyHistogram getLatencies() {
+        return latencies;
+    }
+
+    /**
+     * Gets the sizes of the results.
+     * 
+     * @return histogram of the number of entries of the results
+     */
+    public LatencyHistogram getResultSizes() {
+        return resultSizes;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public long getCount() {
+        return executions.sum();
+    }
+
+    @Override
+    public long getErrors() {
+        long count = 0;
+        for (int kind = 0; kind < errors.length(); kind++) {
+            count += errors.get(kind);
+        }
+        return count;
+    }
+
+    @Override
+    public Map<String, Long> getErrorsByKind() {
+        Map<String, Long> errorsByKind = new LinkedHashMap<String, Long>();
+        for (int kind = 0; kind < errors.length(); kind++) {
+            long count = errors.get(kind);
+            if (count != 0) {
+                errorsByKind.put(kind < errorKinds.length ? errorKinds[kind] : UNKNOWN_ERROR, count);
+            }
+        }
+        return errorsByKind;
+    }
+
+    @Override
+    public double getMeanLatencyNanos() {
+        return latencies.getMean();
+    }
+
+    @Override
+    public long getP50LatencyNanos() {
+        return latencies.getValueAtPercentile(P50);
+    }
+
+    @Override
+    public long getP99LatencyNanos() {
+        return latencies.getValueAtPercentile(P99);
+    }
+
+    @Override
+    public long getP999LatencyNanos() {
+        return latencies.getValueAtPercentile(P999);
+    }
+
+    @Override
+    public long getMaxLatencyNanos() {
+        return latencies.getMax();
+    }
+
+    @Override
+    public long getResultCount() {
+        return resultSizes.getCount();
+    }
+
+    @Override
+    public double getMeanResultSize() {
+        return resultSizes.getMean();
+    }
+
+    @Override
+    public long getP99ResultSize() {
+        return resultSizes.getValueAtPercentile(P99);
+    }
+
+    @Override
+    public long getMaxResultSize() {
+        return resultSizes.getMax();
+    }
+
+    @Override
+    public long getAllocationCount() {
+        return allocations.getCount();
+    }
+
+    @Override
+    public double getMeanAllocatedBytes() {
+        return allocations.getMean();
+    }
+
+    @Override
+    public long getP99AllocatedBytes() {
+        return allocations.getValueAtPercentile(P99);
+    }
+
+    @Override
+    public long getMaxAllocatedBytes() {
+        return allocations.getMax();
+    }
+
+    @Override
+    public void reset() {
+        executions.reset();
+        latencies.reset();
+        resultSizes.reset();
+        allocations.reset();
+        for (int kind = 0; kind < errors.length(); kind++) {
+            errors.set(kind, 0);
+        }
+    }
+}
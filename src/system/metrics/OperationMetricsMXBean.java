@@ -0,0 +1,137 @@
+package system.metrics;
+
+import java.util.Map;
+
+/**
+ * Management interface of the metrics of one operation.
+ * 
+ * @author Emir Yuksel
+ * @version 1.0
+ */
+public interface OperationMetricsMXBean {
+
+    /**
+     * Gets the name of the operation.
+     * 
+     * @return name of the operation
+     */
+    String getName();
+
+    /**
+     * Gets how often the operation was executed, including failed executions.
+     * 
+     * @return number of executions
+     */
+    long getCount();
+
+    /**
+     * Gets how often the operation failed.
+     * 
+     * @return number of failed executions
+     */
+    long getErrors();
+
+    /**
+     * Gets how often the operation failed, by the kind of error. Kinds which never
+     * occurred are left out.
+     * 
+     * @return number of failed executions by kind
+     */
+    Map<String, Long> getErrorsByKind();
+
+    /**
+     * Gets the mean latency.
+     * 
+     * @return mean latency in nanoseconds
+     */
+    double getMeanLatencyNanos();
+
+    /**
+     * Gets the median latency.
+     * 
+     * @return median latency in nanoseconds
+     */
+    long getP50LatencyNanos();
+
+    /**
+     * Gets the 99th percentile of the latency.
+     * 
+     * @return 99th percentile in nanoseconds
+     */
+    long getP99LatencyNanos();
+
+    /**
+     * Gets the 99.9th percentile of the latency.
+     * 
+     * @return 99.9th percentile in nanoseconds
+     */
+    long getP999LatencyNanos();
+
+    /**
+     * Gets the largest latency.
+     * 
+     * @return largest latency in nanoseconds
+     */
+    long getMaxLatencyNanos();
+
+    /**
+     * Gets how many executions reported the size of their result.
+     * 
+     * @return number of results
+     */
+    long getResultCount();
+
+    /**
+     * Gets the mean size of the results.
+     * 
+     * @return mean number of entries of a result
+     */
+    double getMeanResultSize();
+
+    /**
+     * Gets the 99th percentile of the size of the results.
+     * 
+     * @return 99th percentile of the number of entries of a result
+     */
+    long getP99ResultSize();
+
+    /**
+     * Gets the size of the largest result.
+     * 
+     * @return largest number of entries of a result
+     */
+    long getMaxResultSize();
+
+    /**
+     * Gets how many executions recorded the bytes they allocated.
+     * 
+     * @return number of accounted executions
+     */
+    long getAllocationCount();
+
+    /**
+     * Gets the mean number of bytes an execution allocated.
+     * 
+     * @return mean allocated bytes
+     */
+    double getMeanAllocatedBytes();
+
+    /**
+     * Gets the 99th percentile of the bytes an execution allocated.
+     * 
+     * @return 99th percentile of the allocated bytes
+     */
+    long getP99AllocatedBytes();
+
+    /**
+     * Gets the largest number of bytes an execution allocated.
+     * 
+     * @return largest allocated bytes
+     */
+    long getMaxAllocatedBytes();
+
+    /**
+     * Removes all recorded values.
+     */
+    void reset();
+}
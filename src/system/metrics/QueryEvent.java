@@ -0,0 +1,70 @@
+package system.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * Flight recorder event of a query of the system database, e.g. the search by
+ * keywords or the foreign citations of an author. Only queries which take at
+ * least the threshold of the event are recorded.
+ * 
+ * @author Emir Yuksel
+ * @version 1.0
+ */
+@Name("kastelscholar.Query")
+@Label("Query")
+@Category("KastelScholar")
+@Description("A query of the system database which took at least the threshold")
+@Threshold("20 ms")
+@StackTrace(false)
+public class QueryEvent extends jdk.jfr.Event {
+
+    @Label("Query")
+    private String query;
+
+    @Label("Arguments")
+    private String arguments;
+
+    @Label("Element Kind")
+    private String element;
+
+    @Label("Elements Scanned")
+    private long scanned;
+
+    @Label("Result Size")
+    private long resultSize;
+
+    /**
+     * Ends the query and commits the event if it is recorded. The scanned elements
+     * are added to the {@link QueryTrace} of the thread.
+     * 
+     * @param queryName  Name of the query.
+     * @param queryInput Arguments of the query, only converted to text if the
+     *                   event is recorded.
+     * @param kind       Kind of the elements the query scanned.
+     * @param elements   Number of elements the query scanned.
+     * @param size       Number of entries of the result.
+     */
+    public void complete(String queryName, Object queryInput, ScannedElement kind, long elements, long size) {
+        boolean recording = isEnabled();
+        if (recording || QueryTrace.isEnabled()) {
+            QueryTrace.addScanned(kind, elements);
+        }
+        if (!recording) {
+            return;
+        }
+        end();
+        if (shouldCommit()) {
+            this.query = queryName;
+            this.arguments = String.valueOf(queryInput);
+            this.element = kind.name();
+            this.scanned = elements;
+            this.resultSize = size;
+            commit();
+        }
+    }
+}
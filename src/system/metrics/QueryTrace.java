@@ -0,0 +1,92 @@
+package system.metrics;
+
+/**
+ * Counts the elements the queries of the current thread scanned, by their
+ * kind, so a command can report how much work the queries it ran did. Queries
+ * only report to the trace while it is enabled or flight recording is enabled.
+ * 
+ * @author Emir Yuksel
+ * @version 1.0
+ */
+public final class QueryTrace {
+
+    private static final String ERROR_UTILITY_CLASS_INSTANTIATION = "Utility class cannot be instantiated.";
+    private static final int KINDS = ScannedElement.values().length;
+    private static final ThreadLocal<long[]> SCANNED = ThreadLocal.withInitial(() -> new long[KINDS]);
+
+    private static volatile boolean enabled;
+
+    /**
+     * Constructs a new instance of QueryTrace.
+     * 
+     * @throws IllegalStateException if constructor is called because QueryTrace
+     *                               is a utility class.
+     */
+    private QueryTrace() {
+        throw new IllegalStateException(ERROR_UTILITY_CLASS_INSTANTIATION);
+    }
+
+    /**
+     * Checks if queries report to the trace regardless of flight recording.
+     * 
+     * @return true if the trace is enabled, false otherwise.
+     */
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Enables or disables the trace. Flight recording reports to the trace even
+     * if it is disabled.
+     * 
+     * @param traceEnabled true to enable the trace, false to disable it.
+     */
+    public static void setEnabled(boolean traceEnabled) {
+        enabled = traceEnabled;
+    }
+
+    /**
+     * Adds scanned elements to the trace of the current thread.
+     * 
+     * @param kind    Kind of the scanned elements.
+     * @param scanned Number of scanned elements.
+     */
+    public static void addScanned(ScannedElement kind, long scanned) {
+        SCANNED.get()[kind.ordinal()] += scanned;
+    }
+
+    /**
+     * Gets the number of elements of a kind the queries of the current thread
+     * scanned so far.
+     * 
+     * @param kind Kind of the scanned elements.
+     * @return number of scanned elements
+     */
+    public static long getScanned(ScannedElement kind) {
+        return SCANNED.get()[kind.ordinal()];
+    }
+
+    /**
+     * Gets the number of elements of all kinds the queries of the current thread
+     * scanned so far.
+     * 
+     * @return number of scanned elements
+     */
+    public static long getScanned() {
+        long scanned = 0;
+        for (long kindScanned : SCANNED.get()) {
+            scanned += kindScanned;
+        }
+        return scanned;
+    }
+
+    /**
+     * Copies the number of elements of every kind the queries of the current
+     * thread scanned so far.
+     * 
+     * @return number of scanned elements, indexed by the ordinal of their kind
+     */
+    public static long[] snapshot() {
+        return SCANNED.get().clone();
+    }
+}
@@ -0,0 +1,22 @@
+package system.metrics;
+
+/**
+ * Kinds of elements a query scans.
+ * 
+ * @author Emir Yuksel
+ * @version 1.0
+ */
+public enum ScannedElement {
+    /**
+     * Articles of the system database.
+     */
+    ARTICLES,
+    /**
+     * Authors of articles.
+     */
+    AUTHORS,
+    /**
+     * Citations received by articles.
+     */
+    CITATIONS;
+}
@@ -0,0 +1,98 @@
+package system.metrics;
+
+import java.time.Instant;
+
+/**
+ * An entry of the slow query log: a command which took at least the threshold
+ * of the log, split into the time spent validating its input, executing it and
+ * printing its result.
+ * 
+ * @author Emir Yuksel
+ * @version 1.0
+ */
+public class SlowQuery {
+
+    private static final long NANOS_PER_MICRO = 1000;
+    private static final String MICROS = "us";
+
+    private final String command;
+    private final String input;
+    private final long timestamp;
+    private final long totalNanos;
+    private final long validationNanos;
+    private final long executionNanos;
+    private final long outputNanos;
+    private final long[] scanned;
+    private final String error;
+
+    /**
+     * Creates a new entry of the slow query log.
+     * 
+     * @param command         Name of the command.
+     * @param input           Full input line of the command.
+     * @param timestamp       Time the command ended, in milliseconds since the
+     *                        epoch.
+     * @param totalNanos      Latency of the command in nanoseconds.
+     * @param validationNanos Time spent validating the input in nanoseconds.
+     * @param executionNanos  Time spent executing the command in nanoseconds.
+     * @param outputNanos     Time spent printing the result in nanoseconds.
+     * @param scanned         Number of elements the command scanned, indexed by
+     *                        the ordinal of their {@link ScannedElement}.
+     * @param error           Kind of the error the command failed with, null if
+     *                        it succeeded.
+     */
+    public SlowQuery(String command, String input, long timestamp, long totalNanos, long validationNanos,
+            long executionNanos, long outputNanos, long[] scanned, String error) {
+        this.command = command;
+        this.input = input;
+        this.timestamp = timestamp;
+        this.totalNanos = totalNanos;
+        this.validationNanos = validationNanos;
+        this.executionNanos = executionNanos;
+        this.outputNanos = outputNanos;
+        this.scanned = scanned;
+        this.error = error;
+    }
+
+    /**
+     * Gets the latency of the command.
+     * 
+     * @return latency in nanoseconds
+     */
+    public long getTotalNanos() {
+        return totalNanos;
+    }
+
+    /**
+     * Formats the entry as one line of the log. The input comes last, since it
+     * may contain blanks.
+     * 
+     * @return line of the log, without line separator
+     */
+    public String toLogLine() {
+        StringBuilder line = new StringBuilder();
+        line.append(Instant.ofEpochMilli(timestamp)).append(' ').append(command);
+        appendDuration(line, "total", totalNanos);
+        appendDuration(line, "validation", validationNanos);
+        appendDuration(line, "execution", executionNanos);
+        appendDuration(line, "output", outputNanos);
+        for (ScannedElement kind : ScannedElement.values()) {
+            line.append(' ').append(kind.name().toLowerCase()).append('=').append(scanned[kind.ordinal()]);
+        }
+        if (error != null) {
+            line.append(" error=").append(error);
+        }
+        return line.append(" input=").append(input).toString();
+    }
+
+    /**
+     * Appends a duration in microseconds.
+     * 
+     * @param line  Line to append to.
+     * @param name  Name of the duration.
+     * @param nanos Duration in nanoseconds.
+     */
+    private static void appendDuration(StringBuilder line, String name, long nanos) {
+        line.append(' ').append(name).append('=').append(Math.max(0, nanos) / NANOS_PER_MICRO).append(MICROS);
+    }
+}
@@ -0,0 +1,281 @@
+package system.metrics;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Logs commands which take at least a threshold to a rotating file.
+ * 
+ * Commands hand their entries to a lock-free queue and return right away; a
+ * background thread formats and writes them. If the writer falls behind by
+ * more than the capacity of the queue, new entries are dropped and counted
+ * instead of slowing down the commands. Once the file exceeds its maximum
+ * size, it is renamed to "name.1", older files move up by one and the oldest
+ * one is deleted.
+ * 
+ * @author Emir Yuksel
+ * @version 1.0
+ */
+public class SlowQueryLog implements Closeable {
+
+    /**
+     * System property with the path of the log. Without it, no log is written.
+     */
+    public static final String PATH_PROPERTY = "kastelscholar.slowQueryLog";
+
+    /**
+     * System property with the threshold in milliseconds.
+     */
+    public static final String THRESHOLD_PROPERTY = "kastelscholar.slowQueryThresholdMillis";
+
+    /**
+     * System property with the maximum size of one file in bytes.
+     */
+    public static final String MAX_BYTES_PROPERTY = "kastelscholar.slowQueryLogMaxBytes";
+
+    /**
+     * System property with the number of rotated files to keep.
+     */
+    public static final String FILES_PROPERTY = "kastelscholar.slowQueryLogFiles";
+
+    /**
+     * Number of entries which may wait for the writer before new ones are
+     * dropped.
+     */
+    static final int QUEUE_CAPACITY = 8192;
+
+    private static final long DEFAULT_THRESHOLD_MILLIS = 100;
+    private static final long DEFAULT_MAX_BYTES = 16L << 20;
+    private static final int DEFAULT_FILES = 5;
+    private static final int BUFFER_SIZE = 65536;
+    private static final long IDLE_FLUSH_NANOS = TimeUnit.MILLISECONDS.toNanos(200);
+    private static final byte[] LINE_SEPARATOR = System.lineSeparator().getBytes(StandardCharsets.UTF_8);
+
+    private final Path path;
+    private final long thresholdNanos;
+    private final long maxBytes;
+    private final int files;
+    private final Queue<SlowQuery> queue;
+    private final AtomicInteger queued;
+    private final LongAdder dropped;
+    private final Thread writer;
+    private volatile boolean closed;
+
+    private OutputStream output;
+    private long written;
+
+    /**
+     * Creates a new slow query log. Nothing is written before it is started.
+     * 
+     * @param path            Path of the log file.
+     * @param thresholdMillis Minimum latency of a logged command in milliseconds.
+     * @param maxBytes        Size in bytes above which the file is rotated.
+     * @param files           Number of rotated files to keep, at least 1.
+     */
+    public SlowQueryLog(Path path, long thresholdMillis, long maxBytes, int files) {
+        if (files < 1) {
+            throw new IllegalArgumentException("files must be at least 1");
+        }
+        this.path = path;
+        this.thresholdNanos = TimeUnit.MILLISECONDS.toNanos(thresholdMillis);
+        this.maxBytes = maxBytes;
+        this.files = files;
+        this.queue = new ConcurrentLinkedQueue<SlowQuery>();
+        this.queued = new AtomicInteger();
+        this.dropped = new LongAdder();
+        this.writer = new Thread(this::write, "slow-query-log");
+        this.writer.setDaemon(true);
+    }
+
+    /**
+     * Creates a slow query log as configured by the system properties of this
+     * class.
+     * 
+     * @return slow query log, null if no path is configured.
+     */
+    public static SlowQueryLog fromSystemProperties() {
+        String path = System.getProperty(PATH_PROPERTY);
+        if (path == null) {
+            return null;
+        }
+        return new SlowQueryLog(Paths.get(path), Long.getLong(THRESHOLD_PROPERTY, DEFAULT_THRESHOLD_MILLIS),
+                Long.getLong(MAX_BYTES_PROPERTY, DEFAULT_MAX_BYTES),
+                Integer.getInteger(FILES_PROPERTY, DEFAULT_FILES));
+    }
+
+    /**
+     * Starts writing the log on a background thread and makes queries count the
+     * elements they scan. The log is closed when the JVM shuts down.
+     */
+    public void start() {
+        QueryTrace.setEnabled(true);
+        writer.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(this::close, "slow-query-log-shutdown"));
+    }
+
+    /**
+     * Checks if a command is slow enough to be logged.
+     * 
+     * @param nanos Latency of the command in nanoseconds.
+     * @return true if the latency reaches the threshold, false otherwise.
+     */
+    public boolean isSlow(long nanos) {
+        return nanos >= thresholdNanos;
+    }
+
+    /**
+     * Hands an entry to the writer. Never blocks; drops the entry if the writer
+     * falls too far behind.
+     * 
+     * @param slowQuery Entry to log.
+     */
+    public void log(SlowQuery slowQuery) {
+        if (closed || queued.incrementAndGet() > QUEUE_CAPACITY) {
+            queued.decrementAndGet();
+            dropped.increment();
+            return;
+        }
+        queue.add(slowQuery);
+        LockSupport.unpark(writer);
+    }
+
+    /**
+     * Gets the number of entries which were dropped because the writer fell
+     * behind or the file could not be written.
+     * 
+     * @return number of dropped entries
+     */
+    public long getDropped() {
+        return dropped.sum();
+    }
+
+    /**
+     * Stops the writer after it has written all queued entries.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        LockSupport.unpark(writer);
+        try {
+            writer.join();
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Writes the queued entries until the log is closed. The file is flushed
+     * whenever the queue runs empty.
+     */
+    private void write() {
+        while (true) {
+            SlowQuery slowQuery = queue.poll();
+            if (slowQuery == null) {
+                flush();
+                if (closed) {
+                    break;
+                }
+                LockSupport.parkNanos(this, IDLE_FLUSH_NANOS);
+                continue;
+            }
+            queued.decrementAndGet();
+            try {
+                append(slowQuery.toLogLine().getBytes(StandardCharsets.UTF_8));
+            } catch (IOException exception) {
+                dropped.increment();
+                closeOutput();
+            }
+        }
+        closeOutput();
+    }
+
+    /**
+     * Appends one line to the file, rotating it first if the line does not fit.
+     * 
+     * @param line Encoded line without separator.
+     * @throws IOException if the file cannot be written.
+     */
+    private void append(byte[] line) throws IOException {
+        long length = line.length + LINE_SEPARATOR.length;
+        if (output != null && written > 0 && written + length > maxBytes) {
+            closeOutput();
+            rotate();
+        }
+        if (output == null) {
+            output = new BufferedOutputStream(Files.newOutputStream(path, StandardOpenOption.CREATE,
+                    StandardOpenOption.APPEND), BUFFER_SIZE);
+            written = Files.size(path);
+        }
+        output.write(line);
+        output.write(LINE_SEPARATOR);
+        written += length;
+    }
+
+    /**
+     * Renames the file to "name.1" after moving the older files up by one.
+     * 
+     * @throws IOException if a file cannot be renamed.
+     */
+    private void rotate() throws IOException {
+        Files.deleteIfExists(rotated(files));
+        for (int i = files - 1; i >= 1; i--) {
+            if (Files.exists(rotated(i))) {
+                Files.move(rotated(i), rotated(i + 1), StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+        Files.move(path, rotated(1), StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    /**
+     * Gets the path of a rotated file.
+     * 
+     * @param number Number of the rotated file, 1 for the newest.
+     * @return path of the rotated file
+     */
+    private Path rotated(int number) {
+        return path.resolveSibling(path.getFileName() + "." + number);
+    }
+
+    /**
+     * Flushes the file, if it is open.
+     */
+    private void flush() {
+        if (output == null) {
+            return;
+        }
+        try {
+            output.flush();
+        } catch (IOException exception) {
+            closeOutput();
+        }
+    }
+
+    /**
+     * Closes the file, so the next entry opens it again.
+     */
+    private void closeOutput() {
+        if (output == null) {
+            return;
+        }
+        try {
+            output.close();
+        } catch (IOException exception) {
+            // The entries in the buffer are lost.
+        }
+        output = null;
+    }
+}
@@ -0,0 +1,125 @@
+package system.page;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * A page of a result which is sorted by identifier. A page starts after a
+ * cursor, the last identifier of the previous page, and holds at most a limit
+ * of identifiers. Clients page through a result by passing the last identifier
+ * they received as the cursor of the next page, which stays valid when
+ * articles are added in between.
+ * 
+ * @author Emir Yuksel
+ * @version 1.0
+ */
+public final class Page {
+
+    /**
+     * The page which holds the whole result.
+     */
+    public static final Page ALL = new Page(null, Integer.MAX_VALUE);
+
+    private final String after;
+    private final int limit;
+
+    /**
+     * Creates a new page.
+     * 
+     * @param after Identifier after which the page starts, null to start at the
+     *              first identifier.
+     * @param limit Maximum number of identifiers of the page.
+     */
+    public Page(String after, int limit) {
+        this.after = after;
+        this.limit = limit;
+    }
+
+    /**
+     * Gets the identifier after which the page starts.
+     * 
+     * @return cursor of the page, null if it starts at the first identifier.
+     */
+    public String getAfter() {
+        return after;
+    }
+
+    /**
+     * Gets the maximum number of identifiers of the page.
+     * 
+     * @return limit of the page
+     */
+    public int getLimit() {
+        return limit;
+    }
+
+    /**
+     * Checks if the page holds the whole result.
+     * 
+     * @return true if the page has neither a cursor nor a limit, false otherwise.
+     */
+    public boolean isAll() {
+        return after == null && limit == Integer.MAX_VALUE;
+    }
+
+    /**
+     * Checks if an identifier lies behind the cursor of the page.
+     * 
+     * @param identifier Identifier to check.
+     * @return true if the identifier lies behind the cursor, false otherwise.
+     */
+    public boolean follows(String identifier) {
+        return after == null || identifier.compareTo(after) > 0;
+    }
+
+    /**
+     * Takes the page from identifiers which are iterated in sorted order. Stops
+     * iterating once the page is full.
+     * 
+     * @param identifiers Sorted identifiers.
+     * @return identifiers of the page, sorted.
+     */
+    public List<String> take(Iterator<String> identifiers) {
+        List<String> page = new ArrayList<String>();
+        while (page.size() < limit && identifiers.hasNext()) {
+            String identifier = identifiers.next();
+            if (follows(identifier)) {
+                page.add(identifier);
+            }
+        }
+        return page;
+    }
+
+    /**
+     * Selects the page from identifiers in any order. Only the smallest
+     * identifiers behind the cursor are kept while iterating, so at most the
+     * limit of identifiers is held at once.
+     * 
+     * @param identifiers Identifiers in any order.
+     * @return identifiers of the page, sorted.
+     */
+    public List<String> select(Iterable<String> identifiers) {
+        PriorityQueue<String> largestFirst = new PriorityQueue<String>(Collections.reverseOrder());
+        for (String identifier : identifiers) {
+            if (!follows(identifier)) {
+                continue;
+            }
+            if (largestFirst.size() < limit) {
+                largestFirst.add(identifier);
+            } else if (identifier.compareTo(largestFirst.peek()) < 0) {
+                largestFirst.poll();
+                largestFirst.add(identifier);
+            }
+        }
+
+        List<String> page = new ArrayList<String>(largestFirst.size());
+        while (!largestFirst.isEmpty()) {
+            page.add(largestFirst.poll());
+        }
+        Collections.reverse(page);
+        return page;
+    }
+}
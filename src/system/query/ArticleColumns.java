@@ -0,0 +1,254 @@
+package system.query;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+import article.Article;
+import system.metrics.MemoryReport;
+import venue.Venue;
+
+/**
+ * Stores attributes of the articles as columns of int arrays, indexed by the
+ * ordinals of the {@link ArticleIndex}. Filters and aggregations scan the
+ * columns sequentially instead of following the references of every article.
+ * 
+ * The filter loops are branch-free and only use int arithmetic on arrays, so
+ * the JIT compiler can vectorize them with the SIMD instructions of the
+ * processor.
+ * 
+ * @author Emir Yuksel
+ * @version 1.0
+ */
+public class ArticleColumns {
+
+    private static final int INITIAL_CAPACITY = 64;
+    private static final int SIGN_SHIFT = 31;
+    private static final long SHALLOW_SIZE = MemoryReport.shallowSize(ArticleColumns.class);
+    private static final long INTEGER = MemoryReport.shallowSize(Integer.class);
+
+    private final int[][] columns;
+    private final Map<Venue, Integer> venueOrdinals;
+    private int size;
+    private int minYear = Integer.MAX_VALUE;
+    private int maxYear = Integer.MIN_VALUE;
+
+    /**
+     * Creates a new empty store.
+     */
+    public ArticleColumns() {
+        this.columns = new int[Column.values().length][INITIAL_CAPACITY];
+        this.venueOrdinals = new HashMap<Venue, Integer>();
+    }
+
+    /**
+     * Adds an article as the next row.
+     * 
+     * @param article Article to add.
+     */
+    public void add(Article article) {
+        if (size == columns[0].length) {
+            for (int column = 0; column < columns.length; column++) {
+                columns[column] = Arrays.copyOf(columns[column], size * 2);
+            }
+        }
+        Integer venue = venueOrdinals.get(article.getVenue());
+        if (venue == null) {
+            venue = venueOrdinals.size();
+            venueOrdinals.put(article.getVenue(), venue);
+        }
+
+        int ordinal = size++;
+        columns[Column.YEAR.ordinal()][ordinal] = article.getPublishYear();
+        columns[Column.VENUE.ordinal()][ordinal] = venue;
+        columns[Column.AUTHORS.ordinal()][ordinal] = article.getAuthor().size();
+        columns[Column.RECEIVED_CITATIONS.ordinal()][ordinal] = article.getReceivedCites().size();
+        columns[Column.GIVEN_CITATIONS.ordinal()][ordinal] = article.getGivenCites().size();
+        minYear = Math.min(minYear, article.getPublishYear());
+        maxYear = Math.max(maxYear, article.getPublishYear());
+    }
+
+    /**
+     * Sets a value of a row. The year and venue of an article do not change.
+     * 
+     * @param column  Column of the value.
+     * @param ordinal Ordinal of the row.
+     * @param value   New value.
+     */
+    public void set(Column column, int ordinal, int value) {
+        columns[column.ordinal()][ordinal] = value;
+    }
+
+    /**
+     * Gets a value of a row.
+     * 
+     * @param column  Column of the value.
+     * @param ordinal Ordinal of the row.
+     * @return value
+     */
+    public int get(Column column, int ordinal) {
+        return columns[column.ordinal()][ordinal];
+    }
+
+    /**
+     * Gets the number of rows.
+     * 
+     * @return number of rows
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Estimates the heap the columns retain, including their spare capacity.
+     * 
+     * @return estimated bytes, without the venues the ordinals are mapped from
+     */
+    public long estimateBytes() {
+        long bytes = SHALLOW_SIZE + MemoryReport.arraySize(columns.length, MemoryReport.REFERENCE)
+                + MemoryReport.hashMapSize(venueOrdinals.size()) + venueOrdinals.size() * INTEGER;
+        for (int[] column : columns) {
+            bytes += MemoryReport.arraySize(column.length, Integer.BYTES);
+        }
+        return bytes;
+    }
+
+    /**
+     * Gets the ordinal of a venue in the venue column.
+     * 
+     * @param venue Venue to look up.
+     * @return ordinal of the venue, -1 if it has no article.
+     */
+    public int venueOrdinal(Venue venue) {
+        return venueOrdinals.getOrDefault(venue, -1);
+    }
+
+    /**
+     * Counts the rows which pass all filters.
+     * 
+     * @param ranges Filters of the rows.
+     * @return number of rows
+     */
+    public long count(List<ColumnRange> ranges) {
+        int[] mask = match(ranges);
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            count += mask[i];
+        }
+        return count;
+    }
+
+    /**
+     * Selects the rows which pass all filters.
+     * 
+     * @param ranges Filters of the rows.
+     * @return ordinals of the rows
+     */
+    public PostingList select(List<ColumnRange> ranges) {
+        int[] mask = match(ranges);
+        int[] ordinals = new int[size];
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            ordinals[count] = i;
+            count += mask[i];
+        }
+        return new PostingList(ordinals, count);
+    }
+
+    /**
+     * Counts the rows which pass all filters per publishing year.
+     * 
+     * @param ranges Filters of the rows.
+     * @return number of rows per year, only years with rows.
+     */
+    public NavigableMap<Integer, Long> countPerYear(List<ColumnRange> ranges) {
+        return countPerYear(select(ranges));
+    }
+
+    /**
+     * Counts rows per publishing year.
+     * 
+     * @param ordinals Ordinals of the rows.
+     * @return number of rows per year, only years with rows.
+     */
+    public NavigableMap<Integer, Long> countPerYear(PostingList ordinals) {
+        int[] years = columns[Column.YEAR.ordinal()];
+        long[] counts = new long[size == 0 ? 0 : maxYear - minYear + 1];
+        for (int i = 0; i < ordinals.size(); i++) {
+            counts[years[ordinals.get(i)] - minYear]++;
+        }
+        return perYear(counts);
+    }
+
+    /**
+     * Computes which rows pass all filters, one column after another.
+     * 
+     * @param ranges Filters of the rows.
+     * @return 1 for every row which passes, 0 for every other row
+     */
+    private int[] match(List<ColumnRange> ranges) {
+        int[] mask = new int[size];
+        if (ranges.isEmpty()) {
+            Arrays.fill(mask, 1);
+            return mask;
+        }
+        ColumnRange first = ranges.get(0);
+        initialize(columns[first.getColumn().ordinal()], first.getMin(), first.getMax(), mask);
+        for (ColumnRange range : ranges.subList(1, ranges.size())) {
+            filter(columns[range.getColumn().ordinal()], range.getMin(), range.getMax(), mask);
+        }
+        return mask;
+    }
+
+    /**
+     * Sets the mask of every row to whether its value is in a range.
+     * 
+     * @param values Values of the column.
+     * @param min    Smallest value in the range.
+     * @param max    Largest value in the range.
+     * @param mask   Mask of the rows to set.
+     * @see #filter(int[], int, int, int[])
+     */
+    private void initialize(int[] values, int min, int max, int[] mask) {
+        for (int i = 0; i < size; i++) {
+            int value = values[i];
+            mask[i] = ~((value - min) | (max - value)) >>> SIGN_SHIFT;
+        }
+    }
+
+    /**
+     * Clears the mask of every row whose value is out of a range. Values and
+     * bounds are non-negative, so a value is out of the range exactly if one of
+     * the differences to the bounds is negative.
+     * 
+     * @param values Values of the column.
+     * @param min    Smallest value in the range.
+     * @param max    Largest value in the range.
+     * @param mask   Mask of the rows, 1 for every row which passed so far.
+     */
+    private void filter(int[] values, int min, int max, int[] mask) {
+        for (int i = 0; i < size; i++) {
+            int value = values[i];
+            mask[i] &= ~((value - min) | (max - value)) >>> SIGN_SHIFT;
+        }
+    }
+
+    /**
+     * Converts counts per year to a map without the empty years.
+     * 
+     * @param counts Counts, starting with the smallest year.
+     * @return number of rows per year
+     */
+    private NavigableMap<Integer, Long> perYear(long[] counts) {
+        NavigableMap<Integer, Long> perYear = new TreeMap<Integer, Long>();
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] != 0) {
+                perYear.put(minYear + i, counts[i]);
+            }
+        }
+        return perYear;
+    }
+}
@@ -0,0 +1,273 @@
+package system.query;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+import article.Article;
+import author.Author;
+import system.event.AuthorsAttached;
+import system.event.ChangeEvent;
+import system.event.ChangeListener;
+import system.event.CitationAdded;
+import system.event.KeywordsAdded;
+import system.metrics.IndexEvent;
+import system.metrics.MemoryReport;
+import venue.Venue;
+
+/**
+ * Secondary indexes of the articles for combined queries. Every article gets
+ * an ordinal in the order it is added, and the index keeps posting lists of
+ * ordinals per keyword, author, venue and year, a histogram of the citation
+ * counts and the {@link ArticleColumns} of the articles. The index is kept up to date by the change events of the
+ * system, so it must be read while holding the read lock.
+ * 
+ * @author Emir Yuksel
+ * @version 1.0
+ */
+public class ArticleIndex implements ChangeListener {
+
+    private static final PostingList EMPTY = new PostingList();
+    private static final int INITIAL_HISTOGRAM_SIZE = 16;
+    private static final long SHALLOW_SIZE = MemoryReport.shallowSize(ArticleIndex.class);
+    private static final long INTEGER = MemoryReport.shallowSize(Integer.class);
+
+    private final List<Article> articles;
+    private final Map<String, Integer> ordinals;
+    private final Map<String, PostingList> byKeyword;
+    private final Map<String, PostingList> byAuthor;
+    private final Map<Venue, PostingList> byVenue;
+    private final NavigableMap<Integer, PostingList> byYear;
+    private long[] citationHistogram;
+    private final ArticleColumns columns;
+
+    /**
+     * Creates a new empty index.
+     */
+    public ArticleIndex() {
+        this.articles = new ArrayList<Article>();
+        this.ordinals = new HashMap<String, Integer>();
+        this.byKeyword = new HashMap<String, PostingList>();
+        this.byAuthor = new HashMap<String, PostingList>();
+        this.byVenue = new HashMap<Venue, PostingList>();
+        this.byYear = new TreeMap<Integer, PostingList>();
+        this.citationHistogram = new long[INITIAL_HISTOGRAM_SIZE];
+        this.columns = new ArticleColumns();
+    }
+
+    @Override
+    public void onChange(ChangeEvent event) {
+        IndexEvent indexEvent = new IndexEvent();
+        indexEvent.begin();
+        int elements = 1;
+        switch (event.getType()) {
+            case ARTICLE_ADDED:
+                addArticle(event.getArticle());
+                break;
+            case AUTHORS_ATTACHED:
+                int ordinal = ordinalOf(event.getArticle());
+                columns.set(Column.AUTHORS, ordinal, event.getArticle().getAuthor().size());
+                for (Author author : ((AuthorsAttached) event).getAuthors()) {
+                    byAuthor.computeIfAbsent(author.getFullName(), name -> new PostingList()).add(ordinal);
+                }
+                break;
+            case CITATION_ADDED:
+                CitationAdded citation = (CitationAdded) event;
+                int citations = citation.getReceiver().getReceivedCites().size();
+                columns.set(Column.RECEIVED_CITATIONS, ordinalOf(citation.getReceiver()), citations);
+                columns.set(Column.GIVEN_CITATIONS, ordinalOf(citation.getGiver()),
+                        citation.getGiver().getGivenCites().size());
+                citationHistogram[citations - 1]--;
+                countCitations(citations);
+                break;
+            default:
+                elements = addKeywords((KeywordsAdded) event);
+                break;
+        }
+        indexEvent.complete("articleIndex", event.getType(), elements);
+    }
+
+    /**
+     * Gets the number of indexed articles.
+     * 
+     * @return number of articles
+     */
+    public int size() {
+        return articles.size();
+    }
+
+    /**
+     * Gets the columns of the articles, indexed by their ordinals.
+     * 
+     * @return columns of the articles
+     */
+    public ArticleColumns getColumns() {
+        return columns;
+    }
+
+    /**
+     * Gets an article by its ordinal.
+     * 
+     * @param ordinal Ordinal of the article.
+     * @return the article
+     */
+    public Article getArticle(int ordinal) {
+        return articles.get(ordinal);
+    }
+
+    /**
+     * Gets the articles with a keyword.
+     * 
+     * @param keyword Keyword to look up.
+     * @return posting list of the keyword, empty if no article has it.
+     */
+    public PostingList withKeyword(String keyword) {
+        return byKeyword.getOrDefault(keyword, EMPTY);
+    }
+
+    /**
+     * Gets the articles of an author.
+     * 
+     * @param fullName Full name of the author.
+     * @return posting list of the author, empty if the author has no article.
+     */
+    public PostingList byAuthor(String fullName) {
+        return byAuthor.getOrDefault(fullName, EMPTY);
+    }
+
+    /**
+     * Gets the articles of a venue.
+     * 
+     * @param venue Venue to look up.
+     * @return posting list of the venue, empty if it has no article.
+     */
+    public PostingList inVenue(Venue venue) {
+        return byVenue.getOrDefault(venue, EMPTY);
+    }
+
+    /**
+     * Gets the articles of each year in a range.
+     * 
+     * @param from First year of the range.
+     * @param to   Last year of the range.
+     * @return posting lists of the years which have articles
+     */
+    public List<PostingList> inYears(int from, int to) {
+        return new ArrayList<PostingList>(byYear.subMap(from, true, to, true).values());
+    }
+
+    /**
+     * Counts the articles which are cited at least a number of times.
+     * 
+     * @param minimum Minimum number of citations.
+     * @return number of articles
+     */
+    public long countCitedAtLeast(int minimum) {
+        long count = 0;
+        for (int citations = Math.max(0, minimum); citations < citationHistogram.length; citations++) {
+            count += citationHistogram[citations];
+        }
+        return count;
+    }
+
+    /**
+     * Estimates the heap the posting lists, ordinals and citation histogram of
+     * the index retain. The columns are estimated on their own.
+     * 
+     * @return estimated bytes, without the articles, keywords, names and venues
+     *         the index references
+     */
+    public long estimateBytes() {
+        long bytes = SHALLOW_SIZE + MemoryReport.listSize(articles) + MemoryReport.hashMapSize(ordinals.size())
+                + ordinals.size() * INTEGER + MemoryReport.arraySize(citationHistogram.length, Long.BYTES)
+                + postingsSize(byKeyword) + postingsSize(byAuthor) + postingsSize(byVenue)
+                + MemoryReport.treeMapSize(byYear.size()) + byYear.size() * INTEGER;
+        for (PostingList postings : byYear.values()) {
+            bytes += postings.estimateBytes();
+        }
+        return bytes;
+    }
+
+    /**
+     * Adds an article with its keywords, authors, venue and year.
+     * 
+     * @param article Article to add.
+     */
+    private void addArticle(Article article) {
+        int ordinal = articles.size();
+        articles.add(article);
+        ordinals.put(article.getId(), ordinal);
+        columns.add(article);
+        for (String keyword : article.getKeywords()) {
+            byKeyword.computeIfAbsent(keyword, key -> new PostingList()).add(ordinal);
+        }
+        for (Author author : article.getAuthor()) {
+            byAuthor.computeIfAbsent(author.getFullName(), name -> new PostingList()).add(ordinal);
+        }
+        byVenue.computeIfAbsent(article.getVenue(), venue -> new PostingList()).add(ordinal);
+        byYear.computeIfAbsent(article.getPublishYear(), year -> new PostingList()).add(ordinal);
+        countCitations(article.getReceivedCites().size());
+    }
+
+    /**
+     * Adds keywords to the articles which got them.
+     * 
+     * @param event Change which added the keywords.
+     * @return number of articles which got the keywords
+     */
+    private int addKeywords(KeywordsAdded event) {
+        List<Article> changed = event.isVenueScoped() ? event.getVenue().getArticles()
+                : Arrays.asList(event.getArticle());
+        for (String keyword : event.getKeywords()) {
+            PostingList postings = byKeyword.computeIfAbsent(keyword, key -> new PostingList());
+            for (Article article : changed) {
+                Integer ordinal = ordinals.get(article.getId());
+                if (ordinal != null) {
+                    postings.add(ordinal);
+                }
+            }
+        }
+        return changed.size();
+    }
+
+    /**
+     * Counts an article in the histogram of the citation counts.
+     * 
+     * @param citations Number of citations of the article.
+     */
+    private void countCitations(int citations) {
+        if (citations >= citationHistogram.length) {
+            citationHistogram = Arrays.copyOf(citationHistogram, Math.max(citations + 1, citationHistogram.length * 2));
+        }
+        citationHistogram[citations]++;
+    }
+
+    /**
+     * Estimates the size of posting lists by key.
+     * 
+     * @param <K>      Type of the keys.
+     * @param postings Posting lists by key.
+     * @return estimated bytes
+     */
+    private static <K> long postingsSize(Map<K, PostingList> postings) {
+        long bytes = MemoryReport.hashMapSize(postings.size());
+        for (PostingList posting : postings.values()) {
+            bytes += posting.estimateBytes();
+        }
+        return bytes;
+    }
+
+    /**
+     * Gets the ordinal of an indexed article.
+     * 
+     * @param article Indexed article.
+     * @return ordinal of the article
+     */
+    private int ordinalOf(Article article) {
+        return ordinals.get(article.getId());
+    }
+}
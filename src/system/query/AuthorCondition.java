@@ -0,0 +1,72 @@
+package system.query;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import article.Article;
+
+/**
+ * Condition that an article is written by at least one of a list of authors.
+ * 
+ * @author Emir Yuksel
+ * @version 1.0
+ */
+public class AuthorCondition extends Condition {
+
+    private static final String PREFIX = "author ";
+    private static final String SEPARATOR = ";";
+
+    private final List<String> authors;
+
+    /**
+     * Creates a new author condition.
+     * 
+     * @param authors Full names of the authors, one of which must have written an
+     *                article.
+     */
+    public AuthorCondition(List<String> authors) {
+        this.authors = new ArrayList<String>(authors);
+    }
+
+    /**
+     * The articles of all authors together are an upper bound, as authors can
+     * share articles.
+     */
+    @Override
+    public long estimate(ArticleIndex index) {
+        return accessCost(index);
+    }
+
+    @Override
+    public long accessCost(ArticleIndex index) {
+        long cost = 0;
+        for (String author : authors) {
+            cost += index.byAuthor(author).size();
+        }
+        return cost;
+    }
+
+    @Override
+    public PostingList postings(ArticleIndex index) {
+        PostingList result = index.byAuthor(authors.get(0));
+        for (int i = 1; i < authors.size(); i++) {
+            result = result.union(index.byAuthor(authors.get(i)));
+        }
+        return result;
+    }
+
+    @Override
+    public boolean test(Article article) {
+        for (String author : authors) {
+            if (article.checkAutor(author)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public String toString() {
+        return PREFIX + String.join(SEPARATOR, authors);
+    }
+}
@@ -0,0 +1,65 @@
+package system.query;
+
+import java.util.Collections;
+
+import article.Article;
+
+/**
+ * Condition that an article is cited at least a number of times. The citation
+ * counts have no posting lists, so reading the matching articles scans the
+ * column of the received citations; the estimate comes from the histogram of
+ * the index.
+ * 
+ * @author Emir Yuksel
+ * @version 1.0
+ */
+public class CitedCondition extends Condition {
+
+    private static final String PREFIX = "cited ";
+
+    private final int minimum;
+
+    /**
+     * Creates a new citation condition.
+     * 
+     * @param minimum Number of citations an article must have at least.
+     */
+    public CitedCondition(int minimum) {
+        this.minimum = minimum;
+    }
+
+    @Override
+    public long estimate(ArticleIndex index) {
+        return index.countCitedAtLeast(minimum);
+    }
+
+    @Override
+    public long accessCost(ArticleIndex index) {
+        return index.size();
+    }
+
+    @Override
+    public PostingList postings(ArticleIndex index) {
+        return index.getColumns().select(Collections.singletonList(toColumnRange(index.getColumns())));
+    }
+
+    @Override
+    public boolean test(Article article) {
+        return article.getReceivedCites().size() >= minimum;
+    }
+
+    @Override
+    public boolean test(ArticleIndex index, int ordinal) {
+        return index.getColumns().get(Column.RECEIVED_CITATIONS, ordinal) >= minimum;
+    }
+
+    @Override
+    public ColumnRange toColumnRange(ArticleColumns columns) {
+        return new ColumnRange(Column.RECEIVED_CITATIONS, minimum, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public String toString() {
+        return PREFIX + minimum;
+    }
+}
@@ -0,0 +1,30 @@
+package system.query;
+
+/**
+ * Attributes of the articles which {@link ArticleColumns} stores as columns.
+ * 
+ * @author Emir Yuksel
+ * @version 1.0
+ */
+public enum Column {
+    /**
+     * Publishing year.
+     */
+    YEAR,
+    /**
+     * Ordinal of the venue, in the order the venues got their first article.
+     */
+    VENUE,
+    /**
+     * Number of authors, 0 for an invalid publication.
+     */
+    AUTHORS,
+    /**
+     * Number of received citations.
+     */
+    RECEIVED_CITATIONS,
+    /**
+     * Number of given citations.
+     */
+    GIVEN_CITATIONS;
+}
@@ -0,0 +1,55 @@
+package system.query;
+
+/**
+ * Filter that the value of a column lies in a range. Bounds are clamped to
+ * non-negative values, as all columns are.
+ * 
+ * @author Emir Yuksel
+ * @version 1.0
+ */
+public class ColumnRange {
+
+    private final Column column;
+    private final int min;
+    private final int max;
+
+    /**
+     * Creates a new range filter.
+     * 
+     * @param column Column to filter.
+     * @param min    Smallest value which passes the filter.
+     * @param max    Largest value which passes the filter.
+     */
+    public ColumnRange(Column column, int min, int max) {
+        this.column = column;
+        this.min = Math.max(0, min);
+        this.max = Math.max(-1, max);
+    }
+
+    /**
+     * Gets the filtered column.
+     * 
+     * @return column
+     */
+    public Column getColumn() {
+        return column;
+    }
+
+    /**
+     * Gets the smallest value which passes the filter.
+     * 
+     * @return smallest value, at least 0.
+     */
+    public int getMin() {
+        return min;
+    }
+
+    /**
+     * Gets the largest value which passes the filter.
+     * 
+     * @return largest value, -1 if no value passes.
+     */
+    public int getMax() {
+        return max;
+    }
+}
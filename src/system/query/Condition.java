@@ -0,0 +1,77 @@
+package system.query;
+
+import article.Article;
+
+/**
+ * A condition of a combined query which articles must meet. A condition can
+ * estimate how many articles meet it from the {@link ArticleIndex}, read them
+ * from the index and test a single article.
+ * 
+ * @author Emir Yuksel
+ * @version 1.0
+ */
+public abstract class Condition {
+
+    /**
+     * Estimates the number of articles which meet the condition.
+     * 
+     * @param index Index of the articles.
+     * @return estimated number of articles
+     */
+    public abstract long estimate(ArticleIndex index);
+
+    /**
+     * Estimates the cost of reading the articles which meet the condition from
+     * the index, as number of ordinals to read.
+     * 
+     * @param index Index of the articles.
+     * @return estimated cost
+     */
+    public abstract long accessCost(ArticleIndex index);
+
+    /**
+     * Reads the articles which meet the condition from the index.
+     * 
+     * @param index Index of the articles.
+     * @return ordinals of the articles
+     */
+    public abstract PostingList postings(ArticleIndex index);
+
+    /**
+     * Checks if an article meets the condition.
+     * 
+     * @param article Article to check.
+     * @return true if the article meets the condition, false otherwise.
+     */
+    public abstract boolean test(Article article);
+
+    /**
+     * Checks if the article with an ordinal meets the condition. Conditions on
+     * attributes which are stored as columns read them from the columns.
+     * 
+     * @param index   Index of the articles.
+     * @param ordinal Ordinal of the article to check.
+     * @return true if the article meets the condition, false otherwise.
+     */
+    public boolean test(ArticleIndex index, int ordinal) {
+        return test(index.getArticle(ordinal));
+    }
+
+    /**
+     * Gets the condition as a filter of the {@link ArticleColumns}.
+     * 
+     * @param columns Columns of the articles.
+     * @return range of the condition, null if it is not on a column.
+     */
+    public ColumnRange toColumnRange(ArticleColumns columns) {
+        return null;
+    }
+
+    /**
+     * Formats the condition as in the query command.
+     * 
+     * @return condition as text
+     */
+    @Override
+    public abstract String toString();
+}
@@ -0,0 +1,79 @@
+package system.query;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import article.Article;
+
+/**
+ * Condition that an article has all of a list of keywords.
+ * 
+ * @author Emir Yuksel
+ * @version 1.0
+ */
+public class KeywordsCondition extends Condition {
+
+    private static final String PREFIX = "keywords ";
+    private static final String SEPARATOR = ";";
+
+    private final List<String> keywords;
+
+    /**
+     * Creates a new keywords condition.
+     * 
+     * @param keywords Keywords an article must have.
+     */
+    public KeywordsCondition(List<String> keywords) {
+        this.keywords = new ArrayList<String>(keywords);
+    }
+
+    /**
+     * The articles with the rarest keyword are an upper bound.
+     */
+    @Override
+    public long estimate(ArticleIndex index) {
+        long estimate = Long.MAX_VALUE;
+        for (String keyword : keywords) {
+            estimate = Math.min(estimate, index.withKeyword(keyword).size());
+        }
+        return estimate;
+    }
+
+    @Override
+    public long accessCost(ArticleIndex index) {
+        long cost = 0;
+        for (String keyword : keywords) {
+            cost += index.withKeyword(keyword).size();
+        }
+        return cost;
+    }
+
+    /**
+     * Intersects the posting lists of the keywords, starting with the rarest.
+     */
+    @Override
+    public PostingList postings(ArticleIndex index) {
+        List<PostingList> postings = new ArrayList<PostingList>();
+        for (String keyword : keywords) {
+            postings.add(index.withKeyword(keyword));
+        }
+        postings.sort(Comparator.comparingInt(PostingList::size));
+
+        PostingList result = postings.get(0);
+        for (int i = 1; i < postings.size() && result.size() > 0; i++) {
+            result = result.intersect(postings.get(i));
+        }
+        return result;
+    }
+
+    @Override
+    public boolean test(Article article) {
+        return article.containsAllKeywords(keywords);
+    }
+
+    @Override
+    public String toString() {
+        return PREFIX + String.join(SEPARATOR, keywords);
+    }
+}
@@ -0,0 +1,28 @@
+package system.query;
+
+/**
+ * Operations of a step of a {@link QueryPlan}.
+ * 
+ * @author Emir Yuksel
+ * @version 1.0
+ */
+public enum Operation {
+    /**
+     * Reads the candidates from the index of the condition.
+     */
+    ACCESS,
+    /**
+     * Reads the articles meeting the condition from its index and intersects them
+     * with the candidates.
+     */
+    INTERSECT,
+    /**
+     * Checks the condition on every candidate.
+     */
+    PROBE;
+
+    @Override
+    public String toString() {
+        return name().toLowerCase();
+    }
+}
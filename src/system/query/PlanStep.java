@@ -0,0 +1,72 @@
+package system.query;
+
+/**
+ * A step of a {@link QueryPlan}, which applies one condition to the candidates
+ * of the steps before it.
+ * 
+ * @author Emir Yuksel
+ * @version 1.0
+ */
+public class PlanStep {
+
+    private final Operation operation;
+    private final Condition condition;
+    private final long rows;
+    private final long cost;
+
+    /**
+     * Creates a new step.
+     * 
+     * @param operation Operation of the step.
+     * @param condition Condition the step applies.
+     * @param rows      Estimated number of candidates after the step.
+     * @param cost      Estimated cost of the step.
+     */
+    public PlanStep(Operation operation, Condition condition, long rows, long cost) {
+        this.operation = operation;
+        this.condition = condition;
+        this.rows = rows;
+        this.cost = cost;
+    }
+
+    /**
+     * Gets the operation of the step.
+     * 
+     * @return operation
+     */
+    public Operation getOperation() {
+        return operation;
+    }
+
+    /**
+     * Gets the condition the step applies.
+     * 
+     * @return condition
+     */
+    public Condition getCondition() {
+        return condition;
+    }
+
+    /**
+     * Gets the estimated number of candidates after the step.
+     * 
+     * @return estimated rows
+     */
+    public long getRows() {
+        return rows;
+    }
+
+    /**
+     * Gets the estimated cost of the step.
+     * 
+     * @return estimated cost
+     */
+    public long getCost() {
+        return cost;
+    }
+
+    @Override
+    public String toString() {
+        return operation + " " + condition + " (rows " + rows + ", cost " + cost + ")";
+    }
+}
@@ -0,0 +1,161 @@
+package system.query;
+
+import java.util.Arrays;
+
+import system.metrics.MemoryReport;
+
+/**
+ * A sorted set of article ordinals, stored as an int array. Ordinals are
+ * assigned in insertion order, so most additions append to the end; others
+ * are inserted at their position.
+ * 
+ * @author Emir Yuksel
+ * @version 1.0
+ */
+public class PostingList {
+
+    private static final int INITIAL_CAPACITY = 4;
+    private static final long SHALLOW_SIZE = MemoryReport.shallowSize(PostingList.class);
+
+    private int[] ordinals;
+    private int size;
+
+    /**
+     * Creates a new empty posting list.
+     */
+    public PostingList() {
+        this.ordinals = new int[INITIAL_CAPACITY];
+    }
+
+    /**
+     * Creates a posting list of sorted ordinals.
+     * 
+     * @param ordinals Sorted ordinals without duplicates, owned by the list.
+     * @param size     Number of ordinals in the array.
+     */
+    PostingList(int[] ordinals, int size) {
+        this.ordinals = ordinals;
+        this.size = size;
+    }
+
+    /**
+     * Adds an ordinal if it is not contained yet.
+     * 
+     * @param ordinal Ordinal to add.
+     */
+    public void add(int ordinal) {
+        if (size > 0 && ordinals[size - 1] >= ordinal) {
+            int position = Arrays.binarySearch(ordinals, 0, size, ordinal);
+            if (position >= 0) {
+                return;
+            }
+            insert(-position - 1, ordinal);
+            return;
+        }
+        insert(size, ordinal);
+    }
+
+    /**
+     * Checks if an ordinal is contained.
+     * 
+     * @param ordinal Ordinal to check.
+     * @return true if the ordinal is contained, false otherwise.
+     */
+    public boolean contains(int ordinal) {
+        return Arrays.binarySearch(ordinals, 0, size, ordinal) >= 0;
+    }
+
+    /**
+     * Gets the number of ordinals.
+     * 
+     * @return size of the list
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Gets an ordinal by its position.
+     * 
+     * @param index Position of the ordinal.
+     * @return ordinal at the position
+     */
+    public int get(int index) {
+        return ordinals[index];
+    }
+
+    /**
+     * Estimates the heap the list retains, including its spare capacity.
+     * 
+     * @return estimated bytes
+     */
+    long estimateBytes() {
+        return SHALLOW_SIZE + MemoryReport.arraySize(ordinals.length, Integer.BYTES);
+    }
+
+    /**
+     * Intersects two posting lists by merging them.
+     * 
+     * @param other List to intersect with.
+     * @return new list of the ordinals contained in both lists
+     */
+    public PostingList intersect(PostingList other) {
+        int[] result = new int[Math.min(size, other.size)];
+        int count = 0;
+        int i = 0;
+        int j = 0;
+        while (i < size && j < other.size) {
+            int left = ordinals[i];
+            int right = other.ordinals[j];
+            if (left < right) {
+                i++;
+            } else if (left > right) {
+                j++;
+            } else {
+                result[count++] = left;
+                i++;
+                j++;
+            }
+        }
+        return new PostingList(result, count);
+    }
+
+    /**
+     * Unites two posting lists by merging them.
+     * 
+     * @param other List to unite with.
+     * @return new list of the ordinals contained in either list
+     */
+    public PostingList union(PostingList other) {
+        int[] result = new int[size + other.size];
+        int count = 0;
+        int i = 0;
+        int j = 0;
+        while (i < size || j < other.size) {
+            if (j == other.size || i < size && ordinals[i] < other.ordinals[j]) {
+                result[count++] = ordinals[i++];
+            } else if (i == size || other.ordinals[j] < ordinals[i]) {
+                result[count++] = other.ordinals[j++];
+            } else {
+                result[count++] = ordinals[i++];
+                j++;
+            }
+        }
+        return new PostingList(result, count);
+    }
+
+    /**
+     * Inserts an ordinal at a position, growing the array if needed.
+     * 
+     * @param position Position to insert at.
+     * @param ordinal  Ordinal to insert.
+     */
+    private void insert(int position, int ordinal) {
+        if (size == ordinals.length) {
+            ordinals = Arrays.copyOf(ordinals, size * 2);
+        }
+        System.arraycopy(ordinals, position, ordinals, position + 1, size - position);
+        ordinals[position] = ordinal;
+        size++;
+    }
+}
@@ -0,0 +1,144 @@
+package system.query;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.NavigableMap;
+
+import system.metrics.QueryEvent;
+import system.metrics.ScannedElement;
+import system.page.Page;
+
+/**
+ * An execution plan of a combined query, made by the {@link QueryPlanner}.
+ * The first step reads the candidates from an index, every further step
+ * narrows them down by intersecting them with the posting list of its
+ * condition or by probing every candidate.
+ * 
+ * @author Emir Yuksel
+ * @version 1.0
+ */
+public class QueryPlan {
+
+    private static final String QUERY_NAME = "query";
+
+    private final List<PlanStep> steps;
+
+    /**
+     * Creates a new plan.
+     * 
+     * @param steps Steps of the plan, starting with the access step.
+     */
+    public QueryPlan(List<PlanStep> steps) {
+        this.steps = new ArrayList<PlanStep>(steps);
+    }
+
+    /**
+     * Gets the steps of the plan.
+     * 
+     * @return steps, starting with the access step.
+     */
+    public List<PlanStep> getSteps() {
+        return Collections.unmodifiableList(steps);
+    }
+
+    /**
+     * Gets the estimated cost of all steps.
+     * 
+     * @return estimated cost
+     */
+    public long getCost() {
+        long cost = 0;
+        for (PlanStep step : steps) {
+            cost += step.getCost();
+        }
+        return cost;
+    }
+
+    /**
+     * Executes the plan.
+     * 
+     * @param index Index the plan was made for.
+     * @param page  Page of the result to get.
+     * @return identifiers of the articles which meet all conditions, sorted.
+     */
+    public List<String> execute(ArticleIndex index, Page page) {
+        QueryEvent event = new QueryEvent();
+        event.begin();
+        long[] scanned = new long[1];
+        PostingList candidates = ordinals(index, scanned);
+
+        List<String> identifiers = new ArrayList<String>(candidates.size());
+        for (int i = 0; i < candidates.size(); i++) {
+            identifiers.add(index.getArticle(candidates.get(i)).getId());
+        }
+        List<String> result = page.select(identifiers);
+        event.complete(QUERY_NAME, this, ScannedElement.ARTICLES, scanned[0], result.size());
+        return result;
+    }
+
+    /**
+     * Executes the plan and counts the matching articles per publishing year.
+     * 
+     * @param index Index the plan was made for.
+     * @return number of articles which meet all conditions per year, only years
+     *         with articles.
+     */
+    public NavigableMap<Integer, Long> countPerYear(ArticleIndex index) {
+        return index.getColumns().countPerYear(ordinals(index, new long[1]));
+    }
+
+    /**
+     * Executes the steps of the plan. Stops early once no candidate is left.
+     * 
+     * @param index   Index the plan was made for.
+     * @param scanned Counter of the read ordinals and probed articles.
+     * @return ordinals of the articles which meet all conditions
+     */
+    private PostingList ordinals(ArticleIndex index, long[] scanned) {
+        PostingList candidates = steps.get(0).getCondition().postings(index);
+        scanned[0] += candidates.size();
+
+        for (int i = 1; i < steps.size() && candidates.size() > 0; i++) {
+            PlanStep step = steps.get(i);
+            if (step.getOperation() == Operation.INTERSECT) {
+                PostingList postings = step.getCondition().postings(index);
+                scanned[0] += postings.size();
+                candidates = candidates.intersect(postings);
+            } else {
+                scanned[0] += candidates.size();
+                candidates = probe(index, candidates, step.getCondition());
+            }
+        }
+        return candidates;
+    }
+
+    /**
+     * Keeps the candidates which meet a condition.
+     * 
+     * @param index      Index of the articles.
+     * @param candidates Candidates to check.
+     * @param condition  Condition to check.
+     * @return ordinals of the candidates which meet the condition
+     */
+    private PostingList probe(ArticleIndex index, PostingList candidates, Condition condition) {
+        int[] result = new int[candidates.size()];
+        int count = 0;
+        for (int i = 0; i < candidates.size(); i++) {
+            int ordinal = candidates.get(i);
+            if (condition.test(index, ordinal)) {
+                result[count++] = ordinal;
+            }
+        }
+        return new PostingList(result, count);
+    }
+
+    @Override
+    public String toString() {
+        List<String> conditions = new ArrayList<String>();
+        for (PlanStep step : steps) {
+            conditions.add(step.getCondition().toString());
+        }
+        return String.join(" and ", conditions);
+    }
+}
@@ -0,0 +1,126 @@
+package system.query;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.NavigableMap;
+
+/**
+ * Makes cost-based plans for combined queries. The condition which is the
+ * cheapest to read from its index gives the candidates, the others follow from
+ * the most to the least selective. For every further condition, the planner
+ * intersects the candidates with its posting list if reading the list costs
+ * less than probing every candidate, and probes otherwise. Selectivities are
+ * estimated from the index and assumed to be independent.
+ * 
+ * Conditions on columns of the {@link ArticleColumns} are probed by reading
+ * the column, which is cheaper than probing the article. Counting per year
+ * scans the columns instead of executing the plan if all conditions are on
+ * columns and the plan is estimated to read more than a scan.
+ * 
+ * @author Emir Yuksel
+ * @version 1.0
+ */
+public class QueryPlanner {
+
+    /**
+     * Cost of checking a condition on one article, relative to reading one
+     * ordinal from a posting list.
+     */
+    private static final int PROBE_COST = 4;
+
+    /**
+     * Cost of checking a condition on one value of a column.
+     */
+    private static final int COLUMN_PROBE_COST = 1;
+
+    private final ArticleIndex index;
+
+    /**
+     * Creates a new planner.
+     * 
+     * @param index Index to plan the queries for.
+     */
+    public QueryPlanner(ArticleIndex index) {
+        this.index = index;
+    }
+
+    /**
+     * Makes a plan for a query.
+     * 
+     * @param conditions Conditions of the query, at least one.
+     * @return plan of the query
+     */
+    public QueryPlan plan(List<Condition> conditions) {
+        List<Condition> remaining = new ArrayList<Condition>(conditions);
+        Condition access = remaining.get(0);
+        for (Condition condition : remaining) {
+            if (condition.accessCost(index) < access.accessCost(index)) {
+                access = condition;
+            }
+        }
+        remaining.remove(access);
+        remaining.sort(Comparator.comparingLong(condition -> condition.estimate(index)));
+
+        List<PlanStep> steps = new ArrayList<PlanStep>();
+        double rows = access.estimate(index);
+        steps.add(new PlanStep(Operation.ACCESS, access, (long) Math.ceil(rows), access.accessCost(index)));
+
+        for (Condition condition : remaining) {
+            double probeCost = rows * probeCost(condition);
+            double intersectCost = rows + condition.accessCost(index);
+            Operation operation = intersectCost < probeCost ? Operation.INTERSECT : Operation.PROBE;
+            rows *= selectivity(condition);
+            steps.add(new PlanStep(operation, condition, (long) Math.ceil(rows),
+                    (long) Math.ceil(Math.min(probeCost, intersectCost))));
+        }
+        return new QueryPlan(steps);
+    }
+
+    /**
+     * Counts the articles which meet all conditions of a query per publishing
+     * year.
+     * 
+     * @param conditions Conditions of the query, at least one.
+     * @return number of articles per year, only years with articles.
+     */
+    public NavigableMap<Integer, Long> countPerYear(List<Condition> conditions) {
+        QueryPlan plan = plan(conditions);
+        ArticleColumns columns = index.getColumns();
+        List<ColumnRange> ranges = new ArrayList<ColumnRange>();
+        for (Condition condition : conditions) {
+            ColumnRange range = condition.toColumnRange(columns);
+            if (range == null) {
+                return plan.countPerYear(index);
+            }
+            ranges.add(range);
+        }
+        if (plan.getCost() <= (long) columns.size() * ranges.size()) {
+            return plan.countPerYear(index);
+        }
+        return columns.countPerYear(ranges);
+    }
+
+    /**
+     * Estimates the cost of checking a condition on one candidate.
+     * 
+     * @param condition Condition to check.
+     * @return cost relative to reading one ordinal from a posting list
+     */
+    private int probeCost(Condition condition) {
+        return condition.toColumnRange(index.getColumns()) == null ? PROBE_COST : COLUMN_PROBE_COST;
+    }
+
+    /**
+     * Estimates the share of the articles which meet a condition.
+     * 
+     * @param condition Condition to estimate.
+     * @return share between 0 and 1
+     */
+    private double selectivity(Condition condition) {
+        if (index.size() == 0) {
+            return 0;
+        }
+        return Math.min(1, (double) condition.estimate(index) / index.size());
+    }
+}
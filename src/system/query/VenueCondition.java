@@ -0,0 +1,65 @@
+package system.query;
+
+import article.Article;
+import venue.Venue;
+
+/**
+ * Condition that an article is published in a venue, i.e. a conference series
+ * or a journal.
+ * 
+ * @author Emir Yuksel
+ * @version 1.0
+ */
+public class VenueCondition extends Condition {
+
+    private final String kind;
+    private final Venue venue;
+
+    /**
+     * Creates a new venue condition.
+     * 
+     * @param kind  Kind of the venue as in the query command, series or journal.
+     * @param venue Venue an article must be published in.
+     */
+    public VenueCondition(String kind, Venue venue) {
+        this.kind = kind;
+        this.venue = venue;
+    }
+
+    @Override
+    public long estimate(ArticleIndex index) {
+        return index.inVenue(venue).size();
+    }
+
+    @Override
+    public long accessCost(ArticleIndex index) {
+        return estimate(index);
+    }
+
+    @Override
+    public PostingList postings(ArticleIndex index) {
+        return index.inVenue(venue);
+    }
+
+    @Override
+    public boolean test(Article article) {
+        return article.getVenue() == venue;
+    }
+
+    @Override
+    public boolean test(ArticleIndex index, int ordinal) {
+        ArticleColumns columns = index.getColumns();
+        return columns.get(Column.VENUE, ordinal) == columns.venueOrdinal(venue);
+    }
+
+    @Override
+    public ColumnRange toColumnRange(ArticleColumns columns) {
+        int ordinal = columns.venueOrdinal(venue);
+        return new ColumnRange(Column.VENUE, ordinal, ordinal);
+    }
+
+    @Override
+    public String toString() {
+        return kind + " " + venue.getName();
+    }
+}
@@ -0,0 +1,74 @@
+package system.query;
+
+import java.util.List;
+
+import article.Article;
+
+/**
+ * Condition that an article is published in a range of years.
+ * 
+ * @author Emir Yuksel
+ * @version 1.0
+ */
+public class YearCondition extends Condition {
+
+    private static final String PREFIX = "year ";
+
+    private final int from;
+    private final int to;
+
+    /**
+     * Creates a new year condition.
+     * 
+     * @param from First year of the range.
+     * @param to   Last year of the range.
+     */
+    public YearCondition(int from, int to) {
+        this.from = from;
+        this.to = to;
+    }
+
+    @Override
+    public long estimate(ArticleIndex index) {
+        return accessCost(index);
+    }
+
+    @Override
+    public long accessCost(ArticleIndex index) {
+        long cost = 0;
+        for (PostingList postings : index.inYears(from, to)) {
+            cost += postings.size();
+        }
+        return cost;
+    }
+
+    @Override
+    public PostingList postings(ArticleIndex index) {
+        PostingList result = new PostingList();
+        for (PostingList postings : index.inYears(from, to)) {
+            result = result.union(postings);
+        }
+        return result;
+    }
+
+    @Override
+    public boolean test(Article article) {
+        return article.getPublishYear() >= from && article.getPublishYear() <= to;
+    }
+
+    @Override
+    public boolean test(ArticleIndex index, int ordinal) {
+        int year = index.getColumns().get(Column.YEAR, ordinal);
+        return year >= from && year <= to;
+    }
+
+    @Override
+    public ColumnRange toColumnRange(ArticleColumns columns) {
+        return new ColumnRange(Column.YEAR, from, to);
+    }
+
+    @Override
+    public String toString() {
+        return PREFIX + (from == to ? String.valueOf(from) : from + "-" + to);
+    }
+}
@@ -0,0 +1,24 @@
+package system.reactive;
+
+import java.util.List;
+
+/**
+ * Produces a query result page by page. A source belongs to one subscription,
+ * is called by one thread at a time and always while holding the read lock of
+ * the system, so it may keep a cursor between its pages.
+ * 
+ * @author Emir Yuksel
+ * @version 1.0
+ * @param <T> Type of the elements of the result.
+ */
+@FunctionalInterface
+public interface PageSource<T> {
+
+    /**
+     * Gets the next page of the result.
+     * 
+     * @param limit Maximum number of elements of the page, at least 1.
+     * @return next elements, empty if the result is exhausted.
+     */
+    List<T> nextPage(int limit);
+}
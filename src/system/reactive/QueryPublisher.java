@@ -0,0 +1,194 @@
+package system.reactive;
+
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.function.Supplier;
+
+/**
+ * Publishes a query result incrementally. Every subscriber gets its own run of
+ * the query, which reads the result page by page as the subscriber requests
+ * elements, so at most one page is held at a time.
+ * 
+ * The read lock of the system is only held while a page is read, never while
+ * the subscriber is called. A slow subscriber therefore neither blocks changes
+ * of the system nor other subscribers, and a result sees the changes which are
+ * applied between its pages. Subscribers are called on the executor of the
+ * publisher, one signal at a time.
+ * 
+ * @author Emir Yuksel
+ * @version 1.0
+ * @param <T> Type of the elements of the result.
+ */
+public class QueryPublisher<T> implements Flow.Publisher<T> {
+
+    private static final String ERROR_NON_POSITIVE_REQUEST = "requested a non-positive number of elements";
+
+    private final ReadWriteLock lock;
+    private final Supplier<PageSource<T>> sources;
+    private final Executor executor;
+    private final int pageSize;
+
+    /**
+     * Creates a new publisher.
+     * 
+     * @param lock     Lock of the system the query reads from.
+     * @param sources  Creates the source of the result for every subscriber.
+     * @param executor Executor which reads the pages and calls the subscribers.
+     * @param pageSize Maximum number of elements read at once.
+     */
+    public QueryPublisher(ReadWriteLock lock, Supplier<PageSource<T>> sources, Executor executor, int pageSize) {
+        this.lock = lock;
+        this.sources = sources;
+        this.executor = executor;
+        this.pageSize = pageSize;
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super T> subscriber) {
+        Objects.requireNonNull(subscriber);
+        QuerySubscription subscription = new QuerySubscription(subscriber, sources.get());
+        subscriber.onSubscribe(subscription);
+    }
+
+    /**
+     * Subscription of one subscriber. Requests and cancellations only record the
+     * demand and schedule a drain; the drain runs on the executor, on at most one
+     * thread at a time, and is the only place which reads pages and signals the
+     * subscriber.
+     */
+    private final class QuerySubscription implements Flow.Subscription, Runnable {
+        private final Flow.Subscriber<? super T> subscriber;
+        private final PageSource<T> source;
+        private final ArrayDeque<T> buffer;
+        private final AtomicLong demand;
+        private final AtomicInteger pendingDrains;
+        private volatile boolean cancelled;
+        private volatile Throwable failure;
+        private boolean exhausted;
+
+        QuerySubscription(Flow.Subscriber<? super T> subscriber, PageSource<T> source) {
+            this.subscriber = subscriber;
+            this.source = source;
+            this.buffer = new ArrayDeque<T>();
+            this.demand = new AtomicLong();
+            this.pendingDrains = new AtomicInteger();
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                failure = new IllegalArgumentException(ERROR_NON_POSITIVE_REQUEST);
+            } else {
+                demand.getAndUpdate(current -> current + n < 0 ? Long.MAX_VALUE : current + n);
+            }
+            schedule();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            schedule();
+        }
+
+        /**
+         * Schedules a drain unless one is scheduled or running already, in which
+         * case that drain runs once more.
+         */
+        private void schedule() {
+            if (pendingDrains.getAndIncrement() == 0) {
+                executor.execute(this);
+            }
+        }
+
+        @Override
+        public void run() {
+            int missed = 1;
+            do {
+                drain();
+                missed = pendingDrains.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        /**
+         * Signals buffered elements while there is demand, reading the next page
+         * whenever the buffer is empty.
+         */
+        private void drain() {
+            if (cancelled) {
+                buffer.clear();
+                return;
+            }
+            if (failure != null) {
+                terminate();
+                subscriber.onError(failure);
+                return;
+            }
+
+            while (!cancelled && demand.get() > 0) {
+                if (buffer.isEmpty()) {
+                    if (!exhausted && !readPage()) {
+                        return;
+                    }
+                    if (buffer.isEmpty()) {
+                        terminate();
+                        subscriber.onComplete();
+                        return;
+                    }
+                }
+                subscriber.onNext(buffer.poll());
+                if (demand.get() != Long.MAX_VALUE) {
+                    demand.decrementAndGet();
+                }
+            }
+            if (!cancelled && exhausted && buffer.isEmpty()) {
+                terminate();
+                subscriber.onComplete();
+            }
+        }
+
+        /**
+         * Reads the next page of the result into the buffer while holding the read
+         * lock.
+         * 
+         * @return false if the source failed and the subscriber got the error,
+         *         true otherwise.
+         */
+        private boolean readPage() {
+            List<T> page;
+            Lock readLock = lock.readLock();
+            readLock.lock();
+            try {
+                page = source.nextPage(pageSize);
+            } catch (RuntimeException exception) {
+                page = null;
+                failure = exception;
+            } finally {
+                readLock.unlock();
+            }
+            if (page == null) {
+                terminate();
+                subscriber.onError(failure);
+                return false;
+            }
+            buffer.addAll(page);
+            exhausted = page.size() < pageSize;
+            return true;
+        }
+
+        /**
+         * Ends the subscription before its terminal signal, so no further signal
+         * follows it.
+         */
+        private void terminate() {
+            cancelled = true;
+            buffer.clear();
+        }
+    }
+}
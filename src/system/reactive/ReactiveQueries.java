@@ -0,0 +1,201 @@
+package system.reactive;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+
+import article.Article;
+import printFormat.CitationStyle;
+import system.KastelScholar;
+import system.page.Page;
+
+/**
+ * Offers the long-running queries of a system as reactive streams. The results
+ * are read page by page as subscribers request them and end early when a
+ * subscriber cancels, so no result is held in memory as a whole.
+ * 
+ * Identifier results are read with keyset cursors, like the paged commands,
+ * and therefore stay consistent when articles are added between two pages.
+ * 
+ * @author Emir Yuksel
+ * @version 1.0
+ */
+public class ReactiveQueries {
+
+    /**
+     * Default maximum number of elements read at once.
+     */
+    public static final int DEFAULT_PAGE_SIZE = 256;
+
+    private static final String ERROR_AUTHOR_NOT_FOUND = "author not found: ";
+    private static final String ERROR_ARTICLE_NOT_FOUND = "article not found: ";
+
+    private final KastelScholar kastelScholar;
+    private final Executor executor;
+    private final int pageSize;
+
+    /**
+     * Creates new reactive queries which call their subscribers on the common
+     * fork join pool.
+     * 
+     * @param kastelScholar System to query.
+     */
+    public ReactiveQueries(KastelScholar kastelScholar) {
+        this(kastelScholar, ForkJoinPool.commonPool(), DEFAULT_PAGE_SIZE);
+    }
+
+    /**
+     * Creates new reactive queries.
+     * 
+     * @param kastelScholar System to query.
+     * @param executor      Executor which reads the pages and calls the
+     *                      subscribers.
+     * @param pageSize      Maximum number of elements read at once.
+     */
+    public ReactiveQueries(KastelScholar kastelScholar, Executor executor, int pageSize) {
+        this.kastelScholar = kastelScholar;
+        this.executor = executor;
+        this.pageSize = pageSize;
+    }
+
+    /**
+     * Publishes the identifiers of all publications, sorted.
+     * 
+     * @return publisher of the identifiers
+     */
+    public Flow.Publisher<String> allPublications() {
+        return identifiers(kastelScholar::getAllPublicationsFromSystem);
+    }
+
+    /**
+     * Publishes the identifiers of the publications which are written by at
+     * least one author of a list, sorted.
+     * 
+     * @param authors Full names of the authors.
+     * @return publisher of the identifiers
+     */
+    public Flow.Publisher<String> publicationsBy(List<String> authors) {
+        List<String> searchedAuthors = new ArrayList<String>(authors);
+        return identifiers(page -> kastelScholar.getPublicationsBy(searchedAuthors, page));
+    }
+
+    /**
+     * Publishes the identifiers of the publications which have all keywords of a
+     * list, sorted.
+     * 
+     * @param keywords Keywords to check.
+     * @return publisher of the identifiers
+     */
+    public Flow.Publisher<String> findByKeywords(List<String> keywords) {
+        List<String> searchedKeywords = new ArrayList<String>(keywords);
+        return identifiers(page -> kastelScholar.getFindByKeywords(searchedKeywords, page));
+    }
+
+    /**
+     * Publishes the identifiers of the foreign citations of an author, sorted.
+     * Subscribers get an {@link IllegalArgumentException} if the author does not
+     * exist.
+     * 
+     * @param author Full name of the author.
+     * @return publisher of the identifiers
+     */
+    public Flow.Publisher<String> foreignCitationsOf(String author) {
+        return identifiers(page -> {
+            if (kastelScholar.searchAuthor(author) == null) {
+                throw new IllegalArgumentException(ERROR_AUTHOR_NOT_FOUND + author);
+            }
+            return kastelScholar.getForeignCitationsOf(author, page);
+        });
+    }
+
+    /**
+     * Publishes the bibliography entries of articles in a citation style, in
+     * bibliography order. The articles are sorted once, their entries are
+     * formatted page by page. Subscribers get an {@link IllegalArgumentException}
+     * if an article does not exist.
+     * 
+     * @param style Style to format.
+     * @param id    Identifiers of the articles.
+     * @return publisher of the entries
+     */
+    public Flow.Publisher<String> bibliography(CitationStyle style, List<String> id) {
+        List<String> identifiers = new ArrayList<String>(id);
+        return new QueryPublisher<String>(kastelScholar.getLock(), () -> new BibliographySource(style, identifiers),
+                executor, pageSize);
+    }
+
+    /**
+     * Publishes the identifiers of any paged query, sorted. The query is called
+     * while holding the read lock, with a cursor behind the last identifier read.
+     * 
+     * @param query Gets a page of the sorted identifiers.
+     * @return publisher of the identifiers
+     */
+    public Flow.Publisher<String> identifiers(Function<Page, List<String>> query) {
+        return new QueryPublisher<String>(kastelScholar.getLock(), () -> new IdentifierSource(query), executor,
+                pageSize);
+    }
+
+    /**
+     * Reads sorted identifiers with a cursor behind the last identifier read.
+     */
+    private static final class IdentifierSource implements PageSource<String> {
+        private final Function<Page, List<String>> query;
+        private String after;
+
+        IdentifierSource(Function<Page, List<String>> query) {
+            this.query = query;
+        }
+
+        @Override
+        public List<String> nextPage(int limit) {
+            List<String> page = query.apply(new Page(after, limit));
+            if (!page.isEmpty()) {
+                after = page.get(page.size() - 1);
+            }
+            return page;
+        }
+    }
+
+    /**
+     * Formats the entries of sorted articles, one page at a time.
+     */
+    private final class BibliographySource implements PageSource<String> {
+        private final CitationStyle style;
+        private final List<String> id;
+        private Article[] articles;
+        private int position;
+
+        BibliographySource(CitationStyle style, List<String> id) {
+            this.style = style;
+            this.id = id;
+        }
+
+        @Override
+        public List<String> nextPage(int limit) {
+            if (articles == null) {
+                for (String identifier : id) {
+                    if (kastelScholar.getArticleById(identifier) == null) {
+                        throw new IllegalArgumentException(ERROR_ARTICLE_NOT_FOUND + identifier);
+                    }
+                }
+                articles = kastelScholar.getBibliographyOrder(id);
+            }
+            if (position == articles.length) {
+                return Collections.emptyList();
+            }
+
+            int end = Math.min(articles.length, position + limit);
+            List<String> page = new ArrayList<String>(end - position);
+            while (position < end) {
+                page.add(kastelScholar.getBibliographyEntry(style, articles[position]));
+                position++;
+            }
+            return page;
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package system.replication;
+
+/**
+ * Tracks how many changing commands a system has applied. On a primary this is
+ * the position of its replication log, on a replica the position up to which
+ * it has applied the log of its primary.
+ * 
+ * @author Emir Yuksel
+ * @version 1.0
+ */
+public class LogPosition {
+    private long applied;
+    private long primary;
+    private String stopReason;
+
+    /**
+     * Gets the number of applied changing commands.
+     * 
+     * @return applied position
+     */
+    public synchronized long getApplied() {
+        return applied;
+    }
+
+    /**
+     * Gets how many changing commands the primary has applied that are not applied
+     * here yet. Is always 0 on a primary.
+     * 
+     * @return replication lag
+     */
+    public synchronized long getLag() {
+        return Math.max(0, primary - applied);
+    }
+
+    /**
+     * Advances the position after a changing command is applied.
+     */
+    public synchronized void advance() {
+        applied++;
+        if (primary < applied) {
+            primary = applied;
+        }
+        notifyAll();
+    }
+
+    /**
+     * Marks that the system stopped applying the log of its primary, because it
+     * can no longer follow it. Wakes up all threads awaiting a position.
+     * 
+     * @param reason Why the system cannot follow its primary.
+     */
+    public synchronized void stop(String reason) {
+        stopReason = reason;
+        notifyAll();
+    }
+
+    /**
+     * Checks whether the system stopped applying the log of its primary.
+     * 
+     * @return true if replication stopped
+     */
+    public synchronized boolean isStopped() {
+        return stopReason != null;
+    }
+
+    /**
+     * Gets why the system stopped applying the log of its primary.
+     * 
+     * @return reason of the stop, null if replication did not stop.
+     */
+    public synchronized String getStopReason() {
+        return stopReason;
+    }
+
+    /**
+     * Updates the position of the primary, as last reported by it.
+     * 
+     * @param position Position of the primary.
+     */
+    public synchronized void setPrimary(long position) {
+        if (primary < position) {
+            primary = position;
+        }
+    }
+
+    /**
+     * Waits until at least the given position is applied.
+     * 
+     * @param position      Position to wait for.
+     * @param timeoutMillis Maximum time to wait in milliseconds.
+     * @return true if the position is applied, false if the time ran out or
+     *         replication stopped.
+     * @throws InterruptedException if the thread is interrupted while waiting.
+     */
+    public synchronized boolean await(long position, long timeoutMillis) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + timeoutMillis;
+        while (applied < position) {
+            if (stopReason != null) {
+                return false;
+            }
+            long remaining = deadline - System.currentTimeMillis();
+            if (remaining <= 0) {
+                return false;
+            }
+            wait(remaining);
+        }
+        return true;
+    }
+}
@@ -0,0 +1,132 @@
+package system.replication;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Streams the replication log of a primary to its replicas over a local
+ * socket.
+ * 
+ * A replica sends one line "FROM position" and then receives every command
+ * after this position as a line "E command", in batches of at most 1024
+ * commands. After every batch, and once per second while the log does not
+ * change, the primary sends "H position" with its current position, so
+ * replicas know their lag. If the position is not in the log, e.g. because the
+ * replica followed another primary, the primary sends "R position" with its
+ * current position instead and closes the connection.
+ * 
+ * @author Emir Yuksel
+ * @version 1.0
+ */
+public class LogShipper implements Closeable {
+
+    static final String FROM = "FROM ";
+    static final String ENTRY = "E ";
+    static final String HEAD = "H ";
+    static final String REJECTED = "R ";
+
+    private static final long HEARTBEAT_MILLIS = 1000;
+    private static final int BATCH_ENTRIES = 1024;
+
+    private final ReplicationLog log;
+    private final ServerSocket serverSocket;
+
+    /**
+     * Creates a new log shipper which listens on the loopback interface.
+     * 
+     * @param log  Log to ship.
+     * @param port Port to listen on for replicas, 0 for any free port.
+     * @throws IOException if the port cannot be bound.
+     */
+    public LogShipper(ReplicationLog log, int port) throws IOException {
+        this.log = log;
+        this.serverSocket = new ServerSocket(port, 0, InetAddress.getLoopbackAddress());
+    }
+
+    /**
+     * Gets the port the shipper listens on.
+     * 
+     * @return port for replicas
+     */
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    /**
+     * Accepts replicas on a background thread until the shipper is closed. Every
+     * replica is served by its own thread.
+     */
+    public void start() {
+        Thread acceptor = new Thread(() -> {
+            while (!serverSocket.isClosed()) {
+                try {
+                    Socket socket = serverSocket.accept();
+                    Thread sender = new Thread(() -> ship(socket), "log-shipper");
+                    sender.setDaemon(true);
+                    sender.start();
+                } catch (IOException exception) {
+                    // The server socket is closed.
+                }
+            }
+        }, "log-shipper-acceptor");
+        acceptor.setDaemon(true);
+        acceptor.start();
+    }
+
+    /**
+     * Ships the log to one replica until it disconnects.
+     * 
+     * @param socket Connection to the replica.
+     */
+    private void ship(Socket socket) {
+        try (Socket connection = socket;
+                BufferedReader input = new BufferedReader(
+                        new InputStreamReader(connection.getInputStream(), StandardCharsets.UTF_8));
+                Writer output = new BufferedWriter(
+                        new OutputStreamWriter(connection.getOutputStream(), StandardCharsets.UTF_8))) {
+
+            String request = input.readLine();
+            if (request == null || !request.startsWith(FROM)) {
+                return;
+            }
+            ReplicationLog.Cursor cursor;
+            try {
+                cursor = log.read(Long.parseLong(request.substring(FROM.length())));
+            } catch (IllegalArgumentException exception) {
+                output.write(REJECTED + log.getPosition() + "\n");
+                output.flush();
+                return;
+            }
+
+            try (ReplicationLog.Cursor entries = cursor) {
+                while (!serverSocket.isClosed()) {
+                    for (String entry : entries.next(BATCH_ENTRIES, HEARTBEAT_MILLIS)) {
+                        output.write(ENTRY);
+                        output.write(entry);
+                        output.write('\n');
+                    }
+                    output.write(HEAD + log.getPosition() + "\n");
+                    output.flush();
+                }
+            }
+        } catch (IOException exception) {
+            // The replica disconnected.
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        serverSocket.close();
+    }
+}
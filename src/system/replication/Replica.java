@@ -0,0 +1,168 @@
+package system.replication;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+
+import system.KastelScholar;
+import system.interaction.Command;
+import system.interaction.InputException;
+
+/**
+ * Follows the replication log of a primary and applies it to its own system.
+ * The system of a replica only accepts commands which read from it.
+ * 
+ * If a command of the log fails, or the primary rejects the position of the
+ * replica, e.g. because the replica has applied more commands than the primary
+ * has logged, the replica cannot follow it. It stops replication, and the
+ * replication commands of its system report the error together with its
+ * reason.
+ * 
+ * @author Emir Yuksel
+ * @version 1.0
+ */
+public class Replica implements Closeable {
+
+    private static final long RECONNECT_MILLIS = 1000;
+
+    private final KastelScholar kastelScholar;
+    private final String host;
+    private final int port;
+    private volatile boolean running;
+    private volatile Socket socket;
+
+    /**
+     * Creates a new replica. The system becomes read-only.
+     * 
+     * @param kastelScholar System to apply the log to. Must be empty.
+     * @param host          Host of the primary.
+     * @param port          Port of the log shipper of the primary.
+     */
+    public Replica(KastelScholar kastelScholar, String host, int port) {
+        this.kastelScholar = kastelScholar;
+        this.host = host;
+        this.port = port;
+        kastelScholar.setReadOnly(true);
+    }
+
+    /**
+     * Starts following the primary on a background thread. If the connection is
+     * lost, the replica reconnects and continues at its current position.
+     */
+    public void start() {
+        this.running = true;
+        Thread follower = new Thread(() -> {
+            while (running) {
+                try {
+                    follow();
+                } catch (IOException exception) {
+                    // The primary is not reachable, try again later.
+                }
+                try {
+                    Thread.sleep(RECONNECT_MILLIS);
+                } catch (InterruptedException exception) {
+                    return;
+                }
+            }
+        }, "replica");
+        follower.setDaemon(true);
+        follower.start();
+    }
+
+    /**
+     * Gets the position of the log up to which the replica has applied it.
+     * 
+     * @return applied position
+     */
+    public long getPosition() {
+        return kastelScholar.getLogPosition().getApplied();
+    }
+
+    /**
+     * Gets how many commands of the primary are not applied yet.
+     * 
+     * @return replication lag
+     */
+    public long getLag() {
+        return kastelScholar.getLogPosition().getLag();
+    }
+
+    /**
+     * Gets why the replica stopped following its primary.
+     * 
+     * @return reason of the stop, null if replication did not stop.
+     */
+    public String getStopReason() {
+        return kastelScholar.getLogPosition().getStopReason();
+    }
+
+    /**
+     * Connects to the primary and applies its log until the connection ends.
+     * 
+     * @throws IOException if the connection fails.
+     */
+    private void follow() throws IOException {
+        try (Socket connection = new Socket(host, port);
+                BufferedReader input = new BufferedReader(
+                        new InputStreamReader(connection.getInputStream(), StandardCharsets.UTF_8))) {
+            this.socket = connection;
+            Writer output = new OutputStreamWriter(connection.getOutputStream(), StandardCharsets.UTF_8);
+            output.write(LogShipper.FROM + getPosition() + "\n");
+            output.flush();
+
+            String line;
+            while (running && (line = input.readLine()) != null) {
+                if (line.startsWith(LogShipper.ENTRY)) {
+                    apply(line.substring(LogShipper.ENTRY.length()));
+                } else if (line.startsWith(LogShipper.HEAD)) {
+                    long position = Long.parseLong(line.substring(LogShipper.HEAD.length()));
+                    kastelScholar.getLogPosition().setPrimary(position);
+                } else if (line.startsWith(LogShipper.REJECTED)) {
+                    stop("primary at position " + line.substring(LogShipper.REJECTED.length())
+                            + " rejected position " + getPosition());
+                }
+            }
+        }
+    }
+
+    /**
+     * Applies one command of the log.
+     * 
+     * @param command Command to apply.
+     */
+    private void apply(String command) {
+        try {
+            Command.parse(command).apply(kastelScholar);
+        } catch (InputException exception) {
+            /*
+             * The primary applied the command, so the system no longer matches it. Every
+             * following command could apply differently, so the replica stops.
+             */
+            stop("command " + getPosition() + " \"" + command + "\" failed: " + exception.getMessage());
+        }
+    }
+
+    /**
+     * Stops replication because the replica cannot follow the primary.
+     * 
+     * @param reason Why the replica cannot follow the primary.
+     */
+    private void stop(String reason) {
+        this.running = false;
+        kastelScholar.getLogPosition().stop(reason);
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.running = false;
+        Socket connection = this.socket;
+        if (connection != null) {
+            connection.close();
+        }
+    }
+}
@@ -0,0 +1,237 @@
+package system.replication;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The log of all changing commands a primary has applied, in the order they
+ * are applied. Replicas which apply the same commands in the same order end up
+ * in the same state.
+ * 
+ * The log is written to segment files of a fixed number of commands in a
+ * directory, so new replicas can always start from the beginning. Only the
+ * commands of the segment being written are kept in memory, so the memory of
+ * the log is bounded by one segment no matter how long the primary runs. A new
+ * log starts empty and overwrites the segments of earlier logs in the
+ * directory.
+ * 
+ * @author Emir Yuksel
+ * @version 1.0
+ */
+public class ReplicationLog implements Closeable {
+    /**
+     * System property with the directory to write the log to. A temporary
+     * directory is used if it is not set.
+     */
+    public static final String DIRECTORY_PROPERTY = "kastelscholar.replicationLog.directory";
+    /**
+     * Number of commands in a segment if none is given.
+     */
+    public static final int DEFAULT_SEGMENT_ENTRIES = 65536;
+
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".log";
+    private static final String TEMPORARY_DIRECTORY_PREFIX = "replication-log";
+
+    private final Path directory;
+    private final int segmentEntries;
+    private final List<String> tail = new ArrayList<String>();
+    private long tailStart;
+    private Writer segment;
+
+    /**
+     * Creates a new log in the directory of {@link #DIRECTORY_PROPERTY}, or in a
+     * new temporary directory if it is not set.
+     * 
+     * @throws IOException if the directory cannot be created.
+     */
+    public ReplicationLog() throws IOException {
+        this(System.getProperty(DIRECTORY_PROPERTY) == null
+                ? Files.createTempDirectory(TEMPORARY_DIRECTORY_PREFIX)
+                : Files.createDirectories(Path.of(System.getProperty(DIRECTORY_PROPERTY))),
+                DEFAULT_SEGMENT_ENTRIES);
+    }
+
+    /**
+     * Creates a new log.
+     * 
+     * @param directory      Existing directory to write the segments to.
+     * @param segmentEntries Number of commands in a segment, at least 1.
+     */
+    public ReplicationLog(Path directory, int segmentEntries) {
+        if (segmentEntries < 1) {
+            throw new IllegalArgumentException("segmentEntries must be at least 1");
+        }
+        this.directory = directory;
+        this.segmentEntries = segmentEntries;
+    }
+
+    /**
+     * Appends a command to the log.
+     * 
+     * @param command Command which is applied. Must not contain line breaks.
+     * @throws UncheckedIOException if the segment cannot be written.
+     */
+    public synchronized void append(String command) {
+        try {
+            if (segment == null) {
+                segment = Files.newBufferedWriter(segmentPath(tailStart), StandardCharsets.UTF_8);
+            }
+            segment.write(command);
+            segment.write('\n');
+            tail.add(command);
+            if (tail.size() == segmentEntries) {
+                segment.close();
+                segment = null;
+                tailStart += tail.size();
+                tail.clear();
+            }
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+        notifyAll();
+    }
+
+    /**
+     * Gets the position of the log, which is the number of commands in it.
+     * 
+     * @return position of the log
+     */
+    public synchronized long getPosition() {
+        return tailStart + tail.size();
+    }
+
+    /**
+     * Opens a cursor which reads the commands after a position.
+     * 
+     * @param position Position to start after.
+     * @return cursor at the position
+     * @throws IllegalArgumentException if the position is negative or beyond the
+     *                                  position of the log.
+     */
+    public synchronized Cursor read(long position) {
+        if (position < 0 || position > getPosition()) {
+            throw new IllegalArgumentException("position " + position + " is not in the log");
+        }
+        return new Cursor(position);
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (segment != null) {
+            segment.close();
+            segment = null;
+        }
+    }
+
+    /**
+     * Gets the file of the segment which starts at a position.
+     * 
+     * @param start Position of the first command of the segment.
+     * @return path of the segment
+     */
+    private Path segmentPath(long start) {
+        return directory.resolve(SEGMENT_PREFIX + start + SEGMENT_SUFFIX);
+    }
+
+    /**
+     * Reads the commands of the log in batches of bounded size. Commands of the
+     * segment being written are copied from memory, commands of completed
+     * segments are streamed from their files without holding the log.
+     * 
+     * @author Emir Yuksel
+     * @version 1.0
+     */
+    public final class Cursor implements Closeable {
+        private long position;
+        private BufferedReader reader;
+
+        /**
+         * Creates a new cursor.
+         * 
+         * @param position Position to start after.
+         */
+        private Cursor(long position) {
+            this.position = position;
+        }
+
+        /**
+         * Gets the position up to which the cursor has read the log.
+         * 
+         * @return position of the cursor
+         */
+        public long getPosition() {
+            return position;
+        }
+
+        /**
+         * Gets the next commands. Waits for new commands if there are none.
+         * 
+         * @param maxEntries    Maximum number of commands to return.
+         * @param timeoutMillis Maximum time to wait for new commands in
+         *                      milliseconds.
+         * @return the next commands, empty if none arrived in time.
+         * @throws IOException          if a segment cannot be read.
+         * @throws InterruptedException if the thread is interrupted while waiting.
+         */
+        public List<String> next(int maxEntries, long timeoutMillis) throws IOException, InterruptedException {
+            synchronized (ReplicationLog.this) {
+                if (position == ReplicationLog.this.getPosition()) {
+                    ReplicationLog.this.wait(timeoutMillis);
+                }
+                if (position >= tailStart) {
+                    int from = (int) (position - tailStart);
+                    int to = (int) Math.min(tail.size(), from + (long) maxEntries);
+                    List<String> entries = new ArrayList<String>(tail.subList(from, to));
+                    position += entries.size();
+                    return entries;
+                }
+            }
+            return readSegment(maxEntries);
+        }
+
+        /**
+         * Reads the next commands from the completed segment the position is in.
+         * 
+         * @param maxEntries Maximum number of commands to return.
+         * @return the next commands of the segment
+         * @throws IOException if the segment cannot be read.
+         */
+        private List<String> readSegment(int maxEntries) throws IOException {
+            long segmentStart = position - position % segmentEntries;
+            if (reader == null) {
+                reader = Files.newBufferedReader(segmentPath(segmentStart), StandardCharsets.UTF_8);
+                for (long skipped = segmentStart; skipped < position; skipped++) {
+                    reader.readLine();
+                }
+            }
+            int count = (int) Math.min(maxEntries, segmentStart + segmentEntries - position);
+            List<String> entries = new ArrayList<String>(count);
+            for (int i = 0; i < count; i++) {
+                entries.add(reader.readLine());
+            }
+            position += count;
+            if (position == segmentStart + segmentEntries) {
+                reader.close();
+                reader = null;
+            }
+            return entries;
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (reader != null) {
+                reader.close();
+                reader = null;
+            }
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package system.shard;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import article.Article;
+import system.event.AuthorsAttached;
+import system.event.ChangeEvent;
+import system.event.KeywordsAdded;
+
+/**
+ * A shard which runs in a child process on the same machine, see
+ * {@link ShardProcess}. Changes are sent to the process without waiting, and
+ * every query waits for the answer of the process. The shard talks to its
+ * process over one pipe, so queries of several threads are answered one after
+ * another.
+ * 
+ * @author Emir Yuksel
+ * @version 1.0
+ */
+public class RemoteShard implements ShardNode {
+
+    private static final long EXIT_TIMEOUT_SECONDS = 10;
+
+    private final Process process;
+    private final Writer requests;
+    private final BufferedReader answers;
+
+    /**
+     * Starts a shard process with the class path of this process.
+     * 
+     * @throws IOException if the process cannot be started.
+     */
+    public RemoteShard() throws IOException {
+        String java = Paths.get(System.getProperty("java.home"), "bin", "java").toString();
+        this.process = new ProcessBuilder(java, "-cp", System.getProperty("java.class.path"),
+                ShardProcess.class.getName()).redirectError(ProcessBuilder.Redirect.INHERIT).start();
+        this.requests = new BufferedWriter(
+                new OutputStreamWriter(process.getOutputStream(), StandardCharsets.UTF_8));
+        this.answers = new BufferedReader(new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public synchronized void onChange(ChangeEvent event) {
+        switch (event.getType()) {
+            case ARTICLE_ADDED:
+                Article article = event.getArticle();
+                send(ShardProcess.ADD_ARTICLE, article.getId(), ShardProcess.joinList(article.getKeywords()),
+                        ShardProcess.joinList(Shard.namesOf(article.getAuthor())));
+                break;
+            case KEYWORDS_ADDED:
+                KeywordsAdded keywordsAdded = (KeywordsAdded) event;
+                String keywords = ShardProcess.joinList(keywordsAdded.getKeywords());
+                for (Article changed : Shard.changedArticles(keywordsAdded)) {
+                    send(ShardProcess.ADD_KEYWORDS, changed.getId(), keywords);
+                }
+                break;
+            case AUTHORS_ATTACHED:
+                send(ShardProcess.ATTACH_AUTHORS, event.getArticle().getId(),
+                        ShardProcess.joinList(Shard.namesOf(((AuthorsAttached) event).getAuthors())));
+                break;
+            default:
+                break;
+        }
+    }
+
+    @Override
+    public ShardResult allPublications() {
+        return query(ShardProcess.ALL, "");
+    }
+
+    @Override
+    public ShardResult findByKeywords(List<String> keywords) {
+        return query(ShardProcess.KEYWORDS, ShardProcess.joinList(keywords));
+    }
+
+    @Override
+    public ShardResult publicationsBy(List<String> authors) {
+        return query(ShardProcess.AUTHORS, ShardProcess.joinList(authors));
+    }
+
+    /**
+     * Ends the input of the process and waits for it to stop.
+     */
+    @Override
+    public synchronized void close() {
+        try {
+            requests.close();
+            if (!process.waitFor(EXIT_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+            }
+        } catch (IOException exception) {
+            process.destroyForcibly();
+        } catch (InterruptedException exception) {
+            process.destroyForcibly();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Sends a query to the process and reads its answer.
+     * 
+     * @param query     Name of the query.
+     * @param arguments Arguments of the query as a list field.
+     * @return the answer of the process
+     * @throws UncheckedIOException if the process cannot be reached.
+     */
+    private synchronized ShardResult query(String query, String arguments) {
+        send(ShardProcess.QUERY, query, arguments);
+        try {
+            requests.flush();
+            String header = answers.readLine();
+            if (header == null) {
+                throw new IOException("shard process stopped");
+            }
+            String[] fields = header.split(ShardProcess.FIELD_SEPARATOR);
+            int count = Integer.parseInt(fields[1]);
+            List<String> identifiers = new ArrayList<String>(count);
+            for (int i = 0; i < count; i++) {
+                identifiers.add(answers.readLine());
+            }
+            return new ShardResult(identifiers, Long.parseLong(fields[0]));
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    /**
+     * Sends a line of tab separated fields to the process.
+     * 
+     * @param fields Fields of the line.
+     * @throws UncheckedIOException if the process cannot be reached.
+     */
+    private void send(String... fields) {
+        try {
+            requests.write(String.join(ShardProcess.FIELD_SEPARATOR, fields));
+            requests.write('\n');
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+}
@@ -0,0 +1,298 @@
+package system.shard;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+
+import article.Article;
+import author.Author;
+import system.event.AuthorsAttached;
+import system.event.ChangeEvent;
+import system.event.KeywordsAdded;
+import system.metrics.MemoryReport;
+
+/**
+ * A partition of the articles in the system. All articles of a venue live in
+ * the same shard. Each shard keeps the identifiers of its articles sorted,
+ * together with sorted posting lists of the identifiers per keyword and per
+ * author and of the articles without authors, so its queries only read the
+ * postings of their arguments.
+ * 
+ * The shard only knows the identifiers, keywords and author names of its
+ * articles, so the same shard can also run in a process of its own, see
+ * {@link ShardProcess}.
+ * 
+ * @author Emir Yuksel
+ * @version 1.0
+ */
+public class Shard implements ShardNode {
+    private static final long SHALLOW_SIZE = MemoryReport.shallowSize(Shard.class);
+
+    private final NavigableSet<String> identifiers;
+    private final NavigableSet<String> withoutAuthors;
+    private final Map<String, NavigableSet<String>> byKeyword;
+    private final Map<String, NavigableSet<String>> byAuthor;
+
+    /**
+     * Creates a new shard.
+     */
+    public Shard() {
+        this.identifiers = new TreeSet<String>();
+        this.withoutAuthors = new TreeSet<String>();
+        this.byKeyword = new HashMap<String, NavigableSet<String>>();
+        this.byAuthor = new HashMap<String, NavigableSet<String>>();
+    }
+
+    @Override
+    public void onChange(ChangeEvent event) {
+        switch (event.getType()) {
+            case ARTICLE_ADDED:
+                Article article = event.getArticle();
+                addArticle(article.getId(), article.getKeywords(), namesOf(article.getAuthor()));
+                break;
+            case KEYWORDS_ADDED:
+                KeywordsAdded keywordsAdded = (KeywordsAdded) event;
+                for (Article changed : changedArticles(keywordsAdded)) {
+                    addKeywords(changed.getId(), keywordsAdded.getKeywords());
+                }
+                break;
+            case AUTHORS_ATTACHED:
+                attachAuthors(event.getArticle().getId(), namesOf(((AuthorsAttached) event).getAuthors()));
+                break;
+            default:
+                break;
+        }
+    }
+
+    /**
+     * Adds an article to the shard.
+     * 
+     * @param identifier Identifier of the article.
+     * @param keywords   Keywords of the article.
+     * @param authors    Full names of the authors of the article.
+     */
+    public void addArticle(String identifier, Collection<String> keywords, Collection<String> authors) {
+        this.identifiers.add(identifier);
+        if (authors.isEmpty()) {
+            this.withoutAuthors.add(identifier);
+        }
+        addPostings(byKeyword, keywords, identifier);
+        addPostings(byAuthor, authors, identifier);
+    }
+
+    /**
+     * Adds keywords to an article of the shard. Articles which are not in the
+     * shard are ignored.
+     * 
+     * @param identifier Identifier of the article.
+     * @param keywords   Keywords which are added.
+     */
+    public void addKeywords(String identifier, Collection<String> keywords) {
+        if (this.identifiers.contains(identifier)) {
+            addPostings(byKeyword, keywords, identifier);
+        }
+    }
+
+    /**
+     * Attaches authors to an article of the shard. Articles which are not in the
+     * shard are ignored.
+     * 
+     * @param identifier Identifier of the article.
+     * @param authors    Full names of the authors which are attached.
+     */
+    public void attachAuthors(String identifier, Collection<String> authors) {
+        if (this.identifiers.contains(identifier) && !authors.isEmpty()) {
+            this.withoutAuthors.remove(identifier);
+            addPostings(byAuthor, authors, identifier);
+        }
+    }
+
+    /**
+     * Gets the number of articles in the shard.
+     * 
+     * @return number of articles
+     */
+    public int size() {
+        return identifiers.size();
+    }
+
+    /**
+     * Estimates the heap the postings of the shard retain.
+     * 
+     * @return estimated bytes, without the identifiers and names the postings
+     *         share with the articles and authors
+     */
+    public long estimateBytes() {
+        return SHALLOW_SIZE + MemoryReport.treeSetSize(identifiers.size())
+                + MemoryReport.treeSetSize(withoutAuthors.size()) + postingsSize(byKeyword) + postingsSize(byAuthor);
+    }
+
+    @Override
+    public ShardResult allPublications() {
+        return new ShardResult(new ArrayList<String>(identifiers), identifiers.size());
+    }
+
+    @Override
+    public ShardResult findByKeywords(List<String> keywords) {
+        List<ShardCursor.Source> sources = new ArrayList<ShardCursor.Source>();
+        addKeywordSources(keywords, null, sources);
+        return new ShardCursor(sources).drain();
+    }
+
+    @Override
+    public ShardResult publicationsBy(List<String> authors) {
+        List<ShardCursor.Source> sources = new ArrayList<ShardCursor.Source>();
+        addAuthorSources(authors, null, sources);
+        return new ShardCursor(sources).drain();
+    }
+
+    @Override
+    public void close() {
+        // The shard holds no resources besides its memory.
+    }
+
+    /**
+     * Adds the source of all articles after an identifier.
+     * 
+     * @param after   Identifier after which the source starts, null to start at
+     *                the first identifier.
+     * @param sources Sources to add to.
+     */
+    void addAllSources(String after, List<ShardCursor.Source> sources) {
+        sources.add(new ShardCursor.Source(tail(identifiers, after).iterator(), null));
+    }
+
+    /**
+     * Adds the source of the articles without authors after an identifier.
+     * 
+     * @param after   Identifier after which the source starts, null to start at
+     *                the first identifier.
+     * @param sources Sources to add to.
+     */
+    void addInvalidSources(String after, List<ShardCursor.Source> sources) {
+        sources.add(new ShardCursor.Source(tail(withoutAuthors, after).iterator(), null));
+    }
+
+    /**
+     * Adds the source of the articles with all keywords of a list after an
+     * identifier. The source iterates the shortest posting list of the keywords
+     * and looks the candidates up in the others.
+     * 
+     * @param keywords Keywords to check.
+     * @param after    Identifier after which the source starts, null to start at
+     *                 the first identifier.
+     * @param sources  Sources to add to.
+     */
+    void addKeywordSources(List<String> keywords, String after, List<ShardCursor.Source> sources) {
+        if (keywords.isEmpty()) {
+            addAllSources(after, sources);
+            return;
+        }
+        List<NavigableSet<String>> postings = new ArrayList<NavigableSet<String>>(keywords.size());
+        for (String keyword : keywords) {
+            NavigableSet<String> posting = byKeyword.get(keyword);
+            if (posting == null) {
+                return;
+            }
+            postings.add(posting);
+        }
+        postings.sort((left, right) -> Integer.compare(left.size(), right.size()));
+        List<NavigableSet<String>> others = postings.subList(1, postings.size());
+        sources.add(new ShardCursor.Source(tail(postings.get(0), after).iterator(), identifier -> {
+            for (NavigableSet<String> posting : others) {
+                if (!posting.contains(identifier)) {
+                    return false;
+                }
+            }
+            return true;
+        }));
+    }
+
+    /**
+     * Adds the sources of the articles of each author of a list after an
+     * identifier. The cursor merging the sources drops the articles of several
+     * authors of the list.
+     * 
+     * @param authors Full names of the authors.
+     * @param after   Identifier after which the sources start, null to start at
+     *                the first identifier.
+     * @param sources Sources to add to.
+     */
+    void addAuthorSources(List<String> authors, String after, List<ShardCursor.Source> sources) {
+        for (String author : authors) {
+            NavigableSet<String> posting = byAuthor.get(author);
+            if (posting != null) {
+                sources.add(new ShardCursor.Source(tail(posting, after).iterator(), null));
+            }
+        }
+    }
+
+    /**
+     * Gets the full names of authors.
+     * 
+     * @param authors Authors to get the names.
+     * @return full names of the authors
+     */
+    static List<String> namesOf(List<Author> authors) {
+        List<String> names = new ArrayList<String>(authors.size());
+        for (Author author : authors) {
+            names.add(author.getFullName());
+        }
+        return names;
+    }
+
+    /**
+     * Gets the articles which got keywords.
+     * 
+     * @param event Change which added the keywords.
+     * @return all articles of the venue if the keywords are added to a venue, the
+     *         article otherwise.
+     */
+    static List<Article> changedArticles(KeywordsAdded event) {
+        return event.isVenueScoped() ? event.getVenue().getArticles() : Arrays.asList(event.getArticle());
+    }
+
+    /**
+     * Adds an identifier to the posting lists of several keys.
+     * 
+     * @param postings   Posting lists by key.
+     * @param keys       Keys to add the identifier to.
+     * @param identifier Identifier to add.
+     */
+    private static void addPostings(Map<String, NavigableSet<String>> postings, Collection<String> keys,
+            String identifier) {
+        for (String key : keys) {
+            postings.computeIfAbsent(key, newKey -> new TreeSet<String>()).add(identifier);
+        }
+    }
+
+    /**
+     * Estimates the size of posting lists by key.
+     * 
+     * @param postings Posting lists by key.
+     * @return estimated bytes
+     */
+    private static long postingsSize(Map<String, NavigableSet<String>> postings) {
+        long bytes = MemoryReport.hashMapSize(postings.size());
+        for (NavigableSet<String> posting : postings.values()) {
+            bytes += MemoryReport.treeSetSize(posting.size());
+        }
+        return bytes;
+    }
+
+    /**
+     * Gets the identifiers of a sorted set after an identifier.
+     * 
+     * @param identifiers Sorted identifiers.
+     * @param after       Identifier to start after, null for all identifiers.
+     * @return identifiers after the given one
+     */
+    private static NavigableSet<String> tail(NavigableSet<String> identifiers, String after) {
+        return after == null ? identifiers : identifiers.tailSet(after, false);
+    }
+}
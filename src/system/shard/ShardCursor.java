@@ -0,0 +1,147 @@
+package system.shard;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import java.util.function.Predicate;
+
+/**
+ * Iterates identifiers from several sorted sources in sorted order, without
+ * duplicates. The sources are usually posting lists of the shards, and they
+ * are merged lazily, so the cursor holds only one pending identifier per
+ * source, and iteration can start after any identifier without scanning the
+ * identifiers before it.
+ * 
+ * Like all queries, the cursor must only be used while holding the read lock
+ * of the system.
+ * 
+ * @author Emir Yuksel
+ * @version 1.0
+ */
+public class ShardCursor implements Iterator<String> {
+
+    private final PriorityQueue<Position> positions;
+    private long scanned;
+
+    /**
+     * Creates a new cursor.
+     * 
+     * @param sources Sources to merge.
+     */
+    ShardCursor(List<Source> sources) {
+        this.positions = new PriorityQueue<Position>();
+        for (Source source : sources) {
+            Position position = new Position(source);
+            if (position.advance()) {
+                positions.add(position);
+            }
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        return !positions.isEmpty();
+    }
+
+    @Override
+    public String next() {
+        Position position = positions.poll();
+        if (position == null) {
+            throw new NoSuchElementException();
+        }
+        String identifier = position.current;
+        advance(position);
+        while (!positions.isEmpty() && positions.peek().current.equals(identifier)) {
+            advance(positions.poll());
+        }
+        return identifier;
+    }
+
+    /**
+     * Gets the number of identifiers read from the sources so far.
+     * 
+     * @return number of scanned identifiers
+     */
+    public long getScanned() {
+        return scanned;
+    }
+
+    /**
+     * Reads all remaining identifiers.
+     * 
+     * @return the sorted identifiers and the number of scanned identifiers
+     */
+    ShardResult drain() {
+        List<String> identifiers = new ArrayList<String>();
+        while (hasNext()) {
+            identifiers.add(next());
+        }
+        return new ShardResult(identifiers, scanned);
+    }
+
+    /**
+     * Moves a position to its next identifier and queues it again if it has one.
+     * 
+     * @param position Position to move.
+     */
+    private void advance(Position position) {
+        if (position.advance()) {
+            positions.add(position);
+        }
+    }
+
+    /**
+     * Sorted candidate identifiers together with the check they must pass.
+     */
+    static final class Source {
+        private final Iterator<String> candidates;
+        private final Predicate<String> check;
+
+        /**
+         * Creates a new source.
+         * 
+         * @param candidates Candidates in sorted order.
+         * @param check      Check of the candidates, null to accept all of them.
+         */
+        Source(Iterator<String> candidates, Predicate<String> check) {
+            this.candidates = candidates;
+            this.check = check;
+        }
+    }
+
+    /**
+     * Position in one source.
+     */
+    private final class Position implements Comparable<Position> {
+        private final Source source;
+        private String current;
+
+        Position(Source source) {
+            this.source = source;
+        }
+
+        /**
+         * Moves to the next candidate which passes the check.
+         * 
+         * @return true if there is such a candidate, false otherwise.
+         */
+        boolean advance() {
+            while (source.candidates.hasNext()) {
+                String candidate = source.candidates.next();
+                scanned++;
+                if (source.check == null || source.check.test(candidate)) {
+                    current = candidate;
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public int compareTo(Position other) {
+            return current.compareTo(other.current);
+        }
+    }
+}
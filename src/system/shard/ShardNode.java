@@ -0,0 +1,65 @@
+package system.shard;
+
+import java.io.Closeable;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+import system.event.ChangeListener;
+import system.event.ChangeType;
+
+/**
+ * A shard which answers the queries of a {@link ShardSet} for the articles of
+ * its venues. It learns about its articles from the changes of its venues and
+ * answers every query with the identifiers of its matching articles in sorted
+ * order, so the set only needs to merge the partial results.
+ * 
+ * A shard either lives in the process of the system, see {@link Shard}, or in
+ * a process of its own, see {@link RemoteShard}.
+ * 
+ * @author Emir Yuksel
+ * @version 1.0
+ */
+public interface ShardNode extends ChangeListener, Closeable {
+
+    /**
+     * Shards only index articles, keywords and authors, so they do not want
+     * citations.
+     */
+    @Override
+    default Set<ChangeType> getChangeTypes() {
+        return EnumSet.of(ChangeType.ARTICLE_ADDED, ChangeType.KEYWORDS_ADDED, ChangeType.AUTHORS_ATTACHED);
+    }
+
+    /**
+     * Gets the identifiers of all articles of the shard.
+     * 
+     * @return sorted identifiers
+     */
+    ShardResult allPublications();
+
+    /**
+     * Gets the identifiers of the articles of the shard which have all keywords
+     * of a list.
+     * 
+     * @param keywords Keywords to check.
+     * @return sorted identifiers
+     */
+    ShardResult findByKeywords(List<String> keywords);
+
+    /**
+     * Gets the identifiers of the articles of the shard which are written by at
+     * least one author of a list.
+     * 
+     * @param authors Full names of the authors.
+     * @return sorted identifiers
+     */
+    ShardResult publicationsBy(List<String> authors);
+
+    /**
+     * Releases the resources of the shard. The shard must not be used
+     * afterwards.
+     */
+    @Override
+    void close();
+}
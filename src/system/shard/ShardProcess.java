@@ -0,0 +1,150 @@
+package system.shard;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Runs a {@link Shard} in a process of its own, as a local stand-in for shards
+ * on other machines. The process reads the changes of its articles and the
+ * queries from its standard input, one per line, and answers each query on its
+ * standard output. It stops at the end of its input.
+ * 
+ * The fields of a line are separated by tabs, the elements of a list by
+ * semicolons:
+ * <ul>
+ * <li>{@code A id keywords authors} adds an article,</li>
+ * <li>{@code K id keywords} adds keywords to an article,</li>
+ * <li>{@code W id authors} attaches authors to an article,</li>
+ * <li>{@code Q all}, {@code Q keywords keywords} and {@code Q authors authors}
+ * query the shard. The answer is a line with the number of scanned entries and
+ * of identifiers, followed by one line per identifier.</li>
+ * </ul>
+ * 
+ * @author Emir Yuksel
+ * @version 1.0
+ */
+public final class ShardProcess {
+
+    static final String ADD_ARTICLE = "A";
+    static final String ADD_KEYWORDS = "K";
+    static final String ATTACH_AUTHORS = "W";
+    static final String QUERY = "Q";
+    static final String ALL = "all";
+    static final String KEYWORDS = "keywords";
+    static final String AUTHORS = "authors";
+    static final String FIELD_SEPARATOR = "\t";
+    static final String LIST_SEPARATOR = ";";
+
+    private static final String ERROR_UTILITY_CLASS_INSTANTIATION = "Utility class cannot be instantiated.";
+
+    /**
+     * Constructs a new instance of ShardProcess.
+     * 
+     * @throws IllegalStateException if constructor is called because ShardProcess
+     *                               is a utility class.
+     */
+    private ShardProcess() {
+        throw new IllegalStateException(ERROR_UTILITY_CLASS_INSTANTIATION);
+    }
+
+    /**
+     * Serves a shard on the standard streams until the input ends.
+     * 
+     * @param args Unused.
+     * @throws IOException if the streams fail.
+     */
+    public static void main(String[] args) throws IOException {
+        BufferedReader input = new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8));
+        Writer output = new BufferedWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8));
+        Shard shard = new Shard();
+        String line;
+        while ((line = input.readLine()) != null) {
+            String[] fields = line.split(FIELD_SEPARATOR, -1);
+            switch (fields[0]) {
+                case ADD_ARTICLE:
+                    shard.addArticle(fields[1], splitList(fields[2]), splitList(fields[3]));
+                    break;
+                case ADD_KEYWORDS:
+                    shard.addKeywords(fields[1], splitList(fields[2]));
+                    break;
+                case ATTACH_AUTHORS:
+                    shard.attachAuthors(fields[1], splitList(fields[2]));
+                    break;
+                case QUERY:
+                    writeResult(query(shard, fields), output);
+                    output.flush();
+                    break;
+                default:
+                    throw new IOException("unknown shard request: " + line);
+            }
+        }
+    }
+
+    /**
+     * Answers a query line.
+     * 
+     * @param shard  Shard to query.
+     * @param fields Fields of the query line.
+     * @return result of the query
+     * @throws IOException if the query is unknown.
+     */
+    private static ShardResult query(Shard shard, String[] fields) throws IOException {
+        switch (fields[1]) {
+            case ALL:
+                return shard.allPublications();
+            case KEYWORDS:
+                return shard.findByKeywords(splitList(fields[2]));
+            case AUTHORS:
+                return shard.publicationsBy(splitList(fields[2]));
+            default:
+                throw new IOException("unknown shard query: " + fields[1]);
+        }
+    }
+
+    /**
+     * Writes the answer of a query.
+     * 
+     * @param result Result of the query.
+     * @param output Stream to write to.
+     * @throws IOException if the stream fails.
+     */
+    private static void writeResult(ShardResult result, Writer output) throws IOException {
+        output.write(result.getScanned() + FIELD_SEPARATOR + result.getIdentifiers().size() + "\n");
+        for (String identifier : result.getIdentifiers()) {
+            output.write(identifier);
+            output.write('\n');
+        }
+    }
+
+    /**
+     * Splits a list field.
+     * 
+     * @param field Elements separated by semicolons.
+     * @return elements of the list, empty for an empty field.
+     */
+    static List<String> splitList(String field) {
+        if (field.isEmpty()) {
+            return new ArrayList<String>();
+        }
+        return Arrays.asList(field.split(LIST_SEPARATOR));
+    }
+
+    /**
+     * Joins the elements of a list field.
+     * 
+     * @param elements Elements of the list.
+     * @return elements separated by semicolons
+     */
+    static String joinList(Collection<String> elements) {
+        return String.join(LIST_SEPARATOR, elements);
+    }
+}
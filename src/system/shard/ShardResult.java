@@ -0,0 +1,44 @@
+package system.shard;
+
+import java.util.List;
+
+/**
+ * The sorted identifiers a shard query found, together with the number of
+ * index entries the shard looked at to find them.
+ * 
+ * @author Emir Yuksel
+ * @version 1.0
+ */
+public final class ShardResult {
+    private final List<String> identifiers;
+    private final long scanned;
+
+    /**
+     * Creates a new result.
+     * 
+     * @param identifiers Sorted identifiers of the matching articles.
+     * @param scanned     Number of index entries which were checked.
+     */
+    public ShardResult(List<String> identifiers, long scanned) {
+        this.identifiers = identifiers;
+        this.scanned = scanned;
+    }
+
+    /**
+     * Gets the identifiers of the matching articles.
+     * 
+     * @return sorted identifiers
+     */
+    public List<String> getIdentifiers() {
+        return identifiers;
+    }
+
+    /**
+     * Gets the number of index entries which were checked.
+     * 
+     * @return number of scanned entries
+     */
+    public long getScanned() {
+        return scanned;
+    }
+}
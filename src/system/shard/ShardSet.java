@@ -0,0 +1,394 @@
+package system.shard;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.function.Function;
+
+import system.event.ChangeEvent;
+import system.event.ChangeListener;
+import system.event.ChangeType;
+import system.metrics.IndexEvent;
+import system.metrics.MemoryReport;
+import venue.Venue;
+
+/**
+ * Partitions the articles of the system into shards by their venue. Queries
+ * are sent to all shards in parallel and their sorted results are merged.
+ * 
+ * Each shard indexes the keywords and authors of its own articles from the
+ * changes of its venues. The shards share one work-stealing pool with a thread
+ * per shard, so concurrent queries spread over all threads instead of queueing
+ * behind one thread per shard. The pool only starts its threads when a query
+ * runs in parallel and stops them once the set is closed.
+ * 
+ * The shards usually live in the process of the system. A set can also be
+ * made of shards in processes of their own, see {@link RemoteShard}, which
+ * answer the same queries except for paged ones.
+ * 
+ * Articles keep referencing each other across shards, so citations between
+ * venues of different shards work as before.
+ * 
+ * @author Emir Yuksel
+ * @version 1.0
+ */
+public class ShardSet implements ChangeListener, Closeable {
+
+    /**
+     * Below this number of articles, shards in this process are queried on the
+     * calling thread, since handing the query over to other threads would take
+     * longer.
+     */
+    private static final int PARALLEL_THRESHOLD = 10000;
+    private static final long SHALLOW_SIZE = MemoryReport.shallowSize(ShardSet.class);
+
+    private final ShardNode[] shards;
+    private final Shard[] localShards;
+    private final ForkJoinPool pool;
+    private final Map<Venue, ShardNode> shardOfVenue;
+    private int size;
+
+    /**
+     * Creates a new set of shards in this process.
+     * 
+     * @param count Number of shards.
+     */
+    public ShardSet(int count) {
+        this(newShards(count));
+    }
+
+    /**
+     * Creates a new set of shards. The set takes over the shards and closes them
+     * when it is closed.
+     * 
+     * @param shards Shards of the set, at least one.
+     */
+    public ShardSet(List<? extends ShardNode> shards) {
+        this.shards = shards.toArray(new ShardNode[0]);
+        this.localShards = allLocal(this.shards);
+        this.pool = new ForkJoinPool(this.shards.length, forkJoinPool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(forkJoinPool);
+            thread.setName("shard-" + thread.getPoolIndex());
+            return thread;
+        }, null, false);
+        this.shardOfVenue = new HashMap<Venue, ShardNode>();
+    }
+
+    /**
+     * Like its shards, the set does not want citations.
+     */
+    @Override
+    public Set<ChangeType> getChangeTypes() {
+        return EnumSet.of(ChangeType.ARTICLE_ADDED, ChangeType.KEYWORDS_ADDED, ChangeType.AUTHORS_ATTACHED);
+    }
+
+    @Override
+    public void onChange(ChangeEvent event) {
+        if (event.getType() == ChangeType.CITATION_ADDED) {
+            return;
+        }
+        IndexEvent indexEvent = new IndexEvent();
+        indexEvent.begin();
+        shardOf(event.getVenue()).onChange(event);
+        if (event.getType() == ChangeType.ARTICLE_ADDED) {
+            this.size++;
+        }
+        indexEvent.complete("shards", event.getType(), 1);
+    }
+
+    /**
+     * Gets the shard of a venue. A venue gets its shard when its first change is
+     * published.
+     * 
+     * @param venue Venue to get the shard.
+     * @return shard of the venue
+     */
+    public ShardNode shardOf(Venue venue) {
+        ShardNode shard = shardOfVenue.get(venue);
+        if (shard == null) {
+            shard = shards[Math.floorMod(venue.getName().hashCode(), shards.length)];
+            shardOfVenue.put(venue, shard);
+        }
+        return shard;
+    }
+
+    /**
+     * Gets the number of articles in all shards.
+     * 
+     * @return number of articles
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Estimates the heap the postings of the shards in this process retain.
+     * 
+     * @return estimated bytes, without the identifiers the postings share with
+     *         the articles
+     */
+    public long estimateBytes() {
+        long bytes = SHALLOW_SIZE + MemoryReport.arraySize(shards.length, MemoryReport.REFERENCE)
+                + MemoryReport.hashMapSize(shardOfVenue.size());
+        if (localShards != null) {
+            bytes += MemoryReport.arraySize(localShards.length, MemoryReport.REFERENCE);
+            for (Shard shard : localShards) {
+                bytes += shard.estimateBytes();
+            }
+        }
+        return bytes;
+    }
+
+    /**
+     * Gets all shards.
+     * 
+     * @return shards
+     */
+    public ShardNode[] getShards() {
+        return shards;
+    }
+
+    /**
+     * Gets the identifiers of all articles from all shards.
+     * 
+     * @return sorted identifiers
+     */
+    public ShardResult allPublications() {
+        return gather(ShardNode::allPublications);
+    }
+
+    /**
+     * Gets the identifiers of the articles with all keywords of a list from all
+     * shards.
+     * 
+     * @param keywords Keywords to check.
+     * @return sorted identifiers
+     */
+    public ShardResult findByKeywords(List<String> keywords) {
+        return gather(shard -> shard.findByKeywords(keywords));
+    }
+
+    /**
+     * Gets the identifiers of the articles which are written by at least one
+     * author of a list from all shards.
+     * 
+     * @param authors Full names of the authors.
+     * @return sorted identifiers
+     */
+    public ShardResult publicationsBy(List<String> authors) {
+        return gather(shard -> shard.publicationsBy(authors));
+    }
+
+    /**
+     * Opens a cursor over the identifiers of all articles.
+     * 
+     * @param after Identifier after which the cursor starts, null to start at the
+     *              first identifier.
+     * @return cursor over the identifiers
+     */
+    public ShardCursor allPublications(String after) {
+        List<ShardCursor.Source> sources = new ArrayList<ShardCursor.Source>();
+        for (Shard shard : requireLocal()) {
+            shard.addAllSources(after, sources);
+        }
+        return new ShardCursor(sources);
+    }
+
+    /**
+     * Opens a cursor over the identifiers of the articles without authors.
+     * 
+     * @param after Identifier after which the cursor starts, null to start at the
+     *              first identifier.
+     * @return cursor over the identifiers
+     */
+    public ShardCursor invalidPublications(String after) {
+        List<ShardCursor.Source> sources = new ArrayList<ShardCursor.Source>();
+        for (Shard shard : requireLocal()) {
+            shard.addInvalidSources(after, sources);
+        }
+        return new ShardCursor(sources);
+    }
+
+    /**
+     * Opens a cursor over the identifiers of the articles with all keywords of a
+     * list.
+     * 
+     * @param keywords Keywords to check.
+     * @param after    Identifier after which the cursor starts, null to start at
+     *                 the first identifier.
+     * @return cursor over the identifiers
+     */
+    public ShardCursor findByKeywords(List<String> keywords, String after) {
+        List<ShardCursor.Source> sources = new ArrayList<ShardCursor.Source>();
+        for (Shard shard : requireLocal()) {
+            shard.addKeywordSources(keywords, after, sources);
+        }
+        return new ShardCursor(sources);
+    }
+
+    /**
+     * Opens a cursor over the identifiers of the articles which are written by at
+     * least one author of a list.
+     * 
+     * @param authors Full names of the authors.
+     * @param after   Identifier after which the cursor starts, null to start at
+     *                the first identifier.
+     * @return cursor over the identifiers
+     */
+    public ShardCursor publicationsBy(List<String> authors, String after) {
+        List<ShardCursor.Source> sources = new ArrayList<ShardCursor.Source>();
+        for (Shard shard : requireLocal()) {
+            shard.addAuthorSources(authors, after, sources);
+        }
+        return new ShardCursor(sources);
+    }
+
+    /**
+     * Stops the threads which query the shards in parallel and closes the
+     * shards. Queries of large sets are rejected afterwards.
+     */
+    @Override
+    public void close() {
+        pool.shutdown();
+        for (ShardNode shard : shards) {
+            shard.close();
+        }
+    }
+
+    /**
+     * Sends a query to all shards and merges their results. Shards in other
+     * processes are always queried in parallel.
+     * 
+     * @param query Query of a single shard.
+     * @return merged result
+     */
+    private ShardResult gather(Function<ShardNode, ShardResult> query) {
+        List<ShardResult> partialResults = new ArrayList<ShardResult>(shards.length);
+
+        if (localShards != null && size < PARALLEL_THRESHOLD) {
+            for (ShardNode shard : shards) {
+                partialResults.add(query.apply(shard));
+            }
+            return merge(partialResults);
+        }
+
+        List<ForkJoinTask<ShardResult>> tasks = new ArrayList<ForkJoinTask<ShardResult>>();
+        for (ShardNode shard : shards) {
+            tasks.add(pool.submit(() -> query.apply(shard)));
+        }
+        for (ForkJoinTask<ShardResult> task : tasks) {
+            partialResults.add(task.join());
+        }
+        return merge(partialResults);
+    }
+
+    /**
+     * Gets the shards for a paged query, which reads the postings of the shards
+     * directly.
+     * 
+     * @return shards of the set
+     * @throws UnsupportedOperationException if a shard lives in another process.
+     */
+    private Shard[] requireLocal() {
+        if (localShards == null) {
+            throw new UnsupportedOperationException("paged queries need all shards in this process");
+        }
+        return localShards;
+    }
+
+    /**
+     * Creates shards in this process.
+     * 
+     * @param count Number of shards.
+     * @return new shards
+     */
+    private static List<Shard> newShards(int count) {
+        List<Shard> shards = new ArrayList<Shard>(count);
+        for (int i = 0; i < count; i++) {
+            shards.add(new Shard());
+        }
+        return shards;
+    }
+
+    /**
+     * Checks if all shards live in this process.
+     * 
+     * @param shards Shards to check.
+     * @return the shards if they all live in this process, null otherwise.
+     */
+    private static Shard[] allLocal(ShardNode[] shards) {
+        Shard[] local = new Shard[shards.length];
+        for (int i = 0; i < shards.length; i++) {
+            if (!(shards[i] instanceof Shard)) {
+                return null;
+            }
+            local[i] = (Shard) shards[i];
+        }
+        return local;
+    }
+
+    /**
+     * Merges sorted results into one sorted result.
+     * 
+     * @param results Results to merge, each sorted.
+     * @return merged result
+     */
+    private static ShardResult merge(List<ShardResult> results) {
+        int total = 0;
+        long scanned = 0;
+        PriorityQueue<Cursor> queue = new PriorityQueue<Cursor>();
+        for (ShardResult result : results) {
+            List<String> sortedList = result.getIdentifiers();
+            scanned += result.getScanned();
+            total += sortedList.size();
+            if (!sortedList.isEmpty()) {
+                queue.add(new Cursor(sortedList.iterator()));
+            }
+        }
+
+        List<String> merged = new ArrayList<String>(total);
+        while (!queue.isEmpty()) {
+            Cursor cursor = queue.poll();
+            merged.add(cursor.current);
+            if (cursor.advance()) {
+                queue.add(cursor);
+            }
+        }
+        return new ShardResult(merged, scanned);
+    }
+
+    /**
+     * Position in a sorted list during a merge.
+     */
+    private static final class Cursor implements Comparable<Cursor> {
+        private final Iterator<String> iterator;
+        private String current;
+
+        Cursor(Iterator<String> iterator) {
+            this.iterator = iterator;
+            this.current = iterator.next();
+        }
+
+        boolean advance() {
+            if (iterator.hasNext()) {
+                current = iterator.next();
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public int compareTo(Cursor other) {
+            return current.compareTo(other.current);
+        }
+    }
+}
@@ -27,13 +27,6 @@ public interface Venue {
      */
     void addArticle(Article article);
 
-    /**
-     * Updates an article in a venue if it's attributes are changed.
-     * 
-     * @param article Article to update
-     */
-    void updateArticle(Article article);
-
     /**
      * Gets the name of a venue.
      * 
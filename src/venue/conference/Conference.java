@@ -81,26 +81,6 @@ public class Conference {
         this.articles.add(article);
     }
 
-    /**
-     * Removes an article at the specified position.
-     * 
-     * @param index position to remove
-     */
-    public void removeArticle(int index) {
-        this.articles.remove(index);
-    }
-
-    /**
-     * Adds an article at the specified position.
-     * 
-     * @param index   position to add
-     * @param article article to add
-     */
-    public void addArticle(int index, Article article) {
-
-        this.articles.add(index, article);
-    }
-
     /**
      * Remove article with the specified id.
      * 
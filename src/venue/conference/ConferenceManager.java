@@ -56,8 +56,8 @@ public class ConferenceManager extends SystemDatabase {
                 List<String> keywords = new ArrayList<>(seriesToCheck.getKeywords());
                 article.addKeywords(keywords);
                 seriesToCheck.addArticle(article);
-                updateLists(seriesToCheck, article);
-
+                registerArticle(article);
+                return;
             }
         }
 
@@ -59,26 +59,6 @@ public class Series implements Venue {
         return keywords;
     }
 
-    @Override
-    public void updateArticle(Article article) {
-        int index = -1;
-        Conference conferenceToChange = null;
-        for (Conference conference : this.conferences) {
-            for (Article articleToUpdate : conference.getArticles()) {
-                if (article.getId().equals(articleToUpdate.getId())) {
-                    conferenceToChange = conference;
-                    index = conferenceToChange.getArticles().indexOf(articleToUpdate);
-                    break;
-                }
-            }
-        }
-
-        if (index >= 0) {
-            conferenceToChange.removeArticle(index);
-            conferenceToChange.addArticle(index, article);
-        }
-    }
-
     @Override
     public void addKeywords(List<String> keywords) {
         for (Conference conference : this.conferences) {
@@ -62,22 +62,6 @@ public class Journal implements Venue {
         return keywords;
     }
 
-    @Override
-    public void updateArticle(Article article) {
-        int place = -1;
-
-        for (Article articleToUpdate : this.articles) {
-            if (article.getId().equals(articleToUpdate.getId())) {
-                place = this.articles.indexOf(articleToUpdate);
-                break;
-            }
-        }
-        if (place >= 0) {
-            this.articles.remove(place);
-            this.articles.add(place, article);
-        }
-    }
-
     @Override
     public void addKeywords(List<String> keywords) {
 
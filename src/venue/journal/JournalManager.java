@@ -48,7 +48,7 @@ public class JournalManager extends ConferenceManager {
                 Article article = new Article(id, title, year, currentJournal);
                 article.addKeywords(new ArrayList<>(currentJournal.getKeywords()));
                 currentJournal.addArticle(article);
-                updateLists(currentJournal, article);
+                registerArticle(article);
                 return;
             }
         }
@@ -0,0 +1,118 @@
+package article;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import author.Author;
+
+/**
+ * Tests that the collation keys of articles order them like the comparison of
+ * authors, title, publishing year and identifier they replaced.
+ * 
+ * @author Emir Yuksel
+ * @version 1.0
+ */
+class ArticleSortKeyTest {
+
+    private static final String ALPHABET = "ab\u0000ÿĀz";
+
+    @Test
+    void shorterListOfEqualAuthorsSortsFirst() {
+        Author ada = new Author("Ada", "Lovelace");
+        Article one = article("x", "Title", 2000, ada);
+        Article two = article("y", "Title", 2000, ada, new Author("Alan", "Turing"));
+
+        assertTrue(one.compareTo(two) < 0);
+        assertTrue(two.compareTo(one) > 0);
+    }
+
+    @Test
+    void titlePrefixSortsFirst() {
+        Author ada = new Author("Ada", "Lovelace");
+
+        assertTrue(article("b", "Graph", 2000, ada).compareTo(article("a", "Graphs", 2000, ada)) < 0);
+    }
+
+    @Test
+    void negativeYearsSortBeforePositiveYears() {
+        Author ada = new Author("Ada", "Lovelace");
+
+        assertTrue(article("a", "Title", -5, ada).compareTo(article("a", "Title", 5, ada)) < 0);
+    }
+
+    @Test
+    void keyOrderMatchesFieldByFieldComparison() {
+        Random random = new Random(42);
+        List<Article> articles = new ArrayList<Article>();
+        for (int i = 0; i < 400; i++) {
+            List<Author> authors = new ArrayList<Author>();
+            int authorCount = random.nextInt(3);
+            for (int j = 0; j < authorCount; j++) {
+                authors.add(new Author(randomString(random), randomString(random)));
+            }
+            articles.add(article(randomString(random), randomString(random), random.nextInt(5) - 2,
+                    authors.toArray(new Author[0])));
+        }
+
+        for (Article first : articles) {
+            for (Article second : articles) {
+                assertEquals(Integer.signum(compareFields(first, second)), Integer.signum(first.compareTo(second)),
+                        first.getId() + " vs " + second.getId());
+            }
+        }
+    }
+
+    /**
+     * Compares two articles field by field: authors, a shorter list of equal
+     * authors first, then title, publishing year and identifier.
+     * 
+     * @param first  First article.
+     * @param second Second article.
+     * @return result of the comparison
+     */
+    private static int compareFields(Article first, Article second) {
+        List<Author> firstAuthors = first.getAuthor();
+        List<Author> secondAuthors = second.getAuthor();
+        for (int i = 0; i < Math.min(firstAuthors.size(), secondAuthors.size()); i++) {
+            int result = firstAuthors.get(i).compareTo(secondAuthors.get(i));
+            if (result != 0) {
+                return result;
+            }
+        }
+        if (firstAuthors.size() != secondAuthors.size()) {
+            return Integer.compare(firstAuthors.size(), secondAuthors.size());
+        }
+        if (!first.getTitle().equals(second.getTitle())) {
+            return first.getTitle().compareTo(second.getTitle());
+        }
+        if (first.getPublishYear() != second.getPublishYear()) {
+            return Integer.compare(first.getPublishYear(), second.getPublishYear());
+        }
+        return first.getId().compareTo(second.getId());
+    }
+
+    private static Article article(String id, String title, int year, Author... authors) {
+        Article article = new Article(id, title, year, null);
+        List<Author> authorList = new ArrayList<Author>();
+        for (Author author : authors) {
+            authorList.add(author);
+        }
+        article.addAuthors(authorList);
+        return article;
+    }
+
+    private static String randomString(Random random) {
+        StringBuilder string = new StringBuilder();
+        int length = random.nextInt(4);
+        for (int i = 0; i < length; i++) {
+            string.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+        }
+        return string.toString();
+    }
+}
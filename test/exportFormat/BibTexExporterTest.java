@@ -0,0 +1,62 @@
+package exportFormat;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import system.KastelScholar;
+import system.Scripts;
+
+/**
+ * Tests that the BibTeX export escapes special characters and keeps the names
+ * of the authors apart.
+ * 
+ * @author Emir Yuksel
+ * @version 1.0
+ */
+class BibTexExporterTest {
+
+    @Test
+    void specialCharactersAreEscaped() throws IOException {
+        KastelScholar kastelScholar = Scripts.load("add journal A\\B~C^D,P{}%&#$_",
+                "add article to journal A\\B~C^D:x1,2020,Back\\slash ~tilde^hat");
+
+        assertEquals(List.of("@article{x1,",
+                "  title = {Back\\textbackslash{}slash \\textasciitilde{}tilde\\textasciicircum{}hat},",
+                "  year = {2020},",
+                "  journal = {A\\textbackslash{}B\\textasciitilde{}C\\textasciicircum{}D},",
+                "  publisher = {P\\{\\}\\%\\&\\#\\$\\_},", "}"), export(kastelScholar));
+    }
+
+    @Test
+    void namesWithTheWordAndAreProtected() throws IOException {
+        KastelScholar kastelScholar = Scripts.load("add author Ada and", "add author AND Turing",
+                "add author Sandra Anderson", "add journal TSE,IEEE", "add article to journal TSE:x1,2020,Names",
+                "written by x1,Ada and;AND Turing;Sandra Anderson");
+
+        assertEquals("  author = {{and}, Ada and Turing, {AND} and Anderson, Sandra},",
+                export(kastelScholar).get(1));
+    }
+
+    /**
+     * Exports all articles of a system as BibTeX.
+     * 
+     * @param kastelScholar System to export.
+     * @return lines of the export without the blank ones
+     * @throws IOException if the export fails.
+     */
+    private static List<String> export(KastelScholar kastelScholar) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        new BibTexExporter().export(kastelScholar, ExportFilter.all(), Channels.newChannel(buffer));
+        return Arrays.stream(buffer.toString(StandardCharsets.UTF_8).split("\n")).filter(line -> !line.isEmpty())
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,83 @@
+package printFormat;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import system.KastelScholar;
+import system.Scripts;
+
+/**
+ * Tests that the bibliography cache stays within its capacity and drops the
+ * entries of articles whose authors change.
+ * 
+ * @author Emir Yuksel
+ * @version 1.0
+ */
+class BibliographyCacheTest {
+
+    private static final int ARTICLES = 200;
+
+    @Test
+    void weightStaysWithinTheCapacity() {
+        KastelScholar kastelScholar = library();
+        BibliographyCache cache = kastelScholar.getBibliographyCache();
+        cache.setCapacity(4096);
+        List<String> expected = new ArrayList<String>();
+        for (int i = 0; i < ARTICLES; i++) {
+            expected.add(print(kastelScholar, "a" + i));
+            assertTrue(cache.getWeight() <= cache.getCapacity(), "weight " + cache.getWeight());
+        }
+        assertTrue(cache.getEntries() < ARTICLES);
+
+        for (int i = 0; i < ARTICLES; i++) {
+            assertEquals(expected.get(i), print(kastelScholar, "a" + i));
+        }
+        cache.setCapacity(0);
+        assertEquals(0, cache.getEntries());
+        assertEquals(0, cache.getWeight());
+    }
+
+    @Test
+    void attachingAuthorsDropsTheEntriesOfTheArticle() {
+        KastelScholar kastelScholar = library();
+        BibliographyCache cache = kastelScholar.getBibliographyCache();
+        String before = print(kastelScholar, "a0");
+        Scripts.run(kastelScholar, "print bibliography acm:a0;a1");
+        int entries = cache.getEntries();
+
+        Scripts.run(kastelScholar, "written by a0,Alan Turing");
+        assertEquals(entries - 1, cache.getEntries());
+        assertEquals(before.replace("Ada Lovelace", "Ada Lovelace and Alan Turing"), print(kastelScholar, "a0"));
+    }
+
+    /**
+     * Builds a journal with many articles of one author.
+     * 
+     * @return the system
+     */
+    private static KastelScholar library() {
+        List<String> commands = new ArrayList<String>(List.of("add author Ada Lovelace", "add author Alan Turing",
+                "add journal TSE,IEEE"));
+        for (int i = 0; i < ARTICLES; i++) {
+            commands.add("add article to journal TSE:a" + i + ",2020,Title " + i);
+            commands.add("written by a" + i + ",Ada Lovelace");
+        }
+        return Scripts.load(commands.toArray(new String[0]));
+    }
+
+    /**
+     * Prints the bibliography of one article in the APA style.
+     * 
+     * @param kastelScholar System to print from.
+     * @param id            Identifier of the article.
+     * @return printed entry
+     */
+    private static String print(KastelScholar kastelScholar, String id) {
+        return String.join("\n", Scripts.run(kastelScholar, "print bibliography acm:" + id));
+    }
+}
@@ -0,0 +1,47 @@
+package printFormat;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests that style templates are checked when they are compiled.
+ * 
+ * @author Emir Yuksel
+ * @version 1.0
+ */
+class StyleTemplateTest {
+
+    @Test
+    void journalLayoutRejectsConferenceFields() {
+        for (String field : new String[] { "{conferenceYear}", "{location}" }) {
+            StyleTemplate template = template("{authors}. {title}. " + field + ".", "{authors}. {title}.");
+            IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, template::compile);
+            assertEquals("template field only for conference articles: " + field.substring(1, field.length() - 1),
+                    exception.getMessage());
+        }
+    }
+
+    @Test
+    void conferenceLayoutAcceptsConferenceFields() {
+        assertEquals("x", template("{title}", "{conferenceYear}, {location}").compile().getName());
+    }
+
+    @Test
+    void unknownAndUnclosedFieldsAreRejected() {
+        assertThrows(IllegalArgumentException.class, template("{pages}", "{title}")::compile);
+        assertThrows(IllegalArgumentException.class, template("{title}", "{title")::compile);
+    }
+
+    /**
+     * Creates a template with the given layouts.
+     * 
+     * @param journalLayout    Template of a journal article.
+     * @param conferenceLayout Template of a conference article.
+     * @return the template
+     */
+    private static StyleTemplate template(String journalLayout, String conferenceLayout) {
+        return new StyleTemplate("x", false, "{fullName}", ", ", " and ", ", and ", journalLayout, conferenceLayout);
+    }
+}
@@ -0,0 +1,97 @@
+package system;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import system.interaction.Command;
+import system.interaction.InputException;
+
+/**
+ * Runs commands against a system in tests, as the command line would.
+ * 
+ * @author Emir Yuksel
+ * @version 1.0
+ */
+public final class Scripts {
+
+    /**
+     * A small library of two journals and a conference series with authors,
+     * keywords and citations.
+     */
+    public static final String[] LIBRARY = {
+        "add author Ada Lovelace",
+        "add author Alan Turing",
+        "add author Grace Hopper",
+        "add author Edsger Dijkstra",
+        "add journal TSE,IEEE",
+        "add journal TOPLAS,ACM",
+        "add series ICSE",
+        "add conference ICSE,2019,Montreal",
+        "add conference ICSE,2020,Seoul",
+        "add keywords to series ICSE:software;engineering",
+        "add article to journal TSE:tse1,2018,Testing Things",
+        "add article to journal TSE:tse2,2020,More Testing",
+        "add article to journal TOPLAS:top1,2019,Types",
+        "add article to series ICSE:icse1,2019,Compilers Rock",
+        "add article to series ICSE:icse2,2020,Graphs Rock",
+        "add keywords to journal TSE:testing;software",
+        "add keywords to tse2:quality",
+        "add keywords to icse1:compilers",
+        "written by tse1,Ada Lovelace;Alan Turing",
+        "written by tse2,Grace Hopper",
+        "written by top1,Ada Lovelace",
+        "written by icse1,Alan Turing;Grace Hopper;Edsger Dijkstra",
+        "written by icse2,Edsger Dijkstra",
+        "cites tse2,tse1",
+        "cites icse2,tse1",
+        "cites icse2,icse1",
+        "cites top1,tse1",
+    };
+
+    private Scripts() {
+        throw new IllegalStateException("Utility class cannot be instantiated.");
+    }
+
+    /**
+     * Creates a system and runs commands against it. Fails on the first error.
+     * 
+     * @param commands Commands to run.
+     * @return the system
+     */
+    public static KastelScholar load(String... commands) {
+        KastelScholar kastelScholar = new KastelScholar();
+        for (String command : commands) {
+            List<String> output = run(kastelScholar, command);
+            if (!output.isEmpty() && output.get(0).startsWith("Error, ")) {
+                throw new IllegalStateException(command + ": " + output.get(0));
+            }
+        }
+        return kastelScholar;
+    }
+
+    /**
+     * Runs a command and collects its output.
+     * 
+     * @param kastelScholar System to run the command against.
+     * @param command       Command to run.
+     * @return printed lines, or the error message as the command line prints it.
+     */
+    public static List<String> run(KastelScholar kastelScholar, String command) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        PrintStream output = new PrintStream(buffer, true, StandardCharsets.UTF_8);
+        try {
+            Command.executeMatching(command, kastelScholar, output);
+        } catch (InputException exception) {
+            output.println("Error, " + exception.getMessage());
+        }
+        String text = buffer.toString(StandardCharsets.UTF_8);
+        if (text.isEmpty()) {
+            return new ArrayList<String>();
+        }
+        return new ArrayList<String>(Arrays.asList(text.split(System.lineSeparator())));
+    }
+}
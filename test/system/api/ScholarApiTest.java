@@ -0,0 +1,118 @@
+package system.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import system.KastelScholar;
+import system.Scripts;
+import system.interaction.ErrorMessages;
+import system.interaction.InputException;
+import system.page.Page;
+
+/**
+ * Tests that prepared queries return what the matching commands print and fail
+ * with the errors of the commands.
+ * 
+ * @author Emir Yuksel
+ * @version 1.0
+ */
+class ScholarApiTest {
+
+    private static final String[] CHANGES = { "add article to series ICSE:icse3,2020,Later",
+        "written by icse3,Ada Lovelace;Grace Hopper", "add keywords to icse3:compilers", "cites icse3,top1" };
+
+    private KastelScholar kastelScholar;
+    private ScholarApi api;
+
+    @BeforeEach
+    void setUp() {
+        kastelScholar = Scripts.load(Scripts.LIBRARY);
+        api = new ScholarApi(kastelScholar);
+    }
+
+    @Test
+    void preparedQueriesMatchTheCommandsAlsoAfterChanges() throws InputException {
+        IdentifierQuery all = api.prepareAllPublications();
+        IdentifierQuery byAuthors = api.preparePublicationsBy(List.of("Ada Lovelace", "Grace Hopper"));
+        IdentifierQuery byKeywords = api.prepareFindByKeywords(List.of("software", "engineering"));
+        IdentifierQuery compilers = api.prepareFindByKeywords(List.of("compilers"));
+        IdentifierQuery inProceedings = api.prepareInProceedings("ICSE", 2020);
+        IdentifierQuery foreignCitations = api.prepareForeignCitationsOf("Ada Lovelace");
+        GIndexQuery gIndex = api.prepareGIndex("Ada Lovelace");
+        CoAuthorsQuery coAuthors = api.prepareCoAuthorsOf("Grace Hopper");
+
+        for (int round = 0; round < 2; round++) {
+            assertEquals(Scripts.run(kastelScholar, "all publications"), all.execute());
+            assertEquals(Scripts.run(kastelScholar, "publications by Ada Lovelace;Grace Hopper"),
+                    byAuthors.execute());
+            assertEquals(Scripts.run(kastelScholar, "publications by Ada Lovelace;Grace Hopper after icse1 limit 2"),
+                    byAuthors.execute(new Page("icse1", 2)));
+            assertEquals(Scripts.run(kastelScholar, "find by keywords software;engineering"), byKeywords.execute());
+            assertEquals(Scripts.run(kastelScholar, "find by keywords compilers"), compilers.execute());
+            assertEquals(Scripts.run(kastelScholar, "in proceedings ICSE,2020"), inProceedings.execute());
+            assertEquals(Scripts.run(kastelScholar, "foreign citations of Ada Lovelace"), foreignCitations.execute());
+            assertEquals(Scripts.run(kastelScholar, "g-index Ada Lovelace"), List.of(String.valueOf(gIndex.execute())));
+            assertEquals(Scripts.run(kastelScholar, "coauthors of Grace Hopper"), coAuthors.execute());
+            for (String change : CHANGES) {
+                Scripts.run(kastelScholar, change);
+            }
+        }
+    }
+
+    @Test
+    void preparingFailsWithTheErrorsOfTheCommands() {
+        assertSameError("publications by Ada Lovelace;Nobody Here",
+                () -> api.preparePublicationsBy(List.of("Ada Lovelace", "Nobody Here")));
+        assertSameError("in proceedings NOPE,2020", () -> api.prepareInProceedings("NOPE", 2020));
+        assertSameError("in proceedings ICSE,1999", () -> api.prepareInProceedings("ICSE", 1999));
+        assertSameError("foreign citations of Nobody Here", () -> api.prepareForeignCitationsOf("Nobody Here"));
+        assertSameError("g-index Nobody Here", () -> api.prepareGIndex("Nobody Here"));
+        assertSameError("coauthors of Nobody Here", () -> api.prepareCoAuthorsOf("Nobody Here"));
+        assertSameError("similarity tse1,nope", () -> api.prepareSimilarity("tse1", "nope"));
+    }
+
+    @Test
+    void keywordsTheCommandRejectsAreRejected() {
+        for (List<String> keywords : List.of(List.<String>of(), List.of("Software"), List.of("two words"),
+                List.of("software", ""), List.of("café"))) {
+            assertEquals(List.of("Error, " + ErrorMessages.INVALID_COMMAND),
+                    Scripts.run(kastelScholar, "find by keywords " + String.join(";", keywords)), keywords.toString());
+            InputException exception = assertThrows(InputException.class, () -> api.prepareFindByKeywords(keywords));
+            assertEquals(ErrorMessages.KEYWORDS_NOT_VALID, exception.getError(), keywords.toString());
+        }
+    }
+
+    /**
+     * Asserts that preparing a query fails with the error the command prints.
+     * 
+     * @param command Command which fails.
+     * @param prepare Prepares the query.
+     */
+    private void assertSameError(String command, Preparation prepare) {
+        List<String> expected = Scripts.run(kastelScholar, command);
+        InputException exception = assertThrows(InputException.class, prepare::prepare, command);
+        List<String> actual = new ArrayList<String>();
+        actual.add("Error, " + exception.getMessage());
+        assertEquals(expected, actual, command);
+    }
+
+    /**
+     * Prepares a query.
+     */
+    @FunctionalInterface
+    private interface Preparation {
+
+        /**
+         * Prepares the query.
+         * 
+         * @throws InputException if the query cannot be prepared.
+         */
+        void prepare() throws InputException;
+    }
+}
@@ -0,0 +1,107 @@
+package system.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import system.KastelScholar;
+import system.Scripts;
+
+/**
+ * Tests that every kind of change invalidates exactly the cached results which
+ * depend on it, and that cached commands see the change afterwards.
+ * 
+ * @author Emir Yuksel
+ * @version 1.0
+ */
+class QueryCacheInvalidationTest {
+
+    private KastelScholar kastelScholar;
+    private Map<CacheDependency, Integer> computations;
+
+    @BeforeEach
+    void setUp() {
+        kastelScholar = Scripts.load(Scripts.LIBRARY);
+        computations = new EnumMap<CacheDependency, Integer>(CacheDependency.class);
+        readAll();
+        readAll();
+    }
+
+    @Test
+    void readingTwiceComputesOnce() {
+        assertComputedAgain();
+    }
+
+    @Test
+    void addingAnArticleInvalidatesOnlyArticleQueries() {
+        Scripts.run(kastelScholar, "add article to journal TSE:tse3,2021,New");
+        assertComputedAgain(CacheDependency.ARTICLES);
+    }
+
+    @Test
+    void attachingAuthorsInvalidatesOnlyAuthorshipQueries() {
+        Scripts.run(kastelScholar, "written by tse2,Ada Lovelace");
+        assertComputedAgain(CacheDependency.AUTHORSHIP);
+    }
+
+    @Test
+    void citingInvalidatesOnlyCitationQueries() {
+        Scripts.run(kastelScholar, "cites icse2,top1");
+        assertComputedAgain(CacheDependency.CITATIONS);
+    }
+
+    @Test
+    void addingKeywordsInvalidatesOnlyKeywordQueries() {
+        Scripts.run(kastelScholar, "add keywords to top1:types");
+        assertComputedAgain(CacheDependency.KEYWORDS);
+    }
+
+    @Test
+    void failedChangeInvalidatesNothing() {
+        Scripts.run(kastelScholar, "cites nope,tse2");
+        assertComputedAgain();
+    }
+
+    @Test
+    void cachedCommandsSeeChanges() {
+        assertEquals(List.of("tse1", "tse2"), Scripts.run(kastelScholar, "find by keywords testing"));
+        assertEquals(List.of("top1", "tse1"), Scripts.run(kastelScholar, "publications by Ada Lovelace"));
+
+        Scripts.run(kastelScholar, "add keywords to top1:testing");
+        Scripts.run(kastelScholar, "written by icse2,Ada Lovelace");
+
+        assertEquals(List.of("top1", "tse1", "tse2"), Scripts.run(kastelScholar, "find by keywords testing"));
+        assertEquals(List.of("icse2", "top1", "tse1"), Scripts.run(kastelScholar, "publications by Ada Lovelace"));
+    }
+
+    /**
+     * Reads one cached result per dependency, counting the computations.
+     */
+    private void readAll() {
+        for (CacheDependency dependency : CacheDependency.values()) {
+            kastelScholar.getQueryCache().get("test " + dependency, EnumSet.of(dependency),
+                    () -> computations.merge(dependency, 1, Integer::sum), result -> 16);
+        }
+    }
+
+    /**
+     * Reads all results again and checks that exactly the results of some
+     * dependencies were computed again.
+     * 
+     * @param invalidated Dependencies whose results must be computed again.
+     */
+    private void assertComputedAgain(CacheDependency... invalidated) {
+        readAll();
+        EnumSet<CacheDependency> expected = EnumSet.noneOf(CacheDependency.class);
+        expected.addAll(List.of(invalidated));
+        for (CacheDependency dependency : CacheDependency.values()) {
+            assertEquals(expected.contains(dependency) ? 2 : 1, computations.get(dependency), dependency.name());
+        }
+    }
+}
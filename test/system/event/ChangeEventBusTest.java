@@ -0,0 +1,147 @@
+package system.event;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import article.Article;
+import venue.journal.Journal;
+
+/**
+ * Tests the delivery of changes to synchronous and asynchronous subscribers.
+ * 
+ * @author Emir Yuksel
+ * @version 1.0
+ */
+class ChangeEventBusTest {
+
+    private static final int EVENTS = 10000;
+    private static final long TIMEOUT_SECONDS = 10;
+
+    private final Article first = new Article("a1", "First", 2020, new Journal("J", "P"));
+    private final Article second = new Article("a2", "Second", 2021, new Journal("J", "P"));
+
+    @Test
+    void synchronousListenersGetTheirTypesInSubscriptionOrder() {
+        ChangeEventBus bus = new ChangeEventBus();
+        List<String> delivered = new ArrayList<String>();
+        bus.subscribe(new Recorder("all", EnumSet.allOf(ChangeType.class), delivered));
+        bus.subscribe(new Recorder("articles", EnumSet.of(ChangeType.ARTICLE_ADDED), delivered));
+        Recorder last = new Recorder("last", EnumSet.allOf(ChangeType.class), delivered);
+        bus.subscribe(last);
+
+        assertTrue(bus.hasListeners(ChangeType.CITATION_ADDED));
+        bus.publish(new ArticleAdded(first));
+        bus.publish(new CitationAdded(second, first));
+        bus.unsubscribe(last);
+        bus.publish(new ArticleAdded(second));
+
+        assertEquals(List.of("all:a1", "articles:a1", "last:a1", "all:a2", "last:a2", "all:a2", "articles:a2"),
+                delivered);
+    }
+
+    @Test
+    void eventsNobodyWantsHaveNoListeners() {
+        ChangeEventBus bus = new ChangeEventBus();
+        assertFalse(bus.hasListeners(ChangeType.ARTICLE_ADDED));
+        Recorder authors = new Recorder("authors", EnumSet.of(ChangeType.AUTHORS_ATTACHED), new ArrayList<String>());
+        bus.subscribe(authors);
+        bus.subscribeAsync(new Recorder("articles", EnumSet.of(ChangeType.ARTICLE_ADDED), new ArrayList<String>()),
+                Runnable::run);
+
+        assertTrue(bus.hasListeners(ChangeType.AUTHORS_ATTACHED));
+        assertTrue(bus.hasListeners(ChangeType.ARTICLE_ADDED));
+        assertFalse(bus.hasListeners(ChangeType.CITATION_ADDED));
+        assertFalse(bus.hasListeners(ChangeType.KEYWORDS_ADDED));
+        bus.unsubscribe(authors);
+        assertFalse(bus.hasListeners(ChangeType.AUTHORS_ATTACHED));
+    }
+
+    @Test
+    void asynchronousListenerGetsAllEventsInOrderAndDrains() throws InterruptedException {
+        ChangeEventBus bus = new ChangeEventBus();
+        List<String> delivered = Collections.synchronizedList(new ArrayList<String>());
+        CountDownLatch drained = new CountDownLatch(EVENTS);
+        AtomicInteger active = new AtomicInteger();
+        AtomicInteger maxActive = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            bus.subscribeAsync(event -> {
+                maxActive.accumulateAndGet(active.incrementAndGet(), Math::max);
+                delivered.add(event.getArticle().getId());
+                active.decrementAndGet();
+                drained.countDown();
+            }, executor);
+
+            List<String> published = new ArrayList<String>();
+            for (int i = 0; i < EVENTS; i++) {
+                Article article = new Article("a" + i, "Title", 2020, new Journal("J", "P"));
+                published.add(article.getId());
+                bus.publish(new ArticleAdded(article));
+            }
+
+            assertTrue(drained.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+            assertEquals(published, delivered);
+            assertEquals(1, maxActive.get());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void listenerSubscribedWhilePublishingGetsOnlyLaterEvents() {
+        ChangeEventBus bus = new ChangeEventBus();
+        List<String> delivered = new ArrayList<String>();
+        Recorder late = new Recorder("late", EnumSet.allOf(ChangeType.class), delivered);
+        bus.subscribe(event -> {
+            delivered.add("subscriber:" + event.getArticle().getId());
+            if (event.getArticle() == first) {
+                bus.subscribe(late);
+            }
+        });
+        bus.subscribe(new Recorder("after", EnumSet.allOf(ChangeType.class), delivered));
+
+        bus.publish(new ArticleAdded(first));
+        bus.publish(new ArticleAdded(second));
+
+        assertEquals(List.of("subscriber:a1", "after:a1", "subscriber:a2", "after:a2", "late:a2"), delivered);
+    }
+
+    /**
+     * Records the changes it gets, named after itself.
+     */
+    private static final class Recorder implements ChangeListener {
+        private final String name;
+        private final Set<ChangeType> types;
+        private final List<String> delivered;
+
+        Recorder(String name, Set<ChangeType> types, List<String> delivered) {
+            this.name = name;
+            this.types = types;
+            this.delivered = delivered;
+        }
+
+        @Override
+        public void onChange(ChangeEvent event) {
+            delivered.add(name + ":" + event.getArticle().getId());
+        }
+
+        @Override
+        public Set<ChangeType> getChangeTypes() {
+            return types;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package system.interaction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import system.KastelScholar;
+import system.Scripts;
+import system.metrics.OperationMetrics;
+
+/**
+ * Tests that the command metrics count executions and errors by their kind.
+ * 
+ * @author Emir Yuksel
+ * @version 1.0
+ */
+class CommandMetricsTest {
+
+    @Test
+    void errorsAreCountedByTheirKind() {
+        KastelScholar kastelScholar = Scripts.load(Scripts.LIBRARY);
+        Scripts.run(kastelScholar, "add author Ada Lovelace");
+        Scripts.run(kastelScholar, "add author Alan Turing");
+        Scripts.run(kastelScholar, "add author Barbara Liskov");
+        Scripts.run(kastelScholar, "coauthors of No One");
+        Scripts.run(kastelScholar, "coauthors of Ada Lovelace");
+        Scripts.run(kastelScholar, "this is no command");
+
+        CommandMetrics metrics = kastelScholar.getCommandMetrics();
+        OperationMetrics addAuthor = metrics.get(Command.ADD_AUTHOR);
+        assertEquals(4 + 3, addAuthor.getCount());
+        assertEquals(2, addAuthor.getErrors());
+        assertEquals(Map.of(ErrorMessages.AUTHOR_ALREADY_EXISTS.name(), 2L), addAuthor.getErrorsByKind());
+
+        OperationMetrics coAuthors = metrics.get(Command.COAUTHORS_OF);
+        assertEquals(2, coAuthors.getCount());
+        assertEquals(Map.of(ErrorMessages.AUTHOR_NOT_FOUND.name(), 1L), coAuthors.getErrorsByKind());
+        assertEquals(1, coAuthors.getResultCount());
+        assertEquals(1, metrics.getInvalidInputs());
+
+        List<String> report = metrics.report();
+        assertEquals("invalid inputs: 1", report.get(0));
+        assertTrue(report.contains("  error AUTHOR_ALREADY_EXISTS=2"), report.toString());
+        assertTrue(report.contains("  error AUTHOR_NOT_FOUND=1"), report.toString());
+    }
+
+    @Test
+    void errorsWithoutAKindAreUnknown() {
+        CommandMetrics metrics = new CommandMetrics();
+        metrics.recordError(Command.CITES, OperationMetrics.UNTIMED,
+                new InputException(ErrorMessages.CITE_SAME_ARTICLE.toString()));
+        metrics.recordError(Command.CITES, OperationMetrics.UNTIMED, new InputException("no kind has this message"));
+        metrics.recordError(Command.CITES, 10, new InputException(ErrorMessages.CITE_SAME_ARTICLE, "tse1 cites tse1"));
+
+        OperationMetrics cites = metrics.get(Command.CITES);
+        assertEquals(3, cites.getErrors());
+        assertEquals(Map.of(ErrorMessages.CITE_SAME_ARTICLE.name(), 2L, OperationMetrics.UNKNOWN_ERROR, 1L),
+                cites.getErrorsByKind());
+        assertEquals(0, metrics.get(Command.ADD_AUTHOR).getErrors());
+    }
+}
@@ -0,0 +1,122 @@
+package system.interaction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import system.KastelScholar;
+import system.Scripts;
+
+/**
+ * Tests that commands which read from the system release its lock before they
+ * print their results, so commands which change the system make progress
+ * while the output of a read is slow.
+ * 
+ * @author Emir Yuksel
+ * @version 1.0
+ */
+class LockReleaseTest {
+
+    private static final long TIMEOUT_SECONDS = 10;
+
+    @Test
+    void writerProgressesWhileAListIsPrinted() throws Exception {
+        assertWriterProgresses("all publications");
+    }
+
+    @Test
+    void writerProgressesWhileABibliographyIsPrinted() throws Exception {
+        assertWriterProgresses("print bibliography acm:tse1;icse1;top1");
+    }
+
+    /**
+     * Runs a reading command whose output blocks, checks that a changing command
+     * completes meanwhile and that the reading command prints the result it had
+     * before the change.
+     * 
+     * @param command Reading command to run.
+     * @throws Exception if a command fails or times out.
+     */
+    private static void assertWriterProgresses(String command) throws Exception {
+        KastelScholar kastelScholar = Scripts.load(Scripts.LIBRARY);
+        List<String> expected = Scripts.run(kastelScholar, command);
+        BlockingOutput blocking = new BlockingOutput();
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<?> reader = executor.submit(() -> {
+                PrintStream output = new PrintStream(blocking, false, StandardCharsets.UTF_8);
+                Command.executeMatching(command, kastelScholar, output);
+                output.flush();
+                return null;
+            });
+            assertTrue(blocking.writing.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+
+            Future<List<String>> writer = executor.submit(() -> Scripts.run(kastelScholar,
+                    "add article to journal TSE:tse3,2021,Written Meanwhile"));
+            assertEquals(List.of(), writer.get(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+            assertFalse(reader.isDone());
+
+            blocking.release.countDown();
+            reader.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            assertEquals(expected, blocking.lines());
+        } finally {
+            blocking.release.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Output which blocks on its first write until it is released.
+     */
+    private static final class BlockingOutput extends OutputStream {
+        private final CountDownLatch writing = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+        private final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+
+        @Override
+        public void write(int value) throws IOException {
+            write(new byte[] { (byte) value }, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) throws IOException {
+            writing.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException();
+            }
+            synchronized (buffer) {
+                buffer.write(bytes, offset, length);
+            }
+        }
+
+        /**
+         * Gets the written lines.
+         * 
+         * @return written lines
+         */
+        List<String> lines() {
+            synchronized (buffer) {
+                return Arrays.asList(buffer.toString(StandardCharsets.UTF_8).split(System.lineSeparator()));
+            }
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package system.interaction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import system.KastelScholar;
+import system.Scripts;
+
+/**
+ * Tests that commands only write files inside the output directory of the
+ * system.
+ * 
+ * @author Emir Yuksel
+ * @version 1.0
+ */
+class OutputFileTest {
+
+    private static final String PRINT = "print bibliography apa:tse1;icse1 to ";
+    private static final String OUTSIDE = "Error, file must be inside the output directory.";
+
+    @TempDir
+    Path root;
+
+    private Path directory;
+    private KastelScholar kastelScholar;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        directory = Files.createDirectory(root.resolve("out"));
+        kastelScholar = Scripts.load(Scripts.LIBRARY);
+        kastelScholar.setOutputDirectory(directory);
+    }
+
+    @Test
+    void writesInsideTheOutputDirectory() throws IOException {
+        Files.createDirectory(directory.resolve("sub"));
+        assertEquals(List.of(), Scripts.run(kastelScholar, PRINT + "sub/../bibliography.txt"));
+        assertEquals(Scripts.run(kastelScholar, "print bibliography apa:tse1;icse1"),
+                Files.readAllLines(directory.resolve("bibliography.txt")));
+    }
+
+    @Test
+    void parentEscapeIsRejected() throws IOException {
+        Path victim = Files.writeString(root.resolve("victim.txt"), "keep");
+        assertEquals(List.of(OUTSIDE), Scripts.run(kastelScholar, PRINT + "../victim.txt"));
+        assertEquals(List.of(OUTSIDE), Scripts.run(kastelScholar, PRINT + "sub/../../victim.txt"));
+        assertEquals(List.of(OUTSIDE), Scripts.run(kastelScholar, PRINT + victim));
+        assertEquals(List.of(OUTSIDE), Scripts.run(kastelScholar, PRINT + ".."));
+        assertEquals("keep", Files.readString(victim));
+    }
+
+    @Test
+    void symbolicLinkEscapeIsRejected() throws IOException {
+        Path victim = Files.writeString(root.resolve("victim.txt"), "keep");
+        Files.createSymbolicLink(directory.resolve("link"), root);
+        Files.createSymbolicLink(directory.resolve("victim.txt"), victim);
+        assertEquals(List.of(OUTSIDE), Scripts.run(kastelScholar, PRINT + "link/victim.txt"));
+        assertTrue(Scripts.run(kastelScholar, PRINT + "victim.txt").get(0).startsWith("Error, "));
+        assertEquals("keep", Files.readString(victim));
+    }
+
+    @Test
+    void exportEscapeIsRejected() throws IOException {
+        Path victim = Files.writeString(root.resolve("victim.bib"), "keep");
+        assertEquals(List.of(OUTSIDE), Scripts.run(kastelScholar, "export bibtex to ../victim.bib"));
+        assertEquals(List.of(OUTSIDE), Scripts.run(kastelScholar, "export csl-json to " + victim));
+        assertEquals("keep", Files.readString(victim));
+    }
+
+    @Test
+    void exportReplacesTheFileAtomically() throws IOException {
+        Path file = Files.writeString(directory.resolve("library.bib"), "old");
+        assertEquals(List.of(), Scripts.run(kastelScholar, "export bibtex to library.bib"));
+        assertTrue(Files.readString(file).startsWith("@article{tse1,"));
+        assertEquals(List.of(file), listDirectory());
+    }
+
+    @Test
+    void failedExportLeavesNoFile() throws IOException {
+        Path target = Files.createDirectory(directory.resolve("library.bib"));
+        assertEquals(List.of("Error, file cannot be written."),
+                Scripts.run(kastelScholar, "export bibtex to library.bib"));
+        assertTrue(Files.isDirectory(target));
+        assertEquals(List.of(target), listDirectory());
+    }
+
+    @Test
+    void disabledOutputWritesNothing() {
+        kastelScholar.setOutputDirectory(null);
+        assertEquals(List.of("Error, writing files is disabled."),
+                Scripts.run(kastelScholar, PRINT + "bibliography.txt"));
+        assertFalse(Files.exists(directory.resolve("bibliography.txt")));
+        assertEquals(List.of("Error, writing files is disabled."),
+                Scripts.run(kastelScholar, "export bibtex to library.bib"));
+        assertFalse(Files.exists(directory.resolve("library.bib")));
+    }
+
+    /**
+     * Lists the files in the output directory.
+     * 
+     * @return paths of the files
+     * @throws IOException if the directory cannot be read.
+     */
+    private List<Path> listDirectory() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.collect(Collectors.toList());
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package system.interaction;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import corpus.CommandScriptSink;
+import corpus.CorpusGenerator;
+import system.KastelScholar;
+
+/**
+ * Tests that a pipelined script prints the same bytes and writes the same files
+ * as the same script run one command after another.
+ * 
+ * @author Emir Yuksel
+ * @version 1.0
+ */
+class PipelinedExecutorTest {
+
+    private static final int ARTICLES = 2000;
+    private static final int QUERY_EVERY = 40;
+    private static final int WORKERS = 4;
+
+    @TempDir
+    Path root;
+
+    @Test
+    void pipelinedOutputEqualsSequentialOutput() throws IOException {
+        List<String> script = script();
+        Path sequentialDirectory = Files.createDirectory(root.resolve("sequential"));
+        Path pipelinedDirectory = Files.createDirectory(root.resolve("pipelined"));
+
+        byte[] sequential = runSequential(script, sequentialDirectory);
+        byte[] pipelined = runPipelined(script, pipelinedDirectory);
+
+        assertTrue(sequential.length > 0);
+        assertArrayEquals(sequential, pipelined);
+        Map<String, byte[]> sequentialFiles = files(sequentialDirectory);
+        Map<String, byte[]> pipelinedFiles = files(pipelinedDirectory);
+        assertEquals(List.of("bibliography.txt", "corpus.bib", "same.txt"),
+                new ArrayList<String>(sequentialFiles.keySet()));
+        assertEquals(sequentialFiles.keySet(), pipelinedFiles.keySet());
+        for (String name : sequentialFiles.keySet()) {
+            assertArrayEquals(sequentialFiles.get(name), pipelinedFiles.get(name), name);
+        }
+    }
+
+    /**
+     * Builds a script of a generated corpus, interleaved with queries, commands
+     * which write the same files and invalid inputs.
+     * 
+     * @return lines of the script
+     * @throws IOException if the corpus cannot be generated.
+     */
+    private static List<String> script() throws IOException {
+        StringWriter corpus = new StringWriter();
+        CorpusGenerator generator = new CorpusGenerator(ARTICLES, 42);
+        generator.generate(new CommandScriptSink(corpus));
+
+        List<String> script = new ArrayList<String>();
+        int batch = 0;
+        for (String line : corpus.toString().split("\n")) {
+            script.add(line);
+            if (script.size() % QUERY_EVERY != 0) {
+                continue;
+            }
+            String author = CorpusGenerator.authorName(batch % generator.getAuthorCount());
+            script.add("all publications");
+            script.add("list invalid publications");
+            script.add("publications by " + author);
+            script.add("coauthors of " + author);
+            script.add("foreign citations of " + author);
+            script.add("g-index " + author);
+            script.add("find by keywords " + CorpusGenerator.keyword(batch % 5));
+            script.add("in proceedings " + CorpusGenerator.seriesName(0) + "," + (CorpusGenerator.FIRST_YEAR + batch));
+            script.add("print bibliography apa:" + CorpusGenerator.articleId(0) + ";" + CorpusGenerator.articleId(1));
+            script.add("print bibliography acm:" + CorpusGenerator.articleId(batch) + " to bibliography.txt");
+            script.add("export bibtex to corpus.bib");
+            script.add("export bibtex to same.txt");
+            script.add("export csl-json where year " + (CorpusGenerator.FIRST_YEAR + batch) + " to same.txt");
+            script.add("frobnicate");
+            script.add("add author");
+            script.add("publications by Nobody Here");
+            batch++;
+        }
+        script.add("all publications");
+        return script;
+    }
+
+    /**
+     * Runs a script one command after another.
+     * 
+     * @param script    Lines of the script.
+     * @param directory Output directory of the system.
+     * @return printed output
+     */
+    private static byte[] runSequential(List<String> script, Path directory) {
+        KastelScholar kastelScholar = new KastelScholar();
+        kastelScholar.setOutputDirectory(directory);
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        PrintStream output = new PrintStream(buffer, false, StandardCharsets.UTF_8);
+        for (String line : script) {
+            try {
+                Command.executeMatching(line, kastelScholar, output);
+            } catch (InputException exception) {
+                output.println("Error, " + exception.getMessage());
+            }
+        }
+        output.flush();
+        return buffer.toByteArray();
+    }
+
+    /**
+     * Runs a script in a pipeline.
+     * 
+     * @param script    Lines of the script.
+     * @param directory Output directory of the system.
+     * @return printed output
+     * @throws IOException if the script cannot be read.
+     */
+    private static byte[] runPipelined(List<String> script, Path directory) throws IOException {
+        KastelScholar kastelScholar = new KastelScholar();
+        kastelScholar.setOutputDirectory(directory);
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        PrintStream output = new PrintStream(buffer, false, StandardCharsets.UTF_8);
+        PipelinedExecutor executor = new PipelinedExecutor(kastelScholar, WORKERS);
+        try {
+            executor.execute(new BufferedReader(new StringReader(String.join("\n", script))), output);
+        } finally {
+            executor.shutdown();
+        }
+        output.flush();
+        return buffer.toByteArray();
+    }
+
+    /**
+     * Reads all files of a directory.
+     * 
+     * @param directory Directory to read.
+     * @return contents of the files by name
+     * @throws IOException if a file cannot be read.
+     */
+    private static Map<String, byte[]> files(Path directory) throws IOException {
+        Map<String, byte[]> files = new TreeMap<String, byte[]>();
+        try (Stream<Path> paths = Files.list(directory)) {
+            for (Path path : (Iterable<Path>) paths::iterator) {
+                files.put(path.getFileName().toString(), Files.readAllBytes(path));
+            }
+        }
+        return files;
+    }
+}
@@ -0,0 +1,171 @@
+package system.interaction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.io.OutputStreamWriter;
+import java.io.StringReader;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Scanner;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import system.KastelScholar;
+import system.Scripts;
+
+/**
+ * Tests that the server answers several clients with the same output as the
+ * command line, and that quit only closes the connection of its client.
+ * 
+ * @author Emir Yuksel
+ * @version 1.0
+ */
+class ServerTest {
+
+    private static final int READERS = 3;
+    private static final int TIMEOUT_MILLIS = 10000;
+
+    private static final List<String> CHANGES = List.of(
+            "add article to journal TSE:tse3,2021,New Things",
+            "written by tse3,Ada Lovelace",
+            "written by tse3,Nobody Here",
+            "add author Ada",
+            "publications by Ada Lovelace",
+            "quit");
+
+    private static final List<String> READS = List.of(
+            "all publications",
+            "find by keywords software",
+            "coauthors of Alan Turing",
+            "print bibliography apa:tse1;tse3",
+            "frobnicate",
+            "foreign citations of Nobody Here",
+            "quit",
+            "all publications");
+
+    @Test
+    void clientsGetTheOutputOfTheCommandLine() throws Exception {
+        KastelScholar commandLine = Scripts.load(Scripts.LIBRARY);
+        String changes = runMain(commandLine, CHANGES);
+        String reads = runMain(commandLine, READS);
+        List<String> publications = Scripts.run(commandLine, "all publications");
+
+        KastelScholar kastelScholar = Scripts.load(Scripts.LIBRARY);
+        ExecutorService clients = Executors.newFixedThreadPool(READERS + 1);
+        try (Server server = new Server(kastelScholar, 0)) {
+            clients.execute(server::run);
+            try (Socket open = connect(server)) {
+                BufferedReader openInput = reader(open);
+                Writer openOutput = writer(open);
+
+                assertEquals(changes, send(server, CHANGES));
+                List<Callable<String>> readers = new ArrayList<Callable<String>>();
+                for (int i = 0; i < READERS; i++) {
+                    readers.add(() -> send(server, READS));
+                }
+                for (Future<String> result : clients.invokeAll(readers)) {
+                    assertEquals(reads, result.get(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS));
+                }
+
+                openOutput.write("all publications\n");
+                openOutput.flush();
+                List<String> lines = new ArrayList<String>();
+                for (int i = 0; i < publications.size(); i++) {
+                    lines.add(openInput.readLine());
+                }
+                assertEquals(publications, lines);
+            }
+        } finally {
+            clients.shutdownNow();
+        }
+    }
+
+    /**
+     * Runs commands as the command line would.
+     * 
+     * @param kastelScholar System to run the commands against.
+     * @param commands      Commands to run.
+     * @return printed output
+     */
+    private static String runMain(KastelScholar kastelScholar, List<String> commands) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        PrintStream output = new PrintStream(buffer, false, StandardCharsets.UTF_8);
+        Main.run(kastelScholar, new Scanner(new StringReader(String.join("\n", commands))), output);
+        return buffer.toString(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Sends commands on a new connection and reads the output until the server
+     * closes the connection.
+     * 
+     * @param server   Server to connect to.
+     * @param commands Commands to send.
+     * @return received output
+     * @throws IOException if the connection fails.
+     */
+    private static String send(Server server, List<String> commands) throws IOException {
+        try (Socket socket = connect(server)) {
+            Writer output = writer(socket);
+            for (String command : commands) {
+                output.write(command + "\n");
+            }
+            output.flush();
+            BufferedReader input = reader(socket);
+            StringBuilder received = new StringBuilder();
+            String line;
+            while ((line = input.readLine()) != null) {
+                received.append(line).append(System.lineSeparator());
+            }
+            return received.toString();
+        }
+    }
+
+    /**
+     * Connects to a server.
+     * 
+     * @param server Server to connect to.
+     * @return connection with a read timeout
+     * @throws IOException if the connection fails.
+     */
+    private static Socket connect(Server server) throws IOException {
+        Socket socket = new Socket(InetAddress.getLoopbackAddress(), server.getPort());
+        socket.setSoTimeout(TIMEOUT_MILLIS);
+        return socket;
+    }
+
+    /**
+     * Gets the input of a connection.
+     * 
+     * @param socket Connection to read from.
+     * @return reader of the connection
+     * @throws IOException if the connection is closed.
+     */
+    private static BufferedReader reader(Socket socket) throws IOException {
+        return new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Gets the output of a connection.
+     * 
+     * @param socket Connection to write to.
+     * @return writer of the connection
+     * @throws IOException if the connection is closed.
+     */
+    private static Writer writer(Socket socket) throws IOException {
+        return new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8);
+    }
+}
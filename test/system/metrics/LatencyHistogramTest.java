@@ -0,0 +1,96 @@
+package system.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the bucket bounds and percentiles of the latency histogram.
+ * 
+ * @author Emir Yuksel
+ * @version 1.0
+ */
+class LatencyHistogramTest {
+
+    private static final int SMALL_VALUES = 32;
+
+    @Test
+    void smallValuesAreRecordedExactly() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long value = 0; value < SMALL_VALUES * 2; value++) {
+            histogram.reset();
+            histogram.record(value);
+            assertEquals(value, histogram.getMax());
+        }
+    }
+
+    @Test
+    void bucketsBoundTheRelativeError() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(64);
+        assertEquals(65, histogram.getMax());
+        histogram.reset();
+        histogram.record(1000);
+        assertEquals(1007, histogram.getMax());
+        histogram.reset();
+        histogram.record(Long.MAX_VALUE);
+        assertEquals(Long.MAX_VALUE, histogram.getMax());
+
+        Random random = new Random(3);
+        for (int i = 0; i < 10000; i++) {
+            long value = random.nextLong() >>> (1 + random.nextInt(Long.SIZE - 1));
+            histogram.reset();
+            histogram.record(value);
+            long upperBound = histogram.getMax();
+            assertTrue(upperBound >= value && upperBound - value <= value / SMALL_VALUES, String.valueOf(value));
+        }
+    }
+
+    @Test
+    void percentilesAreTheUpperBoundsOfTheirBuckets() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertEquals(0, histogram.getValueAtPercentile(50));
+        assertEquals(0, histogram.getMax());
+        assertEquals(0, histogram.getMean());
+
+        for (long value = 1; value <= 100; value++) {
+            histogram.record(value);
+        }
+        assertEquals(100, histogram.getCount());
+        assertEquals(1, histogram.getValueAtPercentile(0));
+        assertEquals(1, histogram.getValueAtPercentile(1));
+        assertEquals(50, histogram.getValueAtPercentile(50));
+        assertEquals(99, histogram.getValueAtPercentile(99));
+        assertEquals(101, histogram.getValueAtPercentile(100));
+        assertEquals(101, histogram.getMax());
+        assertEquals(50.5, histogram.getMean(), 0.5);
+    }
+
+    @Test
+    void negativeValuesAreRecordedAsZero() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(-5);
+        assertEquals(1, histogram.getCount());
+        assertEquals(0, histogram.getMax());
+    }
+
+    @Test
+    void addedHistogramsKeepTheirCounts() {
+        LatencyHistogram fast = new LatencyHistogram();
+        LatencyHistogram slow = new LatencyHistogram();
+        for (int i = 0; i < 90; i++) {
+            fast.record(10);
+        }
+        for (int i = 0; i < 10; i++) {
+            slow.record(1000);
+        }
+        fast.add(slow);
+        assertEquals(100, fast.getCount());
+        assertEquals(10, fast.getValueAtPercentile(90));
+        assertEquals(1007, fast.getValueAtPercentile(91));
+        assertEquals(10, slow.getCount());
+    }
+}
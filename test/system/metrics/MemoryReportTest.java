@@ -0,0 +1,59 @@
+package system.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.lang.ref.Reference;
+
+import org.junit.jupiter.api.Test;
+
+import corpus.CorpusGenerator;
+import corpus.KastelScholarSink;
+import system.KastelScholar;
+import system.Scripts;
+
+/**
+ * Tests that the memory report estimates the heap a loaded system retains,
+ * including its indexes and caches.
+ * 
+ * @author Emir Yuksel
+ * @version 1.0
+ */
+class MemoryReportTest {
+
+    private static final int ARTICLES = 20000;
+    private static final int CACHED_QUERIES = 200;
+    private static final double TOLERANCE = 0.15;
+    private static final int COLLECTIONS = 5;
+
+    @Test
+    void estimateIsCloseToTheMeasuredHeapGrowth() throws IOException {
+        long before = usedHeap();
+        KastelScholar kastelScholar = new KastelScholar();
+        new CorpusGenerator(ARTICLES, 11).generate(new KastelScholarSink(kastelScholar));
+        for (int i = 0; i < CACHED_QUERIES; i++) {
+            Scripts.run(kastelScholar, "publications by " + CorpusGenerator.authorName(i));
+            Scripts.run(kastelScholar, "print bibliography apa:" + CorpusGenerator.articleId(i));
+        }
+        long measured = usedHeap() - before;
+        Reference.reachabilityFence(kastelScholar);
+
+        MemoryReport report = new MemoryReport(kastelScholar);
+        long estimated = report.getTotalBytes();
+        assertTrue(Math.abs(estimated - measured) <= measured * TOLERANCE,
+                "measured " + measured + " bytes, estimated " + report.report());
+    }
+
+    /**
+     * Gets the used heap after collecting the garbage.
+     * 
+     * @return used heap in bytes
+     */
+    private static long usedHeap() {
+        for (int i = 0; i < COLLECTIONS; i++) {
+            System.gc();
+        }
+        Runtime runtime = Runtime.getRuntime();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,65 @@
+package system.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import system.KastelScholar;
+import system.Scripts;
+
+/**
+ * Tests that queries report every scanned element to the trace exactly once.
+ * 
+ * @author Emir Yuksel
+ * @version 1.0
+ */
+class QueryTraceTest {
+
+    private KastelScholar kastelScholar;
+
+    @BeforeEach
+    void setUp() {
+        kastelScholar = Scripts.load(Scripts.LIBRARY);
+        QueryTrace.setEnabled(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        QueryTrace.setEnabled(false);
+    }
+
+    @Test
+    void coAuthorsScanTheAuthorsOfTheArticles() {
+        long[] before = QueryTrace.snapshot();
+        assertEquals(List.of("Alan Turing"), Scripts.run(kastelScholar, "coauthors of Ada Lovelace"));
+        assertScanned(before, 0, 3, 0);
+    }
+
+    @Test
+    void foreignCitationsOnlyCountTheirOwnScans() {
+        long[] before = QueryTrace.snapshot();
+        assertEquals(List.of("icse2", "top1", "tse2"), Scripts.run(kastelScholar, "foreign citations of Ada Lovelace"));
+        assertScanned(before, 0, 0, 3);
+    }
+
+    /**
+     * Asserts the elements the queries of the current thread scanned since a
+     * snapshot.
+     * 
+     * @param before    Snapshot before the queries.
+     * @param articles  Expected scanned articles.
+     * @param authors   Expected scanned authors.
+     * @param citations Expected scanned citations.
+     */
+    private static void assertScanned(long[] before, long articles, long authors, long citations) {
+        long[] after = QueryTrace.snapshot();
+        assertEquals(articles, after[ScannedElement.ARTICLES.ordinal()] - before[ScannedElement.ARTICLES.ordinal()]);
+        assertEquals(authors, after[ScannedElement.AUTHORS.ordinal()] - before[ScannedElement.AUTHORS.ordinal()]);
+        assertEquals(citations,
+                after[ScannedElement.CITATIONS.ordinal()] - before[ScannedElement.CITATIONS.ordinal()]);
+    }
+}
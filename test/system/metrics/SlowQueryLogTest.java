@@ -0,0 +1,108 @@
+package system.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests that the slow query log rotates its files, drops entries instead of
+ * blocking and writes all queued entries when it is closed.
+ * 
+ * @author Emir Yuksel
+ * @version 1.0
+ */
+class SlowQueryLogTest {
+
+    private static final String SEPARATOR = System.lineSeparator();
+
+    @TempDir
+    Path directory;
+
+    @AfterEach
+    void tearDown() {
+        QueryTrace.setEnabled(false);
+    }
+
+    @Test
+    void fullFilesAreRotated() throws IOException {
+        Path path = directory.resolve("slow.log");
+        long twoLines = 2 * (entry(0).toLogLine() + SEPARATOR).getBytes(StandardCharsets.UTF_8).length;
+        SlowQueryLog log = new SlowQueryLog(path, 0, twoLines, 2);
+        log.start();
+        for (int i = 1; i <= 7; i++) {
+            log.log(entry(i));
+        }
+        log.close();
+
+        assertEquals(List.of(line(7)), Files.readAllLines(path));
+        assertEquals(List.of(line(5), line(6)), Files.readAllLines(directory.resolve("slow.log.1")));
+        assertEquals(List.of(line(3), line(4)), Files.readAllLines(directory.resolve("slow.log.2")));
+        assertFalse(Files.exists(directory.resolve("slow.log.3")));
+        assertEquals(0, log.getDropped());
+    }
+
+    @Test
+    void entriesAreDroppedWhenTheQueueIsFull() {
+        SlowQueryLog log = new SlowQueryLog(directory.resolve("slow.log"), 0, Long.MAX_VALUE, 1);
+        for (int i = 0; i < SlowQueryLog.QUEUE_CAPACITY + 5; i++) {
+            log.log(entry(i));
+        }
+        assertEquals(5, log.getDropped());
+    }
+
+    @Test
+    void closeWritesAllQueuedEntries() throws IOException {
+        Path path = directory.resolve("slow.log");
+        SlowQueryLog log = new SlowQueryLog(path, 0, Long.MAX_VALUE, 1);
+        List<String> expected = new ArrayList<String>();
+        for (int i = 0; i < 1000; i++) {
+            log.log(entry(i));
+            expected.add(line(i));
+        }
+        log.start();
+        log.close();
+
+        assertEquals(expected, Files.readAllLines(path));
+        log.log(entry(1000));
+        assertEquals(1, log.getDropped());
+        assertEquals(expected, Files.readAllLines(path));
+    }
+
+    @Test
+    void atLeastOneRotatedFileIsKept() {
+        assertThrows(IllegalArgumentException.class, () -> new SlowQueryLog(directory.resolve("slow.log"), 0, 1, 0));
+    }
+
+    /**
+     * Creates an entry whose line has the same length for all numbers below
+     * 10000.
+     * 
+     * @param number Number of the entry.
+     * @return entry
+     */
+    private static SlowQuery entry(int number) {
+        return new SlowQuery("QUERY", "query q" + String.format("%04d", number), 0, 1, 0, 1, 0,
+                new long[ScannedElement.values().length], null);
+    }
+
+    /**
+     * Gets the line of an entry.
+     * 
+     * @param number Number of the entry.
+     * @return line without separator
+     */
+    private static String line(int number) {
+        return entry(number).toLogLine();
+    }
+}
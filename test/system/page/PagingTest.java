@@ -0,0 +1,121 @@
+package system.page;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeSet;
+
+import org.junit.jupiter.api.Test;
+
+import system.KastelScholar;
+import system.Scripts;
+
+/**
+ * Tests paging of the listing commands with after and limit.
+ * 
+ * @author Emir Yuksel
+ * @version 1.0
+ */
+class PagingTest {
+
+    private static final String[] LISTINGS = { "all publications", "list invalid publications",
+        "publications by Ada Lovelace;Grace Hopper", "in proceedings ICSE,2019", "find by keywords software",
+        "foreign citations of Ada Lovelace", "query year 2018-2020" };
+
+    @Test
+    void pagesConcatenateToTheFullListing() {
+        KastelScholar kastelScholar = library();
+        for (String listing : LISTINGS) {
+            List<String> all = Scripts.run(kastelScholar, listing);
+            for (int limit = 1; limit <= 4; limit++) {
+                assertEquals(all, readAllPages(kastelScholar, listing, limit), listing + " limit " + limit);
+            }
+        }
+    }
+
+    @Test
+    void afterWithoutLimitListsTheRest() {
+        KastelScholar kastelScholar = library();
+        List<String> all = Scripts.run(kastelScholar, "all publications");
+
+        assertEquals(all.subList(3, all.size()), Scripts.run(kastelScholar, "all publications after " + all.get(2)));
+    }
+
+    @Test
+    void cursorNeedNotExist() {
+        KastelScholar kastelScholar = library();
+
+        assertEquals(List.of("p11", "p12"), Scripts.run(kastelScholar, "all publications after p10a limit 2"));
+    }
+
+    @Test
+    void pagingSurvivesInserts() {
+        KastelScholar kastelScholar = library();
+        TreeSet<String> before = new TreeSet<String>(Scripts.run(kastelScholar, "all publications"));
+
+        List<String> seen = new ArrayList<String>();
+        String cursor = null;
+        int inserted = 0;
+        while (true) {
+            List<String> page = Scripts.run(kastelScholar,
+                    "all publications" + (cursor == null ? "" : " after " + cursor) + " limit 3");
+            if (page.isEmpty()) {
+                break;
+            }
+            seen.addAll(page);
+            cursor = page.get(page.size() - 1);
+            // One identifier behind the cursor, one before it.
+            if (!cursor.endsWith("z")) {
+                Scripts.run(kastelScholar, "add article to journal TSE:" + cursor + "z,2021,Behind");
+            }
+            Scripts.run(kastelScholar, "add article to journal TSE:a" + inserted++ + ",2021,Before");
+        }
+
+        for (int i = 1; i < seen.size(); i++) {
+            assertTrue(seen.get(i - 1).compareTo(seen.get(i)) < 0, "ascending without duplicates");
+        }
+        assertTrue(seen.containsAll(before), "every identifier existing from the start is listed");
+        for (String identifier : seen) {
+            assertTrue(before.contains(identifier) || identifier.endsWith("z"), identifier);
+        }
+        assertTrue(seen.size() > before.size(), "identifiers inserted behind the cursor are listed");
+    }
+
+    @Test
+    void limitMustBePositive() {
+        assertEquals(List.of("Error, limit must be at least 1."),
+                Scripts.run(library(), "all publications limit 0"));
+    }
+
+    private static KastelScholar library() {
+        KastelScholar kastelScholar = Scripts.load(Scripts.LIBRARY);
+        for (int i = 0; i < 20; i++) {
+            String venue = i % 2 == 0 ? "journal TSE" : "series ICSE";
+            Scripts.run(kastelScholar, "add article to " + venue + ":p" + i + "," + (2019 + i % 2) + ",Paper " + i);
+            if (i % 3 != 0) {
+                Scripts.run(kastelScholar, "written by p" + i + "," + (i % 2 == 0 ? "Ada Lovelace" : "Grace Hopper"));
+            }
+            if (i % 4 == 1) {
+                Scripts.run(kastelScholar, "cites p" + i + ",tse1");
+            }
+        }
+        return kastelScholar;
+    }
+
+    private static List<String> readAllPages(KastelScholar kastelScholar, String listing, int limit) {
+        List<String> all = new ArrayList<String>();
+        String cursor = null;
+        while (true) {
+            List<String> page = Scripts.run(kastelScholar,
+                    listing + (cursor == null ? "" : " after " + cursor) + " limit " + limit);
+            assertTrue(page.size() <= limit);
+            if (page.isEmpty()) {
+                return all;
+            }
+            all.addAll(page);
+            cursor = page.get(page.size() - 1);
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package system.query;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.Random;
+import java.util.TreeMap;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import article.Article;
+import system.KastelScholar;
+import system.Scripts;
+
+/**
+ * Tests that the article columns follow the changes of the system and that
+ * column scans count the same articles as a brute-force filter.
+ * 
+ * @author Emir Yuksel
+ * @version 1.0
+ */
+class ArticleColumnsTest {
+
+    private static KastelScholar kastelScholar;
+
+    @BeforeAll
+    static void setUp() {
+        kastelScholar = RandomLibrary.build(600, 17);
+    }
+
+    @Test
+    void columnsMatchTheArticles() {
+        ArticleIndex index = kastelScholar.getArticleIndex();
+        ArticleColumns columns = index.getColumns();
+        assertEquals(kastelScholar.getAllArticles().size(), columns.size());
+        for (int ordinal = 0; ordinal < columns.size(); ordinal++) {
+            Article article = index.getArticle(ordinal);
+            assertEquals(article.getPublishYear(), columns.get(Column.YEAR, ordinal));
+            assertEquals(columns.venueOrdinal(article.getVenue()), columns.get(Column.VENUE, ordinal));
+            assertEquals(article.getAuthor().size(), columns.get(Column.AUTHORS, ordinal));
+            assertEquals(article.getReceivedCites().size(), columns.get(Column.RECEIVED_CITATIONS, ordinal));
+            assertEquals(article.getGivenCites().size(), columns.get(Column.GIVEN_CITATIONS, ordinal));
+        }
+    }
+
+    @Test
+    void rangeFiltersMatchBruteForce() {
+        ArticleIndex index = kastelScholar.getArticleIndex();
+        ArticleColumns columns = index.getColumns();
+        Random random = new Random(19);
+        for (int i = 0; i < 300; i++) {
+            List<ColumnRange> ranges = new ArrayList<ColumnRange>();
+            int count = random.nextInt(3);
+            for (int j = 0; j < count; j++) {
+                Column column = Column.values()[random.nextInt(Column.values().length)];
+                int min = random.nextInt(2010) - 2;
+                ranges.add(new ColumnRange(column, random.nextBoolean() ? min % 5 : min, min + random.nextInt(4)));
+            }
+
+            List<Integer> expected = new ArrayList<Integer>();
+            for (int ordinal = 0; ordinal < columns.size(); ordinal++) {
+                boolean matches = true;
+                for (ColumnRange range : ranges) {
+                    int value = columns.get(range.getColumn(), ordinal);
+                    matches &= value >= range.getMin() && value <= range.getMax();
+                }
+                if (matches) {
+                    expected.add(ordinal);
+                }
+            }
+
+            PostingList selected = columns.select(ranges);
+            List<Integer> actual = new ArrayList<Integer>();
+            for (int j = 0; j < selected.size(); j++) {
+                actual.add(selected.get(j));
+            }
+            assertEquals(expected, actual);
+            assertEquals(expected.size(), columns.count(ranges));
+        }
+    }
+
+    @Test
+    void countsPerYearMatchBruteForce() {
+        Random random = new Random(23);
+        for (int i = 0; i < 300; i++) {
+            List<Condition> conditions = new ArrayList<Condition>();
+            // Only column conditions most of the time, so both the column scan and the plan are used.
+            while (conditions.isEmpty() || random.nextInt(3) == 0) {
+                Condition condition = RandomLibrary.randomCondition(kastelScholar, random);
+                if (condition.toColumnRange(kastelScholar.getArticleIndex().getColumns()) != null
+                        || random.nextInt(4) == 0) {
+                    conditions.add(condition);
+                }
+            }
+
+            NavigableMap<Integer, Long> expected = new TreeMap<Integer, Long>();
+            for (Article article : RandomLibrary.bruteForce(kastelScholar, conditions)) {
+                expected.merge(article.getPublishYear(), 1L, Long::sum);
+            }
+            assertEquals(expected, kastelScholar.countPerYear(conditions), conditions.toString());
+        }
+    }
+
+    @Test
+    void columnsFollowChanges() {
+        KastelScholar library = Scripts.load(Scripts.LIBRARY);
+        ArticleColumns columns = library.getArticleIndex().getColumns();
+
+        assertEquals(List.of("2018: 1", "2019: 1"), Scripts.run(library, "publications per year cited 1"));
+        Scripts.run(library, "cites icse2,top1");
+        assertEquals(List.of("2018: 1", "2019: 2"), Scripts.run(library, "publications per year cited 1"));
+        Scripts.run(library, "add article to journal TOPLAS:top2,2021,Untitled");
+        assertEquals(1, columns.count(List.of(new ColumnRange(Column.AUTHORS, 0, 0))));
+    }
+}
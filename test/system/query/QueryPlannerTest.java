@@ -0,0 +1,92 @@
+package system.query;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import article.Article;
+import system.KastelScholar;
+import system.Scripts;
+import system.page.Page;
+
+/**
+ * Tests that planned combined queries return the same articles as testing
+ * every condition on every article.
+ * 
+ * @author Emir Yuksel
+ * @version 1.0
+ */
+class QueryPlannerTest {
+
+    private static KastelScholar kastelScholar;
+
+    @BeforeAll
+    static void setUp() {
+        kastelScholar = RandomLibrary.build(600, 7);
+    }
+
+    @Test
+    void plannedQueriesMatchBruteForce() {
+        Random random = new Random(11);
+        for (int i = 0; i < 500; i++) {
+            List<Condition> conditions = RandomLibrary.randomConditions(kastelScholar, random);
+            List<String> expected = new ArrayList<String>();
+            for (Article article : RandomLibrary.bruteForce(kastelScholar, conditions)) {
+                expected.add(article.getId());
+            }
+            Collections.sort(expected);
+
+            assertEquals(expected, kastelScholar.query(conditions, Page.ALL), conditions.toString());
+        }
+    }
+
+    @Test
+    void planStartsWithTheCheapestAccessAndCoversAllConditions() {
+        Random random = new Random(13);
+        ArticleIndex index = kastelScholar.getArticleIndex();
+        for (int i = 0; i < 200; i++) {
+            List<Condition> conditions = RandomLibrary.randomConditions(kastelScholar, random);
+            List<PlanStep> steps = kastelScholar.planQuery(conditions).getSteps();
+
+            assertEquals(conditions.size(), steps.size());
+            assertEquals(Operation.ACCESS, steps.get(0).getOperation());
+            for (Condition condition : conditions) {
+                assertTrue(steps.get(0).getCondition().accessCost(index) <= condition.accessCost(index));
+            }
+        }
+    }
+
+    @Test
+    void commandMatchesTheIndividualListings() {
+        List<String> expected = new ArrayList<String>(Scripts.run(kastelScholar, "find by keywords testing"));
+        expected.retainAll(Scripts.run(kastelScholar, "publications by Ada Lovelace;Alan Turing"));
+
+        assertEquals(expected,
+                Scripts.run(kastelScholar, "query keywords testing and author Ada Lovelace;Alan Turing"));
+    }
+
+    @Test
+    void explainPrintsOneLinePerConditionAndTheCost() {
+        List<String> plan = Scripts.run(kastelScholar, "explain query series ICSE and year 2003-2005 and cited 1");
+
+        assertEquals(4, plan.size());
+        assertTrue(plan.get(0).startsWith("access "), plan.get(0));
+        assertTrue(plan.get(3).startsWith("cost "), plan.get(3));
+    }
+
+    @Test
+    void unknownNamesAndEmptyRangesAreRejected() {
+        assertEquals(List.of("Error, author \"Nobody Here\" not found."),
+                Scripts.run(kastelScholar, "query author Nobody Here"));
+        assertEquals(List.of("Error, series \"Nope\" not found."), Scripts.run(kastelScholar, "query series Nope"));
+        assertEquals(List.of("Error, venue not found"), Scripts.run(kastelScholar, "query journal Nope"));
+        assertEquals(List.of("Error, year is not valid"), Scripts.run(kastelScholar, "query year 2005-2001"));
+    }
+}
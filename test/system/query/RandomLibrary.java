@@ -0,0 +1,140 @@
+package system.query;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import article.Article;
+import system.KastelScholar;
+import system.Scripts;
+
+/**
+ * Builds a random library through the commands, for comparing queries with a
+ * brute-force filter.
+ * 
+ * @author Emir Yuksel
+ * @version 1.0
+ */
+final class RandomLibrary {
+
+    static final int FIRST_YEAR = 2000;
+    static final int YEARS = 10;
+    static final String[] AUTHORS = { "Ada Lovelace", "Alan Turing", "Grace Hopper", "Edsger Dijkstra",
+        "Barbara Liskov", "Donald Knuth" };
+    static final String[] KEYWORDS = { "graphs", "testing", "types", "compilers", "logic", "networks" };
+    static final String[] JOURNALS = { "TSE", "TOPLAS" };
+    static final String[] SERIES = { "ICSE", "PLDI" };
+
+    private RandomLibrary() {
+        throw new IllegalStateException("Utility class cannot be instantiated.");
+    }
+
+    /**
+     * Builds a library.
+     * 
+     * @param articles Number of articles.
+     * @param seed     Seed of the random choices.
+     * @return the system
+     */
+    static KastelScholar build(int articles, long seed) {
+        Random random = new Random(seed);
+        KastelScholar kastelScholar = new KastelScholar();
+        for (String author : AUTHORS) {
+            Scripts.run(kastelScholar, "add author " + author);
+        }
+        for (String journal : JOURNALS) {
+            Scripts.run(kastelScholar, "add journal " + journal + ",Publisher");
+        }
+        for (String series : SERIES) {
+            Scripts.run(kastelScholar, "add series " + series);
+            for (int year = FIRST_YEAR; year < FIRST_YEAR + YEARS; year++) {
+                Scripts.run(kastelScholar, "add conference " + series + "," + year + ",Location");
+            }
+        }
+        Scripts.run(kastelScholar, "add keywords to journal TSE:testing");
+
+        List<String> added = new ArrayList<String>();
+        for (int i = 0; i < articles; i++) {
+            String id = "a" + i;
+            String venue = random.nextBoolean() ? "journal " + JOURNALS[random.nextInt(JOURNALS.length)]
+                    : "series " + SERIES[random.nextInt(SERIES.length)];
+            int year = FIRST_YEAR + random.nextInt(YEARS);
+            Scripts.run(kastelScholar, "add article to " + venue + ":" + id + "," + year + ",Title " + i);
+            if (random.nextInt(10) != 0) {
+                Scripts.run(kastelScholar, "written by " + id + "," + AUTHORS[random.nextInt(AUTHORS.length)]);
+            }
+            Scripts.run(kastelScholar, "add keywords to " + id + ":" + KEYWORDS[random.nextInt(KEYWORDS.length)]);
+            for (int j = 0; j < 3 && !added.isEmpty(); j++) {
+                // Citations of later articles fail and change nothing.
+                Scripts.run(kastelScholar, "cites " + id + "," + added.get(random.nextInt(added.size())));
+            }
+            added.add(id);
+        }
+        Scripts.run(kastelScholar, "add keywords to series ICSE:graphs");
+        return kastelScholar;
+    }
+
+    /**
+     * Picks a random condition which some article of the library meets.
+     * 
+     * @param kastelScholar The library.
+     * @param random        Source of the random choices.
+     * @return the condition
+     */
+    static Condition randomCondition(KastelScholar kastelScholar, Random random) {
+        List<Article> articles = kastelScholar.getAllArticles();
+        Article article = articles.get(random.nextInt(articles.size()));
+        switch (random.nextInt(5)) {
+            case 0:
+                List<String> keywords = new ArrayList<String>(article.getKeywords());
+                return new KeywordsCondition(keywords.subList(0, 1 + random.nextInt(keywords.size())));
+            case 1:
+                return new AuthorCondition(List.of(AUTHORS[random.nextInt(AUTHORS.length)],
+                        AUTHORS[random.nextInt(AUTHORS.length)]));
+            case 2:
+                return new VenueCondition("venue", article.getVenue());
+            case 3:
+                int from = article.getPublishYear() - random.nextInt(3);
+                return new YearCondition(from, from + random.nextInt(4));
+            default:
+                return new CitedCondition(random.nextInt(4));
+        }
+    }
+
+    /**
+     * Picks one to four random conditions.
+     * 
+     * @param kastelScholar The library.
+     * @param random        Source of the random choices.
+     * @return the conditions
+     */
+    static List<Condition> randomConditions(KastelScholar kastelScholar, Random random) {
+        List<Condition> conditions = new ArrayList<Condition>();
+        int count = 1 + random.nextInt(4);
+        for (int i = 0; i < count; i++) {
+            conditions.add(randomCondition(kastelScholar, random));
+        }
+        return conditions;
+    }
+
+    /**
+     * Tests every condition on every article.
+     * 
+     * @param kastelScholar The library.
+     * @param conditions    Conditions to test.
+     * @return the articles which meet all conditions
+     */
+    static List<Article> bruteForce(KastelScholar kastelScholar, List<Condition> conditions) {
+        List<Article> result = new ArrayList<Article>();
+        for (Article article : kastelScholar.getAllArticles()) {
+            boolean matches = true;
+            for (Condition condition : conditions) {
+                matches &= condition.test(article);
+            }
+            if (matches) {
+                result.add(article);
+            }
+        }
+        return result;
+    }
+}
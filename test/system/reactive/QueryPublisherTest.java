@@ -0,0 +1,180 @@
+package system.reactive;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import system.KastelScholar;
+import system.Scripts;
+
+/**
+ * Tests the demand, cancellation and error signals of the query publishers.
+ * Drains run on the calling thread, so every signal has arrived when a request
+ * returns.
+ * 
+ * @author Emir Yuksel
+ * @version 1.0
+ */
+class QueryPublisherTest {
+
+    private static final int PAGE_SIZE = 2;
+
+    private KastelScholar kastelScholar;
+    private ReactiveQueries queries;
+    private List<String> allPublications;
+
+    @BeforeEach
+    void setUp() {
+        kastelScholar = Scripts.load(Scripts.LIBRARY);
+        queries = new ReactiveQueries(kastelScholar, Runnable::run, PAGE_SIZE);
+        allPublications = Scripts.run(kastelScholar, "all publications");
+    }
+
+    @Test
+    void deliversExactlyTheRequestedElements() {
+        RecordingSubscriber subscriber = subscribe(queries.allPublications());
+
+        subscriber.subscription.request(3);
+        assertEquals(allPublications.subList(0, 3), subscriber.items);
+        assertFalse(subscriber.completed);
+
+        subscriber.subscription.request(1);
+        assertEquals(allPublications.subList(0, 4), subscriber.items);
+
+        subscriber.subscription.request(Long.MAX_VALUE);
+        assertEquals(allPublications, subscriber.items);
+        assertTrue(subscriber.completed);
+        assertNull(subscriber.error);
+    }
+
+    @Test
+    void completesWhenTheLastPageIsFull() {
+        RecordingSubscriber subscriber = subscribe(queries.findByKeywords(List.of("testing")));
+
+        subscriber.subscription.request(PAGE_SIZE);
+        subscriber.subscription.request(1);
+
+        assertEquals(List.of("tse1", "tse2"), subscriber.items);
+        assertTrue(subscriber.completed);
+    }
+
+    @Test
+    void cancelStopsTheSignals() {
+        RecordingSubscriber subscriber = subscribe(queries.allPublications());
+
+        subscriber.subscription.request(1);
+        subscriber.subscription.cancel();
+        subscriber.subscription.request(10);
+
+        assertEquals(allPublications.subList(0, 1), subscriber.items);
+        assertFalse(subscriber.completed);
+        assertNull(subscriber.error);
+    }
+
+    @Test
+    void nonPositiveRequestSignalsAnError() {
+        for (long n : new long[] { 0, -1 }) {
+            RecordingSubscriber subscriber = subscribe(queries.allPublications());
+
+            subscriber.subscription.request(n);
+            subscriber.subscription.request(10);
+
+            assertInstanceOf(IllegalArgumentException.class, subscriber.error);
+            assertTrue(subscriber.items.isEmpty());
+            assertFalse(subscriber.completed);
+        }
+    }
+
+    @Test
+    void unknownAuthorSignalsAnError() {
+        RecordingSubscriber subscriber = subscribe(queries.foreignCitationsOf("Nobody Here"));
+
+        subscriber.subscription.request(1);
+
+        assertInstanceOf(IllegalArgumentException.class, subscriber.error);
+        assertTrue(subscriber.items.isEmpty());
+    }
+
+    @Test
+    void deliversAllElementsOnAnExecutor() throws InterruptedException {
+        ReactiveQueries asynchronous = new ReactiveQueries(kastelScholar, ForkJoinPool.commonPool(), PAGE_SIZE);
+        CountDownLatch done = new CountDownLatch(1);
+        List<String> items = new ArrayList<String>();
+        asynchronous.allPublications().subscribe(new Flow.Subscriber<String>() {
+            private Flow.Subscription subscription;
+
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                this.subscription = subscription;
+                subscription.request(1);
+            }
+
+            @Override
+            public void onNext(String item) {
+                items.add(item);
+                subscription.request(1);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                done.countDown();
+            }
+
+            @Override
+            public void onComplete() {
+                done.countDown();
+            }
+        });
+
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        assertEquals(allPublications, items);
+    }
+
+    private static RecordingSubscriber subscribe(Flow.Publisher<String> publisher) {
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        publisher.subscribe(subscriber);
+        return subscriber;
+    }
+
+    /**
+     * Records all signals and requests nothing by itself.
+     */
+    private static final class RecordingSubscriber implements Flow.Subscriber<String> {
+        private final List<String> items = new ArrayList<String>();
+        private Flow.Subscription subscription;
+        private boolean completed;
+        private Throwable error;
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(String item) {
+            items.add(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            this.error = throwable;
+        }
+
+        @Override
+        public void onComplete() {
+            this.completed = true;
+        }
+    }
+}
@@ -0,0 +1,269 @@
+package system.replication;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.ConnectException;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import system.KastelScholar;
+import system.Scripts;
+import system.interaction.Command;
+import system.interaction.InputException;
+import system.interaction.Server;
+
+/**
+ * Tests that replicas converge to their primary, also in a process of their
+ * own, and stop if they cannot follow it.
+ * 
+ * @author Emir Yuksel
+ * @version 1.0
+ */
+class ReplicationTest {
+
+    private static final String HOST = "127.0.0.1";
+    private static final long TIMEOUT_MILLIS = 10000;
+    private static final String[] READS = { "all publications", "list invalid publications",
+        "find by keywords software", "publications by Ada Lovelace;Grace Hopper", "g-index Alan Turing",
+        "coauthors of Alan Turing", "foreign citations of Ada Lovelace", "log position" };
+    private static final String[] LATER = { "add article to journal TSE:tse3,2021,Later",
+        "written by tse3,Ada Lovelace;Edsger Dijkstra", "cites tse3,icse2", "add keywords to journal TSE:later" };
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void cursorReadsAcrossSegmentsInBoundedBatches() throws IOException, InterruptedException {
+        try (ReplicationLog log = new ReplicationLog(directory, 3)) {
+            List<String> appended = new ArrayList<String>();
+            for (int i = 0; i < 10; i++) {
+                appended.add("command " + i);
+                log.append("command " + i);
+            }
+
+            for (long start = 0; start <= 10; start++) {
+                try (ReplicationLog.Cursor cursor = log.read(start)) {
+                    List<String> read = new ArrayList<String>();
+                    while (cursor.getPosition() < 10) {
+                        List<String> batch = cursor.next(2, 0);
+                        assertTrue(batch.size() >= 1 && batch.size() <= 2, "batch " + batch);
+                        read.addAll(batch);
+                    }
+                    assertEquals(appended.subList((int) start, 10), read);
+                }
+            }
+        }
+    }
+
+    @Test
+    void positionsOutsideTheLogAreRejected() throws IOException {
+        try (ReplicationLog log = new ReplicationLog(directory, 3)) {
+            log.append("command");
+            assertThrows(IllegalArgumentException.class, () -> log.read(2));
+            assertThrows(IllegalArgumentException.class, () -> log.read(-1));
+        }
+    }
+
+    @Test
+    void replicaConvergesToThePrimary() throws IOException, InterruptedException {
+        KastelScholar primary = new KastelScholar();
+        KastelScholar replicated = new KastelScholar();
+        try (ReplicationLog log = new ReplicationLog(directory, 4);
+                LogShipper shipper = new LogShipper(log, 0);
+                Replica replica = new Replica(replicated, HOST, shipper.getPort())) {
+            primary.setReplicationLog(log);
+            shipper.start();
+            runAll(primary, Scripts.LIBRARY);
+            replica.start();
+            runAll(primary, LATER);
+            Scripts.run(primary, "cites nope,tse1");
+
+            assertTrue(replicated.getLogPosition().await(log.getPosition(), TIMEOUT_MILLIS));
+            for (String read : READS) {
+                assertEquals(Scripts.run(primary, read), Scripts.run(replicated, read), read);
+            }
+            assertEquals(List.of("0"), Scripts.run(replicated, "replication lag"));
+        }
+    }
+
+    @Test
+    void replicaAheadOfThePrimaryStops() throws IOException, InterruptedException, InputException {
+        KastelScholar replicated = new KastelScholar();
+        Command.parse("add author Ada Lovelace").apply(replicated);
+        try (ReplicationLog log = new ReplicationLog(directory, 4);
+                LogShipper shipper = new LogShipper(log, 0);
+                Replica replica = new Replica(replicated, HOST, shipper.getPort())) {
+            shipper.start();
+            replica.start();
+
+            assertStops(replicated, "primary at position 0 rejected position 1");
+            assertEquals(1, replica.getPosition());
+        }
+    }
+
+    @Test
+    void failingReplicatedCommandStopsTheReplica() throws IOException, InterruptedException {
+        KastelScholar replicated = new KastelScholar();
+        try (ReplicationLog log = new ReplicationLog(directory, 4);
+                LogShipper shipper = new LogShipper(log, 0);
+                Replica replica = new Replica(replicated, HOST, shipper.getPort())) {
+            log.append("add author Ada Lovelace");
+            log.append("add author Ada Lovelace");
+            log.append("add author Alan Turing");
+            shipper.start();
+            replica.start();
+
+            assertStops(replicated, "command 1 \"add author Ada Lovelace\" failed: ");
+            assertEquals(1, replica.getPosition());
+            assertTrue(replica.getStopReason().startsWith("command 1 "), replica.getStopReason());
+        }
+    }
+
+    @Test
+    void replicaProcessReadsItsWrites() throws IOException, InterruptedException {
+        KastelScholar primary = new KastelScholar();
+        try (ReplicationLog log = new ReplicationLog(directory, 4);
+                LogShipper shipper = new LogShipper(log, 0)) {
+            primary.setReplicationLog(log);
+            shipper.start();
+            runAll(primary, Scripts.LIBRARY);
+
+            int port = freePort();
+            String java = Paths.get(System.getProperty("java.home"), "bin", "java").toString();
+            Process process = new ProcessBuilder(java, "-cp", System.getProperty("java.class.path"),
+                    Server.class.getName(), String.valueOf(port), "replica", HOST,
+                    String.valueOf(shipper.getPort())).redirectErrorStream(true)
+                    .redirectOutput(ProcessBuilder.Redirect.DISCARD).start();
+            try (Socket socket = connect(port)) {
+                BufferedReader input = new BufferedReader(
+                        new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+                Writer output = new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8);
+
+                assertReadsOwnWrites(primary, input, output);
+                for (String write : LATER) {
+                    runAll(primary, write);
+                    assertReadsOwnWrites(primary, input, output);
+                }
+                output.write(LATER[0] + "\n");
+                output.flush();
+                assertEquals("Error, this is a read-only replica, send changes to the primary.", input.readLine());
+            } finally {
+                process.destroy();
+                process.waitFor(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+            }
+        }
+    }
+
+    /**
+     * Awaits the log position of the primary on a replica and checks that the
+     * replica then reads what the primary reads.
+     * 
+     * @param primary Primary system.
+     * @param input   Input of the connection to the replica.
+     * @param output  Output of the connection to the replica.
+     * @throws IOException if the connection fails.
+     */
+    private static void assertReadsOwnWrites(KastelScholar primary, BufferedReader input, Writer output)
+            throws IOException {
+        String position = Scripts.run(primary, "log position").get(0);
+        output.write("await log position " + position + "\n");
+        for (String read : READS) {
+            output.write(read + "\n");
+        }
+        output.flush();
+        for (String read : READS) {
+            List<String> expected = Scripts.run(primary, read);
+            List<String> received = new ArrayList<String>();
+            for (int i = 0; i < expected.size(); i++) {
+                received.add(input.readLine());
+            }
+            assertEquals(expected, received, read);
+        }
+    }
+
+    /**
+     * Connects to a server which may still be starting.
+     * 
+     * @param port Port of the server.
+     * @return connection with a read timeout
+     * @throws IOException if the server does not accept connections in time.
+     * @throws InterruptedException if the thread is interrupted while waiting.
+     */
+    private static Socket connect(int port) throws IOException, InterruptedException {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        while (true) {
+            try {
+                Socket socket = new Socket(HOST, port);
+                socket.setSoTimeout((int) TIMEOUT_MILLIS);
+                return socket;
+            } catch (ConnectException exception) {
+                if (System.currentTimeMillis() > deadline) {
+                    throw exception;
+                }
+                Thread.sleep(50);
+            }
+        }
+    }
+
+    /**
+     * Finds a port which is free right now.
+     * 
+     * @return free port
+     * @throws IOException if no port can be bound.
+     */
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    /**
+     * Runs commands against a system. Fails on the first error.
+     * 
+     * @param kastelScholar System to run the commands against.
+     * @param commands      Commands to run.
+     */
+    private static void runAll(KastelScholar kastelScholar, String... commands) {
+        for (String command : commands) {
+            List<String> output = Scripts.run(kastelScholar, command);
+            assertTrue(output.isEmpty() || !output.get(0).startsWith("Error, "), command + ": " + output);
+        }
+    }
+
+    /**
+     * Asserts that a replica stops replication in time and reports it together
+     * with its reason.
+     * 
+     * @param replicated System of the replica.
+     * @param reason     Start of the reason of the stop.
+     * @throws InterruptedException if the thread is interrupted while waiting.
+     */
+    private static void assertStops(KastelScholar replicated, String reason) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        while (!replicated.getLogPosition().isStopped() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertTrue(replicated.getLogPosition().isStopped());
+        List<String> lag = Scripts.run(replicated, "replication lag");
+        assertEquals(1, lag.size());
+        assertTrue(lag.get(0).startsWith("Error, replication stopped, the replica cannot follow its primary. Reason: "
+                + reason), lag.get(0));
+        assertEquals(lag, Scripts.run(replicated, "await log position 5"));
+    }
+}
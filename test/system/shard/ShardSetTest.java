@@ -0,0 +1,153 @@
+package system.shard;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import article.Article;
+import system.KastelScholar;
+import system.Scripts;
+import system.event.ArticleAdded;
+import venue.journal.Journal;
+
+/**
+ * Tests that queries of many articles are answered in parallel by the shards,
+ * in this process or in processes of their own, with the same results as a
+ * sequential filter or a single shard.
+ * 
+ * @author Emir Yuksel
+ * @version 1.0
+ */
+class ShardSetTest {
+
+    private static final int ARTICLES = 20000;
+    private static final int JOURNALS = 13;
+    private static final int KEYWORDS = 5;
+    private static final int READERS = 8;
+    private static final int SHARD_PROCESSES = 3;
+    private static final String[] AUTHORS = { "Ada Lovelace", "Alan Turing", "Grace Hopper", "Edsger Dijkstra" };
+    private static final String[] TOPICS = { "graphs", "testing", "types", "compilers" };
+
+    @Test
+    void concurrentParallelQueriesMatchASequentialFilter() throws Exception {
+        List<Article> articles = new ArrayList<Article>();
+        ShardSet shardSet = new ShardSet(4);
+        for (int i = 0; i < ARTICLES; i++) {
+            Article article = new Article("a" + i, "Title", 2000 + i % 20, new Journal("J" + i % JOURNALS, "P"));
+            article.addKeywords(List.of("k" + i % KEYWORDS, "m" + i % 3));
+            articles.add(article);
+            shardSet.onChange(new ArticleAdded(article));
+        }
+
+        List<List<String>> keywordLists = List.of(List.of("k1"), List.of("k2", "m0"), List.of("k1", "nope"));
+        ExecutorService readers = Executors.newFixedThreadPool(READERS);
+        try {
+            List<Callable<Boolean>> queries = new ArrayList<Callable<Boolean>>();
+            for (int i = 0; i < READERS * 4; i++) {
+                List<String> keywords = keywordLists.get(i % keywordLists.size());
+                queries.add(() -> shardSet.findByKeywords(keywords).getIdentifiers()
+                        .equals(sequential(articles, article -> article.getKeywords().containsAll(keywords))));
+                queries.add(() -> shardSet.allPublications().getIdentifiers()
+                        .equals(sequential(articles, article -> true)));
+            }
+            for (Future<Boolean> result : readers.invokeAll(queries)) {
+                assertEquals(true, result.get());
+            }
+        } finally {
+            readers.shutdown();
+            shardSet.close();
+        }
+        assertThrows(RejectedExecutionException.class, () -> shardSet.allPublications());
+    }
+
+    @Test
+    void shardProcessesMatchASingleShard() throws IOException {
+        List<RemoteShard> processes = new ArrayList<RemoteShard>();
+        for (int i = 0; i < SHARD_PROCESSES; i++) {
+            processes.add(new RemoteShard());
+        }
+        try (ShardSet distributed = new ShardSet(processes); Shard single = new Shard()) {
+            KastelScholar kastelScholar = new KastelScholar();
+            kastelScholar.getChangeEvents().subscribe(distributed);
+            kastelScholar.getChangeEvents().subscribe(single);
+            load(kastelScholar, new Random(7));
+
+            assertFalse(single.allPublications().getIdentifiers().isEmpty());
+            assertEquals(single.allPublications().getIdentifiers(), distributed.allPublications().getIdentifiers());
+            for (String topic : TOPICS) {
+                assertEquals(single.findByKeywords(List.of(topic)).getIdentifiers(),
+                        distributed.findByKeywords(List.of(topic)).getIdentifiers(), topic);
+                assertEquals(single.findByKeywords(List.of(topic, "venue")).getIdentifiers(),
+                        distributed.findByKeywords(List.of(topic, "venue")).getIdentifiers(), topic);
+            }
+            for (int i = 0; i < AUTHORS.length; i++) {
+                List<String> authors = List.of(AUTHORS[i], AUTHORS[(i + 1) % AUTHORS.length], "No One");
+                assertEquals(single.publicationsBy(authors).getIdentifiers(),
+                        distributed.publicationsBy(authors).getIdentifiers(), authors.toString());
+            }
+            assertEquals(Scripts.run(kastelScholar, "find by keywords graphs;venue"),
+                    distributed.findByKeywords(List.of("graphs", "venue")).getIdentifiers());
+            assertThrows(UnsupportedOperationException.class, () -> distributed.allPublications(null));
+        }
+    }
+
+    /**
+     * Adds random articles of several venues with keywords and authors to a
+     * system.
+     * 
+     * @param kastelScholar System to add the articles to.
+     * @param random        Source of the random choices.
+     */
+    private static void load(KastelScholar kastelScholar, Random random) {
+        for (String author : AUTHORS) {
+            Scripts.run(kastelScholar, "add author " + author);
+        }
+        for (int journal = 0; journal < JOURNALS; journal++) {
+            Scripts.run(kastelScholar, "add journal J" + journal + ",Publisher");
+        }
+        for (int i = 0; i < 500; i++) {
+            String id = "a" + i;
+            int journal = random.nextInt(JOURNALS);
+            Scripts.run(kastelScholar, "add article to journal J" + journal + ":" + id + "," + (2000 + i % 20)
+                    + ",Title");
+            Scripts.run(kastelScholar, "add keywords to " + id + ":" + TOPICS[random.nextInt(TOPICS.length)]);
+            if (random.nextInt(5) != 0) {
+                Scripts.run(kastelScholar, "written by " + id + "," + AUTHORS[random.nextInt(AUTHORS.length)]);
+            }
+            if (i % 50 == 0) {
+                Scripts.run(kastelScholar, "add keywords to journal J" + journal + ":venue");
+            }
+        }
+    }
+
+    /**
+     * Filters articles one by one.
+     * 
+     * @param articles Articles to filter.
+     * @param filter   Filter to check.
+     * @return identifiers of the matching articles, sorted.
+     */
+    private static List<String> sequential(List<Article> articles, Predicate<Article> filter) {
+        TreeSet<String> identifiers = new TreeSet<String>();
+        for (Article article : articles) {
+            if (filter.test(article)) {
+                identifiers.add(article.getId());
+            }
+        }
+        return new ArrayList<String>(identifiers);
+    }
+}